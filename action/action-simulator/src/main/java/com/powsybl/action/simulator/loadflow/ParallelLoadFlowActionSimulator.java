@@ -155,7 +155,7 @@ public class ParallelLoadFlowActionSimulator {
                 .option(CASE_FILE, networkDest.toString())
                 .option(DSL_FILE, dslFileDest.toString())
                 .option(TASK, i -> new Partition(i + 1, actualTaskCount).toString())
-                .option(OUTPUT_FILE, this::getOutputFileName)
+                .option(OUTPUT_FILE, i -> workingDir.resolve(getOutputFileName(i)).toString())
                 .option(OUTPUT_FORMAT, "JSON")
                 .flag(APPLY_IF_SOLVED_VIOLATIONS, applyIfSolved);
 
@@ -0,0 +1,270 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ext.base;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.powsybl.afs.ProjectDependency;
+import com.powsybl.afs.ProjectFile;
+import com.powsybl.afs.ProjectNode;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.xml.NetworkXml;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Disk level of the network cache. Networks evicted from the heap are written as gzipped IIDM-XML snapshots, keyed
+ * by the project file id and a hash of the project file and of its dependencies (id, version and modification
+ * date), so that a snapshot is never reused once the case or one of its dependencies has changed.
+ * <p>
+ * The total size of the snapshots is bounded, least recently used snapshots are removed first. As this is a spill
+ * area and not a persistent cache, the directory is cleaned at creation.
+ *
+ * @author agent <agent at local>
+ */
+public class DiskNetworkCacheStore implements ScriptCacheStore<ProjectFile, Network> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiskNetworkCacheStore.class);
+
+    private static final String NETWORK_EXT = ".xiidm.gz";
+
+    private static final String OUTPUT_EXT = ".out";
+
+    private static final String TMP_EXT = ".tmp";
+
+    private final Path directory;
+
+    private final long maximumSize;
+
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Snapshot name to snapshot size, in access order.
+     */
+    private final LinkedHashMap<String, Long> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size = 0;
+
+    public DiskNetworkCacheStore(Path directory, long maximumSize) {
+        this.directory = Objects.requireNonNull(directory);
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Invalid disk cache maximum size: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        try {
+            Files.createDirectories(directory);
+            clean();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void clean() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> {
+                String fileName = file.getFileName().toString();
+                return fileName.endsWith(NETWORK_EXT) || fileName.endsWith(OUTPUT_EXT) || fileName.endsWith(TMP_EXT);
+            }).forEach(DiskNetworkCacheStore::delete);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete {}: {}", file, e.toString());
+        }
+    }
+
+    private static String getIdHash(String projectFileId) {
+        return Hashing.sha256().hashString(projectFileId, StandardCharsets.UTF_8).toString();
+    }
+
+    private static void hashDependencies(ProjectNode node, Hasher hasher, Set<String> visitedIds) {
+        if (!visitedIds.add(node.getId())) {
+            return;
+        }
+        hasher.putString(node.getId(), StandardCharsets.UTF_8)
+              .putInt(node.getVersion())
+              .putLong(node.getModificationDate().toInstant().toEpochMilli());
+        if (node instanceof ProjectFile) {
+            for (ProjectDependency<ProjectNode> dependency : ((ProjectFile) node).getDependencies()) {
+                hasher.putString(dependency.getName(), StandardCharsets.UTF_8);
+                hashDependencies(dependency.getProjectNode(), hasher, visitedIds);
+            }
+        }
+    }
+
+    static String getDependencyHash(ProjectFile projectFile) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hashDependencies(projectFile, hasher, new HashSet<>());
+        return hasher.hash().toString();
+    }
+
+    private static String getSnapshotName(ProjectFile projectFile) {
+        return getIdHash(projectFile.getId()) + "-" + getDependencyHash(projectFile);
+    }
+
+    private Path getNetworkFile(String snapshotName) {
+        return directory.resolve(snapshotName + NETWORK_EXT);
+    }
+
+    private Path getOutputFile(String snapshotName) {
+        return directory.resolve(snapshotName + OUTPUT_EXT);
+    }
+
+    private void removeSnapshot(String snapshotName) {
+        Long snapshotSize = snapshots.remove(snapshotName);
+        if (snapshotSize != null) {
+            size -= snapshotSize;
+        }
+        delete(getNetworkFile(snapshotName));
+        delete(getOutputFile(snapshotName));
+    }
+
+    private void removeSnapshots(String idHash) {
+        String prefix = idHash + "-";
+        for (String snapshotName : new ArrayList<>(snapshots.keySet())) {
+            if (snapshotName.startsWith(prefix)) {
+                removeSnapshot(snapshotName);
+            }
+        }
+    }
+
+    @Override
+    public Optional<ScriptResult<Network>> load(ProjectFile projectFile) {
+        Objects.requireNonNull(projectFile);
+        String snapshotName = getSnapshotName(projectFile);
+        lock.lock();
+        try {
+            if (snapshots.get(snapshotName) == null) {
+                return Optional.empty();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        LOGGER.info("Loading network of project file {} from disk cache", projectFile.getId());
+
+        try (InputStream is = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(getNetworkFile(snapshotName))))) {
+            Network network = NetworkXml.read(is);
+            String output = new String(Files.readAllBytes(getOutputFile(snapshotName)), StandardCharsets.UTF_8);
+            return Optional.of(new ScriptResult<>(network, output, null));
+        } catch (IOException | UncheckedIOException e) {
+            // snapshot has been removed in the meantime or is corrupted
+            LOGGER.warn("Failed to load network of project file {} from disk cache: {}", projectFile.getId(), e.toString());
+            lock.lock();
+            try {
+                removeSnapshot(snapshotName);
+            } finally {
+                lock.unlock();
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static void writeAtomically(Path file, SnapshotWriter writer) throws IOException {
+        Path tmpFile = file.resolveSibling(file.getFileName() + TMP_EXT);
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmpFile))) {
+            writer.write(os);
+        }
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @FunctionalInterface
+    private interface SnapshotWriter {
+        void write(OutputStream os) throws IOException;
+    }
+
+    @Override
+    public void store(ProjectFile projectFile, ScriptResult<Network> result) {
+        Objects.requireNonNull(projectFile);
+        Objects.requireNonNull(result);
+        String idHash = getIdHash(projectFile.getId());
+        String snapshotName = getSnapshotName(projectFile);
+
+        lock.lock();
+        try {
+            if (snapshots.get(snapshotName) != null) {
+                // same project file and dependencies, the snapshot is already up to date
+                return;
+            }
+            // a project file has only one up to date snapshot
+            removeSnapshots(idHash);
+        } finally {
+            lock.unlock();
+        }
+
+        LOGGER.info("Storing network of project file {} to disk cache", projectFile.getId());
+
+        long snapshotSize;
+        try {
+            Path networkFile = getNetworkFile(snapshotName);
+            Path outputFile = getOutputFile(snapshotName);
+            writeAtomically(networkFile, os -> {
+                try (GZIPOutputStream gzos = new GZIPOutputStream(os)) {
+                    NetworkXml.write(result.getValue(), gzos);
+                }
+            });
+            writeAtomically(outputFile, os -> os.write(result.getOutput().getBytes(StandardCharsets.UTF_8)));
+            snapshotSize = Files.size(networkFile) + Files.size(outputFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        lock.lock();
+        try {
+            Long previousSize = snapshots.put(snapshotName, snapshotSize);
+            size += snapshotSize - (previousSize != null ? previousSize : 0);
+
+            // remove least recently used snapshots until size is below the limit
+            Iterator<String> it = new ArrayList<>(snapshots.keySet()).iterator();
+            while (size > maximumSize && it.hasNext()) {
+                String eldestSnapshotName = it.next();
+                LOGGER.info("Disk cache snapshot {} removed (SIZE)", eldestSnapshotName);
+                removeSnapshot(eldestSnapshotName);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String projectFileId) {
+        Objects.requireNonNull(projectFileId);
+        lock.lock();
+        try {
+            removeSnapshots(getIdHash(projectFileId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the total size in bytes of the snapshots.
+     */
+    public long getSize() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
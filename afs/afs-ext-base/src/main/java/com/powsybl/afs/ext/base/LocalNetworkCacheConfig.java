@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ext.base;
+
+import com.powsybl.commons.config.PlatformConfig;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * @author agent <agent at local>
+ */
+public class LocalNetworkCacheConfig {
+
+    private static final int DEFAULT_HOURS_EXPIRATION = 1;
+
+    private static final long DEFAULT_DISK_MAXIMUM_SIZE = 10L * 1024 * 1024 * 1024; // 10 Go
+
+    private long heapMaximumSize;
+
+    private int hoursExpiration;
+
+    private Path diskDirectory;
+
+    private long diskMaximumSize;
+
+    public LocalNetworkCacheConfig() {
+        this(getDefaultHeapMaximumSize(), DEFAULT_HOURS_EXPIRATION, null, DEFAULT_DISK_MAXIMUM_SIZE);
+    }
+
+    public LocalNetworkCacheConfig(long heapMaximumSize, int hoursExpiration, Path diskDirectory, long diskMaximumSize) {
+        this.heapMaximumSize = checkSize(heapMaximumSize);
+        this.hoursExpiration = checkHoursExpiration(hoursExpiration);
+        this.diskDirectory = diskDirectory;
+        this.diskMaximumSize = checkSize(diskMaximumSize);
+    }
+
+    public static LocalNetworkCacheConfig load() {
+        return load(PlatformConfig.defaultConfig());
+    }
+
+    public static LocalNetworkCacheConfig load(PlatformConfig platformConfig) {
+        Objects.requireNonNull(platformConfig);
+        return platformConfig.getOptionalModuleConfig("local-network-cache")
+                .map(moduleConfig -> {
+                    long heapMaximumSize = moduleConfig.getLongProperty("heap-maximum-size", getDefaultHeapMaximumSize());
+                    int hoursExpiration = moduleConfig.getIntProperty("hours-expiration", DEFAULT_HOURS_EXPIRATION);
+                    Path diskDirectory = moduleConfig.getOptionalPathProperty("disk-directory").orElse(null);
+                    long diskMaximumSize = moduleConfig.getLongProperty("disk-maximum-size", DEFAULT_DISK_MAXIMUM_SIZE);
+                    return new LocalNetworkCacheConfig(heapMaximumSize, hoursExpiration, diskDirectory, diskMaximumSize);
+                })
+                .orElseGet(LocalNetworkCacheConfig::new);
+    }
+
+    private static long getDefaultHeapMaximumSize() {
+        // a quarter of the heap
+        return Runtime.getRuntime().maxMemory() / 4;
+    }
+
+    private static long checkSize(long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid cache size: " + size);
+        }
+        return size;
+    }
+
+    private static int checkHoursExpiration(int hoursExpiration) {
+        if (hoursExpiration <= 0) {
+            throw new IllegalArgumentException("Invalid cache expiration: " + hoursExpiration);
+        }
+        return hoursExpiration;
+    }
+
+    public long getHeapMaximumSize() {
+        return heapMaximumSize;
+    }
+
+    public LocalNetworkCacheConfig setHeapMaximumSize(long heapMaximumSize) {
+        this.heapMaximumSize = checkSize(heapMaximumSize);
+        return this;
+    }
+
+    public int getHoursExpiration() {
+        return hoursExpiration;
+    }
+
+    public LocalNetworkCacheConfig setHoursExpiration(int hoursExpiration) {
+        this.hoursExpiration = checkHoursExpiration(hoursExpiration);
+        return this;
+    }
+
+    /**
+     * Directory of the disk cache level, if empty networks evicted from the heap are not kept.
+     */
+    public Optional<Path> getDiskDirectory() {
+        return Optional.ofNullable(diskDirectory);
+    }
+
+    public LocalNetworkCacheConfig setDiskDirectory(Path diskDirectory) {
+        this.diskDirectory = diskDirectory;
+        return this;
+    }
+
+    public long getDiskMaximumSize() {
+        return diskMaximumSize;
+    }
+
+    public LocalNetworkCacheConfig setDiskMaximumSize(long diskMaximumSize) {
+        this.diskMaximumSize = checkSize(diskMaximumSize);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(heapMaximumSize=" + heapMaximumSize + ", hoursExpiration=" + hoursExpiration
+                + ", diskDirectory=" + diskDirectory + ", diskMaximumSize=" + diskMaximumSize + ")";
+    }
+}
@@ -11,6 +11,7 @@ import com.powsybl.afs.ProjectFile;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.iidm.import_.Importer;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.xml.NetworkXml;
 import groovy.json.JsonOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +19,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -26,10 +28,30 @@ public class LocalNetworkCacheService implements NetworkCacheService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LocalNetworkCacheService.class);
 
+    /**
+     * Rough estimation of the heap size of a network element (identifiable, terminals, extensions...).
+     */
+    private static final long ESTIMATED_ELEMENT_SIZE = 1024L;
+
     private final ScriptCache<ProjectFile, Network, ProjectCaseListener> cache;
 
+    private final UnaryOperator<Network> networkCopier;
+
     public LocalNetworkCacheService() {
-        cache = new ScriptCache<>(50, 1, projectFile -> {
+        this(LocalNetworkCacheConfig.load());
+    }
+
+    public LocalNetworkCacheService(LocalNetworkCacheConfig config) {
+        this(config, NetworkXml::copy);
+    }
+
+    LocalNetworkCacheService(LocalNetworkCacheConfig config, UnaryOperator<Network> networkCopier) {
+        Objects.requireNonNull(config);
+        this.networkCopier = Objects.requireNonNull(networkCopier);
+        ScriptCacheStore<ProjectFile, Network> store = config.getDiskDirectory()
+                .<ScriptCacheStore<ProjectFile, Network>>map(directory -> new DiskNetworkCacheStore(directory, config.getDiskMaximumSize()))
+                .orElseGet(ScriptCacheStore::none);
+        cache = new ScriptCache<>(config.getHeapMaximumSize(), LocalNetworkCacheService::estimateSize, config.getHoursExpiration(), projectFile -> {
             UUID taskId = projectFile.startTask();
             try {
                 projectFile.createLogger(taskId).log("Loading network...");
@@ -41,7 +63,26 @@ public class LocalNetworkCacheService implements NetworkCacheService {
             for (ProjectCaseListener listener : listeners) {
                 listener.networkUpdated();
             }
-        });
+        }, store);
+    }
+
+    static long estimateSize(Network network) {
+        long elementCount = (long) network.getSubstationCount()
+                + network.getVoltageLevelCount()
+                + network.getBusbarSectionCount()
+                + network.getSwitchCount()
+                + network.getLineCount()
+                + network.getTwoWindingsTransformerCount()
+                + network.getThreeWindingsTransformerCount()
+                + network.getGeneratorCount()
+                + network.getBatteryCount()
+                + network.getLoadCount()
+                + network.getShuntCompensatorCount()
+                + network.getDanglingLineCount()
+                + network.getStaticVarCompensatorCount()
+                + network.getHvdcConverterStationCount()
+                + network.getHvdcLineCount();
+        return elementCount * ESTIMATED_ELEMENT_SIZE;
     }
 
     private static ScriptResult<Network> loadNetworkFromImportedCase(ImportedCase importedCase) {
@@ -64,14 +105,16 @@ public class LocalNetworkCacheService implements NetworkCacheService {
         }
     }
 
-    private static ScriptResult<Network> loadNetworkFromVirtualCase(VirtualCase virtualCase) {
-        ProjectCase baseCase = (ProjectCase) virtualCase.getCase()
-                                                        .orElseThrow(() -> new AfsException("Case link is dead"));
+    private ScriptResult<Network> loadNetworkFromVirtualCase(VirtualCase virtualCase) {
+        ProjectFile baseCase = virtualCase.getCase()
+                                          .orElseThrow(() -> new AfsException("Case link is dead"));
 
-        ScriptResult<Network> network = loadNetworkFromProjectCase(baseCase);
+        // base case network is taken from the cache (and so loaded only once for all the virtual cases of a chain
+        // or sharing the same base case), a copy is needed as the cached network must not be modified by the script
+        ScriptResult<Network> baseNetwork = cache.get(baseCase);
 
-        if (network.getError() != null) {
-            return network;
+        if (baseNetwork.getError() != null) {
+            return baseNetwork;
         }
 
         ModificationScript script = virtualCase.getScript()
@@ -79,10 +122,12 @@ public class LocalNetworkCacheService implements NetworkCacheService {
 
         LOGGER.info("Applying script to network of project case {}", virtualCase.getId());
 
-        return applyScript(network.getValue(), network.getOutput(), script);
+        Network network = networkCopier.apply(baseNetwork.getValue());
+
+        return applyScript(network, baseNetwork.getOutput(), script);
     }
 
-    private static ScriptResult<Network> loadNetworkFromProjectCase(ProjectCase projectCase) {
+    private ScriptResult<Network> loadNetworkFromProjectCase(ProjectCase projectCase) {
         if (projectCase instanceof ImportedCase) {
             return loadNetworkFromImportedCase((ImportedCase) projectCase);
         } else if (projectCase instanceof VirtualCase) {
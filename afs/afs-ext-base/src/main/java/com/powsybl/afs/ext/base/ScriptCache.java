@@ -8,6 +8,10 @@ package com.powsybl.afs.ext.base;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.powsybl.afs.ProjectFile;
 import com.powsybl.commons.util.WeakListenerList;
@@ -19,9 +23,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
  *
@@ -31,34 +38,119 @@ public class ScriptCache<F extends ProjectFile, V, L> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScriptCache.class);
 
-    private final Cache<String, ScriptResult<V>> cache;
+    /**
+     * Guava weights are integers, so weights are counted in kilobytes.
+     */
+    private static final long WEIGHT_UNIT = 1024L;
+
+    private static final class CacheEntry<F, V> {
+
+        private final F projectFile;
+
+        private final ScriptResult<V> result;
+
+        private CacheEntry(F projectFile, ScriptResult<V> result) {
+            this.projectFile = projectFile;
+            this.result = result;
+        }
+    }
+
+    private final Cache<String, CacheEntry<F, V>> cache;
 
     private final Map<String, WeakListenerList<L>> listeners = new ConcurrentHashMap<>();
 
     private final Function<F, ScriptResult<V>> loader;
 
+    private final ScriptCacheStore<F, V> store;
+
+    private final Executor storeExecutor;
+
     public ScriptCache(int maximumSize, int hoursExpiration, Function<F, ScriptResult<V>> loader,
                        BiConsumer<ScriptResult<V>, List<L>> notifier) {
+        this(maximumSize, (projectFileId, entry) -> 1, hoursExpiration, loader, notifier, ScriptCacheStore.none(),
+             MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Create a cache bounded by the estimated size of its values. Values evicted because of size or expiration are
+     * moved to the store, and loaded back from it on next access.
+     * <p>
+     * Values are moved to the store by a background thread, so that the thread causing the eviction is not blocked.
+     *
+     * @param maximumSize maximum estimated size in bytes of the values kept in the heap
+     * @param sizeEstimator estimated size in bytes of a value
+     */
+    public ScriptCache(long maximumSize, ToLongFunction<V> sizeEstimator, int hoursExpiration, Function<F, ScriptResult<V>> loader,
+                       BiConsumer<ScriptResult<V>, List<L>> notifier, ScriptCacheStore<F, V> store) {
+        this(maximumSize, sizeEstimator, hoursExpiration, loader, notifier, store, createStoreExecutor());
+    }
+
+    /**
+     * @param storeExecutor executor moving evicted values to the store, stores are called by one task at a time
+     */
+    ScriptCache(long maximumSize, ToLongFunction<V> sizeEstimator, int hoursExpiration, Function<F, ScriptResult<V>> loader,
+                BiConsumer<ScriptResult<V>, List<L>> notifier, ScriptCacheStore<F, V> store, Executor storeExecutor) {
+        this(Math.max(1, maximumSize / WEIGHT_UNIT), (projectFileId, entry) -> weigh(entry, sizeEstimator),
+             hoursExpiration, loader, notifier, store, storeExecutor);
+    }
+
+    private ScriptCache(long maximumWeight, Weigher<String, CacheEntry<F, V>> weigher, int hoursExpiration,
+                        Function<F, ScriptResult<V>> loader, BiConsumer<ScriptResult<V>, List<L>> notifier,
+                        ScriptCacheStore<F, V> store, Executor storeExecutor) {
         this.loader = Objects.requireNonNull(loader);
+        this.store = Objects.requireNonNull(store);
+        this.storeExecutor = Objects.requireNonNull(storeExecutor);
         Objects.requireNonNull(notifier);
         cache = CacheBuilder.newBuilder()
-                .maximumSize(maximumSize)
+                .maximumWeight(maximumWeight)
+                .weigher(weigher)
                 .expireAfterAccess(hoursExpiration, TimeUnit.HOURS)
-                .removalListener(notification -> {
-                    String projectFileId = (String) notification.getKey();
+                .removalListener((RemovalNotification<String, CacheEntry<F, V>> notification) -> {
+                    String projectFileId = notification.getKey();
+                    CacheEntry<F, V> entry = notification.getValue();
 
                     LOGGER.info("Project file {} cache removed ({})", projectFileId, notification.getCause());
 
+                    // spill to the second level
+                    if (notification.wasEvicted() && entry.result.getError() == null) {
+                        storeExecutor.execute(() -> {
+                            try {
+                                store.store(entry.projectFile, entry.result);
+                            } catch (Exception e) {
+                                LOGGER.warn("Failed to store project file {} evicted cache: {}", projectFileId, e.toString());
+                            }
+                        });
+                    }
+
                     // notification
-                    notifier.accept((ScriptResult<V>) notification.getValue(), getListeners(projectFileId).toList());
+                    notifier.accept(entry.result, getListeners(projectFileId).toList());
                 })
                 .build();
     }
 
+    private static Executor createStoreExecutor() {
+        // a single thread, so that evictions of a project file are stored in order
+        return Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("script-cache-store-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    private static <F, V> int weigh(CacheEntry<F, V> entry, ToLongFunction<V> sizeEstimator) {
+        V value = entry.result.getValue();
+        long size = value != null ? sizeEstimator.applyAsLong(value) : 0;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, size / WEIGHT_UNIT));
+    }
+
+    private ScriptResult<V> load(F projectFile) {
+        return store.load(projectFile)
+                .orElseGet(() -> loader.apply(projectFile));
+    }
+
     public ScriptResult<V> get(F projectFile) {
         Objects.requireNonNull(projectFile);
         try {
-            return cache.get(projectFile.getId(), () -> loader.apply(projectFile));
+            return cache.get(projectFile.getId(), () -> new CacheEntry<>(projectFile, load(projectFile))).result;
         } catch (ExecutionException e) {
             throw new UncheckedExecutionException(e);
         }
@@ -66,7 +158,11 @@ public class ScriptCache<F extends ProjectFile, V, L> {
 
     public void invalidate(F projectFile) {
         Objects.requireNonNull(projectFile);
-        cache.invalidate(projectFile.getId());
+        String projectFileId = projectFile.getId();
+        cache.invalidate(projectFileId);
+        store.remove(projectFileId);
+        // also remove what evictions pending before the invalidation would store
+        storeExecutor.execute(() -> store.remove(projectFileId));
     }
 
     private WeakListenerList<L> getListeners(String projectFileId) {
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ext.base;
+
+import com.powsybl.afs.ProjectFile;
+
+import java.util.Optional;
+
+/**
+ * Second level of a {@link ScriptCache}: results evicted from the heap are stored here and reloaded on next access
+ * instead of being recomputed.
+ *
+ * @author agent <agent at local>
+ */
+public interface ScriptCacheStore<F extends ProjectFile, V> {
+
+    /**
+     * Load a previously stored result.
+     *
+     * @param projectFile the project file
+     * @return the stored result or an empty optional if not found or outdated
+     */
+    Optional<ScriptResult<V>> load(F projectFile);
+
+    /**
+     * Store a result evicted from the heap. Results are stored by a background thread, one at a time.
+     *
+     * @param projectFile the project file
+     * @param result the result, always successful
+     */
+    void store(F projectFile, ScriptResult<V> result);
+
+    /**
+     * Remove all stored results of a project file.
+     *
+     * @param projectFileId the project file id
+     */
+    void remove(String projectFileId);
+
+    static <F extends ProjectFile, V> ScriptCacheStore<F, V> none() {
+        return new ScriptCacheStore<F, V>() {
+            @Override
+            public Optional<ScriptResult<V>> load(F projectFile) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void store(F projectFile, ScriptResult<V> result) {
+                // nothing to do
+            }
+
+            @Override
+            public void remove(String projectFileId) {
+                // nothing to do
+            }
+        };
+    }
+}
@@ -6,15 +6,18 @@
  */
 package com.powsybl.afs.ext.base;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.powsybl.iidm.network.Network;
-import groovy.lang.Binding;
-import groovy.lang.GroovyShell;
-import groovy.lang.MissingMethodException;
-import groovy.lang.MissingPropertyException;
+import groovy.lang.*;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
-import java.io.*;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Objects;
 
 /**
  *
@@ -24,10 +27,30 @@ public final class ScriptUtils {
 
     private static final String SCRIPT_FILE_NAME = "test";
 
+    private static final int COMPILED_SCRIPT_CACHE_SIZE = 100;
+
+    /**
+     * Compiled Groovy scripts indexed by their content, so that a script evaluated several times (same modification
+     * script applied to sibling cases, same query...) is only compiled once.
+     */
+    private static final Cache<String, Class<? extends Script>> COMPILED_GROOVY_SCRIPTS = CacheBuilder.newBuilder()
+            .maximumSize(COMPILED_SCRIPT_CACHE_SIZE)
+            .build();
+
     private ScriptUtils() {
     }
 
-    private static ScriptResult<Object> runGroovyScript(Network network, Reader reader) {
+    private static Class<? extends Script> compileGroovyScript(String scriptContent) {
+        Class<? extends Script> scriptClass = COMPILED_GROOVY_SCRIPTS.getIfPresent(scriptContent);
+        if (scriptClass == null) {
+            GroovyShell shell = new GroovyShell(new CompilerConfiguration());
+            scriptClass = shell.parse(scriptContent, SCRIPT_FILE_NAME).getClass();
+            COMPILED_GROOVY_SCRIPTS.put(scriptContent, scriptClass);
+        }
+        return scriptClass;
+    }
+
+    private static ScriptResult<Object> runGroovyScript(Network network, String scriptContent) {
         String output = "";
         ScriptError error = null;
         Object value = null;
@@ -37,9 +60,8 @@ public final class ScriptUtils {
             binding.setProperty("network", network);
             binding.setProperty("out", outputWriter);
 
-            CompilerConfiguration config = new CompilerConfiguration();
-            GroovyShell shell = new GroovyShell(binding, config);
-            value = shell.evaluate(reader, SCRIPT_FILE_NAME);
+            Script script = InvokerHelper.createScript(compileGroovyScript(scriptContent), binding);
+            value = script.run();
             outputWriter.flush();
             output = outputWriter.toString();
         } catch (MultipleCompilationErrorsException e) {
@@ -53,14 +75,11 @@ public final class ScriptUtils {
     }
 
     static ScriptResult<Object> runScript(Network network, ScriptType scriptType, String scriptContent) {
-        try (Reader reader = new StringReader(scriptContent)) {
-            if (scriptType == ScriptType.GROOVY) {
-                return runGroovyScript(network, reader);
-            } else {
-                throw new AssertionError("Script type " + scriptType + " not supported");
-            }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+        Objects.requireNonNull(scriptContent);
+        if (scriptType == ScriptType.GROOVY) {
+            return runGroovyScript(network, scriptContent);
+        } else {
+            throw new AssertionError("Script type " + scriptType + " not supported");
         }
     }
 }
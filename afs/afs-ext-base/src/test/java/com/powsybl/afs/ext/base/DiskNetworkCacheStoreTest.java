@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ext.base;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.powsybl.afs.ProjectFile;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class DiskNetworkCacheStoreTest {
+
+    private FileSystem fileSystem;
+
+    private Path cacheDir;
+
+    @Before
+    public void setUp() throws IOException {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        cacheDir = fileSystem.getPath("/cache");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    private static ProjectFile createProjectFile(String id, ZonedDateTime modificationDate) {
+        ProjectFile projectFile = Mockito.mock(ProjectFile.class);
+        Mockito.when(projectFile.getId()).thenReturn(id);
+        Mockito.when(projectFile.getVersion()).thenReturn(0);
+        Mockito.when(projectFile.getModificationDate()).thenReturn(modificationDate);
+        Mockito.when(projectFile.getDependencies()).thenReturn(Collections.emptyList());
+        return projectFile;
+    }
+
+    @Test
+    public void storeAndLoadTest() throws IOException {
+        DiskNetworkCacheStore store = new DiskNetworkCacheStore(cacheDir, 100 * 1024 * 1024);
+        ZonedDateTime date = ZonedDateTime.parse("2018-01-01T00:00:00Z");
+        ProjectFile projectFile = createProjectFile("case1", date);
+
+        assertFalse(store.load(projectFile).isPresent());
+
+        Network network = EurostagTutorialExample1Factory.create();
+        store.store(projectFile, new ScriptResult<>(network, "hello", null));
+        assertTrue(store.getSize() > 0);
+
+        Optional<ScriptResult<Network>> result = store.load(projectFile);
+        assertTrue(result.isPresent());
+        assertEquals("hello", result.get().getOutput());
+        assertEquals(network.getId(), result.get().getValue().getId());
+        assertEquals(network.getLoadCount(), result.get().getValue().getLoadCount());
+
+        // storing again an up to date snapshot keeps it
+        long size = store.getSize();
+        store.store(projectFile, result.get());
+        assertEquals(size, store.getSize());
+        assertTrue(store.load(projectFile).isPresent());
+
+        // case has been modified, snapshot is outdated
+        ProjectFile modifiedProjectFile = createProjectFile("case1", date.plusHours(1));
+        assertFalse(store.load(modifiedProjectFile).isPresent());
+
+        store.remove("case1");
+        assertFalse(store.load(projectFile).isPresent());
+        assertEquals(0, store.getSize());
+
+        // disk cache is cleaned on creation
+        store.store(projectFile, new ScriptResult<>(network, "", null));
+        assertEquals(2, Files.list(cacheDir).count());
+        new DiskNetworkCacheStore(cacheDir, 100 * 1024 * 1024);
+        assertEquals(0, Files.list(cacheDir).count());
+    }
+
+    @Test
+    public void evictionTest() {
+        Network network = EurostagTutorialExample1Factory.create();
+        ZonedDateTime date = ZonedDateTime.parse("2018-01-01T00:00:00Z");
+
+        DiskNetworkCacheStore store = new DiskNetworkCacheStore(cacheDir, 100 * 1024 * 1024);
+        store.store(createProjectFile("case1", date), new ScriptResult<>(network, "", null));
+        long snapshotSize = store.getSize();
+
+        // only 2 snapshots fit in the disk cache
+        store = new DiskNetworkCacheStore(cacheDir, 2 * snapshotSize);
+        List<ProjectFile> projectFiles = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ProjectFile projectFile = createProjectFile("case" + i, date);
+            projectFiles.add(projectFile);
+            store.store(projectFile, new ScriptResult<>(network, "", null));
+        }
+        assertFalse(store.load(projectFiles.get(0)).isPresent());
+        assertTrue(store.load(projectFiles.get(1)).isPresent());
+        assertTrue(store.load(projectFiles.get(2)).isPresent());
+        assertEquals(2 * snapshotSize, store.getSize());
+    }
+
+    @Test
+    public void scriptCacheSpillTest() {
+        Network network = EurostagTutorialExample1Factory.create();
+        ZonedDateTime date = ZonedDateTime.parse("2018-01-01T00:00:00Z");
+        ProjectFile projectFile1 = createProjectFile("case1", date);
+        ProjectFile projectFile2 = createProjectFile("case2", date);
+        long networkSize = LocalNetworkCacheService.estimateSize(network);
+
+        List<String> loadedIds = new ArrayList<>();
+        DiskNetworkCacheStore store = new DiskNetworkCacheStore(cacheDir, 100 * 1024 * 1024);
+        // heap can only contain one network
+        ScriptCache<ProjectFile, Network, ProjectCaseListener> cache = new ScriptCache<>(networkSize, LocalNetworkCacheService::estimateSize, 1,
+            projectFile -> {
+                loadedIds.add(projectFile.getId());
+                return ScriptResult.of(network);
+            }, (result, listeners) -> { }, store, MoreExecutors.directExecutor());
+
+        assertSame(network, cache.get(projectFile1).getValue());
+        assertSame(network, cache.get(projectFile2).getValue());
+        assertEquals(2, loadedIds.size());
+        assertTrue(store.getSize() > 0);
+
+        // case1 has been evicted from the heap and is reloaded from the disk
+        Network network1 = cache.get(projectFile1).getValue();
+        assertNotSame(network, network1);
+        assertEquals(network.getId(), network1.getId());
+        assertEquals(2, loadedIds.size());
+
+        // case1 is evicted again, unchanged, and its snapshot is still loadable
+        long size = store.getSize();
+        cache.get(projectFile2);
+        assertEquals(size, store.getSize());
+        assertNotSame(network, cache.get(projectFile1).getValue());
+        assertEquals(2, loadedIds.size());
+
+        // invalidation also clears the disk
+        cache.invalidate(projectFile1);
+        cache.invalidate(projectFile2);
+        assertEquals(0, store.getSize());
+        cache.get(projectFile1);
+        assertEquals(3, loadedIds.size());
+    }
+}
@@ -12,14 +12,18 @@ import com.powsybl.afs.mapdb.storage.MapDbAppStorage;
 import com.powsybl.afs.storage.AppStorage;
 import com.powsybl.afs.storage.NodeGenericMetadata;
 import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.iidm.import_.ImportConfig;
 import com.powsybl.iidm.import_.ImportersLoader;
 import com.powsybl.iidm.import_.ImportersLoaderList;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Properties;
 
 import static org.junit.Assert.*;
 
@@ -28,8 +32,18 @@ import static org.junit.Assert.*;
  */
 public class VirtualCaseTest extends AbstractProjectFileTest {
 
+    private final Network eurostagNetwork = EurostagTutorialExample1Factory.create();
+
+    private int importCount = 0;
+
     private ImportersLoader createImportersLoader() {
-        return new ImportersLoaderList(new TestImporter(network));
+        return new ImportersLoaderList(new TestImporter(eurostagNetwork) {
+            @Override
+            public Network importData(ReadOnlyDataSource dataSource, Properties parameters) {
+                importCount++;
+                return super.importData(dataSource, parameters);
+            }
+        });
     }
 
     @Override
@@ -156,4 +170,59 @@ public class VirtualCaseTest extends AbstractProjectFileTest {
             assertTrue(e.getError().getMessage().contains("No signature of method: test.prin() is applicable"));
         }
     }
+
+    @Test
+    public void testChain() {
+        Case aCase = (Case) afs.getRootFolder().getChildren().get(0);
+        Project project = afs.getRootFolder().createProject("project");
+        ProjectFolder folder = project.getRootFolder().createFolder("folder");
+        ImportedCase importedCase = folder.fileBuilder(ImportedCaseBuilder.class)
+                .withCase(aCase)
+                .build();
+
+        ModificationScript script1 = folder.fileBuilder(ModificationScriptBuilder.class)
+                .withName("script1")
+                .withType(ScriptType.GROOVY)
+                .withContent("network.getLoad('LOAD').p0 = 700")
+                .build();
+        ModificationScript script2 = folder.fileBuilder(ModificationScriptBuilder.class)
+                .withName("script2")
+                .withType(ScriptType.GROOVY)
+                .withContent("network.getLoad('LOAD').q0 = 300")
+                .build();
+
+        // chain of 2 virtual cases on the same imported case
+        VirtualCase virtualCase1 = folder.fileBuilder(VirtualCaseBuilder.class)
+                .withName("network1")
+                .withCase(importedCase)
+                .withScript(script1)
+                .build();
+        VirtualCase virtualCase2 = folder.fileBuilder(VirtualCaseBuilder.class)
+                .withName("network2")
+                .withCase(virtualCase1)
+                .withScript(script2)
+                .build();
+
+        Network network2 = virtualCase2.getNetwork();
+        assertEquals(700, network2.getLoad("LOAD").getP0(), 0);
+        assertEquals(300, network2.getLoad("LOAD").getQ0(), 0);
+
+        // intermediate states have been cached and are not modified by child scripts
+        Network network1 = virtualCase1.getNetwork();
+        assertEquals(700, network1.getLoad("LOAD").getP0(), 0);
+        assertEquals(200, network1.getLoad("LOAD").getQ0(), 0);
+        assertEquals(600, importedCase.getNetwork().getLoad("LOAD").getP0(), 0);
+        assertEquals(1, importCount);
+
+        // sibling virtual case reuses the cached base network
+        VirtualCase virtualCase3 = folder.fileBuilder(VirtualCaseBuilder.class)
+                .withName("network3")
+                .withCase(importedCase)
+                .withScript(script2)
+                .build();
+        Network network3 = virtualCase3.getNetwork();
+        assertEquals(600, network3.getLoad("LOAD").getP0(), 0);
+        assertEquals(300, network3.getLoad("LOAD").getQ0(), 0);
+        assertEquals(1, importCount);
+    }
 }
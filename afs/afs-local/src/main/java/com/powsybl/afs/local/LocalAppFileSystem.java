@@ -32,6 +32,7 @@ public class LocalAppFileSystem extends AppFileSystem {
                               List<LocalFolderScanner> folderScanners, ComputationManager computationManager) {
         super(config.getDriveName(),
                 config.isRemotelyAccessible(),
-                new LocalAppStorage(config.getRootDir(), config.getDriveName(), fileScanners, folderScanners, computationManager));
+                new LocalAppStorage(config.getRootDir(), config.getDriveName(), fileScanners, folderScanners, computationManager,
+                                    config.isInitialScan()));
     }
 }
@@ -24,8 +24,12 @@ import java.util.OptionalInt;
  */
 public class LocalAppFileSystemConfig extends AbstractAppFileSystemConfig<LocalAppFileSystemConfig> {
 
+    private static final boolean DEFAULT_INITIAL_SCAN = false;
+
     private Path rootDir;
 
+    private boolean initialScan;
+
     public static List<LocalAppFileSystemConfig> load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -34,17 +38,20 @@ public class LocalAppFileSystemConfig extends AbstractAppFileSystemConfig<LocalA
         StringBuilder driveNameTag = new StringBuilder("drive-name");
         StringBuilder rootDirTag = new StringBuilder("root-dir");
         StringBuilder remotelyAccessibleTag = new StringBuilder("remotely-accessible");
+        StringBuilder initialScanTag = new StringBuilder("initial-scan");
         num.ifPresent(value -> {
             driveNameTag.append("-").append(value);
             rootDirTag.append("-").append(value);
             remotelyAccessibleTag.append("-").append(value);
+            initialScanTag.append("-").append(value);
         });
         if (moduleConfig.hasProperty(driveNameTag.toString())
                 && moduleConfig.hasProperty(rootDirTag.toString())) {
             String driveName = moduleConfig.getStringProperty(driveNameTag.toString());
             boolean remotelyAccessible = moduleConfig.getBooleanProperty(remotelyAccessibleTag.toString(), DEFAULT_REMOTELY_ACCESSIBLE);
             Path rootDir = moduleConfig.getPathProperty(rootDirTag.toString());
-            configs.add(new LocalAppFileSystemConfig(driveName, remotelyAccessible, rootDir));
+            boolean initialScan = moduleConfig.getBooleanProperty(initialScanTag.toString(), DEFAULT_INITIAL_SCAN);
+            configs.add(new LocalAppFileSystemConfig(driveName, remotelyAccessible, rootDir, initialScan));
         }
     }
 
@@ -81,8 +88,13 @@ public class LocalAppFileSystemConfig extends AbstractAppFileSystemConfig<LocalA
     }
 
     public LocalAppFileSystemConfig(String driveName, boolean remotelyAccessible, Path rootDir) {
+        this(driveName, remotelyAccessible, rootDir, DEFAULT_INITIAL_SCAN);
+    }
+
+    public LocalAppFileSystemConfig(String driveName, boolean remotelyAccessible, Path rootDir, boolean initialScan) {
         super(driveName, remotelyAccessible);
         this.rootDir = checkRootDir(rootDir).toAbsolutePath();
+        this.initialScan = initialScan;
     }
 
     public Path getRootDir() {
@@ -93,4 +105,16 @@ public class LocalAppFileSystemConfig extends AbstractAppFileSystemConfig<LocalA
         this.rootDir = checkRootDir(rootDir);
         return this;
     }
+
+    /**
+     * If true, the whole directory tree of the drive is scanned in background when the file system is created.
+     */
+    public boolean isInitialScan() {
+        return initialScan;
+    }
+
+    public LocalAppFileSystemConfig setInitialScan(boolean initialScan) {
+        this.initialScan = initialScan;
+        return this;
+    }
 }
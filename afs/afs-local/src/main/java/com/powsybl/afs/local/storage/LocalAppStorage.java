@@ -46,12 +46,19 @@ public class LocalAppStorage implements AppStorage {
 
     private final ComputationManager computationManager;
 
-    private final Map<Path, LocalFile> fileCache = new HashMap<>();
-
-    private final Map<Path, LocalFolder> folderCache = new HashMap<>();
+    private final LocalScanIndex scanIndex;
 
     public LocalAppStorage(Path rootDir, String fileSystemName, List<LocalFileScanner> fileScanners,
                            List<LocalFolderScanner> folderScanners, ComputationManager computationManager) {
+        this(rootDir, fileSystemName, fileScanners, folderScanners, computationManager, false);
+    }
+
+    /**
+     * @param initialScan if true, the whole directory tree is scanned in background to populate the scan index
+     */
+    public LocalAppStorage(Path rootDir, String fileSystemName, List<LocalFileScanner> fileScanners,
+                           List<LocalFolderScanner> folderScanners, ComputationManager computationManager,
+                           boolean initialScan) {
         this.rootDir = Objects.requireNonNull(rootDir);
         this.fileSystemName = Objects.requireNonNull(fileSystemName);
         this.fileScanners = Objects.requireNonNull(fileScanners);
@@ -60,44 +67,40 @@ public class LocalAppStorage implements AppStorage {
                 .add(new DefaultLocalFolderScanner())
                 .build();
         this.computationManager = Objects.requireNonNull(computationManager);
+        scanIndex = new LocalScanIndex(this::doScanFile, this::doScanFolder, Runtime.getRuntime().availableProcessors());
+        if (initialScan) {
+            scanIndex.crawl(rootDir);
+        }
     }
 
-    private LocalFile scanFile(Path path, boolean useCache) {
-        LocalFile file = null;
-        if (Files.isReadable(path)) {
-            if (useCache && fileCache.containsKey(path)) {
-                file = fileCache.get(path);
-            } else {
-                LocalFileScannerContext context = new LocalFileScannerContext(computationManager);
-                for (LocalFileScanner fileScanner : fileScanners) {
-                    file = fileScanner.scanFile(path, context);
-                    if (file != null) {
-                        break;
-                    }
-                }
-                fileCache.put(path, file);
+    private LocalFile doScanFile(Path path) {
+        LocalFileScannerContext context = new LocalFileScannerContext(computationManager);
+        for (LocalFileScanner fileScanner : fileScanners) {
+            LocalFile file = fileScanner.scanFile(path, context);
+            if (file != null) {
+                return file;
             }
         }
-        return file;
+        return null;
     }
 
-    private LocalFolder scanFolder(Path path, boolean useCache) {
-        LocalFolder folder = null;
-        if (Files.isReadable(path)) {
-            if (useCache && folderCache.containsKey(path)) {
-                folder = folderCache.get(path);
-            } else {
-                LocalFolderScannerContext context = new LocalFolderScannerContext(rootDir, fileSystemName, computationManager);
-                for (LocalFolderScanner folderScanner : folderScanners) {
-                    folder = folderScanner.scanFolder(path, context);
-                    if (folder != null) {
-                        break;
-                    }
-                }
-                folderCache.put(path, folder);
+    private LocalFolder doScanFolder(Path path) {
+        LocalFolderScannerContext context = new LocalFolderScannerContext(rootDir, fileSystemName, computationManager);
+        for (LocalFolderScanner folderScanner : folderScanners) {
+            LocalFolder folder = folderScanner.scanFolder(path, context);
+            if (folder != null) {
+                return folder;
             }
         }
-        return folder;
+        return null;
+    }
+
+    private LocalFile scanFile(Path path) {
+        return scanIndex.getFile(path);
+    }
+
+    private LocalFolder scanFolder(Path path) {
+        return scanIndex.getFolder(path);
     }
 
     @Override
@@ -161,7 +164,7 @@ public class LocalAppStorage implements AppStorage {
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
-        LocalFile file = scanFile(path, true);
+        LocalFile file = scanFile(path);
         if (file != null) {
             return new NodeInfo(pathToNodeId(path),
                                 file.getName(),
@@ -172,7 +175,7 @@ public class LocalAppStorage implements AppStorage {
                                 DEFAULT_VERSION,
                                 file.getGenericMetadata());
         } else {
-            LocalFolder folder = scanFolder(path, true);
+            LocalFolder folder = scanFolder(path);
             if (folder != null) {
                 return new NodeInfo(pathToNodeId(path),
                                     folder.getName(),
@@ -204,13 +207,13 @@ public class LocalAppStorage implements AppStorage {
     }
 
     private boolean isLocalNode(Path path) {
-        return scanFolder(path, false) != null || scanFile(path, false) != null;
+        return scanFolder(path) != null || scanFile(path) != null;
     }
 
     @Override
     public List<NodeInfo> getChildNodes(String nodeId) {
         Path path = nodeIdToPath(nodeId);
-        LocalFolder folder = scanFolder(path, false);
+        LocalFolder folder = scanFolder(path);
         if (folder != null) {
             return folder.getChildPaths().stream()
                     .filter(this::isLocalNode)
@@ -225,7 +228,7 @@ public class LocalAppStorage implements AppStorage {
     public Optional<NodeInfo> getChildNode(String nodeId, String name) {
         Path path = nodeIdToPath(nodeId);
         Objects.requireNonNull(name);
-        LocalFolder folder = scanFolder(path, false);
+        LocalFolder folder = scanFolder(path);
         if (folder != null) {
             Optional<Path> childPath = folder.getChildPath(name);
             if (childPath.isPresent() && isLocalNode(childPath.get())) {
@@ -239,11 +242,11 @@ public class LocalAppStorage implements AppStorage {
     public Optional<NodeInfo> getParentNode(String nodeId) {
         Path path = nodeIdToPath(nodeId);
         Optional<Path> parentPath;
-        LocalFile file = scanFile(path, true);
+        LocalFile file = scanFile(path);
         if (file != null) {
             parentPath = file.getParentPath();
         } else {
-            LocalFolder folder = scanFolder(path, true);
+            LocalFolder folder = scanFolder(path);
             if (folder != null) {
                 parentPath = folder.getParentPath();
             } else {
@@ -275,7 +278,7 @@ public class LocalAppStorage implements AppStorage {
 
     private LocalFile getFile(String nodeId) {
         Path path = nodeIdToPath(nodeId);
-        LocalFile file = scanFile(path, true);
+        LocalFile file = scanFile(path);
         if (file == null) {
             throw new AssertionError();
         }
@@ -408,6 +411,6 @@ public class LocalAppStorage implements AppStorage {
 
     @Override
     public void close() {
-        // nothing to close
+        scanIndex.close();
     }
 }
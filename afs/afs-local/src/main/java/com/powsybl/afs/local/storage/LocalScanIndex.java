@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.local.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Index of local file and folder scan results, so that scanners (and so importers probing) only run on new or
+ * modified paths.
+ * <p>
+ * An entry is reused as long as size and last modification time of the path are unchanged, attributes being read
+ * again on each lookup. The index can be populated in background by a parallel crawl of a directory tree.
+ *
+ * @author agent <agent at local>
+ */
+class LocalScanIndex implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalScanIndex.class);
+
+    private static final class Entry {
+
+        private final long size;
+
+        private final long lastModifiedTime;
+
+        private final LocalFile file;
+
+        private final LocalFolder folder;
+
+        private Entry(BasicFileAttributes attr, LocalFile file, LocalFolder folder) {
+            this.size = attr.size();
+            this.lastModifiedTime = attr.lastModifiedTime().toMillis();
+            this.file = file;
+            this.folder = folder;
+        }
+
+        private boolean isUpToDate(BasicFileAttributes attr) {
+            return size == attr.size() && lastModifiedTime == attr.lastModifiedTime().toMillis();
+        }
+    }
+
+    private final Function<Path, LocalFile> fileScanner;
+
+    private final Function<Path, LocalFolder> folderScanner;
+
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    private final int crawlParallelism;
+
+    private ForkJoinPool crawlPool;
+
+    LocalScanIndex(Function<Path, LocalFile> fileScanner, Function<Path, LocalFolder> folderScanner, int crawlParallelism) {
+        this.fileScanner = Objects.requireNonNull(fileScanner);
+        this.folderScanner = Objects.requireNonNull(folderScanner);
+        this.crawlParallelism = crawlParallelism;
+    }
+
+    int getEntryCount() {
+        return entries.size();
+    }
+
+    LocalFile getFile(Path path) {
+        Entry entry = getEntry(path);
+        return entry != null ? entry.file : null;
+    }
+
+    LocalFolder getFolder(Path path) {
+        Entry entry = getEntry(path);
+        return entry != null ? entry.folder : null;
+    }
+
+    private Entry getEntry(Path path) {
+        Objects.requireNonNull(path);
+        if (!Files.isReadable(path)) {
+            entries.remove(path);
+            return null;
+        }
+        BasicFileAttributes attr;
+        try {
+            attr = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            entries.remove(path);
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Entry entry = entries.get(path);
+        if (entry == null || !entry.isUpToDate(attr)) {
+            entry = scan(path, attr);
+            entries.put(path, entry);
+        }
+        return entry;
+    }
+
+    private Entry scan(Path path, BasicFileAttributes attr) {
+        LocalFile file = fileScanner.apply(path);
+        LocalFolder folder = file == null ? folderScanner.apply(path) : null;
+        return new Entry(attr, file, folder);
+    }
+
+    /**
+     * Scan in background all the files and folders of a directory tree, sub-directories being scanned in parallel.
+     */
+    synchronized ForkJoinTask<?> crawl(Path dir) {
+        Objects.requireNonNull(dir);
+        if (crawlPool == null) {
+            crawlPool = new ForkJoinPool(crawlParallelism);
+        }
+        return crawlPool.submit(() -> crawlFolder(dir));
+    }
+
+    private void crawlFolder(Path dir) {
+        LocalFolder folder = getFolder(dir);
+        if (folder == null) {
+            return;
+        }
+        List<ForkJoinTask<?>> tasks = folder.getChildPaths().stream()
+                .map(childPath -> ForkJoinTask.adapt(() -> {
+                    try {
+                        if (getFile(childPath) == null) {
+                            crawlFolder(childPath);
+                        }
+                    } catch (Exception e) {
+                        LOGGER.warn("Failed to scan {}: {}", childPath, e.toString());
+                    }
+                }))
+                .collect(Collectors.toList());
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (crawlPool != null) {
+            crawlPool.shutdownNow();
+        }
+    }
+}
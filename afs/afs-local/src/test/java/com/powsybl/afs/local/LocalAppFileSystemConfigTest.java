@@ -41,6 +41,7 @@ public class LocalAppFileSystemConfigTest {
         moduleConfig.setStringProperty("max-additional-drive-count", "2");
         moduleConfig.setStringProperty("drive-name-1", "local1");
         moduleConfig.setStringProperty("remotely-accessible-1", "true");
+        moduleConfig.setStringProperty("initial-scan-1", "true");
         moduleConfig.setPathProperty("root-dir-1", fileSystem.getPath("/work"));
     }
 
@@ -57,14 +58,18 @@ public class LocalAppFileSystemConfigTest {
         LocalAppFileSystemConfig config1 = configs.get(1);
         assertEquals("local", config.getDriveName());
         assertFalse(config.isRemotelyAccessible());
+        assertFalse(config.isInitialScan());
         assertEquals(fileSystem.getPath("/work"), config.getRootDir());
         assertEquals("local1", config1.getDriveName());
         assertTrue(config1.isRemotelyAccessible());
+        assertTrue(config1.isInitialScan());
         assertEquals(fileSystem.getPath("/work"), config1.getRootDir());
         config.setDriveName("local2");
         config.setRootDir(fileSystem.getPath("/tmp"));
         assertEquals("local2", config.getDriveName());
         assertEquals(fileSystem.getPath("/tmp"), config.getRootDir());
+        config.setInitialScan(true);
+        assertTrue(config.isInitialScan());
         try {
             config.setRootDir(fileSystem.getPath("/test"));
             fail();
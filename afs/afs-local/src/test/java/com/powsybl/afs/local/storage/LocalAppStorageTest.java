@@ -15,6 +15,7 @@ import com.powsybl.afs.ext.base.TestImporter;
 import com.powsybl.afs.storage.AppStorageDataSource;
 import com.powsybl.afs.storage.NodeInfo;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.iidm.import_.ImportConfig;
 import com.powsybl.iidm.import_.ImportersLoaderList;
@@ -24,6 +25,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -47,6 +50,8 @@ public class LocalAppStorageTest {
 
     private LocalAppStorage storage;
 
+    private int probeCount;
+
     @Before
     public void setUp() throws Exception {
         fileSystem = Jimfs.newFileSystem(Configuration.unix());
@@ -59,7 +64,13 @@ public class LocalAppStorageTest {
         ComputationManager computationManager = Mockito.mock(ComputationManager.class);
         Network network = Mockito.mock(Network.class);
         List<LocalFileScanner> fileExtensions
-                = Collections.singletonList(new LocalCaseScanner(new ImportConfig(), new ImportersLoaderList(new TestImporter(network))));
+                = Collections.singletonList(new LocalCaseScanner(new ImportConfig(), new ImportersLoaderList(new TestImporter(network) {
+                    @Override
+                    public boolean exists(ReadOnlyDataSource dataSource) {
+                        probeCount++;
+                        return super.exists(dataSource);
+                    }
+                })));
         storage = new LocalAppStorage(rootDir, "mem", fileExtensions, Collections.emptyList(), computationManager);
     }
 
@@ -91,4 +102,25 @@ public class LocalAppStorageTest {
         DataSource ds = new AppStorageDataSource(storage, case1.get().getId(), case1.get().getName());
         assertNotNull(ds);
     }
+
+    @Test
+    public void scanIndexTest() throws IOException {
+        NodeInfo rootNodeInfo = storage.createRootNodeIfNotExists("mem", Folder.PSEUDO_CLASS);
+        assertEquals(2, storage.getChildNodes(rootNodeInfo.getId()).size());
+        int count = probeCount;
+        assertTrue(count > 0);
+
+        // unchanged files are not probed again
+        assertEquals(2, storage.getChildNodes(rootNodeInfo.getId()).size());
+        assertEquals(count, probeCount);
+
+        // only the modified file is probed again
+        Files.write(path1, "hello".getBytes(StandardCharsets.UTF_8));
+        assertEquals(2, storage.getChildNodes(rootNodeInfo.getId()).size());
+        assertEquals(count + 1, probeCount);
+
+        // deleted file is not listed anymore
+        Files.delete(path2);
+        assertEquals(1, storage.getChildNodes(rootNodeInfo.getId()).size());
+    }
 }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.local.storage;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class LocalScanIndexTest {
+
+    private FileSystem fileSystem;
+
+    private Path rootDir;
+
+    private final AtomicInteger fileScanCount = new AtomicInteger();
+
+    private LocalScanIndex index;
+
+    @Before
+    public void setUp() throws IOException {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        rootDir = fileSystem.getPath("/cases");
+        Files.createDirectories(rootDir.resolve("a"));
+        Files.createDirectories(rootDir.resolve("b"));
+        Files.createFile(rootDir.resolve("a").resolve("n1.tst"));
+        Files.createFile(rootDir.resolve("a").resolve("n2.tst"));
+        Files.createFile(rootDir.resolve("b").resolve("n3.tst"));
+        index = new LocalScanIndex(path -> {
+            fileScanCount.incrementAndGet();
+            return Files.isRegularFile(path) ? Mockito.mock(LocalFile.class) : null;
+        }, path -> Files.isDirectory(path) ? new DefaultLocalFolder(path, rootDir, "mem") : null, 2);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        index.close();
+        fileSystem.close();
+    }
+
+    @Test
+    public void crawlTest() {
+        index.crawl(rootDir).join();
+
+        // root and 2 sub-directories, 3 files
+        assertEquals(6, index.getEntryCount());
+        int count = fileScanCount.get();
+
+        // files have already been scanned
+        assertNotNull(index.getFile(rootDir.resolve("a").resolve("n1.tst")));
+        assertNotNull(index.getFolder(rootDir.resolve("b")));
+        assertNull(index.getFile(rootDir.resolve("b").resolve("n4.tst")));
+        assertEquals(count, fileScanCount.get());
+    }
+}
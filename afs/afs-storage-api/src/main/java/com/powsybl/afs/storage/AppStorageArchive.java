@@ -8,12 +8,16 @@ package com.powsybl.afs.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.io.ByteStreams;
 import com.powsybl.afs.storage.json.AppStorageJsonModule;
 import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.timeseries.DataChunk;
 import com.powsybl.timeseries.DoubleDataChunk;
 import com.powsybl.timeseries.StringDataChunk;
 import com.powsybl.timeseries.TimeSeriesMetadata;
@@ -23,19 +27,28 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.DirectoryStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 /**
+ * Archive and unarchive a node tree of an {@link AppStorage}.
+ * <p>
+ * Sibling sub-trees are processed concurrently on a bounded pool of threads and time series chunks are streamed
+ * from/to archive files. The archive is either a directory tree or a single zip file whose central directory is used
+ * as an index of the nodes.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class AppStorageArchive {
@@ -44,6 +57,17 @@ public class AppStorageArchive {
 
     private static final Pattern CHUNKS_PATTERN = Pattern.compile("chunks-(\\d*).json.gz");
 
+    /**
+     * Maximum number of chunks read from an archive before being added to the storage.
+     */
+    private static final int CHUNK_BATCH_SIZE = 1000;
+
+    @FunctionalInterface
+    private interface IoConsumer<T> {
+
+        void accept(T t) throws IOException;
+    }
+
     private static class ArchiveDependency {
 
         @JsonProperty("nodeId")
@@ -74,9 +98,9 @@ public class AppStorageArchive {
 
     private static class UnarchiveContext {
 
-        private final Map<String, String> idMapping = new HashMap<>();
+        private final Map<String, String> idMapping = new ConcurrentHashMap<>();
 
-        private final Map<String, List<ArchiveDependency>> dependencies = new HashMap<>();
+        private final Map<String, List<ArchiveDependency>> dependencies = new ConcurrentHashMap<>();
 
         public Map<String, String> getIdMapping() {
             return idMapping;
@@ -96,19 +120,99 @@ public class AppStorageArchive {
         }
     }
 
+    private static String getFileName(Path file) {
+        // zip file system keeps the trailing slash of directory names
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith("/") ? fileName.substring(0, fileName.length() - 1) : fileName;
+    }
+
+    private static boolean isChunksFile(Path file) {
+        return CHUNKS_PATTERN.matcher(getFileName(file)).matches();
+    }
+
     private final AppStorage storage;
 
     private final ObjectMapper mapper;
 
     private final ObjectWriter objectWriter;
 
+    private final int parallelism;
+
     public AppStorageArchive(AppStorage storage) {
+        this(storage, Runtime.getRuntime().availableProcessors());
+    }
+
+    public AppStorageArchive(AppStorage storage, int parallelism) {
         this.storage = Objects.requireNonNull(storage);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism " + parallelism);
+        }
+        this.parallelism = parallelism;
         mapper = JsonUtil.createObjectMapper()
                 .registerModule(new AppStorageJsonModule());
         objectWriter = mapper.writerWithDefaultPrettyPrinter();
     }
 
+    /**
+     * Run an archiving or unarchiving action on a dedicated pool, so that sub-tree tasks forked by the action are
+     * bounded by the configured parallelism.
+     */
+    private void invoke(IoConsumer<Void> action) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> {
+                try {
+                    action.accept(null);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Apply an action to each item concurrently and wait for all of them. Has to be called from a task of the pool.
+     */
+    private static <T> void invokeAll(Collection<T> items, IoConsumer<T> action) throws IOException {
+        if (items.size() == 1) {
+            action.accept(items.iterator().next());
+            return;
+        }
+        try {
+            ForkJoinTask.invokeAll(items.stream()
+                    .map(item -> ForkJoinTask.adapt(() -> {
+                        try {
+                            action.accept(item);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }))
+                    .collect(Collectors.toList()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static OutputStream gzip(OutputStream os) throws IOException {
+        return new GZIPOutputStream(os) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        };
+    }
+
+    private static FileSystem newZipFileSystem(Path zipFile, boolean create) throws IOException {
+        Map<String, String> env = new HashMap<>();
+        env.put("create", Boolean.toString(create));
+        // entries are already gzipped, no need to compress them a second time
+        env.put("noCompression", "true");
+        return FileSystems.newFileSystem(URI.create("jar:" + zipFile.toUri()), env);
+    }
+
     private void writeNodeInfo(NodeInfo nodeInfo, Path nodeDir) throws IOException {
         try (Writer writer = Files.newBufferedWriter(nodeDir.resolve("info.json"), StandardCharsets.UTF_8)) {
             objectWriter.writeValue(writer, nodeInfo);
@@ -142,7 +246,7 @@ public class AppStorageArchive {
         for (String dataName : dataNames) {
             Path dataFileName = dataDir.resolve(URLEncoder.encode(dataName, StandardCharsets.UTF_8.name()) + ".gz");
             try (InputStream is = storage.readBinaryData(nodeInfo.getId(), dataName).orElseThrow(AssertionError::new);
-                 OutputStream os = new GZIPOutputStream(Files.newOutputStream(dataFileName))) {
+                 OutputStream os = gzip(Files.newOutputStream(dataFileName))) {
                 ByteStreams.copy(is, os);
             }
         }
@@ -171,38 +275,63 @@ public class AppStorageArchive {
 
             // write chunks for each version
             for (int version : storage.getTimeSeriesDataVersions(nodeInfo.getId(), metadata.getName())) {
+                List<? extends DataChunk> chunks;
                 switch (metadata.getDataType()) {
                     case DOUBLE:
-                        List<DoubleDataChunk> doubleChunks = storage.getDoubleTimeSeriesData(nodeInfo.getId(), Collections.singleton(metadata.getName()), version).get(metadata.getName());
-                        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(timeSeriesNameDir.resolve("chunks-" + version + ".json.gz"))), StandardCharsets.UTF_8)) {
-                            objectWriter.writeValue(writer, doubleChunks);
-                        }
+                        chunks = storage.getDoubleTimeSeriesData(nodeInfo.getId(), Collections.singleton(metadata.getName()), version).get(metadata.getName());
                         break;
 
                     case STRING:
-                        List<StringDataChunk> stringChunks = storage.getStringTimeSeriesData(nodeInfo.getId(), Collections.singleton(metadata.getName()), version).get(metadata.getName());
-                        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(timeSeriesNameDir.resolve("chunks-" + version + ".json.gz"))), StandardCharsets.UTF_8)) {
-                            objectWriter.writeValue(writer, stringChunks);
-                        }
+                        chunks = storage.getStringTimeSeriesData(nodeInfo.getId(), Collections.singleton(metadata.getName()), version).get(metadata.getName());
                         break;
 
                     default:
                         throw new AssertionError("Unsupported data type " + metadata.getDataType());
                 }
+                writeChunks(chunks != null ? chunks : Collections.emptyList(), timeSeriesNameDir.resolve("chunks-" + version + ".json.gz"));
+            }
+        }
+    }
+
+    private void writeChunks(List<? extends DataChunk> chunks, Path chunksFile) throws IOException {
+        // chunks are serialized one by one to avoid building the whole json document in memory
+        try (Writer writer = new OutputStreamWriter(gzip(Files.newOutputStream(chunksFile)), StandardCharsets.UTF_8);
+             JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartArray();
+            for (DataChunk chunk : chunks) {
+                chunk.writeJson(generator);
             }
+            generator.writeEndArray();
         }
     }
 
     public void archiveChildren(NodeInfo nodeInfo, Path nodeDir) throws IOException {
         Objects.requireNonNull(nodeInfo);
         Objects.requireNonNull(nodeDir);
+        invoke(v -> archiveChildNodes(nodeInfo, nodeDir));
+    }
+
+    /**
+     * Archive children of a node to a single zip file.
+     */
+    public void archiveChildrenToZip(NodeInfo nodeInfo, Path zipFile) {
+        Objects.requireNonNull(nodeInfo);
+        Objects.requireNonNull(zipFile);
+        try (FileSystem zipFileSystem = newZipFileSystem(zipFile, true)) {
+            archiveChildren(nodeInfo, zipFileSystem.getPath("/"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void archiveChildNodes(NodeInfo nodeInfo, Path nodeDir) throws IOException {
         List<NodeInfo> childNodeInfos = storage.getChildNodes(nodeInfo.getId());
         if (!childNodeInfos.isEmpty()) {
             Path childrenDir = nodeDir.resolve("children");
             Files.createDirectory(childrenDir);
-            for (NodeInfo childNodeInfo : childNodeInfos) {
-                archive(childNodeInfo, childrenDir);
-            }
+            // sibling sub-trees are archived concurrently
+            invokeAll(childNodeInfos, childNodeInfo -> archiveNode(childNodeInfo, childrenDir));
         }
     }
 
@@ -220,7 +349,10 @@ public class AppStorageArchive {
     public void archive(NodeInfo nodeInfo, Path parentDir) throws IOException {
         Objects.requireNonNull(nodeInfo);
         Objects.requireNonNull(parentDir);
+        invoke(v -> archiveNode(nodeInfo, parentDir));
+    }
 
+    private void archiveNode(NodeInfo nodeInfo, Path parentDir) throws IOException {
         LOGGER.info("Archiving node {} ({})", nodeInfo.getId(), nodeInfo.getName());
 
         Path nodeDir = parentDir.resolve(nodeInfo.getId());
@@ -234,7 +366,7 @@ public class AppStorageArchive {
 
         writeTimeSeries(nodeInfo, nodeDir);
 
-        archiveChildren(nodeInfo, nodeDir);
+        archiveChildNodes(nodeInfo, nodeDir);
     }
 
     private NodeInfo readNodeInfo(NodeInfo parentNodeInfo, Path nodeDir, UnarchiveContext context) throws IOException {
@@ -294,40 +426,21 @@ public class AppStorageArchive {
             try (Stream<Path> stream = Files.list(timeSeriesDir)) {
                 stream.forEach(timeSeriesNameDir -> {
                     try {
-                        String timeSeriesName = URLDecoder.decode(timeSeriesNameDir.getFileName().toString(), StandardCharsets.UTF_8.name());
+                        String timeSeriesName = URLDecoder.decode(getFileName(timeSeriesNameDir), StandardCharsets.UTF_8.name());
                         timeSeriesNames.add(timeSeriesName);
                         TimeSeriesMetadata metadata;
                         try (Reader reader = Files.newBufferedReader(timeSeriesNameDir.resolve("metadata.json"), StandardCharsets.UTF_8)) {
                             metadata = mapper.readerFor(TimeSeriesMetadata.class).readValue(reader);
                             storage.createTimeSeries(newNodeInfo.getId(), metadata);
                         }
-                        try (DirectoryStream<Path> chunksStream = Files.newDirectoryStream(timeSeriesNameDir, "chunks-*.json.gz")) {
+                        try (DirectoryStream<Path> chunksStream = Files.newDirectoryStream(timeSeriesNameDir, AppStorageArchive::isChunksFile)) {
                             for (Path chunksFile : chunksStream) {
                                 Matcher matcher = CHUNKS_PATTERN.matcher(chunksFile.getFileName().toString());
                                 if (!matcher.matches()) {
                                     throw new AssertionError("Invalid chunks file pattern");
                                 }
                                 int version = Integer.parseInt(matcher.group(1));
-                                try (Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(chunksFile)), StandardCharsets.UTF_8)) {
-                                    switch (metadata.getDataType()) {
-                                        case DOUBLE:
-                                            List<DoubleDataChunk> doubleChunks = mapper.readerFor(new TypeReference<List<DoubleDataChunk>>() {
-                                            }).readValue(reader);
-                                            chunkCount[0] += doubleChunks.size();
-                                            storage.addDoubleTimeSeriesData(newNodeInfo.getId(), version, timeSeriesName, doubleChunks);
-                                            break;
-
-                                        case STRING:
-                                            List<StringDataChunk> stringChunks = mapper.readerFor(new TypeReference<List<StringDataChunk>>() {
-                                            }).readValue(reader);
-                                            chunkCount[0] += stringChunks.size();
-                                            storage.addStringTimeSeriesData(newNodeInfo.getId(), version, timeSeriesName, stringChunks);
-                                            break;
-
-                                        default:
-                                            throw new AssertionError("Unsupported data type " + metadata.getDataType());
-                                    }
-                                }
+                                chunkCount[0] += readChunks(newNodeInfo, timeSeriesName, version, chunksFile);
                             }
                         }
                     } catch (IOException e) {
@@ -339,39 +452,91 @@ public class AppStorageArchive {
         }
     }
 
+    /**
+     * Read chunks of a time series version by batches, so that the whole chunk list is never loaded in memory.
+     */
+    private int readChunks(NodeInfo newNodeInfo, String timeSeriesName, int version, Path chunksFile) throws IOException {
+        int chunkCount = 0;
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(chunksFile)), StandardCharsets.UTF_8);
+             JsonParser parser = mapper.getFactory().createParser(reader)) {
+            List<DoubleDataChunk> doubleChunks = new ArrayList<>();
+            List<StringDataChunk> stringChunks = new ArrayList<>();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new AfsStorageException("Chunk array expected in " + chunksFile);
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                DataChunk.parseJson(parser, doubleChunks, stringChunks, true);
+                if (doubleChunks.size() + stringChunks.size() >= CHUNK_BATCH_SIZE) {
+                    chunkCount += addChunks(newNodeInfo, timeSeriesName, version, doubleChunks, stringChunks);
+                }
+            }
+            chunkCount += addChunks(newNodeInfo, timeSeriesName, version, doubleChunks, stringChunks);
+        }
+        return chunkCount;
+    }
+
+    private int addChunks(NodeInfo newNodeInfo, String timeSeriesName, int version, List<DoubleDataChunk> doubleChunks,
+                          List<StringDataChunk> stringChunks) {
+        int chunkCount = doubleChunks.size() + stringChunks.size();
+        if (!doubleChunks.isEmpty()) {
+            storage.addDoubleTimeSeriesData(newNodeInfo.getId(), version, timeSeriesName, new ArrayList<>(doubleChunks));
+            doubleChunks.clear();
+        }
+        if (!stringChunks.isEmpty()) {
+            storage.addStringTimeSeriesData(newNodeInfo.getId(), version, timeSeriesName, new ArrayList<>(stringChunks));
+            stringChunks.clear();
+        }
+        return chunkCount;
+    }
+
     public void unarchiveChildren(NodeInfo parentNodeInfo, Path nodeDir) {
         Objects.requireNonNull(parentNodeInfo);
         Objects.requireNonNull(nodeDir);
         try {
             UnarchiveContext context = new UnarchiveContext();
-            unarchiveChildren(parentNodeInfo, nodeDir, context);
+            invoke(v -> unarchiveChildren(parentNodeInfo, nodeDir, context));
             resolveDependencies(context);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    public void unarchiveChildren(NodeInfo parentNodeInfo, Path nodeDir, UnarchiveContext context) throws IOException {
+    /**
+     * Unarchive children of a node from a zip file created by {@link #archiveChildrenToZip(NodeInfo, Path)}.
+     */
+    public void unarchiveChildrenFromZip(NodeInfo parentNodeInfo, Path zipFile) {
         Objects.requireNonNull(parentNodeInfo);
-        Objects.requireNonNull(nodeDir);
-        Objects.requireNonNull(context);
+        Objects.requireNonNull(zipFile);
+        try (FileSystem zipFileSystem = newZipFileSystem(zipFile, false)) {
+            unarchiveChildren(parentNodeInfo, zipFileSystem.getPath("/"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void unarchiveChildren(NodeInfo parentNodeInfo, Path nodeDir, UnarchiveContext context) throws IOException {
         Path childrenDir = nodeDir.resolve("children");
         if (Files.exists(childrenDir)) {
+            List<Path> childNodeDirs;
             try (Stream<Path> stream = Files.list(childrenDir)) {
-                stream.forEach(childNodeDir -> {
-                    try {
-                        unarchive(parentNodeInfo, childNodeDir, context);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                });
+                childNodeDirs = stream.collect(Collectors.toList());
             }
+            // nodes are created by the parent task, so that a parent node is not modified concurrently, then
+            // content and sub-trees of the children are unarchived concurrently
+            Map<Path, NodeInfo> newChildNodeInfos = new LinkedHashMap<>();
+            for (Path childNodeDir : childNodeDirs) {
+                newChildNodeInfos.put(childNodeDir, readNodeInfo(parentNodeInfo, childNodeDir, context));
+            }
+            invokeAll(newChildNodeInfos.entrySet(), e -> unarchiveContent(e.getValue(), e.getKey(), context));
         }
     }
 
     private void unarchive(NodeInfo parentNodeInfo, Path nodeDir, UnarchiveContext context) throws IOException {
         NodeInfo newNodeInfo = readNodeInfo(parentNodeInfo, nodeDir, context);
+        unarchiveContent(newNodeInfo, nodeDir, context);
+    }
 
+    private void unarchiveContent(NodeInfo newNodeInfo, Path nodeDir, UnarchiveContext context) throws IOException {
         context.getDependencies().put(newNodeInfo.getId(), readDependencies(nodeDir));
 
         readData(newNodeInfo, nodeDir);
@@ -400,11 +565,12 @@ public class AppStorageArchive {
         UnarchiveContext context = new UnarchiveContext();
 
         try {
-            unarchive(parentNodeInfo, nodeDir, context);
+            invoke(v -> unarchive(parentNodeInfo, nodeDir, context));
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
 
+        // dependencies are added at the end, once all the nodes of the archive have been created
         resolveDependencies(context);
     }
 }
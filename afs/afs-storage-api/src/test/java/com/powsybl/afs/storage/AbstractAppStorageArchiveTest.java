@@ -14,7 +14,9 @@ import com.google.common.jimfs.Jimfs;
 import com.powsybl.timeseries.*;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.threeten.extra.Interval;
 
 import java.io.IOException;
@@ -22,6 +24,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
@@ -42,6 +45,13 @@ public abstract class AbstractAppStorageArchiveTest {
 
     private FileSystem fileSystem;
 
+    private TimeSeriesMetadata metadata1;
+
+    private List<DoubleDataChunk> chunks;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Before
     public void setUp() {
         storage = createStorage();
@@ -58,9 +68,7 @@ public abstract class AbstractAppStorageArchiveTest {
 
     protected abstract AppStorage createStorage();
 
-    @Test
-    public void archive() throws IOException  {
-        // create test case
+    private NodeInfo createTestCase() throws IOException {
         NodeInfo rootFolderInfo = storage.createRootNodeIfNotExists(storage.getFileSystemName(), AbstractAppStorageTest.FOLDER_PSEUDO_CLASS);
 
         NodeInfo folder1Info = storage.createNode(rootFolderInfo.getId(), "folder1", AbstractAppStorageTest.FOLDER_PSEUDO_CLASS, "", 0, new NodeGenericMetadata());
@@ -70,14 +78,14 @@ public abstract class AbstractAppStorageArchiveTest {
             os.write("hello".getBytes(StandardCharsets.UTF_8));
         }
 
-        TimeSeriesMetadata metadata1 = new TimeSeriesMetadata("ts1 hello",
-                                                              TimeSeriesDataType.DOUBLE,
-                                                              ImmutableMap.of("var1", "value1"),
-                                                              RegularTimeSeriesIndex.create(Interval.parse("2015-01-01T00:00:00Z/2015-01-01T01:15:00Z"),
-                                                                                            Duration.ofMinutes(15)));
+        metadata1 = new TimeSeriesMetadata("ts1 hello",
+                                           TimeSeriesDataType.DOUBLE,
+                                           ImmutableMap.of("var1", "value1"),
+                                           RegularTimeSeriesIndex.create(Interval.parse("2015-01-01T00:00:00Z/2015-01-01T01:15:00Z"),
+                                                                         Duration.ofMinutes(15)));
         storage.createTimeSeries(file1Info.getId(), metadata1);
-        List<DoubleDataChunk> chunks = Arrays.asList(new UncompressedDoubleDataChunk(2, new double[]{1d, 2d}),
-                                                     new UncompressedDoubleDataChunk(5, new double[]{3d}));
+        chunks = Arrays.asList(new UncompressedDoubleDataChunk(2, new double[]{1d, 2d}),
+                               new UncompressedDoubleDataChunk(5, new double[]{3d}));
         storage.addDoubleTimeSeriesData(file1Info.getId(), 0, "ts1 hello", chunks);
 
         NodeInfo folder2Info = storage.createNode(rootFolderInfo.getId(), "folder2", AbstractAppStorageTest.FOLDER_PSEUDO_CLASS, "", 0, new NodeGenericMetadata());
@@ -88,6 +96,14 @@ public abstract class AbstractAppStorageArchiveTest {
 
         storage.flush();
 
+        return rootFolderInfo;
+    }
+
+    @Test
+    public void archive() throws IOException  {
+        // create test case
+        NodeInfo rootFolderInfo = createTestCase();
+
         // archive
         Path workDir = fileSystem.getPath("/work");
         new AppStorageArchive(storage).archiveChildren(rootFolderInfo, workDir);
@@ -96,6 +112,25 @@ public abstract class AbstractAppStorageArchiveTest {
         NodeInfo newRootFolderInfo = storage2.createRootNodeIfNotExists(storage2.getFileSystemName(), AbstractAppStorageTest.FOLDER_PSEUDO_CLASS);
         new AppStorageArchive(storage2).unarchiveChildren(newRootFolderInfo, workDir);
 
+        checkUnarchivedTestCase();
+    }
+
+    @Test
+    public void archiveToZip() throws IOException  {
+        NodeInfo rootFolderInfo = createTestCase();
+
+        // archive to a single zip file, sub-trees being archived by 2 threads
+        Path zipFile = temporaryFolder.getRoot().toPath().resolve("archive.zip");
+        new AppStorageArchive(storage, 2).archiveChildrenToZip(rootFolderInfo, zipFile);
+        assertTrue(Files.isRegularFile(zipFile));
+
+        NodeInfo newRootFolderInfo = storage2.createRootNodeIfNotExists(storage2.getFileSystemName(), AbstractAppStorageTest.FOLDER_PSEUDO_CLASS);
+        new AppStorageArchive(storage2, 2).unarchiveChildrenFromZip(newRootFolderInfo, zipFile);
+
+        checkUnarchivedTestCase();
+    }
+
+    private void checkUnarchivedTestCase() throws IOException {
         // check we have same data in storage and storage2
         NodeInfo rootFolderInfo2 = storage2.createRootNodeIfNotExists(storage.getFileSystemName(), AbstractAppStorageTest.FOLDER_PSEUDO_CLASS);
         assertEquals(2, storage2.getChildNodes(rootFolderInfo2.getId()).size());
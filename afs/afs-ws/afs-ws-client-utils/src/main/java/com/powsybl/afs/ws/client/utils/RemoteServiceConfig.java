@@ -6,6 +6,8 @@
  */
 package com.powsybl.afs.ws.client.utils;
 
+import com.powsybl.afs.ws.utils.TimeSeriesEncoding;
+import com.powsybl.afs.ws.utils.gzip.ContentEncoding;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.exceptions.UncheckedUriSyntaxException;
 
@@ -19,6 +21,10 @@ import java.util.Optional;
  */
 public class RemoteServiceConfig {
 
+    private static final TimeSeriesEncoding DEFAULT_TIME_SERIES_ENCODING = TimeSeriesEncoding.JSON;
+
+    private static final ContentEncoding DEFAULT_CONTENT_ENCODING = ContentEncoding.GZIP;
+
     private String hostName;
 
     private String appName;
@@ -27,6 +33,10 @@ public class RemoteServiceConfig {
 
     private boolean secure;
 
+    private TimeSeriesEncoding timeSeriesEncoding = DEFAULT_TIME_SERIES_ENCODING;
+
+    private ContentEncoding contentEncoding = DEFAULT_CONTENT_ENCODING;
+
     public RemoteServiceConfig(String hostName, String appName, int port, boolean secure) {
         this.hostName = Objects.requireNonNull(hostName);
         this.appName = Objects.requireNonNull(appName);
@@ -45,7 +55,11 @@ public class RemoteServiceConfig {
             String appName = moduleConfig.getStringProperty("app-name");
             boolean secure = moduleConfig.getBooleanProperty("secure", true);
             int port = moduleConfig.getIntProperty("port", secure ? 443 : 80);
-            return new RemoteServiceConfig(hostName, appName, port, secure);
+            TimeSeriesEncoding timeSeriesEncoding = moduleConfig.getEnumProperty("time-series-encoding", TimeSeriesEncoding.class, DEFAULT_TIME_SERIES_ENCODING);
+            ContentEncoding contentEncoding = moduleConfig.getEnumProperty("content-encoding", ContentEncoding.class, DEFAULT_CONTENT_ENCODING);
+            return new RemoteServiceConfig(hostName, appName, port, secure)
+                    .setTimeSeriesEncoding(timeSeriesEncoding)
+                    .setContentEncoding(contentEncoding);
         });
     }
 
@@ -92,6 +106,24 @@ public class RemoteServiceConfig {
         return this;
     }
 
+    public TimeSeriesEncoding getTimeSeriesEncoding() {
+        return timeSeriesEncoding;
+    }
+
+    public RemoteServiceConfig setTimeSeriesEncoding(TimeSeriesEncoding timeSeriesEncoding) {
+        this.timeSeriesEncoding = Objects.requireNonNull(timeSeriesEncoding);
+        return this;
+    }
+
+    public ContentEncoding getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public RemoteServiceConfig setContentEncoding(ContentEncoding contentEncoding) {
+        this.contentEncoding = Objects.requireNonNull(contentEncoding);
+        return this;
+    }
+
     public URI getRestUri() {
         try {
             return new URI(secure ? "https" : "http", null, hostName, port, "/" + appName, null, null);
@@ -110,6 +142,7 @@ public class RemoteServiceConfig {
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "(hostName=" + hostName + ", appName=" + appName + ", port=" + port + ", secure=" + secure + ")";
+        return getClass().getSimpleName() + "(hostName=" + hostName + ", appName=" + appName + ", port=" + port + ", secure=" + secure
+                + ", timeSeriesEncoding=" + timeSeriesEncoding + ", contentEncoding=" + contentEncoding + ")";
     }
 }
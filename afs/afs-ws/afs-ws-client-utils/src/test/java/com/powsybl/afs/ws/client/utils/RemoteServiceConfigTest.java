@@ -6,6 +6,8 @@
  */
 package com.powsybl.afs.ws.client.utils;
 
+import com.powsybl.afs.ws.utils.TimeSeriesEncoding;
+import com.powsybl.afs.ws.utils.gzip.ContentEncoding;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -24,5 +26,12 @@ public class RemoteServiceConfigTest {
         RemoteServiceConfig config2 = new RemoteServiceConfig("host", "test", 80, false);
         assertEquals("http://host:80/test", config2.getRestUri().toString());
         assertEquals("ws://host:80/test", config2.getWsUri().toString());
+
+        assertSame(TimeSeriesEncoding.JSON, config.getTimeSeriesEncoding());
+        assertSame(ContentEncoding.GZIP, config.getContentEncoding());
+        config.setTimeSeriesEncoding(TimeSeriesEncoding.BINARY)
+                .setContentEncoding(ContentEncoding.DEFLATE);
+        assertSame(TimeSeriesEncoding.BINARY, config.getTimeSeriesEncoding());
+        assertSame(ContentEncoding.DEFLATE, config.getContentEncoding());
     }
 }
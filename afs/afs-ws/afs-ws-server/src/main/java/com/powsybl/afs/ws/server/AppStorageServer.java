@@ -19,7 +19,9 @@ import com.powsybl.afs.storage.buffer.*;
 import com.powsybl.afs.ws.server.utils.JwtTokenNeeded;
 import com.powsybl.afs.ws.server.utils.AppDataBean;
 import com.powsybl.afs.ws.utils.AfsRestApi;
+import com.powsybl.afs.ws.utils.TimeSeriesEncoding;
 import com.powsybl.afs.ws.utils.gzip.Compress;
+import com.powsybl.afs.ws.utils.gzip.ContentEncoding;
 import com.powsybl.timeseries.DoubleDataChunk;
 import com.powsybl.timeseries.StringDataChunk;
 import com.powsybl.timeseries.TimeSeriesMetadata;
@@ -353,7 +355,7 @@ public class AppStorageServer {
     }
 
     @POST
-    @Consumes(MediaType.APPLICATION_JSON)
+    @Consumes({MediaType.APPLICATION_JSON, TimeSeriesEncoding.BINARY_MEDIA_TYPE})
     @Path("fileSystems/{fileSystemName}/flush")
     @ApiOperation (value = "")
     @ApiResponses (value = {@ApiResponse(code = 200, message = ""), @ApiResponse(code = 500, message = "Error")})
@@ -466,7 +468,7 @@ public class AppStorageServer {
     }
 
     @POST
-    @Consumes(MediaType.APPLICATION_JSON)
+    @Consumes({MediaType.APPLICATION_JSON, TimeSeriesEncoding.BINARY_MEDIA_TYPE})
     @Path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/double/{version}/{timeSeriesName}")
     @ApiOperation (value = "")
     @ApiResponses (value = {@ApiResponse(code = 200, message = ""), @ApiResponse(code = 500, message = "Error")})
@@ -482,7 +484,7 @@ public class AppStorageServer {
 
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
-    @Produces(MediaType.APPLICATION_JSON)
+    @Produces({MediaType.APPLICATION_JSON, TimeSeriesEncoding.BINARY_MEDIA_TYPE})
     @Path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/double/{version}")
     @Compress
     @ApiOperation (value = "", response = List.class)
@@ -490,17 +492,18 @@ public class AppStorageServer {
     public Response getDoubleTimeSeriesData(@ApiParam(value = "File system name") @PathParam("fileSystemName") String fileSystemName,
                                             @ApiParam(value = "Node ID") @PathParam("nodeId") String nodeId,
                                             @ApiParam(value = "Version") @PathParam("version") int version,
+                                            @ApiParam(value = "Accept encoding") @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
                                             @ApiParam(value = "Set time series names") Set<String> timeSeriesNames) {
         AppStorage storage = appDataBean.getStorage(fileSystemName);
         Map<String, List<DoubleDataChunk>> timeSeriesData = storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version);
         return Response.ok()
-                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.CONTENT_ENCODING, ContentEncoding.negotiate(acceptEncoding).getHeaderValue())
                 .entity(timeSeriesData)
                 .build();
     }
 
     @POST
-    @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+    @Consumes({MediaType.APPLICATION_OCTET_STREAM, TimeSeriesEncoding.BINARY_MEDIA_TYPE})
     @Path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/string/{version}/{timeSeriesName}")
     @ApiOperation (value = "")
     @ApiResponses (value = {@ApiResponse(code = 200, message = ""), @ApiResponse(code = 500, message = "Error")})
@@ -516,7 +519,7 @@ public class AppStorageServer {
 
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
-    @Produces(MediaType.APPLICATION_JSON)
+    @Produces({MediaType.APPLICATION_JSON, TimeSeriesEncoding.BINARY_MEDIA_TYPE})
     @Path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/string/{version}")
     @Compress
     @ApiOperation (value = "", response = List.class)
@@ -524,11 +527,12 @@ public class AppStorageServer {
     public Response getStringTimeSeriesData(@ApiParam(value = "File system name") @PathParam("fileSystemName") String fileSystemName,
                                             @ApiParam(value = "Node ID") @PathParam("nodeId") String nodeId,
                                             @ApiParam(value = "Version") @PathParam("version") int version,
+                                            @ApiParam(value = "Accept encoding") @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
                                             @ApiParam(value = "Set time series names") Set<String> timeSeriesNames) {
         AppStorage storage = appDataBean.getStorage(fileSystemName);
         Map<String, List<StringDataChunk>> timeSeriesData = storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version);
         return Response.ok()
-                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.CONTENT_ENCODING, ContentEncoding.negotiate(acceptEncoding).getHeaderValue())
                 .entity(timeSeriesData)
                 .build();
     }
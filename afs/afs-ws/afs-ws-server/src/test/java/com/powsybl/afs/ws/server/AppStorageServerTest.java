@@ -44,7 +44,7 @@ public class AppStorageServerTest extends AbstractAppStorageTest {
     @ArquillianResource
     private URL baseUrl;
 
-    private UserSession userSession;
+    protected UserSession userSession;
 
     @Deployment
     public static WebArchive createTestArchive() {
@@ -65,7 +65,7 @@ public class AppStorageServerTest extends AbstractAppStorageTest {
                 .addAsLibraries(filesLib);
     }
 
-    private URI getRestUri() {
+    protected URI getRestUri() {
         try {
             return baseUrl.toURI();
         } catch (URISyntaxException e) {
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ws.server;
+
+import com.powsybl.afs.storage.ListenableAppStorage;
+import com.powsybl.afs.ws.storage.RemoteAppStorage;
+import com.powsybl.afs.ws.storage.RemoteListenableAppStorage;
+import com.powsybl.afs.ws.utils.TimeSeriesEncoding;
+import com.powsybl.afs.ws.utils.gzip.ContentEncoding;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.junit.Arquillian;
+import org.junit.runner.RunWith;
+
+import java.net.URI;
+
+/**
+ * Same tests as {@link AppStorageServerTest} but with time series data transferred using the binary encoding.
+ *
+ * @author agent <agent at local>
+ */
+@RunWith(Arquillian.class)
+@RunAsClient
+public class BinaryAppStorageServerTest extends AppStorageServerTest {
+
+    @Override
+    protected ListenableAppStorage createStorage() {
+        URI restUri = getRestUri();
+        RemoteAppStorage storage = new RemoteAppStorage(AppDataBeanMock.TEST_FS_NAME, restUri, userSession.getToken(),
+                                                        TimeSeriesEncoding.BINARY, ContentEncoding.DEFLATE);
+        return new RemoteListenableAppStorage(storage, restUri);
+    }
+}
@@ -15,7 +15,10 @@ import com.powsybl.afs.storage.NodeInfo;
 import com.powsybl.afs.storage.buffer.StorageChangeBuffer;
 import com.powsybl.afs.ws.client.utils.ClientUtils;
 import com.powsybl.afs.ws.utils.AfsRestApi;
+import com.powsybl.afs.ws.utils.BinaryTimeSeriesProvider;
 import com.powsybl.afs.ws.utils.JsonProvider;
+import com.powsybl.afs.ws.utils.TimeSeriesEncoding;
+import com.powsybl.afs.ws.utils.gzip.ContentEncoding;
 import com.powsybl.afs.ws.utils.gzip.ReaderInterceptorGzip;
 import com.powsybl.afs.ws.utils.gzip.WriterInterceptorGzipCli;
 import com.powsybl.commons.exceptions.UncheckedInterruptedException;
@@ -64,6 +67,10 @@ public class RemoteAppStorage implements AppStorage {
 
     private final StorageChangeBuffer changeBuffer;
 
+    private final TimeSeriesEncoding timeSeriesEncoding;
+
+    private final ContentEncoding contentEncoding;
+
     private String token;
 
     private boolean closed = false;
@@ -73,8 +80,15 @@ public class RemoteAppStorage implements AppStorage {
     }
 
     public RemoteAppStorage(String fileSystemName, URI baseUri, String token) {
+        this(fileSystemName, baseUri, token, TimeSeriesEncoding.JSON, ContentEncoding.GZIP);
+    }
+
+    public RemoteAppStorage(String fileSystemName, URI baseUri, String token, TimeSeriesEncoding timeSeriesEncoding,
+                            ContentEncoding contentEncoding) {
         this.fileSystemName = Objects.requireNonNull(fileSystemName);
         this.token = token;
+        this.timeSeriesEncoding = Objects.requireNonNull(timeSeriesEncoding);
+        this.contentEncoding = Objects.requireNonNull(contentEncoding);
 
         client = createClient();
 
@@ -89,9 +103,9 @@ public class RemoteAppStorage implements AppStorage {
                     .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
                     .request()
                     .header(HttpHeaders.AUTHORIZATION, token)
-                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-                    .acceptEncoding("gzip")
-                    .post(Entity.json(changeSet));
+                    .header(HttpHeaders.CONTENT_ENCODING, contentEncoding.getHeaderValue())
+                    .acceptEncoding(contentEncoding.getHeaderValue())
+                    .post(Entity.entity(changeSet, timeSeriesEncoding.getMediaType()));
             try {
                 checkOk(response);
             } finally {
@@ -102,7 +116,8 @@ public class RemoteAppStorage implements AppStorage {
 
     static Client createClient() {
         return ClientUtils.createClient()
-                .register(new JsonProvider());
+                .register(new JsonProvider())
+                .register(new BinaryTimeSeriesProvider());
     }
 
     static WebTarget getWebTarget(Client client, URI baseUri) {
@@ -806,8 +821,9 @@ public class RemoteAppStorage implements AppStorage {
                 .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
                 .resolveTemplate(NODE_ID, nodeId)
                 .resolveTemplate(VERSION, version)
-                .request()
+                .request(timeSeriesEncoding.getMediaType())
                 .header(HttpHeaders.AUTHORIZATION, token)
+                .acceptEncoding(contentEncoding.getHeaderValue())
                 .post(Entity.json(timeSeriesNames));
         try {
             return readEntityIfOk(response, new GenericType<Map<String, List<DoubleDataChunk>>>() {
@@ -847,8 +863,9 @@ public class RemoteAppStorage implements AppStorage {
                 .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
                 .resolveTemplate(NODE_ID, nodeId)
                 .resolveTemplate(VERSION, version)
-                .request()
+                .request(timeSeriesEncoding.getMediaType())
                 .header(HttpHeaders.AUTHORIZATION, token)
+                .acceptEncoding(contentEncoding.getHeaderValue())
                 .post(Entity.json(timeSeriesNames));
         try {
             return readEntityIfOk(response, new GenericType<Map<String, List<StringDataChunk>>>() {
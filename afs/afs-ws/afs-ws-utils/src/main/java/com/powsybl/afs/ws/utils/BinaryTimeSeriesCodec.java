@@ -0,0 +1,411 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ws.utils;
+
+import com.powsybl.afs.storage.buffer.*;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.timeseries.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compact binary encoding of time series data chunks, used as an alternative to JSON on the AFS REST API.
+ * <p>
+ * Uncompressed double chunks are written as raw little-endian doubles, compressed chunks keep their step
+ * (run-length) encoding, so that a chunk list is decoded back exactly as it was encoded.
+ *
+ * @author agent <agent at local>
+ */
+public final class BinaryTimeSeriesCodec {
+
+    private static final int MAGIC = 0x42535450; // "PTSB" in little-endian
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte CHUNK_LIST = 0;
+    private static final byte CHUNK_MAP = 1;
+    private static final byte CHANGE_SET = 2;
+
+    private static final byte UNCOMPRESSED_DOUBLE_CHUNK = 0;
+    private static final byte COMPRESSED_DOUBLE_CHUNK = 1;
+    private static final byte UNCOMPRESSED_STRING_CHUNK = 2;
+    private static final byte COMPRESSED_STRING_CHUNK = 3;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private BinaryTimeSeriesCodec() {
+    }
+
+    /**
+     * Check if an entity can be binary encoded: a data chunk list, a map of data chunk lists or a storage change set.
+     */
+    public static boolean isSupported(Class<?> type) {
+        Objects.requireNonNull(type);
+        return List.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || StorageChangeSet.class.isAssignableFrom(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void write(Object entity, OutputStream os) {
+        Objects.requireNonNull(entity);
+        Objects.requireNonNull(os);
+        try {
+            LittleEndianOutput output = new LittleEndianOutput(os);
+            output.writeInt(MAGIC);
+            output.writeByte(FORMAT_VERSION);
+            if (entity instanceof List) {
+                output.writeByte(CHUNK_LIST);
+                writeChunks(output, (List<DataChunk>) entity);
+            } else if (entity instanceof Map) {
+                output.writeByte(CHUNK_MAP);
+                writeChunkMap(output, (Map<String, List<DataChunk>>) entity);
+            } else if (entity instanceof StorageChangeSet) {
+                output.writeByte(CHANGE_SET);
+                writeChangeSet(output, (StorageChangeSet) entity);
+            } else {
+                throw new IllegalArgumentException("Entity type " + entity.getClass().getName() + " cannot be binary encoded");
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Object read(InputStream is) {
+        Objects.requireNonNull(is);
+        try {
+            LittleEndianInput input = new LittleEndianInput(is);
+            if (input.readInt() != MAGIC) {
+                throw new IllegalStateException("Not a binary time series stream");
+            }
+            byte version = input.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported binary time series format version " + version);
+            }
+            byte entityType = input.readByte();
+            switch (entityType) {
+                case CHUNK_LIST:
+                    return readChunks(input);
+                case CHUNK_MAP:
+                    return readChunkMap(input);
+                case CHANGE_SET:
+                    return readChangeSet(input);
+                default:
+                    throw new IllegalStateException("Unknown entity type " + entityType);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static byte[] toBytes(Object entity) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        write(entity, os);
+        return os.toByteArray();
+    }
+
+    public static Object fromBytes(byte[] bytes) {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    private static void writeChunk(LittleEndianOutput output, DataChunk chunk) throws IOException {
+        if (chunk instanceof UncompressedDoubleDataChunk) {
+            UncompressedDoubleDataChunk doubleChunk = (UncompressedDoubleDataChunk) chunk;
+            output.writeByte(UNCOMPRESSED_DOUBLE_CHUNK);
+            output.writeInt(doubleChunk.getOffset());
+            output.writeDoubles(doubleChunk.getValues());
+        } else if (chunk instanceof CompressedDoubleDataChunk) {
+            CompressedDoubleDataChunk doubleChunk = (CompressedDoubleDataChunk) chunk;
+            output.writeByte(COMPRESSED_DOUBLE_CHUNK);
+            output.writeInt(doubleChunk.getOffset());
+            output.writeInt(doubleChunk.getUncompressedLength());
+            output.writeDoubles(doubleChunk.getStepValues());
+            output.writeInts(doubleChunk.getStepLengths());
+        } else if (chunk instanceof UncompressedStringDataChunk) {
+            UncompressedStringDataChunk stringChunk = (UncompressedStringDataChunk) chunk;
+            output.writeByte(UNCOMPRESSED_STRING_CHUNK);
+            output.writeInt(stringChunk.getOffset());
+            output.writeStrings(stringChunk.getValues());
+        } else if (chunk instanceof CompressedStringDataChunk) {
+            CompressedStringDataChunk stringChunk = (CompressedStringDataChunk) chunk;
+            output.writeByte(COMPRESSED_STRING_CHUNK);
+            output.writeInt(stringChunk.getOffset());
+            output.writeInt(stringChunk.getUncompressedLength());
+            output.writeStrings(stringChunk.getStepValues());
+            output.writeInts(stringChunk.getStepLengths());
+        } else {
+            throw new IllegalArgumentException("Data chunk type " + chunk.getClass().getName() + " cannot be binary encoded");
+        }
+    }
+
+    private static DataChunk readChunk(LittleEndianInput input) throws IOException {
+        byte chunkType = input.readByte();
+        int offset = input.readInt();
+        switch (chunkType) {
+            case UNCOMPRESSED_DOUBLE_CHUNK:
+                return new UncompressedDoubleDataChunk(offset, input.readDoubles());
+            case COMPRESSED_DOUBLE_CHUNK: {
+                int uncompressedLength = input.readInt();
+                double[] stepValues = input.readDoubles();
+                int[] stepLengths = input.readInts();
+                return new CompressedDoubleDataChunk(offset, uncompressedLength, stepValues, stepLengths);
+            }
+            case UNCOMPRESSED_STRING_CHUNK:
+                return new UncompressedStringDataChunk(offset, input.readStrings());
+            case COMPRESSED_STRING_CHUNK: {
+                int uncompressedLength = input.readInt();
+                String[] stepValues = input.readStrings();
+                int[] stepLengths = input.readInts();
+                return new CompressedStringDataChunk(offset, uncompressedLength, stepValues, stepLengths);
+            }
+            default:
+                throw new IllegalStateException("Unknown data chunk type " + chunkType);
+        }
+    }
+
+    private static void writeChunks(LittleEndianOutput output, List<? extends DataChunk> chunks) throws IOException {
+        output.writeInt(chunks.size());
+        for (DataChunk chunk : chunks) {
+            writeChunk(output, chunk);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends DataChunk> List<T> readChunks(LittleEndianInput input) throws IOException {
+        int size = input.readInt();
+        List<T> chunks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            chunks.add((T) readChunk(input));
+        }
+        return chunks;
+    }
+
+    private static void writeChunkMap(LittleEndianOutput output, Map<String, List<DataChunk>> chunkMap) throws IOException {
+        output.writeInt(chunkMap.size());
+        for (Map.Entry<String, List<DataChunk>> e : chunkMap.entrySet()) {
+            output.writeString(e.getKey());
+            writeChunks(output, e.getValue());
+        }
+    }
+
+    private static <T extends DataChunk> Map<String, List<T>> readChunkMap(LittleEndianInput input) throws IOException {
+        int size = input.readInt();
+        Map<String, List<T>> chunkMap = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            String timeSeriesName = input.readString();
+            chunkMap.put(timeSeriesName, readChunks(input));
+        }
+        return chunkMap;
+    }
+
+    private static void writeChangeSet(LittleEndianOutput output, StorageChangeSet changeSet) throws IOException {
+        output.writeInt(changeSet.getChanges().size());
+        for (StorageChange change : changeSet.getChanges()) {
+            output.writeByte((byte) change.getType().ordinal());
+            output.writeString(change.getNodeId());
+            switch (change.getType()) {
+                case TIME_SERIES_CREATION:
+                    TimeSeriesMetadata metadata = ((TimeSeriesCreation) change).getMetadata();
+                    output.writeString(JsonUtil.toJson(metadata::writeJson));
+                    break;
+                case DOUBLE_TIME_SERIES_CHUNKS_ADDITION:
+                case STRING_TIME_SERIES_CHUNKS_ADDITION:
+                    AbstractTimeSeriesChunksAddition<?, ?> addition = (AbstractTimeSeriesChunksAddition<?, ?>) change;
+                    output.writeInt(addition.getVersion());
+                    output.writeString(addition.getTimeSeriesName());
+                    writeChunks(output, addition.getChunks());
+                    break;
+                default:
+                    throw new AssertionError("Unknown change type " + change.getType());
+            }
+        }
+    }
+
+    private static StorageChangeSet readChangeSet(LittleEndianInput input) throws IOException {
+        int size = input.readInt();
+        List<StorageChange> changes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byte changeType = input.readByte();
+            if (changeType < 0 || changeType >= StorageChangeType.values().length) {
+                throw new IllegalStateException("Unknown change type " + changeType);
+            }
+            String nodeId = input.readString();
+            switch (StorageChangeType.values()[changeType]) {
+                case TIME_SERIES_CREATION:
+                    TimeSeriesMetadata metadata = JsonUtil.parseJson(input.readString(), TimeSeriesMetadata::parseJson);
+                    changes.add(new TimeSeriesCreation(nodeId, metadata));
+                    break;
+                case DOUBLE_TIME_SERIES_CHUNKS_ADDITION: {
+                    int version = input.readInt();
+                    String timeSeriesName = input.readString();
+                    changes.add(new DoubleTimeSeriesChunksAddition(nodeId, version, timeSeriesName, readChunks(input)));
+                    break;
+                }
+                case STRING_TIME_SERIES_CHUNKS_ADDITION: {
+                    int version = input.readInt();
+                    String timeSeriesName = input.readString();
+                    changes.add(new StringTimeSeriesChunksAddition(nodeId, version, timeSeriesName, readChunks(input)));
+                    break;
+                }
+                default:
+                    throw new AssertionError("Unknown change type " + changeType);
+            }
+        }
+        return new StorageChangeSet(changes);
+    }
+
+    private static final class LittleEndianOutput {
+
+        private final OutputStream os;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        private LittleEndianOutput(OutputStream os) {
+            this.os = os;
+        }
+
+        private void ensureRemaining(int size) throws IOException {
+            if (buffer.remaining() < size) {
+                flushBuffer();
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            os.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+
+        void writeByte(byte b) throws IOException {
+            ensureRemaining(Byte.BYTES);
+            buffer.put(b);
+        }
+
+        void writeInt(int i) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(i);
+        }
+
+        void writeDoubles(double[] values) throws IOException {
+            writeInt(values.length);
+            for (double value : values) {
+                ensureRemaining(Double.BYTES);
+                buffer.putDouble(value);
+            }
+        }
+
+        void writeInts(int[] values) throws IOException {
+            writeInt(values.length);
+            for (int value : values) {
+                writeInt(value);
+            }
+        }
+
+        void writeString(String s) throws IOException {
+            if (s == null) {
+                writeInt(-1);
+            } else {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                writeInt(bytes.length);
+                if (bytes.length > buffer.remaining()) {
+                    flushBuffer();
+                }
+                if (bytes.length > buffer.capacity()) {
+                    os.write(bytes);
+                } else {
+                    buffer.put(bytes);
+                }
+            }
+        }
+
+        void writeStrings(String[] values) throws IOException {
+            writeInt(values.length);
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        void flush() throws IOException {
+            flushBuffer();
+            os.flush();
+        }
+    }
+
+    private static final class LittleEndianInput {
+
+        private final DataInputStream is;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        private LittleEndianInput(InputStream is) {
+            this.is = new DataInputStream(is);
+        }
+
+        private ByteBuffer fill(int size) throws IOException {
+            buffer.clear();
+            is.readFully(buffer.array(), 0, size);
+            buffer.limit(size);
+            return buffer;
+        }
+
+        byte readByte() throws IOException {
+            return is.readByte();
+        }
+
+        int readInt() throws IOException {
+            return fill(Integer.BYTES).getInt();
+        }
+
+        private int readLength() throws IOException {
+            int length = readInt();
+            if (length < 0) {
+                throw new IllegalStateException("Invalid array length " + length);
+            }
+            return length;
+        }
+
+        double[] readDoubles() throws IOException {
+            double[] values = new double[readLength()];
+            int maxBlockLength = BUFFER_SIZE / Double.BYTES;
+            for (int i = 0; i < values.length; i += maxBlockLength) {
+                int blockLength = Math.min(maxBlockLength, values.length - i);
+                fill(blockLength * Double.BYTES).asDoubleBuffer().get(values, i, blockLength);
+            }
+            return values;
+        }
+
+        int[] readInts() throws IOException {
+            int[] values = new int[readLength()];
+            int maxBlockLength = BUFFER_SIZE / Integer.BYTES;
+            for (int i = 0; i < values.length; i += maxBlockLength) {
+                int blockLength = Math.min(maxBlockLength, values.length - i);
+                fill(blockLength * Integer.BYTES).asIntBuffer().get(values, i, blockLength);
+            }
+            return values;
+        }
+
+        String readString() throws IOException {
+            int length = readInt();
+            if (length < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            is.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        String[] readStrings() throws IOException {
+            String[] values = new String[readLength()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = readString();
+            }
+            return values;
+        }
+    }
+}
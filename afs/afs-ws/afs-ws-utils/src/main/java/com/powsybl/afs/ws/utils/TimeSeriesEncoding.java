@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ws.utils;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Content type used to transfer time series data chunks over the AFS REST API.
+ *
+ * @author agent <agent at local>
+ */
+public enum TimeSeriesEncoding {
+    JSON(MediaType.APPLICATION_JSON),
+    BINARY(TimeSeriesEncoding.BINARY_MEDIA_TYPE);
+
+    public static final String BINARY_MEDIA_TYPE = "application/vnd.powsybl.timeseries+binary";
+
+    private final String mediaType;
+
+    TimeSeriesEncoding(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return MediaType.valueOf(mediaType);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ws.utils.gzip;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.*;
+
+/**
+ * HTTP content encodings supported by the AFS REST API. {@link #DEFLATE} uses the fastest compression level and
+ * trades some compression ratio for a much lower CPU cost than {@link #GZIP}.
+ *
+ * @author agent <agent at local>
+ */
+public enum ContentEncoding {
+    GZIP("gzip") {
+        @Override
+        public DeflaterOutputStream compress(OutputStream os) throws IOException {
+            return new GZIPOutputStream(os);
+        }
+
+        @Override
+        public InputStream decompress(InputStream is) throws IOException {
+            return new GZIPInputStream(is);
+        }
+    },
+    DEFLATE("deflate") {
+        @Override
+        public DeflaterOutputStream compress(OutputStream os) {
+            return new DeflaterOutputStream(os, new Deflater(Deflater.BEST_SPEED));
+        }
+
+        @Override
+        public InputStream decompress(InputStream is) {
+            return new InflaterInputStream(is);
+        }
+    };
+
+    private final String headerValue;
+
+    ContentEncoding(String headerValue) {
+        this.headerValue = headerValue;
+    }
+
+    public String getHeaderValue() {
+        return headerValue;
+    }
+
+    public abstract DeflaterOutputStream compress(OutputStream os) throws IOException;
+
+    public abstract InputStream decompress(InputStream is) throws IOException;
+
+    /**
+     * Find the content encoding of a Content-Encoding header value.
+     *
+     * @return the content encoding or null if not compressed
+     */
+    public static ContentEncoding find(Object header) {
+        if (header != null) {
+            String value = header.toString();
+            if (value.contains(GZIP.headerValue)) {
+                return GZIP;
+            } else if (value.contains(DEFLATE.headerValue)) {
+                return DEFLATE;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Choose the response content encoding from an Accept-Encoding header value. Gzip is the default so that
+     * clients not sending any Accept-Encoding header keep the previous behaviour.
+     */
+    public static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding != null && acceptEncoding.contains(DEFLATE.headerValue) && !acceptEncoding.contains(GZIP.headerValue)) {
+            return DEFLATE;
+        }
+        return GZIP;
+    }
+}
@@ -8,7 +8,6 @@ package com.powsybl.afs.ws.utils.gzip;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
 
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.ext.Provider;
@@ -32,15 +31,21 @@ public class ReaderInterceptorGzip implements ReaderInterceptor {
         LOGGER.trace("Encoding: {}", encoding);
         final InputStream inputStream = interceptorContext.getInputStream();
 
-        if (encoding == null || !encoding.contains("gzip")) {
+        ContentEncoding contentEncoding = ContentEncoding.find(encoding);
+        if (contentEncoding == null) {
             interceptorContext.setInputStream(inputStream);
             return interceptorContext.proceed();
         } else {
-            interceptorContext.setInputStream(new GZIPInputStream(new InputStream() {
+            interceptorContext.setInputStream(contentEncoding.decompress(new InputStream() {
                 @Override
                 public int read() throws IOException {
                     return inputStream.read();
                 }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return inputStream.read(b, off, len);
+                }
             }));
             return interceptorContext.proceed();
         }
@@ -14,7 +14,7 @@ import javax.ws.rs.ext.WriterInterceptor;
 import javax.ws.rs.ext.WriterInterceptorContext;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.DeflaterOutputStream;
 
 /**
  * @author Ali Tahanout <ali.tahanout at rte-france.com>
@@ -31,13 +31,18 @@ public class WriterInterceptorGzipCli implements WriterInterceptor {
         LOGGER.trace("Encoding: {}", encoding);
         LOGGER.trace("Accept-Encoding: {}", acceptEncoding);
 
-        if ((encoding == null || !encoding.toString().contains("gzip")) && (acceptEncoding == null || !acceptEncoding.toString().contains("gzip"))) {
+        ContentEncoding contentEncoding = ContentEncoding.find(encoding);
+        if (contentEncoding == null && acceptEncoding != null && acceptEncoding.toString().contains(ContentEncoding.GZIP.getHeaderValue())) {
+            contentEncoding = ContentEncoding.GZIP;
+        }
+
+        if (contentEncoding == null) {
             OutputStream os = interceptorContext.getOutputStream();
             interceptorContext.setOutputStream(os);
             interceptorContext.proceed();
         } else {
-            GZIPOutputStream os = new GZIPOutputStream(interceptorContext.getOutputStream());
-            interceptorContext.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+            DeflaterOutputStream os = contentEncoding.compress(interceptorContext.getOutputStream());
+            interceptorContext.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, contentEncoding.getHeaderValue());
 
             interceptorContext.setOutputStream(os);
             interceptorContext.proceed();
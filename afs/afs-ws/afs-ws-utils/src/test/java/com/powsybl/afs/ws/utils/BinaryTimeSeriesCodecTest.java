@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ws.utils;
+
+import com.google.common.collect.ImmutableMap;
+import com.powsybl.afs.storage.buffer.DoubleTimeSeriesChunksAddition;
+import com.powsybl.afs.storage.buffer.StorageChangeSet;
+import com.powsybl.afs.storage.buffer.StringTimeSeriesChunksAddition;
+import com.powsybl.afs.storage.buffer.TimeSeriesCreation;
+import com.powsybl.afs.ws.utils.gzip.ContentEncoding;
+import com.powsybl.timeseries.*;
+import org.junit.Test;
+import org.threeten.extra.Interval;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class BinaryTimeSeriesCodecTest {
+
+    @Test
+    public void chunkListTest() {
+        List<DoubleDataChunk> chunks = Arrays.asList(new UncompressedDoubleDataChunk(0, new double[] {1d, 2d, Double.NaN}),
+                                                     new CompressedDoubleDataChunk(3, 5, new double[] {1d, 2d}, new int[] {2, 3}));
+        assertEquals(chunks, BinaryTimeSeriesCodec.fromBytes(BinaryTimeSeriesCodec.toBytes(chunks)));
+
+        // more values than the codec buffer
+        double[] values = new double[10000];
+        Arrays.setAll(values, i -> i * 0.1);
+        List<DoubleDataChunk> bigChunks = Collections.singletonList(new UncompressedDoubleDataChunk(0, values));
+        byte[] bytes = BinaryTimeSeriesCodec.toBytes(bigChunks);
+        assertTrue(bytes.length < values.length * Double.BYTES + 64);
+        assertEquals(bigChunks, BinaryTimeSeriesCodec.fromBytes(bytes));
+    }
+
+    @Test
+    public void chunkMapTest() {
+        Map<String, List<StringDataChunk>> chunkMap = ImmutableMap.of("ts1", Arrays.asList(new UncompressedStringDataChunk(0, new String[] {"a", null, "é"}),
+                                                                                          new CompressedStringDataChunk(3, 4, new String[] {"b", "c"}, new int[] {3, 1})),
+                                                                    "ts2", Collections.emptyList());
+        assertEquals(chunkMap, BinaryTimeSeriesCodec.fromBytes(BinaryTimeSeriesCodec.toBytes(chunkMap)));
+    }
+
+    @Test
+    public void changeSetTest() {
+        TimeSeriesIndex index = RegularTimeSeriesIndex.create(Interval.parse("2015-01-01T00:00:00Z/2015-01-01T01:45:00Z"), Duration.ofMinutes(15));
+        StorageChangeSet changeSet = new StorageChangeSet(Arrays.asList(
+                new TimeSeriesCreation("id1", new TimeSeriesMetadata("ts1", TimeSeriesDataType.DOUBLE, index)),
+                new DoubleTimeSeriesChunksAddition("id1", 1, "ts1", Collections.singletonList(new UncompressedDoubleDataChunk(2, new double[] {1d, 2d}))),
+                new StringTimeSeriesChunksAddition("id1", 1, "ts2", Collections.singletonList(new UncompressedStringDataChunk(0, new String[] {"a"})))));
+        assertEquals(changeSet, BinaryTimeSeriesCodec.fromBytes(BinaryTimeSeriesCodec.toBytes(changeSet)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void badMagicTest() {
+        BinaryTimeSeriesCodec.fromBytes(new byte[] {1, 2, 3, 4, 5, 6});
+    }
+
+    @Test
+    public void contentEncodingTest() throws IOException {
+        assertNull(ContentEncoding.find(null));
+        assertSame(ContentEncoding.GZIP, ContentEncoding.find("gzip"));
+        assertSame(ContentEncoding.DEFLATE, ContentEncoding.find("deflate"));
+        assertSame(ContentEncoding.GZIP, ContentEncoding.negotiate(null));
+        assertSame(ContentEncoding.GZIP, ContentEncoding.negotiate("gzip, deflate"));
+        assertSame(ContentEncoding.DEFLATE, ContentEncoding.negotiate("deflate"));
+
+        List<DoubleDataChunk> chunks = Collections.singletonList(new UncompressedDoubleDataChunk(0, new double[] {1d, 2d, 3d}));
+        for (ContentEncoding contentEncoding : ContentEncoding.values()) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (OutputStream os = contentEncoding.compress(bos)) {
+                BinaryTimeSeriesCodec.write(chunks, os);
+            }
+            try (InputStream is = contentEncoding.decompress(new ByteArrayInputStream(bos.toByteArray()))) {
+                assertEquals(chunks, BinaryTimeSeriesCodec.read(is));
+            }
+        }
+    }
+}
@@ -1,20 +0,0 @@
-/**
- * Copyright (c) 2018, RTE (http://www.rte-france.com)
- * This Source Code Form is subject to the terms of the Mozilla Public
- * License, v. 2.0. If a copy of the MPL was not distributed with this
- * file, You can obtain one at http://mozilla.org/MPL/2.0/.
- */
-package com.powsybl.afs.ws.utils;
-
-import org.junit.Test;
-
-/**
- * @author Mathieu Bague <mathieu.bague at rte-france.com>
- */
-public class CodeCoverageTest {
-
-    @Test
-    public void testNothing() {
-        // TODO: remove this class once a real test has been added
-    }
-}
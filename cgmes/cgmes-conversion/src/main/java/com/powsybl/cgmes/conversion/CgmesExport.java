@@ -7,19 +7,34 @@
 
 package com.powsybl.cgmes.conversion;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.auto.service.AutoService;
+import com.powsybl.cgmes.conversion.export.AbstractCgmesProfileExport;
+import com.powsybl.cgmes.conversion.export.StateVariablesExport;
+import com.powsybl.cgmes.conversion.export.SteadyStateHypothesisExport;
 import com.powsybl.cgmes.model.CgmesModel;
 import com.powsybl.cgmes.model.CgmesModelException;
 import com.powsybl.cgmes.model.CgmesNames;
 import com.powsybl.cgmes.model.Subset;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.iidm.ConversionParameters;
 import com.powsybl.iidm.export.Exporter;
 import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.parameters.Parameter;
+import com.powsybl.iidm.parameters.ParameterType;
 import com.powsybl.triplestore.api.PropertyBag;
 import com.powsybl.triplestore.api.PropertyBags;
 
@@ -40,13 +55,79 @@ public class CgmesExport implements Exporter {
         }
         CgmesModel cgmes = ext.getCgmesModel();
 
-        // Clear the previous SV data
-        cgmes.clear(Subset.STATE_VARIABLES);
+        // Profiles written directly from the network, element by element,
+        // the others are written from the contents of the CGMES model
+        List<String> profilesFromNetwork = ConversionParameters.readStringListParameter(getFormat(), params, PROFILES_FROM_NETWORK_PARAMETER);
+        List<AbstractCgmesProfileExport> exports = new ArrayList<>();
+        if (profilesFromNetwork.contains(Subset.STATE_VARIABLES.getIdentifier())) {
+            exports.add(new StateVariablesExport(network, cgmes));
+        } else {
+            // Clear the previous SV data
+            cgmes.clear(Subset.STATE_VARIABLES);
+
+            // Fill the SV data of the CgmesModel with the network current state
+            addStateVariables(network, cgmes);
+        }
+        if (profilesFromNetwork.contains(Subset.STEADY_STATE_HYPOTHESIS.getIdentifier())) {
+            exports.add(new SteadyStateHypothesisExport(network, cgmes));
+        }
+
+        if (exports.isEmpty()) {
+            cgmes.write(ds);
+            return;
+        }
+        List<String> contextNames = new ArrayList<>(cgmes.tripleStore().contextNames());
+        Collections.sort(contextNames);
+        for (String contextName : contextNames) {
+            if (exports.stream().noneMatch(e -> e.getSubset().isValidName(contextName))) {
+                cgmes.write(ds, contextName);
+            }
+        }
+        write(exports, contextNames, ds);
+    }
+
+    private static void write(List<AbstractCgmesProfileExport> exports, List<String> contextNames, DataSource ds) {
+        // Profiles only read the network, they are written concurrently, each one to its own file
+        List<CompletableFuture<Void>> written = new ArrayList<>();
+        for (AbstractCgmesProfileExport export : exports) {
+            String fileName = fileName(export.getSubset(), contextNames, ds.getBaseName());
+            written.add(CompletableFuture.runAsync(() -> write(export, ds, fileName)));
+        }
+        try {
+            written.forEach(CompletableFuture::join);
+        } catch (CompletionException x) {
+            if (x.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) x.getCause();
+            }
+            throw x;
+        }
+    }
 
-        // Fill the SV data of the CgmesModel with the network current state
-        addStateVariables(network, cgmes);
+    private static void write(AbstractCgmesProfileExport export, DataSource ds, String fileName) {
+        LOG.info("Writing {} from network", fileName);
+        try (OutputStream os = ds.newOutputStream(fileName, false)) {
+            export.write(os);
+        } catch (IOException x) {
+            throw new UncheckedIOException(x);
+        }
+    }
 
-        cgmes.write(ds);
+    private static String fileName(Subset subset, List<String> contextNames, String baseName) {
+        // Replace the file the profile has been read from, or derive the name from the equipment file
+        String eq = null;
+        for (String contextName : contextNames) {
+            String name = contextName.replaceAll("^.*[/:]", "");
+            if (subset.isValidName(name)) {
+                return name;
+            }
+            if (eq == null && Subset.EQUIPMENT.isValidName(name) && !name.contains(BOUNDARY)) {
+                eq = name;
+            }
+        }
+        if (eq != null) {
+            return eq.replace("_" + Subset.EQUIPMENT.getIdentifier(), "_" + subset.getIdentifier());
+        }
+        return baseName + "_" + subset.getIdentifier() + ".xml";
     }
 
     @Override
@@ -136,10 +217,24 @@ public class CgmesExport implements Exporter {
         return iidmBusId;
     }
 
+    public static final String PROFILES_FROM_NETWORK = "iidm.export.cgmes.profiles-from-network";
+
+    private static final Parameter PROFILES_FROM_NETWORK_PARAMETER = new Parameter(
+            PROFILES_FROM_NETWORK,
+            ParameterType.STRING_LIST,
+            "Profiles (SV, SSH) written directly from the network instead of the CGMES model. "
+                    + "SSH only contains the values kept in the network. By default all profiles come from the CGMES model",
+            Collections.emptyList())
+            .addAdditionalNames("profilesFromNetwork");
+
+    private static final String BOUNDARY = "_BD";
+
     private static final List<String> SV_VOLTAGE_PROPERTIES = Arrays.asList(CgmesNames.ANGLE, CgmesNames.VOLTAGE, "TopologicalNode");
     private static final List<String> SV_POWERFLOW_PROPERTIES = Arrays.asList("p", "q", CgmesNames.TERMINAL);
     private static final List<String> SV_SHUNTCOMPENSATORSECTIONS_PROPERTIES = Arrays.asList("ShuntCompensator",
             "continuousSections");
     private static final List<String> SV_TAPSTEP_PROPERTIES = Arrays.asList(CgmesNames.POSITION,
             CgmesNames.TAP_CHANGER);
+
+    private static final Logger LOG = LoggerFactory.getLogger(CgmesExport.class);
 }
@@ -25,6 +25,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.parameters.Parameter;
 import com.powsybl.iidm.parameters.ParameterDefaultValueConfig;
 import com.powsybl.iidm.parameters.ParameterType;
+import com.powsybl.triplestore.api.TripleStoreCache;
 import com.powsybl.triplestore.api.TripleStoreFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +57,12 @@ public class CgmesImport implements Importer {
                 ParameterType.STRING,
                 "The location of boundary files",
                 platformConfig.getConfigDir().resolve(FORMAT).resolve("boundary").toString());
+        Path tripleStoreCacheDirectory = platformConfig.getConfigDir().resolve(FORMAT).resolve("triple-store-cache");
+        this.tripleStoreCacheConfig = platformConfig.getOptionalModuleConfig("cgmes-triple-store-cache")
+                .map(config -> new TripleStoreCacheConfig(
+                        config.getPathProperty("directory", tripleStoreCacheDirectory),
+                        config.getLongProperty("maximum-size", DEFAULT_TRIPLE_STORE_CACHE_MAXIMUM_SIZE)))
+                .orElseGet(() -> new TripleStoreCacheConfig(tripleStoreCacheDirectory, DEFAULT_TRIPLE_STORE_CACHE_MAXIMUM_SIZE));
     }
 
     public CgmesImport(PlatformConfig platformConfig) {
@@ -96,9 +103,18 @@ public class CgmesImport implements Importer {
 
     @Override
     public Network importData(ReadOnlyDataSource ds, Properties p) {
-        CgmesModel cgmes = CgmesModelFactory.create(ds, boundary(p), tripleStore(p));
-        Network network = new Conversion(cgmes, config(p), activatedPostProcessors(p)).convert();
-        if (storeCgmesModelAsNetworkExtension(p)) {
+        boolean streaming = streaming(p);
+        List<CgmesImportPostProcessor> activatedPostProcessors = activatedPostProcessors(p);
+        if (streaming && !activatedPostProcessors.isEmpty()) {
+            // Post processors query the triple store, the streaming model does not have one
+            throw new ConversionException("CGMES post processors can not be used with the streaming CGMES model");
+        }
+        CgmesModel cgmes = streaming
+                ? CgmesModelFactory.createStreaming(ds, boundary(p))
+                : CgmesModelFactory.create(ds, boundary(p), tripleStore(p), tripleStoreCache(p));
+        Network network = new Conversion(cgmes, config(p), activatedPostProcessors).convert();
+        // The streaming model can not be queried, updated or written once the network has been converted
+        if (!streaming && storeCgmesModelAsNetworkExtension(p)) {
             // Store a reference to the original CGMES model inside the IIDM network
             // We could also add listeners to be aware of changes in IIDM data
             network.addExtension(CgmesModelExtension.class, new CgmesModelExtension(cgmes));
@@ -145,6 +161,23 @@ public class CgmesImport implements Importer {
                 defaultValueConfig);
     }
 
+    private TripleStoreCache tripleStoreCache(Properties p) {
+        boolean cached = ConversionParameters.readBooleanParameter(
+                getFormat(),
+                p,
+                CACHE_TRIPLE_STORE_PARAMETER,
+                defaultValueConfig);
+        return cached ? tripleStoreCacheConfig.cache() : null;
+    }
+
+    private boolean streaming(Properties p) {
+        return ConversionParameters.readBooleanParameter(
+                getFormat(),
+                p,
+                STREAMING_PARAMETER,
+                defaultValueConfig);
+    }
+
     private Conversion.Config config(Properties p) {
         return new Conversion.Config()
                 .setAllowUnsupportedTapChangers(
@@ -170,6 +203,12 @@ public class CgmesImport implements Importer {
                                 getFormat(),
                                 p,
                                 CREATE_BUSBAR_SECTION_FOR_EVERY_CONNECTIVITY_NODE_PARAMETER,
+                                defaultValueConfig))
+                .setConcurrentConversion(
+                        ConversionParameters.readBooleanParameter(
+                                getFormat(),
+                                p,
+                                CONCURRENT_CONVERSION_PARAMETER,
                                 defaultValueConfig));
     }
 
@@ -196,6 +235,26 @@ public class CgmesImport implements Importer {
                 defaultValueConfig);
     }
 
+    private static final class TripleStoreCacheConfig {
+
+        TripleStoreCacheConfig(Path directory, long maximumSize) {
+            this.directory = directory;
+            this.maximumSize = maximumSize;
+        }
+
+        synchronized TripleStoreCache cache() {
+            // The directory is only created if the cache is used
+            if (cache == null) {
+                cache = new TripleStoreCache(directory, maximumSize);
+            }
+            return cache;
+        }
+
+        private final Path directory;
+        private final long maximumSize;
+        private TripleStoreCache cache;
+    }
+
     private void copyStream(ReadOnlyDataSource from, DataSource to, String fromName, String toName) throws IOException {
         if (from.exists(fromName)) {
             try (InputStream is = from.newInputStream(fromName);
@@ -212,6 +271,9 @@ public class CgmesImport implements Importer {
     public static final String CONVERT_BOUNDARY = "iidm.import.cgmes.convert-boundary";
     public static final String CREATE_BUSBAR_SECTION_FOR_EVERY_CONNECTIVITY_NODE = "iidm.import.cgmes.create-busbar-section-for-every-connectivity-node";
     public static final String POWSYBL_TRIPLESTORE = "iidm.import.cgmes.powsybl-triplestore";
+    public static final String STREAMING = "iidm.import.cgmes.streaming";
+    public static final String CONCURRENT_CONVERSION = "iidm.import.cgmes.concurrent-conversion";
+    public static final String CACHE_TRIPLE_STORE = "iidm.import.cgmes.cache-triple-store";
     public static final String STORE_CGMES_MODEL_AS_NETWORK_EXTENSION = "iidm.import.cgmes.store-cgmes-model-as-network-extension";
     public static final String POST_PROCESSORS = "iidm.import.cgmes.post-processors";
     public static final String BOUNDARY_LOCATION = "iidm.import.cgmes.boundary-location";
@@ -245,6 +307,25 @@ public class CgmesImport implements Importer {
             "The triplestore used during the import",
             TripleStoreFactory.defaultImplementation())
             .addAdditionalNames("powsyblTripleStore");
+    private static final Parameter STREAMING_PARAMETER = new Parameter(
+            STREAMING,
+            ParameterType.BOOLEAN,
+            "Read the CGMES files with a streaming parser instead of a triplestore. "
+                    + "The CGMES model is then not stored as a network extension and post processors can not be used",
+            Boolean.FALSE)
+            .addAdditionalNames("streaming");
+    private static final Parameter CONCURRENT_CONVERSION_PARAMETER = new Parameter(
+            CONCURRENT_CONVERSION,
+            ParameterType.BOOLEAN,
+            "Prepare the elements of independent conversion stages concurrently",
+            Boolean.FALSE)
+            .addAdditionalNames("concurrentConversion");
+    private static final Parameter CACHE_TRIPLE_STORE_PARAMETER = new Parameter(
+            CACHE_TRIPLE_STORE,
+            ParameterType.BOOLEAN,
+            "Save the triple store on disk and reuse it when the same files are imported again",
+            Boolean.FALSE)
+            .addAdditionalNames("cacheTripleStore");
     private static final Parameter STORE_CGMES_MODEL_AS_NETWORK_EXTENSION_PARAMETER = new Parameter(
             STORE_CGMES_MODEL_AS_NETWORK_EXTENSION,
             ParameterType.BOOLEAN,
@@ -263,12 +344,18 @@ public class CgmesImport implements Importer {
             CONVERT_BOUNDARY_PARAMETER,
             CREATE_BUSBAR_SECTION_FOR_EVERY_CONNECTIVITY_NODE_PARAMETER,
             POWSYBL_TRIPLESTORE_PARAMETER,
+            STREAMING_PARAMETER,
+            CONCURRENT_CONVERSION_PARAMETER,
+            CACHE_TRIPLE_STORE_PARAMETER,
             STORE_CGMES_MODEL_AS_NETWORK_EXTENSION_PARAMETER,
             POST_PROCESSORS_PARAMETER);
 
     private final Parameter boundaryLocationParameter;
     private final Map<String, CgmesImportPostProcessor> postProcessors;
     private final ParameterDefaultValueConfig defaultValueConfig;
+    private final TripleStoreCacheConfig tripleStoreCacheConfig;
+
+    private static final long DEFAULT_TRIPLE_STORE_CACHE_MAXIMUM_SIZE = 10L * 1024 * 1024 * 1024; // 10 Go
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CgmesImport.class);
 
@@ -10,6 +10,9 @@ package com.powsybl.cgmes.conversion;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +50,8 @@ public class Context {
         nodeMapping = new NodeMapping();
 
         ratioTapChangerTables = new HashMap<>();
+        phaseTapChangerTables = new HashMap<>();
+        nonlinearShuntCompensatorPoints = new HashMap<>();
         reactiveCapabilityCurveData = new HashMap<>();
     }
 
@@ -112,14 +117,36 @@ public class Context {
         return nodeId + "_S";
     }
 
-    public void loadReactiveCapabilityCurveData() {
-        PropertyBags rccdata = cgmes.reactiveCapabilityCurveData();
-        if (rccdata == null) {
-            return;
+    /**
+     * Query in bulk the objects that conversions look up by identifier, instead of running one query per object.
+     * Queries are run concurrently and their results are grouped by the identifier of the owner object.
+     */
+    public void prefetch() {
+        CompletableFuture<Map<String, PropertyBags>> rtcTables = groupAsync(cgmes::ratioTapChangerTablesPoints, "RatioTapChangerTable");
+        CompletableFuture<Map<String, PropertyBags>> ptcTables = groupAsync(cgmes::phaseTapChangerTablesPoints, "PhaseTapChangerTable");
+        CompletableFuture<Map<String, PropertyBags>> nlscPoints = groupAsync(cgmes::nonlinearShuntCompensatorsPoints, "Shunt");
+        CompletableFuture<Map<String, PropertyBags>> rccData = groupAsync(cgmes::reactiveCapabilityCurveData, "ReactiveCapabilityCurve");
+        try {
+            ratioTapChangerTables.putAll(rtcTables.join());
+            phaseTapChangerTables.putAll(ptcTables.join());
+            nonlinearShuntCompensatorPoints.putAll(nlscPoints.join());
+            reactiveCapabilityCurveData.putAll(rccData.join());
+        } catch (CompletionException x) {
+            if (x.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) x.getCause();
+            }
+            throw x;
         }
-        rccdata.forEach(p -> {
-            String curveId = p.getId("ReactiveCapabilityCurve");
-            reactiveCapabilityCurveData.computeIfAbsent(curveId, cid -> new PropertyBags()).add(p);
+    }
+
+    private static CompletableFuture<Map<String, PropertyBags>> groupAsync(Supplier<PropertyBags> query, String groupProperty) {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, PropertyBags> groups = new HashMap<>();
+            PropertyBags ps = query.get();
+            if (ps != null) {
+                ps.forEach(p -> groups.computeIfAbsent(p.getId(groupProperty), id -> new PropertyBags()).add(p));
+            }
+            return groups;
         });
     }
 
@@ -127,21 +154,18 @@ public class Context {
         return reactiveCapabilityCurveData.get(curveId);
     }
 
-    public void loadRatioTapChangerTables() {
-        PropertyBags rtcpoints = cgmes.ratioTapChangerTablesPoints();
-        if (rtcpoints == null) {
-            return;
-        }
-        rtcpoints.forEach(p -> {
-            String tableId = p.getId("RatioTapChangerTable");
-            ratioTapChangerTables.computeIfAbsent(tableId, tid -> new PropertyBags()).add(p);
-        });
-    }
-
     public PropertyBags ratioTapChangerTable(String tableId) {
         return ratioTapChangerTables.get(tableId);
     }
 
+    public PropertyBags phaseTapChangerTable(String tableId) {
+        return phaseTapChangerTables.getOrDefault(tableId, new PropertyBags());
+    }
+
+    public PropertyBags nonlinearShuntCompensatorPoints(String shuntId) {
+        return nonlinearShuntCompensatorPoints.getOrDefault(shuntId, new PropertyBags());
+    }
+
     public void startLinesConversion() {
         countLines = 0;
         countLinesWithSvPowerFlowsAtEnds = 0;
@@ -206,6 +230,8 @@ public class Context {
     private final RegulatingControlMapping regulatingControlMapping;
 
     private final Map<String, PropertyBags> ratioTapChangerTables;
+    private final Map<String, PropertyBags> phaseTapChangerTables;
+    private final Map<String, PropertyBags> nonlinearShuntCompensatorPoints;
     private final Map<String, PropertyBags> reactiveCapabilityCurveData;
 
     private int countLines;
@@ -25,7 +25,6 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 /**
  * @author Luma Zamarreño <zamarrenolm at aia.es>
@@ -64,57 +63,22 @@ public class Conversion {
         Context context = createContext(network);
         assignNetworkProperties(context);
 
-        Function<PropertyBag, AbstractObjectConversion> convf;
+        List<ConversionStage> stages = stages(context);
+        if (config.concurrentConversion()) {
+            // Queries only read the CGMES model, they can all run in the background
+            stages.forEach(ConversionStage::prefetch);
+        }
 
         cgmes.terminals().forEach(p -> context.terminalMapping().buildTopologicalNodesMapping(p));
         cgmes.regulatingControls().forEach(p -> context.regulatingControlMapping().cacheRegulatingControls(p));
 
-        convert(cgmes.substations(), s -> new SubstationConversion(s, context));
-        convert(cgmes.voltageLevels(), vl -> new VoltageLevelConversion(vl, context));
-        PropertyBags nodes = context.nodeBreaker()
-                ? cgmes.connectivityNodes()
-                : cgmes.topologicalNodes();
-        String nodeTypeName = context.nodeBreaker()
-                ? "ConnectivityNode"
-                : "TopologicalNode";
-        convert(nodes, n -> new NodeConversion(nodeTypeName, n, context));
-        if (!context.config().createBusbarSectionForEveryConnectivityNode()) {
-            convert(cgmes.busBarSections(), bbs -> new BusbarSectionConversion(bbs, context));
-        }
-
-        convert(cgmes.energyConsumers(), ec -> new EnergyConsumerConversion(ec, context));
-        convert(cgmes.energySources(), es -> new EnergySourceConversion(es, context));
-        convf = eqi -> new EquivalentInjectionConversion(eqi, context);
-        convert(cgmes.equivalentInjections(), convf);
-        convf = eni -> new ExternalNetworkInjectionConversion(eni, context);
-        convert(cgmes.externalNetworkInjections(), convf);
-        convert(cgmes.shuntCompensators(), sh -> new ShuntConversion(sh, context));
-        convf = svc -> new StaticVarCompensatorConversion(svc, context);
-        convert(cgmes.staticVarCompensators(), convf);
-        convf = asm -> new AsynchronousMachineConversion(asm, context);
-        convert(cgmes.asynchronousMachines(), convf);
-        convert(cgmes.synchronousMachines(), sm -> new SynchronousMachineConversion(sm, context));
-
-        convert(cgmes.switches(), sw -> new SwitchConversion(sw, context));
-        convertACLineSegmentsToLines(context);
-        convert(cgmes.equivalentBranches(), eqb -> new EquivalentBranchConversion(eqb, context));
-        convert(cgmes.seriesCompensators(), sc -> new SeriesCompensatorConversion(sc, context));
-        convertTransformers(context);
-
-        convert(cgmes.ratioTapChangers(), rtc -> new RatioTapChangerConversion(rtc, context));
-        convert(cgmes.phaseTapChangers(), ptc -> new PhaseTapChangerConversion(ptc, context));
-
-        // DC Converters must be converted first
-        convert(cgmes.acDcConverters(), c -> new AcDcConverterConversion(c, context));
-        convert(cgmes.dcLineSegments(), l -> new DcLineSegmentConversion(l, context));
-
-        convert(cgmes.operationalLimits(), l -> new OperationalLimitConversion(l, context));
+        convert(stages);
         context.currentLimitsMapping().addAll();
 
         // set all remote regulating terminals
         context.regulatingControlMapping().setAllRemoteRegulatingTerminals();
 
-        voltageAngles(nodes, context);
+        voltageAngles(nodes.elements(), context);
         if (context.config().debugTopology()) {
             debugTopology(context);
         }
@@ -128,29 +92,86 @@ public class Conversion {
         return network;
     }
 
-    private void convert(
-            PropertyBags elements,
-            Function<PropertyBag, AbstractObjectConversion> f) {
-        String conversion = null;
-        profiling.start();
-        for (PropertyBag element : elements) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(element.tabulateLocals());
-            }
-            AbstractObjectConversion c = f.apply(element);
-            if (conversion == null) {
-                conversion = c.getClass().getName();
-                conversion = conversion.substring(conversion.lastIndexOf('.') + 1);
-                conversion = conversion.replace("Conversion", "");
+    private List<ConversionStage> stages(Context context) {
+        List<ConversionStage> stages = new ArrayList<>();
+        stages.add(ConversionStage.elements(SUBSTATION, cgmes::substations,
+            s -> new SubstationConversion(s, context), true));
+        stages.add(ConversionStage.elements(VOLTAGE_LEVEL, cgmes::voltageLevels,
+            vl -> new VoltageLevelConversion(vl, context), true, SUBSTATION));
+        String nodeTypeName = context.nodeBreaker()
+                ? "ConnectivityNode"
+                : "TopologicalNode";
+        nodes = ConversionStage.elements(NODE, context.nodeBreaker() ? cgmes::connectivityNodes : cgmes::topologicalNodes,
+            n -> new NodeConversion(nodeTypeName, n, context), true, VOLTAGE_LEVEL);
+        stages.add(nodes);
+        if (!context.config().createBusbarSectionForEveryConnectivityNode()) {
+            stages.add(ConversionStage.elements("BusbarSection", cgmes::busBarSections,
+                bbs -> new BusbarSectionConversion(bbs, context), true, NODE));
+        }
+
+        stages.add(ConversionStage.elements("EnergyConsumer", cgmes::energyConsumers,
+            ec -> new EnergyConsumerConversion(ec, context), true, NODE));
+        stages.add(ConversionStage.elements("EnergySource", cgmes::energySources,
+            es -> new EnergySourceConversion(es, context), true, NODE));
+        stages.add(ConversionStage.elements("EquivalentInjection", cgmes::equivalentInjections,
+            eqi -> new EquivalentInjectionConversion(eqi, context), true, NODE));
+        stages.add(ConversionStage.elements("ExternalNetworkInjection", cgmes::externalNetworkInjections,
+            eni -> new ExternalNetworkInjectionConversion(eni, context), true, NODE));
+        stages.add(ConversionStage.elements("Shunt", cgmes::shuntCompensators,
+            sh -> new ShuntConversion(sh, context), true, NODE));
+        stages.add(ConversionStage.elements("StaticVarCompensator", cgmes::staticVarCompensators,
+            svc -> new StaticVarCompensatorConversion(svc, context), true, NODE));
+        stages.add(ConversionStage.elements("AsynchronousMachine", cgmes::asynchronousMachines,
+            asm -> new AsynchronousMachineConversion(asm, context), true, NODE));
+        stages.add(ConversionStage.elements("SynchronousMachine", cgmes::synchronousMachines,
+            sm -> new SynchronousMachineConversion(sm, context), true, NODE));
+
+        stages.add(ConversionStage.elements(SWITCH, cgmes::switches,
+            sw -> new SwitchConversion(sw, context), true, NODE));
+        stages.add(ConversionStage.custom(AC_LINE_SEGMENTS, cgmes::acLineSegments,
+            lines -> convertACLineSegmentsToLines(lines, context), NODE));
+        stages.add(ConversionStage.elements(EQUIVALENT_BRANCH, cgmes::equivalentBranches,
+            eqb -> new EquivalentBranchConversion(eqb, context), true, NODE));
+        stages.add(ConversionStage.elements(SERIES_COMPENSATOR, cgmes::seriesCompensators,
+            sc -> new SeriesCompensatorConversion(sc, context), true, NODE));
+        stages.add(ConversionStage.custom(TRANSFORMERS, null,
+            ends -> convertTransformers(context), NODE));
+
+        // Tap changers, DC and limits need the equipment already created in the network
+        stages.add(ConversionStage.elements("RatioTapChanger", cgmes::ratioTapChangers,
+            rtc -> new RatioTapChangerConversion(rtc, context), false, TRANSFORMERS));
+        stages.add(ConversionStage.elements("PhaseTapChanger", cgmes::phaseTapChangers,
+            ptc -> new PhaseTapChangerConversion(ptc, context), false, TRANSFORMERS));
+
+        // DC Converters must be converted first
+        stages.add(ConversionStage.elements(AC_DC_CONVERTER, cgmes::acDcConverters,
+            c -> new AcDcConverterConversion(c, context), false, NODE));
+        stages.add(ConversionStage.elements("DcLineSegment", cgmes::dcLineSegments,
+            l -> new DcLineSegmentConversion(l, context), false, AC_DC_CONVERTER));
+
+        stages.add(ConversionStage.elements("OperationalLimit", cgmes::operationalLimits,
+            l -> new OperationalLimitConversion(l, context), false,
+            SWITCH, AC_LINE_SEGMENTS, EQUIVALENT_BRANCH, SERIES_COMPENSATOR, TRANSFORMERS));
+        return stages;
+    }
+
+    private void convert(List<ConversionStage> stages) {
+        Set<String> converted = new HashSet<>();
+        for (ConversionStage stage : stages) {
+            for (String dependency : stage.dependencies()) {
+                if (!converted.contains(dependency)) {
+                    throw new ConversionException(String.format("Stage %s requires stage %s to be converted before",
+                        stage.name(), dependency));
+                }
             }
-            if (c.insideBoundary()) {
-                c.convertInsideBoundary();
-            } else if (c.valid()) {
-                c.convert();
+            profiling.start();
+            long work = stage.convert(config.concurrentConversion());
+            if (work >= 0) {
+                profiling.end(stage.name(), work);
+            } else {
+                profiling.end(stage.name());
             }
-        }
-        if (conversion != null) {
-            profiling.end(conversion);
+            converted.add(stage.name());
         }
     }
 
@@ -168,8 +189,7 @@ public class Conversion {
         Context context = new Context(cgmes, config, network);
         context.substationIdMapping().build();
         context.dc().initialize();
-        context.loadRatioTapChangerTables();
-        context.loadReactiveCapabilityCurveData();
+        context.prefetch();
         profiling.end("createContext");
         return context;
     }
@@ -192,10 +212,7 @@ public class Conversion {
         profiling.end("networkProperties");
     }
 
-    private void convertACLineSegmentsToLines(Context context) {
-        profiling.start();
-        PropertyBags lines = cgmes.acLineSegments();
-
+    private void convertACLineSegmentsToLines(PropertyBags lines, Context context) {
         // Context stores some statistics about line conversion
         context.startLinesConversion();
 
@@ -233,11 +250,9 @@ public class Conversion {
             c.convert();
         });
         context.endLinesConversion();
-        profiling.end("ACLineSegments");
     }
 
     private void convertTransformers(Context context) {
-        profiling.start();
         cgmes.groupedTransformerEnds().entrySet()
                 .forEach(tends -> {
                     String t = tends.getKey();
@@ -261,7 +276,6 @@ public class Conversion {
                         c.convert();
                     }
                 });
-        profiling.end("Transfomers");
     }
 
     private void voltageAngles(PropertyBags nodes, Context context) {
@@ -351,6 +365,20 @@ public class Conversion {
             return true;
         }
 
+        /**
+         * If the elements of independent conversion stages are queried in the background
+         * and prepared concurrently before being added to the network.
+         * Disabled by default.
+         */
+        public boolean concurrentConversion() {
+            return concurrentConversion;
+        }
+
+        public Config setConcurrentConversion(boolean concurrentConversion) {
+            this.concurrentConversion = concurrentConversion;
+            return this;
+        }
+
         public boolean createBusbarSectionForEveryConnectivityNode() {
             return createBusbarSectionForEveryConnectivityNode;
         }
@@ -367,6 +395,7 @@ public class Conversion {
         private double lowImpedanceLineX = 0.05;
 
         private boolean createBusbarSectionForEveryConnectivityNode = false;
+        private boolean concurrentConversion = false;
 
     }
 
@@ -375,9 +404,20 @@ public class Conversion {
     private final List<CgmesImportPostProcessor> postProcessors;
 
     private Profiling profiling;
+    private ConversionStage nodes;
 
     private static final Logger LOG = LoggerFactory.getLogger(Conversion.class);
 
+    private static final String SUBSTATION = "Substation";
+    private static final String VOLTAGE_LEVEL = "VoltageLevel";
+    private static final String NODE = "Node";
+    private static final String SWITCH = "Switch";
+    private static final String AC_LINE_SEGMENTS = "ACLineSegments";
+    private static final String EQUIVALENT_BRANCH = "EquivalentBranch";
+    private static final String SERIES_COMPENSATOR = "SeriesCompensator";
+    private static final String TRANSFORMERS = "Transformers";
+    private static final String AC_DC_CONVERTER = "AcDcConverter";
+
     public static final String NETWORK_PS_CGMES_MODEL_DETAIL = "CGMESModelDetail";
     public static final String NETWORK_PS_CGMES_MODEL_DETAIL_BUS_BRANCH = "bus-branch";
     public static final String NETWORK_PS_CGMES_MODEL_DETAIL_NODE_BREAKER = "node-breaker";
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.conversion;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.powsybl.cgmes.conversion.elements.AbstractObjectConversion;
+import com.powsybl.triplestore.api.PropertyBag;
+import com.powsybl.triplestore.api.PropertyBags;
+
+/**
+ * A step of the conversion: the CGMES objects of one type are queried and converted to IIDM.
+ * <p>
+ * A stage declares the stages that must have been converted before it.
+ * Queries of all stages can be started in advance, because they only read the CGMES model.
+ * Conversion objects are created and validated concurrently for the stages that allow it,
+ * and the network is always modified by the thread that runs the conversion,
+ * in the order of the elements returned by the query.
+ *
+ * @author agent <agent at local>
+ */
+final class ConversionStage {
+
+    static ConversionStage elements(
+            String name,
+            Supplier<PropertyBags> query,
+            Function<PropertyBag, AbstractObjectConversion> conversion,
+            boolean concurrent,
+            String... dependencies) {
+        return new ConversionStage(name, query, Objects.requireNonNull(conversion), null, concurrent, dependencies);
+    }
+
+    /**
+     * A stage with its own conversion of the query results. The query may be null.
+     */
+    static ConversionStage custom(
+            String name,
+            Supplier<PropertyBags> query,
+            Consumer<PropertyBags> conversion,
+            String... dependencies) {
+        return new ConversionStage(name, query, null, Objects.requireNonNull(conversion), false, dependencies);
+    }
+
+    private ConversionStage(
+            String name,
+            Supplier<PropertyBags> query,
+            Function<PropertyBag, AbstractObjectConversion> elementConversion,
+            Consumer<PropertyBags> customConversion,
+            boolean concurrent,
+            String... dependencies) {
+        this.name = Objects.requireNonNull(name);
+        this.query = query;
+        this.elementConversion = elementConversion;
+        this.customConversion = customConversion;
+        this.concurrent = concurrent;
+        this.dependencies = Collections.unmodifiableList(Arrays.asList(dependencies));
+    }
+
+    String name() {
+        return name;
+    }
+
+    List<String> dependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Start the query of the stage in the background.
+     */
+    void prefetch() {
+        if (query != null && elements == null) {
+            elements = CompletableFuture.supplyAsync(query);
+        }
+    }
+
+    PropertyBags elements() {
+        if (query == null) {
+            return new PropertyBags();
+        }
+        if (elements == null) {
+            elements = CompletableFuture.completedFuture(query.get());
+        }
+        try {
+            PropertyBags ps = elements.join();
+            return ps != null ? ps : new PropertyBags();
+        } catch (CompletionException x) {
+            if (x.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) x.getCause();
+            }
+            throw x;
+        }
+    }
+
+    /**
+     * Convert all the elements of the stage.
+     *
+     * @param parallel if the elements of the stage may be prepared concurrently
+     * @return the accumulated time in milliseconds spent preparing the elements concurrently,
+     * or a negative value if the stage has been converted sequentially
+     */
+    long convert(boolean parallel) {
+        PropertyBags ps = elements();
+        if (customConversion != null) {
+            customConversion.accept(ps);
+            return -1;
+        }
+        if (!parallel || !concurrent) {
+            ps.forEach(p -> prepare(p, null).convert());
+            return -1;
+        }
+        LongAdder work = new LongAdder();
+        List<Prepared> prepared = ps.parallelStream()
+                .map(p -> prepare(p, work))
+                .collect(Collectors.toList());
+        // Only the current thread modifies the network
+        prepared.forEach(Prepared::convert);
+        return TimeUnit.NANOSECONDS.toMillis(work.sum());
+    }
+
+    private Prepared prepare(PropertyBag p, LongAdder work) {
+        long t0 = System.nanoTime();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(p.tabulateLocals());
+        }
+        AbstractObjectConversion c = elementConversion.apply(p);
+        boolean insideBoundary = c.insideBoundary();
+        boolean valid = !insideBoundary && c.valid();
+        if (work != null) {
+            work.add(System.nanoTime() - t0);
+        }
+        return new Prepared(c, insideBoundary, valid);
+    }
+
+    private static final class Prepared {
+        Prepared(AbstractObjectConversion conversion, boolean insideBoundary, boolean valid) {
+            this.conversion = conversion;
+            this.insideBoundary = insideBoundary;
+            this.valid = valid;
+        }
+
+        void convert() {
+            if (insideBoundary) {
+                conversion.convertInsideBoundary();
+            } else if (valid) {
+                conversion.convert();
+            }
+        }
+
+        private final AbstractObjectConversion conversion;
+        private final boolean insideBoundary;
+        private final boolean valid;
+    }
+
+    private final String name;
+    private final Supplier<PropertyBags> query;
+    private final Function<PropertyBag, AbstractObjectConversion> elementConversion;
+    private final Consumer<PropertyBags> customConversion;
+    private final boolean concurrent;
+    private final List<String> dependencies;
+
+    private CompletableFuture<PropertyBags> elements;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConversionStage.class);
+}
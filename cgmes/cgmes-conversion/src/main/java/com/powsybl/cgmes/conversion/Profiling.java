@@ -24,6 +24,7 @@ public class Profiling {
 
     private final List<String> ops = new ArrayList<>(32);
     private final Map<String, Long> optime = new HashMap<>(32);
+    private final Map<String, Long> opwork = new HashMap<>(32);
     private long t0;
 
     public void start() {
@@ -38,9 +39,37 @@ public class Profiling {
         optime.put(op, System.currentTimeMillis() - t0);
     }
 
+    /**
+     * End an operation that has been partially run in parallel.
+     * The work is the sum of the times spent by all the tasks of the operation,
+     * its ratio to the elapsed time of the operation is reported as the parallel speed-up.
+     */
+    public void end(String op, long work) {
+        end(op);
+        opwork.put(op, work);
+    }
+
+    public long time(String op) {
+        return optime.getOrDefault(op, -1L);
+    }
+
+    public double speedUp(String op) {
+        if (!opwork.containsKey(op)) {
+            return Double.NaN;
+        }
+        long time = optime.get(op);
+        return time > 0 ? (double) opwork.get(op) / time : 1.0;
+    }
+
     public void report() {
         if (LOGGER.isInfoEnabled()) {
-            ops.forEach(op -> LOGGER.info(String.format("%-20s : %6d", op, optime.get(op))));
+            ops.forEach(op -> {
+                if (opwork.containsKey(op)) {
+                    LOGGER.info(String.format("%-20s : %6d (work %6d, speed-up %5.2f)", op, optime.get(op), opwork.get(op), speedUp(op)));
+                } else {
+                    LOGGER.info(String.format("%-20s : %6d", op, optime.get(op)));
+                }
+            });
         }
     }
 }
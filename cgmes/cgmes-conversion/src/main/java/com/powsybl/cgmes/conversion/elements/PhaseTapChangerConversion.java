@@ -131,7 +131,7 @@ public class PhaseTapChangerConversion extends AbstractIdentifiedObjectConversio
             return;
         }
         LOG.debug("PhaseTapChanger {} table {}", id, tableId);
-        PropertyBags table = context.cgmes().phaseTapChangerTable(tableId);
+        PropertyBags table = context.phaseTapChangerTable(tableId);
         if (table.isEmpty()) {
             missing("points for PhaseTapChangerTable " + tableId);
             return;
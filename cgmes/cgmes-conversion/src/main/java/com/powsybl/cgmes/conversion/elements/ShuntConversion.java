@@ -35,7 +35,7 @@ public class ShuntConversion extends AbstractConductingEquipmentConversion {
         if (p.containsKey(CgmesNames.B_PER_SECTION)) {
             bPerSection = p.asDouble(CgmesNames.B_PER_SECTION, 0.0);
         } else {
-            PropertyBags ss = context.cgmes().nonlinearShuntCompensatorPoints(id);
+            PropertyBags ss = context.nonlinearShuntCompensatorPoints(id);
             final int nlsections = sections;
             double sumSections = ss.stream()
                     .filter(s -> s.asInt("sectionNumber") <= nlsections)
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.conversion.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.powsybl.cgmes.model.CgmesNamespace;
+import com.powsybl.cgmes.model.Subset;
+import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
+import com.powsybl.iidm.network.Network;
+
+/**
+ * Write the instance file of a CGMES profile directly from a network, element by element,
+ * without adding its statements to a triple store.
+ * <p>
+ * The layout of the objects is the same used when writing the contents of a triple store.
+ *
+ * @author agent <agent at local>
+ */
+public abstract class AbstractCgmesProfileExport {
+
+    protected AbstractCgmesProfileExport(Network network) {
+        this.network = Objects.requireNonNull(network);
+    }
+
+    public abstract Subset getSubset();
+
+    public void write(OutputStream os) {
+        Writer out = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+        try {
+            // Same declaration as the triple store writer, stream writers may use single quotes
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+            out.write(NEW_LINE);
+            XMLStreamWriter writer = XML_OUTPUT_FACTORY_SUPPLIER.get().createXMLStreamWriter(out);
+            writer.setPrefix(ENTSOE, CgmesNamespace.ENTSOE_NAMESPACE);
+            writer.setPrefix(RDF, CgmesNamespace.RDF_NAMESPACE);
+            writer.setPrefix(CIM, CgmesNamespace.CIM_16_NAMESPACE);
+            writer.setPrefix(MD, CgmesNamespace.MD_NAMESPACE);
+            writer.writeStartElement(CgmesNamespace.RDF_NAMESPACE, "RDF");
+            writer.writeNamespace(ENTSOE, CgmesNamespace.ENTSOE_NAMESPACE);
+            writer.writeNamespace(RDF, CgmesNamespace.RDF_NAMESPACE);
+            writer.writeNamespace(CIM, CgmesNamespace.CIM_16_NAMESPACE);
+            writer.writeNamespace(MD, CgmesNamespace.MD_NAMESPACE);
+            writer.writeCharacters(NEW_LINE);
+            writeObjects(writer);
+            writer.writeCharacters(NEW_LINE);
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+            out.flush();
+        } catch (IOException x) {
+            throw new UncheckedIOException(x);
+        } catch (XMLStreamException x) {
+            throw new UncheckedXmlStreamException(x);
+        }
+    }
+
+    protected abstract void writeObjects(XMLStreamWriter writer) throws XMLStreamException;
+
+    protected Network network() {
+        return network;
+    }
+
+    /**
+     * Start a new object, with a new identifier.
+     */
+    protected static void writeStartObject(XMLStreamWriter writer, String type) throws XMLStreamException {
+        writeStartObject(writer, type, "ID", "_" + UUID.randomUUID());
+    }
+
+    /**
+     * Start the description of an object defined in another profile.
+     */
+    protected static void writeStartObjectAbout(XMLStreamWriter writer, String type, String id) throws XMLStreamException {
+        writeStartObject(writer, type, "about", "#" + id);
+    }
+
+    private static void writeStartObject(XMLStreamWriter writer, String type, String attribute, String value) throws XMLStreamException {
+        writer.writeCharacters(NEW_LINE);
+        writer.writeStartElement(CgmesNamespace.CIM_16_NAMESPACE, type);
+        writer.writeAttribute(CgmesNamespace.RDF_NAMESPACE, attribute, value);
+        writer.writeCharacters(NEW_LINE);
+    }
+
+    protected static void writeEndObject(XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeEndElement();
+        writer.writeCharacters(NEW_LINE);
+    }
+
+    protected static void writeLiteral(XMLStreamWriter writer, String property, String value) throws XMLStreamException {
+        writer.writeCharacters(INDENT);
+        writer.writeStartElement(CgmesNamespace.CIM_16_NAMESPACE, property);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+        writer.writeCharacters(NEW_LINE);
+    }
+
+    protected static void writeReference(XMLStreamWriter writer, String property, String id) throws XMLStreamException {
+        writer.writeCharacters(INDENT);
+        writer.writeEmptyElement(CgmesNamespace.CIM_16_NAMESPACE, property);
+        writer.writeAttribute(CgmesNamespace.RDF_NAMESPACE, "resource", "#" + id);
+        writer.writeCharacters(NEW_LINE);
+    }
+
+    protected static String format(double value) {
+        return Double.toString(value);
+    }
+
+    protected static String format(int value) {
+        return Integer.toString(value);
+    }
+
+    protected static String format(boolean value) {
+        return Boolean.toString(value);
+    }
+
+    private final Network network;
+
+    private static final String ENTSOE = "entsoe";
+    private static final String RDF = "rdf";
+    private static final String CIM = "cim";
+    private static final String MD = "md";
+    private static final String NEW_LINE = "\n";
+    private static final String INDENT = "\t";
+
+    // cache XMLOutputFactory to improve performance
+    private static final Supplier<XMLOutputFactory> XML_OUTPUT_FACTORY_SUPPLIER = Suppliers.memoize(XMLOutputFactory::newFactory);
+}
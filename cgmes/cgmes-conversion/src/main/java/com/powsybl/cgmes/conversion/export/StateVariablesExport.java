@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.conversion.export;
+
+import java.util.Objects;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.cgmes.model.Subset;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.ShuntCompensator;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+
+/**
+ * State variables (SV) of the current state of a network.
+ * <p>
+ * Terminals and tap changers are not kept in the network,
+ * their identifiers are obtained from the CGMES model the network has been converted from.
+ *
+ * @author agent <agent at local>
+ */
+public class StateVariablesExport extends AbstractCgmesProfileExport {
+
+    public StateVariablesExport(Network network, CgmesModel cgmes) {
+        super(network);
+        this.cgmes = Objects.requireNonNull(cgmes);
+    }
+
+    @Override
+    public Subset getSubset() {
+        return Subset.STATE_VARIABLES;
+    }
+
+    @Override
+    protected void writeObjects(XMLStreamWriter writer) throws XMLStreamException {
+        writeVoltages(writer);
+        writePowerFlows(writer);
+        writeShuntCompensatorSections(writer);
+        writeTapSteps(writer);
+    }
+
+    private void writeVoltages(XMLStreamWriter writer) throws XMLStreamException {
+        for (Bus b : network().getBusBreakerView().getBuses()) {
+            writeStartObject(writer, SV_VOLTAGE);
+            writeLiteral(writer, "SvVoltage.angle", format(b.getAngle()));
+            writeLiteral(writer, "SvVoltage.v", format(b.getV()));
+            // TODO Consider potential namingStrategy transformations
+            writeReference(writer, "SvVoltage.TopologicalNode", b.getId());
+            writeEndObject(writer);
+        }
+    }
+
+    private void writePowerFlows(XMLStreamWriter writer) throws XMLStreamException {
+        for (Load l : network().getLoads()) {
+            writePowerFlow(writer, l.getTerminal());
+        }
+        for (Generator g : network().getGenerators()) {
+            writePowerFlow(writer, g.getTerminal());
+        }
+        for (ShuntCompensator s : network().getShuntCompensators()) {
+            writePowerFlow(writer, s.getTerminal());
+        }
+    }
+
+    private void writePowerFlow(XMLStreamWriter writer, Terminal terminal) throws XMLStreamException {
+        // TODO If we could store a terminal identifier in IIDM
+        // we would not need to obtain it querying CGMES for the related equipment
+        String terminalId = cgmes.terminalForEquipment(terminal.getConnectable().getId());
+        if (terminalId == null) {
+            return;
+        }
+        writeStartObject(writer, SV_POWER_FLOW);
+        writeLiteral(writer, "SvPowerFlow.p", format(terminal.getP()));
+        writeLiteral(writer, "SvPowerFlow.q", format(terminal.getQ()));
+        writeReference(writer, "SvPowerFlow.Terminal", terminalId);
+        writeEndObject(writer);
+    }
+
+    private void writeShuntCompensatorSections(XMLStreamWriter writer) throws XMLStreamException {
+        for (ShuntCompensator s : network().getShuntCompensators()) {
+            writeStartObject(writer, SV_SHUNT_COMPENSATOR_SECTIONS);
+            writeReference(writer, "SvShuntCompensatorSections.ShuntCompensator", s.getId());
+            writeLiteral(writer, "SvShuntCompensatorSections.continuousSections", format(s.getCurrentSectionCount()));
+            writeEndObject(writer);
+        }
+    }
+
+    private void writeTapSteps(XMLStreamWriter writer) throws XMLStreamException {
+        for (TwoWindingsTransformer t : network().getTwoWindingsTransformers()) {
+            // TODO If we could store an identifier for the tap changer in IIDM
+            // then we would not need to query the CGMES model
+            if (t.getPhaseTapChanger() != null) {
+                writeTapStep(writer, t.getPhaseTapChanger().getTapPosition(), cgmes.phaseTapChangerForPowerTransformer(t.getId()));
+            } else if (t.getRatioTapChanger() != null) {
+                writeTapStep(writer, t.getRatioTapChanger().getTapPosition(), cgmes.ratioTapChangerForPowerTransformer(t.getId()));
+            }
+        }
+    }
+
+    private static void writeTapStep(XMLStreamWriter writer, int position, String tapChangerId) throws XMLStreamException {
+        if (tapChangerId == null) {
+            return;
+        }
+        writeStartObject(writer, SV_TAP_STEP);
+        writeLiteral(writer, "SvTapStep.position", format(position));
+        writeReference(writer, "SvTapStep.TapChanger", tapChangerId);
+        writeEndObject(writer);
+    }
+
+    private final CgmesModel cgmes;
+
+    private static final String SV_VOLTAGE = "SvVoltage";
+    private static final String SV_POWER_FLOW = "SvPowerFlow";
+    private static final String SV_SHUNT_COMPENSATOR_SECTIONS = "SvShuntCompensatorSections";
+    private static final String SV_TAP_STEP = "SvTapStep";
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.conversion.export;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.cgmes.model.Subset;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.PhaseTapChanger;
+import com.powsybl.iidm.network.RatioTapChanger;
+import com.powsybl.iidm.network.ShuntCompensator;
+import com.powsybl.iidm.network.Switch;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.triplestore.api.PropertyBags;
+
+/**
+ * Steady state hypothesis (SSH) values that are kept in a network:
+ * load set points, synchronous machine set points and voltage control status,
+ * switch positions, shunt compensator sections and tap changer steps.
+ * <p>
+ * Objects are described using the identifiers and types of the CGMES model the network has been converted from.
+ * All the queries on the CGMES model are made when the export is created,
+ * writing only reads the network.
+ *
+ * @author agent <agent at local>
+ */
+public class SteadyStateHypothesisExport extends AbstractCgmesProfileExport {
+
+    public SteadyStateHypothesisExport(Network network, CgmesModel cgmes) {
+        super(network);
+        this.cgmes = Objects.requireNonNull(cgmes);
+        energyConsumerTypes = types(cgmes.energyConsumers(), "EnergyConsumer", "type");
+        synchronousMachineTypes = types(cgmes.synchronousMachines(), "SynchronousMachine", null);
+        switchTypes = types(cgmes.switches(), "Switch", "type");
+        shuntCompensatorTypes = types(cgmes.shuntCompensators(), "ShuntCompensator", "type");
+        phaseTapChangerTypes = types(cgmes.phaseTapChangers(), "PhaseTapChanger", "phaseTapChangerType");
+    }
+
+    @Override
+    public Subset getSubset() {
+        return Subset.STEADY_STATE_HYPOTHESIS;
+    }
+
+    @Override
+    protected void writeObjects(XMLStreamWriter writer) throws XMLStreamException {
+        writeEnergyConsumers(writer);
+        writeSynchronousMachines(writer);
+        writeSwitches(writer);
+        writeShuntCompensators(writer);
+        writeTapChangers(writer);
+    }
+
+    private void writeEnergyConsumers(XMLStreamWriter writer) throws XMLStreamException {
+        for (Load l : network().getLoads()) {
+            String type = energyConsumerTypes.get(l.getId());
+            if (type != null) {
+                writeStartObjectAbout(writer, type, l.getId());
+                writeLiteral(writer, "EnergyConsumer.p", format(l.getP0()));
+                writeLiteral(writer, "EnergyConsumer.q", format(l.getQ0()));
+                writeEndObject(writer);
+            }
+        }
+    }
+
+    private void writeSynchronousMachines(XMLStreamWriter writer) throws XMLStreamException {
+        for (Generator g : network().getGenerators()) {
+            String type = synchronousMachineTypes.get(g.getId());
+            if (type != null) {
+                writeStartObjectAbout(writer, type, g.getId());
+                writeLiteral(writer, "RegulatingCondEq.controlEnabled", format(g.isVoltageRegulatorOn()));
+                // Load sign convention
+                writeLiteral(writer, "RotatingMachine.p", format(-g.getTargetP()));
+                writeLiteral(writer, "RotatingMachine.q", format(-g.getTargetQ()));
+                writeEndObject(writer);
+            }
+        }
+    }
+
+    private void writeSwitches(XMLStreamWriter writer) throws XMLStreamException {
+        for (Switch s : network().getSwitches()) {
+            String type = switchTypes.get(s.getId());
+            if (type != null) {
+                writeStartObjectAbout(writer, type, s.getId());
+                writeLiteral(writer, "Switch.open", format(s.isOpen()));
+                writeEndObject(writer);
+            }
+        }
+    }
+
+    private void writeShuntCompensators(XMLStreamWriter writer) throws XMLStreamException {
+        for (ShuntCompensator s : network().getShuntCompensators()) {
+            String type = shuntCompensatorTypes.get(s.getId());
+            if (type != null) {
+                writeStartObjectAbout(writer, type, s.getId());
+                writeLiteral(writer, "ShuntCompensator.sections", format(s.getCurrentSectionCount()));
+                writeEndObject(writer);
+            }
+        }
+    }
+
+    private void writeTapChangers(XMLStreamWriter writer) throws XMLStreamException {
+        for (TwoWindingsTransformer t : network().getTwoWindingsTransformers()) {
+            PhaseTapChanger ptc = t.getPhaseTapChanger();
+            if (ptc != null) {
+                String id = cgmes.phaseTapChangerForPowerTransformer(t.getId());
+                String type = id != null ? phaseTapChangerTypes.get(id) : null;
+                if (type != null) {
+                    writeTapChanger(writer, type, id, ptc.getTapPosition(), ptc.isRegulating());
+                }
+            }
+            RatioTapChanger rtc = t.getRatioTapChanger();
+            if (rtc != null) {
+                String id = cgmes.ratioTapChangerForPowerTransformer(t.getId());
+                if (id != null) {
+                    writeTapChanger(writer, RATIO_TAP_CHANGER, id, rtc.getTapPosition(), rtc.isRegulating());
+                }
+            }
+        }
+    }
+
+    private static void writeTapChanger(XMLStreamWriter writer, String type, String id, int step, boolean controlEnabled) throws XMLStreamException {
+        writeStartObjectAbout(writer, type, id);
+        writeLiteral(writer, "TapChanger.controlEnabled", format(controlEnabled));
+        writeLiteral(writer, "TapChanger.step", format(step));
+        writeEndObject(writer);
+    }
+
+    private static Map<String, String> types(PropertyBags objects, String idProperty, String typeProperty) {
+        Map<String, String> types = new HashMap<>(objects.size());
+        for (int k = 0; k < objects.size(); k++) {
+            String id = objects.get(k).getId(idProperty);
+            String type = typeProperty != null ? objects.get(k).getLocal(typeProperty) : idProperty;
+            if (id != null && type != null) {
+                types.put(id, type);
+            }
+        }
+        return types;
+    }
+
+    private final CgmesModel cgmes;
+    private final Map<String, String> energyConsumerTypes;
+    private final Map<String, String> synchronousMachineTypes;
+    private final Map<String, String> switchTypes;
+    private final Map<String, String> shuntCompensatorTypes;
+    private final Map<String, String> phaseTapChangerTypes;
+
+    private static final String RATIO_TAP_CHANGER = "RatioTapChanger";
+}
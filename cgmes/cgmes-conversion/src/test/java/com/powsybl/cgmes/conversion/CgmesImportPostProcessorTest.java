@@ -95,4 +95,13 @@ public class CgmesImportPostProcessorTest {
         cgmesImport.importData(modelResources.dataSource(), properties);
         assertEquals(Arrays.asList("foo", "baz"), activatedPostProcessorNames);
     }
+
+    @Test(expected = ConversionException.class)
+    public void testStreaming() {
+        CgmesImport cgmesImport = new CgmesImport(platformConfig, Collections.singletonList(new FakeCgmesImportPostProcessor("foo")));
+        Properties properties = new Properties();
+        properties.put(CgmesImport.POST_PROCESSORS, Collections.singletonList("foo"));
+        properties.put(CgmesImport.STREAMING, "true");
+        cgmesImport.importData(modelResources.dataSource(), properties);
+    }
 }
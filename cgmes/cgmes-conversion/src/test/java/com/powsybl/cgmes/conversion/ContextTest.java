@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.cgmes.conversion;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.triplestore.api.PropertyBag;
+import com.powsybl.triplestore.api.PropertyBags;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ContextTest {
+
+    private static PropertyBag point(String ownerProperty, String ownerId, String step) {
+        PropertyBag p = new PropertyBag(Arrays.asList(ownerProperty, "step"));
+        p.put(ownerProperty, "http://example.com#" + ownerId);
+        p.put("step", step);
+        return p;
+    }
+
+    private static PropertyBags points(PropertyBag... ps) {
+        return new PropertyBags(Arrays.asList(ps));
+    }
+
+    @Test
+    public void testPrefetch() {
+        CgmesModel cgmes = Mockito.mock(CgmesModel.class);
+        Mockito.when(cgmes.phaseTapChangerTablesPoints()).thenReturn(points(
+                point("PhaseTapChangerTable", "T1", "1"),
+                point("PhaseTapChangerTable", "T2", "1"),
+                point("PhaseTapChangerTable", "T1", "2")));
+        Mockito.when(cgmes.nonlinearShuntCompensatorsPoints()).thenReturn(points(
+                point("Shunt", "SH1", "1")));
+        Mockito.when(cgmes.ratioTapChangerTablesPoints()).thenReturn(points(
+                point("RatioTapChangerTable", "R1", "1")));
+
+        Context context = new Context(cgmes, new Conversion.Config(), Mockito.mock(Network.class));
+        context.prefetch();
+
+        assertEquals(2, context.phaseTapChangerTable("T1").size());
+        assertEquals(1, context.phaseTapChangerTable("T2").size());
+        assertTrue(context.phaseTapChangerTable("T3").isEmpty());
+        assertEquals(1, context.nonlinearShuntCompensatorPoints("SH1").size());
+        assertTrue(context.nonlinearShuntCompensatorPoints("SH2").isEmpty());
+        assertEquals(1, context.ratioTapChangerTable("R1").size());
+        assertNull(context.reactiveCapabilityCurveData("C1"));
+
+        // one query for all objects, whatever the number of lookups
+        Mockito.verify(cgmes, Mockito.times(1)).phaseTapChangerTablesPoints();
+        Mockito.verify(cgmes, Mockito.never()).phaseTapChangerTable(Mockito.anyString());
+        Mockito.verify(cgmes, Mockito.never()).nonlinearShuntCompensatorPoints(Mockito.anyString());
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.cgmes.conversion;
+
+import com.powsybl.cgmes.conversion.elements.AbstractObjectConversion;
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.triplestore.api.PropertyBag;
+import com.powsybl.triplestore.api.PropertyBags;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ConversionStageTest {
+
+    private static final class FakeConversion extends AbstractObjectConversion {
+
+        FakeConversion(PropertyBag p, List<String> converted) {
+            super("Fake", p, CONTEXT);
+            this.converted = converted;
+        }
+
+        @Override
+        public boolean valid() {
+            return !p.get("id").endsWith("0");
+        }
+
+        @Override
+        public void convert() {
+            // The network is only modified by the thread running the conversion
+            assertSame(writer, Thread.currentThread());
+            converted.add(p.get("id"));
+        }
+
+        @Override
+        public String what() {
+            return "Fake";
+        }
+
+        @Override
+        protected String complete(String what) {
+            return what;
+        }
+
+        private final List<String> converted;
+    }
+
+    private static PropertyBags elements(int n) {
+        List<String> names = Collections.singletonList("id");
+        return new PropertyBags(IntStream.range(0, n)
+                .mapToObj(k -> {
+                    PropertyBag p = new PropertyBag(names);
+                    p.put("id", "e" + k);
+                    return p;
+                })
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testConcurrentStageKeepsOrder() {
+        writer = Thread.currentThread();
+        List<String> converted = new ArrayList<>();
+        ConversionStage stage = ConversionStage.elements("Fake", () -> elements(1000),
+            p -> new FakeConversion(p, converted), true, "Other");
+        assertEquals("Fake", stage.name());
+        assertEquals(Collections.singletonList("Other"), stage.dependencies());
+
+        stage.prefetch();
+        assertTrue(stage.convert(true) >= 0);
+
+        List<String> expected = IntStream.range(0, 1000)
+                .filter(k -> k % 10 != 0)
+                .mapToObj(k -> "e" + k)
+                .collect(Collectors.toList());
+        assertEquals(expected, converted);
+    }
+
+    @Test
+    public void testSequentialStage() {
+        writer = Thread.currentThread();
+        List<String> converted = new ArrayList<>();
+        ConversionStage stage = ConversionStage.elements("Fake", () -> elements(20),
+            p -> new FakeConversion(p, converted), false);
+        assertTrue(stage.convert(true) < 0);
+        assertEquals(18, converted.size());
+    }
+
+    @Test
+    public void testCustomStage() {
+        List<PropertyBags> received = new ArrayList<>();
+        ConversionStage.custom("Custom", () -> elements(3), received::add).convert(true);
+        ConversionStage.custom("NoQuery", null, received::add).convert(true);
+        assertEquals(3, received.get(0).size());
+        assertTrue(received.get(1).isEmpty());
+    }
+
+    @Test
+    public void testProfilingSpeedUp() {
+        Profiling profiling = new Profiling();
+        profiling.start();
+        profiling.end("sequential");
+        profiling.start();
+        profiling.end("parallel", 0);
+        assertTrue(Double.isNaN(profiling.speedUp("sequential")));
+        assertFalse(Double.isNaN(profiling.speedUp("parallel")));
+        assertTrue(profiling.time("parallel") >= 0);
+        assertEquals(-1, profiling.time("unknown"));
+    }
+
+    private static final Context CONTEXT = new Context(Mockito.mock(CgmesModel.class), new Conversion.Config(), Mockito.mock(Network.class));
+
+    private static volatile Thread writer;
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.conversion.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.cgmes.conformity.test.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.CgmesExport;
+import com.powsybl.cgmes.conversion.CgmesImport;
+import com.powsybl.cgmes.conversion.CgmesModelExtension;
+import com.powsybl.cgmes.conversion.test.network.compare.Comparison;
+import com.powsybl.cgmes.conversion.test.network.compare.ComparisonConfig;
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.commons.datasource.FileDataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.triplestore.api.PropertyBag;
+
+/**
+ * Export of SV and SSH profiles written directly from the network.
+ *
+ * @author agent <agent at local>
+ */
+public class CgmesExportTest {
+
+    @Before
+    public void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    @Test
+    public void stateVariablesFromNetwork() throws IOException {
+        ReadOnlyDataSource ds = new CgmesConformity1Catalog().microGridBaseCaseBE().dataSource();
+        Network network = new CgmesImport().importData(ds, null);
+
+        Path path = export(network, "SV", "sv");
+        // The other files are written from the CGMES model, the SV file replaces the one read
+        for (String name : ds.listNames(".*")) {
+            assertTrue(name, Files.exists(path.resolve(name)));
+        }
+        String sv = new String(Files.readAllBytes(path.resolve("MicroGridTestConfiguration_BC_BE_SV_V2.xml")), StandardCharsets.UTF_8);
+        assertTrue(sv.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"));
+        assertEquals(network.getBusBreakerView().getBusStream().count(), count(sv, "<cim:SvVoltage "));
+        assertEquals(network.getShuntCompensatorCount(), count(sv, "<cim:SvShuntCompensatorSections "));
+
+        Network actual = new CgmesImport().importData(new FileDataSource(path, "sv"), null);
+        new Comparison(network, actual, new ComparisonConfig().tolerance(1e-5)).compare();
+    }
+
+    @Test
+    public void steadyStateHypothesisFromNetwork() throws IOException {
+        ReadOnlyDataSource ds = new CgmesConformity1Catalog().microGridBaseCaseBE().dataSource();
+        Network network = new CgmesImport().importData(ds, null);
+        Load load = network.getLoads().iterator().next();
+        load.setP0(load.getP0() + 10);
+
+        Path path = export(network, "SV,SSH", "ssh");
+        String ssh = new String(Files.readAllBytes(path.resolve("MicroGridTestConfiguration_BC_BE_SSH_V2.xml")), StandardCharsets.UTF_8);
+        assertTrue(ssh.contains("<cim:EnergyConsumer.p>" + load.getP0() + "</cim:EnergyConsumer.p>"));
+        assertEquals(network.getLoadCount(), count(ssh, "<cim:EnergyConsumer.p>"));
+        assertFalse(ssh.contains("rdf:ID"));
+
+        // Flows of the SV file have priority when converting, check the values read from the SSH file
+        Network actual = new CgmesImport().importData(new FileDataSource(path, "ssh"), null);
+        CgmesModel cgmes = actual.getExtension(CgmesModelExtension.class).getCgmesModel();
+        PropertyBag p = cgmes.energyConsumers().stream()
+                .filter(ec -> load.getId().equals(ec.getId("EnergyConsumer")))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        assertEquals(load.getP0(), p.asDouble("p"), 1e-5);
+        assertEquals(load.getQ0(), p.asDouble("q"), 1e-5);
+    }
+
+    private Path export(Network network, String profilesFromNetwork, String baseName) throws IOException {
+        Path path = Files.createDirectories(fileSystem.getPath(baseName));
+        Properties params = new Properties();
+        params.put(CgmesExport.PROFILES_FROM_NETWORK, profilesFromNetwork);
+        new CgmesExport().export(network, params, new FileDataSource(path, baseName));
+        return path;
+    }
+
+    private static long count(String text, String s) {
+        long n = 0;
+        for (int k = text.indexOf(s); k >= 0; k = text.indexOf(s, k + s.length())) {
+            n++;
+        }
+        return n;
+    }
+
+    private FileSystem fileSystem;
+}
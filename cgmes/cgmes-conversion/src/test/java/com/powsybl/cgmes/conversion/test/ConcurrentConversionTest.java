@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.conversion.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.powsybl.cgmes.conformity.test.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.Conversion;
+import com.powsybl.cgmes.conversion.test.network.compare.Comparison;
+import com.powsybl.cgmes.conversion.test.network.compare.ComparisonConfig;
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.cgmes.model.test.TestGridModel;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+
+/**
+ * Conversion with concurrent stages must give the same network as the sequential conversion.
+ *
+ * @author agent <agent at local>
+ */
+public class ConcurrentConversionTest {
+
+    @BeforeClass
+    public static void setUp() {
+        catalog = new CgmesConformity1Catalog();
+    }
+
+    @Test
+    public void microGridBaseCaseBE() {
+        test(catalog.microGridBaseCaseBE());
+    }
+
+    @Test
+    public void microGridType4BE() {
+        test(catalog.microGridType4BE());
+    }
+
+    @Test
+    public void miniBusBranch() {
+        test(catalog.miniBusBranch());
+    }
+
+    @Test
+    public void miniNodeBreaker() {
+        // Calculated buses of node-breaker voltage levels can not be compared,
+        // check that the same objects have been created
+        Network expected = convert(catalog.miniNodeBreaker(), false);
+        Network actual = convert(catalog.miniNodeBreaker(), true);
+        assertEquals(ids(expected), ids(actual));
+    }
+
+    @Test
+    public void smallBusBranch() {
+        test(catalog.smallBusBranch());
+    }
+
+    private static void test(TestGridModel gm) {
+        Network expected = convert(gm, false);
+        Network actual = convert(gm, true);
+        new Comparison(expected, actual, new ComparisonConfig()).compare();
+    }
+
+    private static Network convert(TestGridModel gm, boolean concurrent) {
+        CgmesModel cgmes = CgmesModelFactory.create(gm.dataSource(), TripleStoreFactory.defaultImplementation());
+        Conversion.Config config = new Conversion.Config().setConcurrentConversion(concurrent);
+        return new Conversion(cgmes, config).convert();
+    }
+
+    private static Set<String> ids(Network network) {
+        return network.getIdentifiables().stream().map(Identifiable::getId).collect(Collectors.toSet());
+    }
+
+    private static CgmesConformity1Catalog catalog;
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.conversion.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.powsybl.cgmes.conformity.test.CgmesConformity1Catalog;
+import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.cgmes.model.test.TestGridModel;
+import com.powsybl.cgmes.model.triplestore.CgmesModelTripleStore;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+
+/**
+ * Compare reading the instance files of a model one after the other with reading them concurrently.
+ *
+ * @author agent <agent at local>
+ */
+public class ReadPerformanceTest {
+
+    @BeforeClass
+    public static void setUp() {
+        catalog = new CgmesConformity1Catalog();
+    }
+
+    @Test
+    public void microGridBaseCaseAssembled() {
+        read(TripleStoreFactory.allImplementations(), catalog.microGridBaseCaseAssembled());
+    }
+
+    @Test
+    public void smallBusBranch() {
+        read(TripleStoreFactory.allImplementations(), catalog.smallBusBranch());
+    }
+
+    private void read(List<String> tsImpls, TestGridModel gm) {
+        ReadOnlyDataSource ds = gm.dataSource();
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            for (String impl : tsImpls) {
+                long startTime = System.currentTimeMillis();
+                CgmesModelTripleStore sequential = CgmesModelFactory.create(ds, null, impl, Runnable::run);
+                long sequentialTime = System.currentTimeMillis() - startTime;
+
+                startTime = System.currentTimeMillis();
+                CgmesModelTripleStore concurrent = CgmesModelFactory.create(ds, null, impl, executor);
+                long concurrentTime = System.currentTimeMillis() - startTime;
+
+                LOG.info("read performance, TS implementation {}, model {}: sequential {} ms, concurrent {} ms",
+                        impl, gm.name(), sequentialTime, concurrentTime);
+                assertEquals(sequential.tripleStore().contextNames(), concurrent.tripleStore().contextNames());
+                assertEquals(sequential.terminals().size(), concurrent.terminals().size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static CgmesConformity1Catalog catalog;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadPerformanceTest.class);
+}
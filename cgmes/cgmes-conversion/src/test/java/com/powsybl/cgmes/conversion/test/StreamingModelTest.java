@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.conversion.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.cgmes.conformity.test.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.CgmesImport;
+import com.powsybl.cgmes.conversion.CgmesModelExtension;
+import com.powsybl.cgmes.conversion.test.network.compare.Comparison;
+import com.powsybl.cgmes.conversion.test.network.compare.ComparisonConfig;
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.cgmes.model.test.TestGridModel;
+import com.powsybl.commons.config.InMemoryPlatformConfig;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+
+/**
+ * Compare the streaming CGMES model with the triple store model.
+ *
+ * @author agent <agent at local>
+ */
+public class StreamingModelTest {
+
+    @BeforeClass
+    public static void setUp() {
+        catalog = new CgmesConformity1Catalog();
+        queries = new LinkedHashMap<>();
+        queries.put("boundaryNodes", CgmesModel::boundaryNodes);
+        queries.put("baseVoltages", CgmesModel::baseVoltages);
+        queries.put("substations", CgmesModel::substations);
+        queries.put("voltageLevels", CgmesModel::voltageLevels);
+        queries.put("terminals", CgmesModel::terminals);
+        queries.put("connectivityNodeContainers", CgmesModel::connectivityNodeContainers);
+        queries.put("operationalLimits", CgmesModel::operationalLimits);
+        queries.put("connectivityNodes", CgmesModel::connectivityNodes);
+        queries.put("topologicalNodes", CgmesModel::topologicalNodes);
+        queries.put("busBarSections", CgmesModel::busBarSections);
+        queries.put("switches", CgmesModel::switches);
+        queries.put("acLineSegments", CgmesModel::acLineSegments);
+        queries.put("equivalentBranches", CgmesModel::equivalentBranches);
+        queries.put("seriesCompensators", CgmesModel::seriesCompensators);
+        queries.put("transformers", CgmesModel::transformers);
+        queries.put("transformerEnds", CgmesModel::transformerEnds);
+        queries.put("ratioTapChangers", CgmesModel::ratioTapChangers);
+        queries.put("phaseTapChangers", CgmesModel::phaseTapChangers);
+        queries.put("ratioTapChangerTablesPoints", CgmesModel::ratioTapChangerTablesPoints);
+        queries.put("phaseTapChangerTablesPoints", CgmesModel::phaseTapChangerTablesPoints);
+        queries.put("regulatingControls", CgmesModel::regulatingControls);
+        queries.put("energyConsumers", CgmesModel::energyConsumers);
+        queries.put("energySources", CgmesModel::energySources);
+        queries.put("shuntCompensators", CgmesModel::shuntCompensators);
+        queries.put("nonlinearShuntCompensatorsPoints", CgmesModel::nonlinearShuntCompensatorsPoints);
+        queries.put("staticVarCompensators", CgmesModel::staticVarCompensators);
+        queries.put("synchronousMachines", CgmesModel::synchronousMachines);
+        queries.put("equivalentInjections", CgmesModel::equivalentInjections);
+        queries.put("externalNetworkInjections", CgmesModel::externalNetworkInjections);
+        queries.put("asynchronousMachines", CgmesModel::asynchronousMachines);
+        queries.put("reactiveCapabilityCurveData", CgmesModel::reactiveCapabilityCurveData);
+        queries.put("acDcConverters", CgmesModel::acDcConverters);
+        queries.put("dcLineSegments", CgmesModel::dcLineSegments);
+        queries.put("dcTerminals", CgmesModel::dcTerminals);
+        queries.put("dcTerminalsTP", CgmesModel::dcTerminalsTP);
+    }
+
+    @Test
+    public void microGridBaseCaseBE() throws IOException {
+        test(catalog.microGridBaseCaseBE());
+    }
+
+    @Test
+    public void microGridBaseCaseNL() throws IOException {
+        test(catalog.microGridBaseCaseNL());
+    }
+
+    @Test
+    public void microGridBaseCaseAssembled() throws IOException {
+        test(catalog.microGridBaseCaseAssembled());
+    }
+
+    @Test
+    public void microGridType4BE() throws IOException {
+        test(catalog.microGridType4BE());
+    }
+
+    @Test
+    public void miniBusBranch() throws IOException {
+        test(catalog.miniBusBranch());
+    }
+
+    @Test
+    public void miniNodeBreaker() throws IOException {
+        test(catalog.miniNodeBreaker());
+    }
+
+    @Test
+    public void smallBusBranch() throws IOException {
+        test(catalog.smallBusBranch());
+    }
+
+    private void test(TestGridModel gm) throws IOException {
+        CgmesModel expected = CgmesModelFactory.create(gm.dataSource(), TripleStoreFactory.defaultImplementation());
+        CgmesModel actual = CgmesModelFactory.createStreaming(gm.dataSource(), null);
+
+        assertEquals(expected.modelId(), actual.modelId());
+        assertEquals(expected.version(), actual.version());
+        assertEquals(expected.hasEquipmentCore(), actual.hasEquipmentCore());
+        assertEquals(expected.hasBoundary(), actual.hasBoundary());
+        assertEquals(expected.isNodeBreaker(), actual.isNodeBreaker());
+        queries.forEach((name, query) -> compare(name, query.apply(expected), query.apply(actual)));
+
+        try (FileSystem fs = Jimfs.newFileSystem()) {
+            CgmesImport i = new CgmesImport(new InMemoryPlatformConfig(fs));
+            Properties params = new Properties();
+            params.put(CgmesImport.STORE_CGMES_MODEL_AS_NETWORK_EXTENSION, "false");
+            Network expectedNetwork = i.importData(gm.dataSource(), params);
+            Properties streamingParams = new Properties();
+            streamingParams.put(CgmesImport.STREAMING, "true");
+            Network actualNetwork = i.importData(gm.dataSource(), streamingParams);
+            // The streaming model is not kept, even if storing the CGMES model is requested
+            assertNull(actualNetwork.getExtension(CgmesModelExtension.class));
+            // Calculated buses of node-breaker voltage levels are numbered in topology processing order
+            new Comparison(expectedNetwork, actualNetwork, new ComparisonConfig().checkCalculatedBuses(false)).compare();
+        }
+    }
+
+    private static void compare(String name, PropertyBags expected, PropertyBags actual) {
+        assertEquals(name, expected.size(), actual.size());
+        if (actual.isEmpty()) {
+            return;
+        }
+        Set<String> expectedProperties = comparableProperties(expected);
+        assertEquals(name, expectedProperties, comparableProperties(actual));
+        for (String property : expectedProperties) {
+            assertEquals(name + "." + property, expected.pluck(property), actual.pluck(property));
+        }
+    }
+
+    private static Set<String> comparableProperties(PropertyBags bags) {
+        // Graph variables of the queries and the metadata of the boundary model
+        // are not available in the streaming model
+        Set<String> properties = new HashSet<>();
+        bags.forEach(bag -> bag.propertyNames().stream()
+                .filter(p -> !p.startsWith("graph") && !BOUNDARY_METADATA.contains(p))
+                .forEach(properties::add));
+        return properties;
+    }
+
+    private static final Set<String> BOUNDARY_METADATA = new HashSet<>(Arrays.asList("FullModel", "modelProfile"));
+
+    private static CgmesConformity1Catalog catalog;
+    private static Map<String, Function<CgmesModel, PropertyBags>> queries;
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.conversion.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.powsybl.cgmes.conformity.test.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.Conversion;
+import com.powsybl.cgmes.conversion.test.network.compare.Comparison;
+import com.powsybl.cgmes.conversion.test.network.compare.ComparisonConfig;
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.cgmes.model.test.TestGridModel;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.triplestore.api.TripleStoreCache;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+
+/**
+ * Convert CGMES models whose triple store has been loaded from a cache.
+ *
+ * @author agent <agent at local>
+ */
+public class TripleStoreCacheConversionTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void microGridBaseCaseBE() throws IOException {
+        test(new CgmesConformity1Catalog().microGridBaseCaseBE());
+    }
+
+    @Test
+    public void smallBusBranch() throws IOException {
+        test(new CgmesConformity1Catalog().smallBusBranch());
+    }
+
+    private void test(TestGridModel gm) throws IOException {
+        TripleStoreCache cache = new TripleStoreCache(folder.newFolder().toPath(), Long.MAX_VALUE);
+        String impl = TripleStoreFactory.defaultImplementation();
+
+        CgmesModel expected = CgmesModelFactory.create(gm.dataSource(), null, impl, cache);
+        long size = cache.getSize();
+        assertTrue(size > 0);
+        CgmesModel actual = CgmesModelFactory.create(gm.dataSource(), null, impl, cache);
+        assertEquals(size, cache.getSize());
+
+        assertEquals(expected.modelId(), actual.modelId());
+        assertEquals(expected.hasBoundary(), actual.hasBoundary());
+        assertEquals(expected.tripleStore().contextNames(), actual.tripleStore().contextNames());
+        assertEquals(numObjectsByType(expected), numObjectsByType(actual));
+
+        Network expectedNetwork = new Conversion(expected).convert();
+        Network actualNetwork = new Conversion(actual).convert();
+        new Comparison(expectedNetwork, actualNetwork, new ComparisonConfig()).compare();
+    }
+
+    private static Map<String, String> numObjectsByType(CgmesModel cgmes) {
+        return cgmes.numObjectsByType().stream()
+                .collect(Collectors.toMap(p -> p.get("Type"), p -> p.get("numObjects")));
+    }
+}
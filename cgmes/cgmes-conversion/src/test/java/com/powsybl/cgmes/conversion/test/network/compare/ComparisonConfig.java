@@ -19,6 +19,7 @@ public final class ComparisonConfig {
         checkVoltageLevelLimits = true;
         checkGeneratorReactiveCapabilityCurve = true;
         checkGeneratorRegulatingTerminal = true;
+        checkCalculatedBuses = true;
         compareNamesAllowSuffixes = false; // Must be identical
         tolerance = 1e-12;
     }
@@ -50,6 +51,15 @@ public final class ComparisonConfig {
         return this;
     }
 
+    /**
+     * Buses of node-breaker voltage levels are calculated, their identifiers depend on the order of the topology
+     * processing. When they are not checked, only their voltage levels are compared.
+     */
+    public ComparisonConfig checkCalculatedBuses(boolean checkCalculatedBuses) {
+        this.checkCalculatedBuses = checkCalculatedBuses;
+        return this;
+    }
+
     public ComparisonConfig compareNamesAllowSuffixes(boolean allowSuffixes) {
         this.compareNamesAllowSuffixes = allowSuffixes;
         return this;
@@ -71,6 +81,7 @@ public final class ComparisonConfig {
     boolean checkVoltageLevelLimits;
     boolean checkGeneratorReactiveCapabilityCurve;
     boolean checkGeneratorRegulatingTerminal;
+    boolean checkCalculatedBuses;
     boolean compareNamesAllowSuffixes;
     double tolerance;
 }
@@ -35,18 +35,30 @@ public abstract class AbstractCgmesModel implements CgmesModel {
 
     @Override
     public Map<String, PropertyBags> groupedTransformerEnds() {
-        if (cachedGroupedTransformerEnds == null) {
-            cachedGroupedTransformerEnds = computeGroupedTransformerEnds();
+        Map<String, PropertyBags> gends = cachedGroupedTransformerEnds;
+        if (gends == null) {
+            synchronized (this) {
+                if (cachedGroupedTransformerEnds == null) {
+                    cachedGroupedTransformerEnds = computeGroupedTransformerEnds();
+                }
+                gends = cachedGroupedTransformerEnds;
+            }
         }
-        return cachedGroupedTransformerEnds;
+        return gends;
     }
 
     @Override
     public CgmesTerminal terminal(String terminalId) {
-        if (cachedTerminals == null) {
-            cachedTerminals = computeTerminals();
+        Map<String, CgmesTerminal> ts = cachedTerminals;
+        if (ts == null) {
+            synchronized (this) {
+                if (cachedTerminals == null) {
+                    cachedTerminals = computeTerminals();
+                }
+                ts = cachedTerminals;
+            }
         }
-        return cachedTerminals.get(terminalId);
+        return ts.get(terminalId);
     }
 
     @Override
@@ -87,34 +99,53 @@ public abstract class AbstractCgmesModel implements CgmesModel {
 
     @Override
     public CgmesContainer container(String containerId) {
-        if (cachedContainers == null) {
-            cachedContainers = computeContainers();
+        Map<String, CgmesContainer> cs = cachedContainers;
+        if (cs == null) {
+            synchronized (this) {
+                if (cachedContainers == null) {
+                    cachedContainers = computeContainers();
+                }
+                cs = cachedContainers;
+            }
         }
-        return cachedContainers.get(containerId);
+        return cs.get(containerId);
     }
 
     @Override
     public double nominalVoltage(String baseVoltageId) {
-        if (cachedBaseVoltages == null) {
-            cachedBaseVoltages = new HashMap<>();
-            baseVoltages()
-                .forEach(bv -> cachedBaseVoltages.put(bv.getId("BaseVoltage"), bv.asDouble("nominalVoltage")));
+        Map<String, Double> bvs = cachedBaseVoltages;
+        if (bvs == null) {
+            synchronized (this) {
+                if (cachedBaseVoltages == null) {
+                    Map<String, Double> bvs1 = new HashMap<>();
+                    baseVoltages()
+                        .forEach(bv -> bvs1.put(bv.getId("BaseVoltage"), bv.asDouble("nominalVoltage")));
+                    cachedBaseVoltages = bvs1;
+                }
+                bvs = cachedBaseVoltages;
+            }
         }
-        if (cachedBaseVoltages.containsKey(baseVoltageId)) {
-            return cachedBaseVoltages.get(baseVoltageId);
+        if (bvs.containsKey(baseVoltageId)) {
+            return bvs.get(baseVoltageId);
         } else {
             return Double.NaN;
         }
     }
 
     private CgmesContainer container(CgmesTerminal t) {
-        if (cachedNodes == null) {
-            cachedNodes = computeNodes();
+        Map<String, PropertyBag> nodes = cachedNodes;
+        if (nodes == null) {
+            synchronized (this) {
+                if (cachedNodes == null) {
+                    cachedNodes = computeNodes();
+                }
+                nodes = cachedNodes;
+            }
         }
         String containerId = null;
         String nodeId = t.connectivityNode() != null ? t.connectivityNode() : t.topologicalNode();
         if (nodeId != null) {
-            PropertyBag node = cachedNodes.get(nodeId);
+            PropertyBag node = nodes.get(nodeId);
             if (node != null) {
                 containerId = node.getId("ConnectivityNodeContainer");
             } else {
@@ -193,11 +224,12 @@ public abstract class AbstractCgmesModel implements CgmesModel {
     }
 
     private final Properties properties;
-    private Map<String, PropertyBags> cachedGroupedTransformerEnds;
-    private Map<String, CgmesTerminal> cachedTerminals;
-    private Map<String, CgmesContainer> cachedContainers;
-    private Map<String, Double> cachedBaseVoltages;
-    private Map<String, PropertyBag> cachedNodes;
+    // Caches are built on first use and may be read concurrently by the conversion
+    private volatile Map<String, PropertyBags> cachedGroupedTransformerEnds;
+    private volatile Map<String, CgmesTerminal> cachedTerminals;
+    private volatile Map<String, CgmesContainer> cachedContainers;
+    private volatile Map<String, Double> cachedBaseVoltages;
+    private volatile Map<String, PropertyBag> cachedNodes;
     private Map<String, String> conductingEquipmentTerminal;
     private Map<String, String> powerTransformerRatioTapChanger;
     private Map<String, String> powerTransformerPhaseTapChanger;
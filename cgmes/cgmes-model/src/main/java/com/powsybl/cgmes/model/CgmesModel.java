@@ -96,6 +96,8 @@ public interface CgmesModel {
 
     PropertyBags nonlinearShuntCompensatorPoints(String id);
 
+    PropertyBags nonlinearShuntCompensatorsPoints();
+
     PropertyBags staticVarCompensators();
 
     PropertyBags synchronousMachines();
@@ -112,6 +114,8 @@ public interface CgmesModel {
 
     PropertyBags ratioTapChangerTable(String tableId);
 
+    PropertyBags phaseTapChangerTablesPoints();
+
     PropertyBags phaseTapChangerTable(String tableId);
 
     PropertyBags acDcConverters();
@@ -132,6 +136,8 @@ public interface CgmesModel {
 
     void write(DataSource ds);
 
+    void write(DataSource ds, String contextName);
+
     // Helper mappings
 
     // TODO If we could store identifiers for tap changers and terminals in IIDM
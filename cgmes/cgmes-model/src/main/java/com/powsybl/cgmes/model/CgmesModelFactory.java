@@ -7,16 +7,22 @@
 
 package com.powsybl.cgmes.model;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.powsybl.cgmes.model.streaming.CgmesModelStreaming;
 import com.powsybl.cgmes.model.triplestore.CgmesModelTripleStore;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.triplestore.api.TripleStore;
-import com.powsybl.triplestore.api.TripleStoreException;
+import com.powsybl.triplestore.api.TripleStoreCache;
 import com.powsybl.triplestore.api.TripleStoreFactory;
 
 /**
@@ -32,30 +38,100 @@ public final class CgmesModelFactory {
     }
 
     public static CgmesModelTripleStore create(ReadOnlyDataSource ds, ReadOnlyDataSource dsBoundary, String tripleStoreImpl) {
+        return create(ds, dsBoundary, tripleStoreImpl, (TripleStoreCache) null);
+    }
+
+    /**
+     * Create a CGMES model, reusing the triple store saved in the cache if the instance files have already been read.
+     * If no cache is given the instance files are always read.
+     */
+    public static CgmesModelTripleStore create(ReadOnlyDataSource ds, ReadOnlyDataSource dsBoundary, String tripleStoreImpl,
+            TripleStoreCache cache) {
+        // Instance files (EQ, TP, SSH, SV, boundary, ...) are parsed concurrently
+        int numThreads = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads, new ThreadFactoryBuilder()
+                .setNameFormat("cgmes-read-%d")
+                .setDaemon(true)
+                .build());
+        try {
+            return cache != null
+                    ? create(ds, dsBoundary, tripleStoreImpl, cache, executor)
+                    : create(ds, dsBoundary, tripleStoreImpl, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Create a CGMES model, the instance files being parsed by the given executor.
+     */
+    public static CgmesModelTripleStore create(ReadOnlyDataSource ds, ReadOnlyDataSource dsBoundary, String tripleStoreImpl,
+            Executor executor) {
+        Objects.requireNonNull(executor);
         CgmesOnDataSource cds = new CgmesOnDataSource(ds);
         TripleStore tripleStore = TripleStoreFactory.create(tripleStoreImpl);
         CgmesModelTripleStore cgmes = new CgmesModelTripleStore(cds.cimNamespace(), tripleStore);
-        read(cgmes, cds, cds.baseName());
+        read(cgmes, cds, dsBoundary, executor);
+        return cgmes;
+    }
+
+    /**
+     * Create a CGMES model, reusing the triple store saved in the cache if the instance files have already been read.
+     * The triple store is identified by the contents of the instance files of the main and boundary data sources.
+     */
+    public static CgmesModelTripleStore create(ReadOnlyDataSource ds, ReadOnlyDataSource dsBoundary, String tripleStoreImpl,
+            TripleStoreCache cache, Executor executor) {
+        Objects.requireNonNull(cache);
+        Objects.requireNonNull(executor);
+        if (!TripleStoreFactory.isPersistenceSupported(tripleStoreImpl)) {
+            LOG.warn("Triple store {} can not be saved, cache is not used", tripleStoreImpl);
+            return create(ds, dsBoundary, tripleStoreImpl, executor);
+        }
+        CgmesOnDataSource cds = new CgmesOnDataSource(ds);
+        TripleStore tripleStore = cache.getOrCreate(tripleStoreImpl, key(cds, dsBoundary),
+            ts -> read(new CgmesModelTripleStore(cds.cimNamespace(), ts), cds, dsBoundary, executor));
+        return new CgmesModelTripleStore(cds.cimNamespace(), tripleStore);
+    }
+
+    private static String key(CgmesOnDataSource cds, ReadOnlyDataSource dsBoundary) {
+        // The base name is used to build the identifiers of the statements
+        StringBuilder key = new StringBuilder(cds.baseName())
+                .append(TripleStoreCache.key(cds.dataSource(), cds.names()));
+        if (dsBoundary != null) {
+            CgmesOnDataSource cdsBoundary = new CgmesOnDataSource(dsBoundary);
+            key.append(TripleStoreCache.key(cdsBoundary.dataSource(), cdsBoundary.names()));
+        }
+        return Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+    }
+
+    private static void read(CgmesModelTripleStore cgmes, CgmesOnDataSource cds, ReadOnlyDataSource dsBoundary,
+            Executor executor) {
+        read(cgmes, cds, cds.baseName(), executor);
         // Only try to read boundary data from additional sources if the main data
         // source does not contain boundary info
         if (!cgmes.hasBoundary() && dsBoundary != null) {
             // Read boundary using same baseName of the main data
-            read(cgmes, new CgmesOnDataSource(dsBoundary), cds.baseName());
+            read(cgmes, new CgmesOnDataSource(dsBoundary), cds.baseName(), executor);
         }
-        return cgmes;
     }
 
-    private static void read(CgmesModelTripleStore cgmes, CgmesOnDataSource cds, String base) {
-        for (String name : cds.names()) {
-            LOG.info("Reading [{}]", name);
-            try (InputStream is = cds.dataSource().newInputStream(name)) {
-                cgmes.read(base, name, is);
-            } catch (IOException e) {
-                String msg = String.format("Reading [%s]", name);
-                LOG.warn(msg);
-                throw new TripleStoreException(msg, e);
-            }
+    /**
+     * Create a CGMES model reading the instance files with a streaming parser, without a triple store.
+     * The model can be converted but not updated or written.
+     */
+    public static CgmesModelStreaming createStreaming(ReadOnlyDataSource ds, ReadOnlyDataSource dsBoundary) {
+        CgmesOnDataSource cds = new CgmesOnDataSource(ds);
+        CgmesModelStreaming cgmes = new CgmesModelStreaming(cds.cimNamespace(), cds.baseName());
+        cgmes.read(cds.dataSource(), cds.names());
+        if (!cgmes.hasBoundary() && dsBoundary != null) {
+            CgmesOnDataSource cdsBoundary = new CgmesOnDataSource(dsBoundary);
+            cgmes.read(cdsBoundary.dataSource(), cdsBoundary.names());
         }
+        return cgmes;
+    }
+
+    private static void read(CgmesModelTripleStore cgmes, CgmesOnDataSource cds, String base, Executor executor) {
+        cgmes.read(base, cds.dataSource(), cds.names(), executor);
     }
 
     private static final Logger LOG = LoggerFactory.getLogger(CgmesModelFactory.class);
@@ -0,0 +1,1388 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.model.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.joda.time.DateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.powsybl.cgmes.model.AbstractCgmesModel;
+import com.powsybl.cgmes.model.CgmesModelException;
+import com.powsybl.cgmes.model.CgmesNamespace;
+import com.powsybl.cgmes.model.Subset;
+import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.triplestore.api.PropertyBag;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStore;
+
+/**
+ * A CGMES model that reads the instance files with a streaming parser, without loading them in a triple store.
+ * <p>
+ * Only the objects of the classes used by the conversion are kept in memory. Queries return the same property bags
+ * as the CIM16 queries of the triple store model, without the graph variables.
+ * The model is read only: it can not be updated or written.
+ *
+ * @author agent <agent at local>
+ */
+public class CgmesModelStreaming extends AbstractCgmesModel {
+
+    public CgmesModelStreaming(String cimNamespace, String base) {
+        if (!CgmesNamespace.CIM_16_NAMESPACE.equals(cimNamespace)) {
+            throw new CgmesModelException(String.format("Unsupported CIM namespace %s for streaming model", cimNamespace));
+        }
+        this.cimNamespace = cimNamespace;
+        // Identifiers are resolved against the base as in the triple store, that adds an empty path
+        this.baseForIds = URI.create(base).getPath().isEmpty() ? base + "/#" : base + "#";
+        this.objects = new CgmesObjects();
+        this.reader = new CgmesObjectsReader(cimNamespace, objects);
+    }
+
+    public void read(ReadOnlyDataSource ds, Collection<String> contextNames) {
+        for (String contextName : contextNames) {
+            LOG.info("Reading [{}]", contextName);
+            try (InputStream is = ds.newInputStream(contextName)) {
+                reader.read(contextName, is);
+            } catch (IOException x) {
+                throw new CgmesModelException(String.format("Reading [%s]", contextName), x);
+            }
+        }
+        objects.endOfRead();
+    }
+
+    @Override
+    public TripleStore tripleStore() {
+        throw unsupported("tripleStore");
+    }
+
+    @Override
+    public void print(PrintStream out) {
+        new TreeMap<>(objects.numObjectsByType()).forEach((type, num) -> out.println(type + " " + num));
+    }
+
+    @Override
+    public void print(Consumer<String> liner) {
+        new TreeMap<>(objects.numObjectsByType()).forEach((type, num) -> liner.accept(type + " " + num));
+    }
+
+    @Override
+    public void write(DataSource ds) {
+        throw unsupported("write");
+    }
+
+    @Override
+    public void write(DataSource ds, String contextName) {
+        throw unsupported("write");
+    }
+
+    @Override
+    public void clear(Subset subset) {
+        throw unsupported("clear");
+    }
+
+    @Override
+    public void add(String contextName, String type, PropertyBags objects) {
+        throw unsupported("add");
+    }
+
+    // Model description
+
+    @Override
+    public boolean hasEquipmentCore() {
+        return hasProfile("/EquipmentCore/");
+    }
+
+    @Override
+    public boolean hasBoundary() {
+        return hasProfile("/EquipmentBoundary/") && hasProfile("/TopologyBoundary/");
+    }
+
+    @Override
+    public boolean isNodeBreaker() {
+        return hasProfile("/EquipmentOperation/");
+    }
+
+    @Override
+    public String modelId() {
+        for (CgmesObject m : fullModels()) {
+            if (m.has(MODELING_AUTHORITY_SET) && m.getAll(CgmesObjectsReader.MODEL_PROFILE).stream()
+                    .anyMatch(p -> containsIgnoreCase(p, "EquipmentCore") && !isBoundaryProfile(p))) {
+                return uri(m.id());
+            }
+        }
+        return "unknown";
+    }
+
+    @Override
+    public DateTime scenarioTime() {
+        return modelDate("Model.scenarioTime");
+    }
+
+    @Override
+    public DateTime created() {
+        return modelDate("Model.created");
+    }
+
+    private DateTime modelDate(String property) {
+        for (CgmesObject m : fullModels()) {
+            if (m.has(MODELING_AUTHORITY_SET) && m.has("Model.created") && m.has("Model.scenarioTime")
+                    && m.getAll(CgmesObjectsReader.MODEL_PROFILE).stream().anyMatch(p -> !isBoundaryProfile(p))) {
+                String s = m.get(property);
+                return s.isEmpty() ? DateTime.now() : DateTime.parse(s);
+            }
+        }
+        return DateTime.now();
+    }
+
+    @Override
+    public String version() {
+        return objects.all("IEC61970CIMVersion").stream()
+                .map(v -> v.get("IEC61970CIMVersion.version"))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse("unknown");
+    }
+
+    @Override
+    public PropertyBags numObjectsByType() {
+        PropertyBags r = new PropertyBags();
+        objects.numObjectsByType().forEach((type, num) -> {
+            if (!isQualified(type) && !type.equals(CgmesObjects.FULL_MODEL)) {
+                PropertyBag p = new PropertyBag(NUM_OBJECTS_BY_TYPE);
+                p.put("Type", cimNamespace + type);
+                p.put("numObjects", Integer.toString(num));
+                r.add(p);
+            }
+        });
+        return r;
+    }
+
+    @Override
+    public PropertyBags allObjectsOfType(String type) {
+        Objects.requireNonNull(type);
+        // Only the properties kept while reading are available
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject o : objects.all(type)) {
+            r.add(objectProperty(o, RDF_TYPE, cimNamespace + type));
+            for (int k = 0; k < o.size(); k++) {
+                r.add(objectProperty(o, cimNamespace + o.name(k), o.value(k)));
+            }
+        }
+        return r;
+    }
+
+    private PropertyBag objectProperty(CgmesObject o, String attribute, String value) {
+        PropertyBag p = new PropertyBag(ALL_OBJECTS_OF_TYPE);
+        putId(p, "object", o.id());
+        p.put("attribute", attribute);
+        p.put("value", value);
+        return p;
+    }
+
+    // Containers, nodes and terminals
+
+    @Override
+    public PropertyBags boundaryNodes() {
+        PropertyBags r = new PropertyBags();
+        boundaryNodes(r, "TopologicalNode", "TopologyBoundary");
+        boundaryNodes(r, "ConnectivityNode", "EquipmentBoundaryOperation");
+        return r;
+    }
+
+    private void boundaryNodes(PropertyBags r, String type, String profile) {
+        for (CgmesObject n : objects.all(type)) {
+            if (n.has(NAME) && contextHasProfile(n.context(), profile)) {
+                PropertyBag p = new PropertyBag(BOUNDARY_NODES);
+                putId(p, "Node", n.id());
+                p.put("Name", n.get(NAME));
+                r.add(p);
+            }
+        }
+    }
+
+    @Override
+    public PropertyBags baseVoltages() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject bv : objects.all("BaseVoltage")) {
+            if (bv.has(NOMINAL_VOLTAGE)) {
+                PropertyBag p = new PropertyBag(BASE_VOLTAGES);
+                putId(p, "BaseVoltage", bv.id());
+                copy(p, bv, NOMINAL_VOLTAGE, "nominalVoltage");
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags substations() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject s : objects.all("Substation")) {
+            CgmesObject subRegion = objects.object(s.get("Substation.Region"));
+            if (!s.has(NAME) || subRegion == null || !subRegion.has(NAME) || !sameContext(s, subRegion)) {
+                continue;
+            }
+            CgmesObject region = objects.object(subRegion.get("SubGeographicalRegion.Region"));
+            if (region == null || !region.has(NAME) || !sameContext(s, region)) {
+                continue;
+            }
+            PropertyBag p = new PropertyBag(SUBSTATIONS);
+            putId(p, "Substation", s.id());
+            copy(p, s, NAME, "name");
+            putId(p, "SubRegion", subRegion.id());
+            copy(p, subRegion, NAME, "subRegionName");
+            putId(p, "Region", region.id());
+            copy(p, region, NAME, "regionName");
+            r.add(p);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags voltageLevels() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject vl : objects.all("VoltageLevel")) {
+            if (!hasAll(vl, VOLTAGE_LEVEL_SUBSTATION, NAME, "VoltageLevel.BaseVoltage")) {
+                continue;
+            }
+            PropertyBag p = new PropertyBag(VOLTAGE_LEVELS);
+            putId(p, "VoltageLevel", vl.id());
+            putId(p, "Substation", vl.get(VOLTAGE_LEVEL_SUBSTATION));
+            copy(p, vl, NAME, "name");
+            putId(p, "BaseVoltage", vl.get("VoltageLevel.BaseVoltage"));
+            copy(p, vl, "VoltageLevel.lowVoltageLimit", "lowVoltageLimit");
+            copy(p, vl, "VoltageLevel.highVoltageLimit", "highVoltageLimit");
+            CgmesObject bv = objects.object(vl.get("VoltageLevel.BaseVoltage"));
+            if (bv != null) {
+                copy(p, bv, NOMINAL_VOLTAGE, "nominalVoltage");
+            }
+            r.add(p);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags terminals() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject t : objects.all(TERMINAL)) {
+            String equipment = t.get(TERMINAL_CONDUCTING_EQUIPMENT);
+            String equipmentType = objects.type(equipment);
+            if (equipmentType == null) {
+                continue;
+            }
+            for (CgmesObject pf : orNone(objects.referrers("SvPowerFlow.Terminal", t.id()))) {
+                if (pf != null && !hasAll(pf, "SvPowerFlow.p", "SvPowerFlow.q")) {
+                    continue;
+                }
+                PropertyBag p = new PropertyBag(TERMINALS);
+                putId(p, TERMINAL, t.id());
+                putId(p, "ConductingEquipment", equipment);
+                putType(p, "conductingEquipmentType", equipmentType);
+                copy(p, t, NAME, "name");
+                copy(p, t, ACDC_TERMINAL_CONNECTED, "connected");
+                if (pf != null) {
+                    putId(p, "SvPowerFlow", pf.id());
+                    copy(p, pf, "SvPowerFlow.p", "p");
+                    copy(p, pf, "SvPowerFlow.q", "q");
+                }
+                putId(p, "ConnectivityNode", t.get("Terminal.ConnectivityNode"));
+                putId(p, TOPOLOGICAL_NODE, t.get(TERMINAL_TOPOLOGICAL_NODE));
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags connectivityNodeContainers() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject c : objects.all("VoltageLevel", "Bay", "Line")) {
+            PropertyBag p = new PropertyBag(CONNECTIVITY_NODE_CONTAINERS);
+            putId(p, "ConnectivityNodeContainer", c.id());
+            putType(p, "connectivityNodeContainerType", c.type());
+            if (c.isA("VoltageLevel") && c.has(VOLTAGE_LEVEL_SUBSTATION)) {
+                putId(p, "Substation", c.get(VOLTAGE_LEVEL_SUBSTATION));
+                putId(p, "VoltageLevel", c.id());
+            } else if (c.isA("Bay")) {
+                CgmesObject vl = objects.object(c.get("Bay.VoltageLevel"));
+                if (vl != null && vl.has(VOLTAGE_LEVEL_SUBSTATION)) {
+                    putId(p, "Substation", vl.get(VOLTAGE_LEVEL_SUBSTATION));
+                    putId(p, "VoltageLevel", vl.id());
+                }
+            }
+            r.add(p);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags connectivityNodes() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject cn : objects.all("ConnectivityNode")) {
+            if (!cn.has("ConnectivityNode.ConnectivityNodeContainer")) {
+                continue;
+            }
+            String tn = cn.get("ConnectivityNode.TopologicalNode");
+            for (CgmesObject v : svVoltages(tn)) {
+                PropertyBag p = new PropertyBag(CONNECTIVITY_NODES);
+                putId(p, "ConnectivityNode", cn.id());
+                putId(p, CONNECTIVITY_NODE_CONTAINER, cn.get("ConnectivityNode.ConnectivityNodeContainer"));
+                copy(p, cn, NAME, "name");
+                copy(p, cn, "ConnectivityNode.fromEndIsoCode", "fromEndIsoCode");
+                copy(p, cn, "ConnectivityNode.toEndIsoCode", "toEndIsoCode");
+                putId(p, TOPOLOGICAL_NODE, tn);
+                putSvVoltage(p, v);
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags topologicalNodes() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject tn : objects.all(TOPOLOGICAL_NODE)) {
+            if (!hasAll(tn, NAME, "TopologicalNode.BaseVoltage", "TopologicalNode.ConnectivityNodeContainer")) {
+                continue;
+            }
+            for (CgmesObject v : svVoltages(tn.id())) {
+                PropertyBag p = new PropertyBag(TOPOLOGICAL_NODES);
+                putId(p, TOPOLOGICAL_NODE, tn.id());
+                copy(p, tn, NAME, "name");
+                putId(p, "BaseVoltage", tn.get("TopologicalNode.BaseVoltage"));
+                putId(p, CONNECTIVITY_NODE_CONTAINER, tn.get("TopologicalNode.ConnectivityNodeContainer"));
+                copy(p, tn, "TopologicalNode.fromEndIsoCode", "fromEndIsoCode");
+                copy(p, tn, "TopologicalNode.toEndIsoCode", "toEndIsoCode");
+                putSvVoltage(p, v);
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    private List<CgmesObject> svVoltages(String topologicalNode) {
+        if (topologicalNode == null) {
+            return NONE;
+        }
+        return orNone(objects.referrers("SvVoltage.TopologicalNode", topologicalNode).stream()
+                .filter(v -> v.isA("SvVoltage") && hasAll(v, "SvVoltage.v", "SvVoltage.angle"))
+                .collect(Collectors.toList()));
+    }
+
+    private void putSvVoltage(PropertyBag p, CgmesObject v) {
+        if (v != null) {
+            putId(p, "SvVoltageT", v.id());
+            copy(p, v, "SvVoltage.v", "v");
+            copy(p, v, "SvVoltage.angle", "angle");
+        }
+    }
+
+    @Override
+    public PropertyBags operationalLimits() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject limit : objects.all("CurrentLimit", "ApparentPowerLimit", "VoltageLimit")) {
+            String value = limit.get(limit.type() + ".value");
+            CgmesObject set = objects.object(limit.get("OperationalLimit.OperationalLimitSet"));
+            CgmesObject type = objects.object(limit.get("OperationalLimit.OperationalLimitType"));
+            if (value == null || !limit.has(NAME) || set == null || type == null || !type.has(NAME)
+                    || !sameContext(limit, set) || !sameContext(limit, type)) {
+                continue;
+            }
+            CgmesObject terminal = objects.object(set.get("OperationalLimitSet.Terminal"));
+            if (terminal != null && terminal.isA(TERMINAL) && sameContext(set, terminal)) {
+                PropertyBag p = operationalLimit(limit, set, type);
+                putId(p, TERMINAL, terminal.id());
+                r.add(p);
+            }
+            String equipment = set.get("OperationalLimitSet.Equipment");
+            if (equipment != null && objects.type(equipment) != null) {
+                PropertyBag p = operationalLimit(limit, set, type);
+                putId(p, "Equipment", equipment);
+                putType(p, "EquipmentClass", objects.type(equipment));
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    private PropertyBag operationalLimit(CgmesObject limit, CgmesObject set, CgmesObject type) {
+        PropertyBag p = new PropertyBag(OPERATIONAL_LIMITS);
+        putId(p, "OperationalLimitSet", set.id());
+        putId(p, "OperationalLimit", limit.id());
+        putId(p, "OperationalLimitType", type.id());
+        copy(p, limit, NAME, "name");
+        putType(p, "OperationalLimitSubclass", limit.type());
+        copy(p, limit, limit.type() + ".value", "value");
+        copy(p, type, NAME, "operationalLimitTypeName");
+        putId(p, "direction", type.get("OperationalLimitType.direction"));
+        putId(p, "limitType", type.get("OperationalLimitType.limitType"));
+        copy(p, type, "OperationalLimitType.acceptableDuration", "acceptableDuration");
+        return p;
+    }
+
+    // Equipment
+
+    @Override
+    public PropertyBags busBarSections() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject b : objects.all("BusbarSection")) {
+            if (!b.has(NAME)) {
+                continue;
+            }
+            for (CgmesObject t : terminalsOf(b)) {
+                PropertyBag p = new PropertyBag(BUSBAR_SECTIONS);
+                putId(p, "BusbarSection", b.id());
+                copy(p, b, NAME, "name");
+                putId(p, TERMINAL, t.id());
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags switches() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject s : objects.all("Switch", "Breaker", "Disconnector")) {
+            if (!hasAll(s, NAME, EQUIPMENT_CONTAINER)) {
+                continue;
+            }
+            for (CgmesObject[] ts : terminalPairs(s)) {
+                PropertyBag p = new PropertyBag(SWITCHES);
+                putId(p, "Switch", s.id());
+                putType(p, "type", s.type());
+                copy(p, s, NAME, "name");
+                putId(p, "EquipmentContainer", s.get(EQUIPMENT_CONTAINER));
+                putId(p, TERMINAL1, ts[0].id());
+                putId(p, TERMINAL2, ts[1].id());
+                copy(p, s, "Switch.open", "open");
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags acLineSegments() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject l : objects.all("ACLineSegment")) {
+            if (!hasAll(l, "ACLineSegment.r", "ACLineSegment.x", "ACLineSegment.bch", NAME)) {
+                continue;
+            }
+            List<CgmesObject> ts = terminalsOf(l).stream()
+                    .filter(t -> t.has(SEQUENCE_NUMBER))
+                    .collect(Collectors.toList());
+            for (CgmesObject t1 : ts) {
+                for (CgmesObject t2 : ts) {
+                    if (t1.get(SEQUENCE_NUMBER).compareTo(t2.get(SEQUENCE_NUMBER)) >= 0) {
+                        continue;
+                    }
+                    PropertyBag p = new PropertyBag(AC_LINE_SEGMENTS);
+                    putId(p, "ACLineSegment", l.id());
+                    copy(p, l, "ACLineSegment.r", "r");
+                    copy(p, l, "ACLineSegment.x", "x");
+                    copy(p, l, "ACLineSegment.bch", "bch");
+                    copy(p, l, NAME, "name");
+                    copy(p, l, "ACLineSegment.gch", "gch");
+                    putId(p, TERMINAL1, t1.id());
+                    copy(p, t1, SEQUENCE_NUMBER, "sequenceNumber1");
+                    putId(p, TERMINAL2, t2.id());
+                    copy(p, t2, SEQUENCE_NUMBER, "sequenceNumber2");
+                    r.add(p);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags equivalentBranches() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject b : objects.all("EquivalentBranch")) {
+            if (!hasAll(b, NAME, "EquivalentBranch.r", "EquivalentBranch.x")) {
+                continue;
+            }
+            for (CgmesObject t1 : terminalsOf(b, "1")) {
+                for (CgmesObject t2 : terminalsOf(b, "2")) {
+                    PropertyBag p = new PropertyBag(EQUIVALENT_BRANCHES);
+                    putId(p, "EquivalentBranch", b.id());
+                    copy(p, b, NAME, "name");
+                    copy(p, b, "EquivalentBranch.r", "r");
+                    copy(p, b, "EquivalentBranch.x", "x");
+                    if (hasAll(b, "EquivalentBranch.r21", "EquivalentBranch.x21")) {
+                        copy(p, b, "EquivalentBranch.r21", "r21");
+                        copy(p, b, "EquivalentBranch.x21", "x21");
+                    }
+                    putId(p, TERMINAL1, t1.id());
+                    putId(p, TERMINAL2, t2.id());
+                    r.add(p);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags seriesCompensators() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject c : objects.all("SeriesCompensator")) {
+            if (!hasAll(c, "SeriesCompensator.r", "SeriesCompensator.x", NAME)) {
+                continue;
+            }
+            for (CgmesObject[] ts : terminalPairs(c)) {
+                PropertyBag p = new PropertyBag(SERIES_COMPENSATORS);
+                putId(p, "SeriesCompensator", c.id());
+                copy(p, c, "SeriesCompensator.r", "r");
+                copy(p, c, "SeriesCompensator.x", "x");
+                copy(p, c, NAME, "name");
+                putId(p, TERMINAL1, ts[0].id());
+                putId(p, TERMINAL2, ts[1].id());
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags transformers() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject t : objects.all(POWER_TRANSFORMER)) {
+            if (t.has(NAME)) {
+                PropertyBag p = new PropertyBag(TRANSFORMERS);
+                putId(p, POWER_TRANSFORMER, t.id());
+                copy(p, t, NAME, "name");
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags transformerEnds() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject end : objects.all(POWER_TRANSFORMER_END)) {
+            CgmesObject t = objects.object(end.get("PowerTransformerEnd.PowerTransformer"));
+            if (t == null || !t.isA(POWER_TRANSFORMER) || !t.has(NAME)
+                    || !hasAll(end, "PowerTransformerEnd.b", "PowerTransformerEnd.r", "PowerTransformerEnd.x",
+                            POWER_TRANSFORMER_END_RATED_U, "TransformerEnd.endNumber", "TransformerEnd.Terminal")) {
+                continue;
+            }
+            for (CgmesObject rtc : orNone(objects.referrers(RATIO_TAP_CHANGER_TRANSFORMER_END, end.id()))) {
+                for (CgmesObject ptc : orNone(objects.referrers(PHASE_TAP_CHANGER_TRANSFORMER_END, end.id()))) {
+                    PropertyBag p = new PropertyBag(TRANSFORMER_ENDS);
+                    putId(p, POWER_TRANSFORMER, t.id());
+                    copy(p, t, NAME, "name");
+                    putId(p, "EquipmentContainer", t.get(EQUIPMENT_CONTAINER));
+                    putId(p, TRANSFORMER_END, end.id());
+                    copy(p, end, "PowerTransformerEnd.b", "b");
+                    copy(p, end, "PowerTransformerEnd.r", "r");
+                    copy(p, end, "PowerTransformerEnd.x", "x");
+                    copy(p, end, POWER_TRANSFORMER_END_RATED_U, "ratedU");
+                    copy(p, end, "TransformerEnd.endNumber", "endNumber");
+                    putId(p, TERMINAL, end.get("TransformerEnd.Terminal"));
+                    putId(p, "connectionKind", end.get("PowerTransformerEnd.connectionKind"));
+                    copy(p, end, "PowerTransformerEnd.phaseAngleClock", "phaseAngleClock");
+                    copy(p, end, "PowerTransformerEnd.g", "g");
+                    if (rtc != null) {
+                        putId(p, RATIO_TAP_CHANGER, rtc.id());
+                    }
+                    if (ptc != null) {
+                        putId(p, PHASE_TAP_CHANGER, ptc.id());
+                    }
+                    r.add(p);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags ratioTapChangers() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject tc : objects.all(RATIO_TAP_CHANGER)) {
+            if (!hasAll(tc, NAME, LOW_STEP, HIGH_STEP, NEUTRAL_STEP, NORMAL_STEP, NEUTRAL_U,
+                    "RatioTapChanger.stepVoltageIncrement", RATIO_TAP_CHANGER_TRANSFORMER_END)) {
+                continue;
+            }
+            for (CgmesObject step : svTapSteps(tc)) {
+                PropertyBag p = new PropertyBag(RATIO_TAP_CHANGERS);
+                putId(p, RATIO_TAP_CHANGER, tc.id());
+                putSteps(p, tc);
+                copy(p, tc, "RatioTapChanger.stepVoltageIncrement", "stepVoltageIncrement");
+                putId(p, TRANSFORMER_END, tc.get(RATIO_TAP_CHANGER_TRANSFORMER_END));
+                if (hasAll(tc, TAP_CHANGER_CONTROL, LTC_FLAG, "RatioTapChanger.tculControlMode")) {
+                    putId(p, "TapChangerControl", tc.get(TAP_CHANGER_CONTROL));
+                    copy(p, tc, LTC_FLAG, "ltcFlag");
+                    putId(p, "tculControlMode", tc.get("RatioTapChanger.tculControlMode"));
+                }
+                putId(p, "RatioTapChangerTable", tc.get("RatioTapChanger.RatioTapChangerTable"));
+                copy(p, tc, "TapChanger.controlEnabled", "tapChangerControlEnabled");
+                if (step != null) {
+                    putId(p, "SvTapStep", step.id());
+                    copy(p, step, SV_TAP_STEP_POSITION, "SVtapStep");
+                }
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags phaseTapChangers() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject tc : objects.all(PHASE_TAP_CHANGER_TYPES)) {
+            if (!hasAll(tc, NAME, LOW_STEP, HIGH_STEP, NEUTRAL_STEP, NORMAL_STEP, NEUTRAL_U, PHASE_TAP_CHANGER_TRANSFORMER_END)) {
+                continue;
+            }
+            CgmesObject end = objects.object(tc.get(PHASE_TAP_CHANGER_TRANSFORMER_END));
+            if (end == null || !end.isA(POWER_TRANSFORMER_END) || !end.has(POWER_TRANSFORMER_END_RATED_U)) {
+                continue;
+            }
+            for (CgmesObject step : svTapSteps(tc)) {
+                PropertyBag p = new PropertyBag(PHASE_TAP_CHANGERS);
+                putId(p, PHASE_TAP_CHANGER, tc.id());
+                putType(p, "phaseTapChangerType", tc.type());
+                putSteps(p, tc);
+                putId(p, TRANSFORMER_END, end.id());
+                copy(p, end, POWER_TRANSFORMER_END_RATED_U, "transformerWindingRatedU");
+                copy(p, tc, "PhaseTapChangerAsymmetrical.windingConnectionAngle", "windingConnectionAngle");
+                if (hasAll(tc, "PhaseTapChangerNonLinear.xMax", "PhaseTapChangerNonLinear.xMin",
+                        "PhaseTapChangerNonLinear.voltageStepIncrement")) {
+                    copy(p, tc, "PhaseTapChangerNonLinear.xMax", "xMax");
+                    copy(p, tc, "PhaseTapChangerNonLinear.xMin", "xMin");
+                    copy(p, tc, "PhaseTapChangerNonLinear.voltageStepIncrement", "voltageStepIncrement");
+                }
+                putId(p, "PhaseTapChangerTable", tc.get("PhaseTapChangerTabular.PhaseTapChangerTable"));
+                if (hasAll(tc, LTC_FLAG, TAP_CHANGER_CONTROL)) {
+                    copy(p, tc, LTC_FLAG, "ltcFlag");
+                    putId(p, "TapChangerControl", tc.get(TAP_CHANGER_CONTROL));
+                }
+                if (step != null) {
+                    putId(p, "SVTapStep", step.id());
+                    copy(p, step, SV_TAP_STEP_POSITION, "SVtapStep");
+                }
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    private void putSteps(PropertyBag p, CgmesObject tc) {
+        copy(p, tc, NAME, "name");
+        copy(p, tc, LOW_STEP, "lowStep");
+        copy(p, tc, HIGH_STEP, "highStep");
+        copy(p, tc, NEUTRAL_STEP, "neutralStep");
+        copy(p, tc, NORMAL_STEP, "normalStep");
+        copy(p, tc, NEUTRAL_U, "neutralU");
+    }
+
+    private List<CgmesObject> svTapSteps(CgmesObject tc) {
+        return orNone(objects.referrers("SvTapStep.TapChanger", tc.id()).stream()
+                .filter(s -> s.isA("SvTapStep") && s.has(SV_TAP_STEP_POSITION))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public PropertyBags ratioTapChangerTablesPoints() {
+        return tablePoints("RatioTapChangerTablePoint", "RatioTapChangerTablePoint.RatioTapChangerTable", "RatioTapChangerTable",
+                null, null);
+    }
+
+    @Override
+    public PropertyBags ratioTapChangerTable(String tableId) {
+        return tablePoints("RatioTapChangerTablePoint", "RatioTapChangerTablePoint.RatioTapChangerTable", TABLE,
+                null, Objects.requireNonNull(tableId));
+    }
+
+    @Override
+    public PropertyBags phaseTapChangerTablesPoints() {
+        return tablePoints("PhaseTapChangerTablePoint", "PhaseTapChangerTablePoint.PhaseTapChangerTable", "PhaseTapChangerTable",
+                PHASE_TAP_CHANGER_TABLE_POINT_ANGLE, null);
+    }
+
+    @Override
+    public PropertyBags phaseTapChangerTable(String tableId) {
+        return tablePoints("PhaseTapChangerTablePoint", "PhaseTapChangerTablePoint.PhaseTapChangerTable", TABLE,
+                PHASE_TAP_CHANGER_TABLE_POINT_ANGLE, Objects.requireNonNull(tableId));
+    }
+
+    private PropertyBags tablePoints(String type, String tableProperty, String tableColumn, String angleProperty, String tableId) {
+        List<String> columns = Arrays.asList(type, tableColumn, "angle", "step", "ratio", "r", "x", "g", "b");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject point : objects.all(type)) {
+            String table = point.get(tableProperty);
+            if (table == null || !point.has(TABLE_POINT_STEP)
+                    || angleProperty != null && !point.has(angleProperty)
+                    || tableId != null && !uri(table).contains(tableId)) {
+                continue;
+            }
+            PropertyBag p = new PropertyBag(columns);
+            putId(p, type, point.id());
+            putId(p, tableColumn, table);
+            if (angleProperty != null) {
+                copy(p, point, angleProperty, "angle");
+            }
+            copy(p, point, TABLE_POINT_STEP, "step");
+            copy(p, point, "TapChangerTablePoint.ratio", "ratio");
+            copy(p, point, "TapChangerTablePoint.r", "r");
+            copy(p, point, "TapChangerTablePoint.x", "x");
+            copy(p, point, "TapChangerTablePoint.g", "g");
+            copy(p, point, "TapChangerTablePoint.b", "b");
+            r.add(p);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags regulatingControls() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject rc : objects.all("RegulatingControl", "TapChangerControl")) {
+            CgmesObject t = objects.object(rc.get("RegulatingControl.Terminal"));
+            if (t == null || !t.has(TERMINAL_TOPOLOGICAL_NODE) || !hasAll(rc, "RegulatingControl.mode",
+                    "RegulatingControl.enabled", "RegulatingControl.targetValue",
+                    "RegulatingControl.targetValueUnitMultiplier", "RegulatingControl.discrete")) {
+                continue;
+            }
+            PropertyBag p = new PropertyBag(REGULATING_CONTROLS);
+            putId(p, "RegulatingControl", rc.id());
+            putId(p, "mode", rc.get("RegulatingControl.mode"));
+            putId(p, TERMINAL, t.id());
+            putId(p, "topologicalNode", t.get(TERMINAL_TOPOLOGICAL_NODE));
+            copy(p, rc, "RegulatingControl.enabled", "enabled");
+            copy(p, rc, "RegulatingControl.targetValue", "targetValue");
+            putId(p, "targetValueUnitMultiplier", rc.get("RegulatingControl.targetValueUnitMultiplier"));
+            copy(p, rc, "RegulatingControl.discrete", "discrete");
+            copy(p, rc, "RegulatingControl.targetDeadband", "targetDeadband");
+            r.add(p);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags energyConsumers() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject c : objects.all("EnergyConsumer", "ConformLoad", "NonConformLoad")) {
+            if (!hasAll(c, NAME, "EnergyConsumer.p", "EnergyConsumer.q")) {
+                continue;
+            }
+            for (CgmesObject t : terminalsOf(c)) {
+                PropertyBag p = new PropertyBag(ENERGY_CONSUMERS);
+                putId(p, "EnergyConsumer", c.id());
+                putType(p, "type", c.type());
+                copy(p, c, NAME, "name");
+                putId(p, TERMINAL, t.id());
+                copy(p, c, "EnergyConsumer.pfixed", "pfixed");
+                copy(p, c, "EnergyConsumer.qfixed", "qfixed");
+                copy(p, c, "EnergyConsumer.p", "p");
+                copy(p, c, "EnergyConsumer.q", "q");
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags energySources() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject s : objects.all("EnergySource")) {
+            if (!hasAll(s, NAME, "EnergySource.activePower", "EnergySource.reactivePower")) {
+                continue;
+            }
+            for (CgmesObject t : terminalsOf(s)) {
+                PropertyBag p = new PropertyBag(ENERGY_SOURCES);
+                putId(p, "EnergySource", s.id());
+                copy(p, s, NAME, "name");
+                putId(p, TERMINAL, t.id());
+                copy(p, s, "EnergySource.activePower", "p");
+                copy(p, s, "EnergySource.reactivePower", "q");
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags shuntCompensators() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject s : objects.all("LinearShuntCompensator", NONLINEAR_SHUNT_COMPENSATOR)) {
+            if (!hasAll(s, NAME, "ShuntCompensator.normalSections", "ShuntCompensator.maximumSections", "ShuntCompensator.nomU")) {
+                continue;
+            }
+            List<CgmesObject> svSections = orNone(objects.referrers("SvShuntCompensatorSections.ShuntCompensator", s.id()).stream()
+                    .filter(sv -> sv.isA("SvShuntCompensatorSections") && sv.has(SV_SECTIONS))
+                    .collect(Collectors.toList()));
+            for (CgmesObject t : terminalsOf(s)) {
+                for (CgmesObject sv : svSections) {
+                    PropertyBag p = new PropertyBag(SHUNT_COMPENSATORS);
+                    putId(p, "ShuntCompensator", s.id());
+                    putType(p, "type", s.type());
+                    copy(p, s, NAME, "name");
+                    copy(p, s, "ShuntCompensator.normalSections", "normalSections");
+                    copy(p, s, "ShuntCompensator.maximumSections", "maximumSections");
+                    copy(p, s, "ShuntCompensator.nomU", "nomU");
+                    putId(p, TERMINAL, t.id());
+                    copy(p, s, "LinearShuntCompensator.gPerSection", "gPerSection");
+                    copy(p, s, "LinearShuntCompensator.bPerSection", "bPerSection");
+                    putId(p, "RegulatingControl", s.get(REGULATING_CONTROL));
+                    if (sv != null) {
+                        putId(p, "SvShuntCompensatorSections", sv.id());
+                        copy(p, sv, SV_SECTIONS, "SVsections");
+                    }
+                    copy(p, s, "ShuntCompensator.sections", "SSHsections");
+                    r.add(p);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags nonlinearShuntCompensatorPoints(String id) {
+        return nonlinearShuntCompensatorPoints0(Objects.requireNonNull(id));
+    }
+
+    @Override
+    public PropertyBags nonlinearShuntCompensatorsPoints() {
+        return nonlinearShuntCompensatorPoints0(null);
+    }
+
+    private PropertyBags nonlinearShuntCompensatorPoints0(String id) {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject point : objects.all("NonlinearShuntCompensatorPoint")) {
+            String shunt = point.get("NonlinearShuntCompensatorPoint.NonlinearShuntCompensator");
+            if (shunt == null || id != null && !uri(shunt).contains(id) || !hasAll(point,
+                    "NonlinearShuntCompensatorPoint.sectionNumber", "NonlinearShuntCompensatorPoint.b", "NonlinearShuntCompensatorPoint.g")) {
+                continue;
+            }
+            PropertyBag p = new PropertyBag(NONLINEAR_SHUNT_COMPENSATOR_POINTS);
+            putId(p, "NonlinearShuntCompensatorPoint", point.id());
+            putId(p, "Shunt", shunt);
+            copy(p, point, "NonlinearShuntCompensatorPoint.sectionNumber", "sectionNumber");
+            copy(p, point, "NonlinearShuntCompensatorPoint.b", "b");
+            copy(p, point, "NonlinearShuntCompensatorPoint.g", "g");
+            r.add(p);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags staticVarCompensators() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject c : objects.all("StaticVarCompensator")) {
+            if (!hasAll(c, NAME, "StaticVarCompensator.capacitiveRating", "StaticVarCompensator.inductiveRating",
+                    "StaticVarCompensator.slope", "StaticVarCompensator.sVCControlMode", "StaticVarCompensator.voltageSetPoint")) {
+                continue;
+            }
+            for (CgmesObject t : terminalsOf(c)) {
+                PropertyBag p = new PropertyBag(STATIC_VAR_COMPENSATORS);
+                putId(p, "StaticVarCompensator", c.id());
+                copy(p, c, NAME, "name");
+                copy(p, c, "StaticVarCompensator.capacitiveRating", "capacitiveRating");
+                copy(p, c, "StaticVarCompensator.inductiveRating", "inductiveRating");
+                copy(p, c, "StaticVarCompensator.slope", "slope");
+                putId(p, "controlMode", c.get("StaticVarCompensator.sVCControlMode"));
+                copy(p, c, "StaticVarCompensator.voltageSetPoint", "voltageSetPoint");
+                putId(p, TERMINAL, t.id());
+                putId(p, "RegulatingControl", c.get(REGULATING_CONTROL));
+                if (hasAll(c, "StaticVarCompensator.q", CONTROL_ENABLED)) {
+                    copy(p, c, "StaticVarCompensator.q", "q");
+                    copy(p, c, CONTROL_ENABLED, "controlEnabled");
+                }
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags synchronousMachines() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject m : objects.all("SynchronousMachine")) {
+            CgmesObject u = objects.object(m.get("RotatingMachine.GeneratingUnit"));
+            if (u == null || !hasAll(u, "GeneratingUnit.minOperatingP", "GeneratingUnit.maxOperatingP",
+                    "GeneratingUnit.initialP", NAME)) {
+                continue;
+            }
+            for (CgmesObject t : terminalsOf(m)) {
+                PropertyBag p = new PropertyBag(SYNCHRONOUS_MACHINES);
+                putId(p, "SynchronousMachine", m.id());
+                putId(p, "GeneratingUnit", u.id());
+                copy(p, m, "RotatingMachine.ratedS", "ratedS");
+                putType(p, "generatingUnitType", u.type());
+                copy(p, u, "GeneratingUnit.minOperatingP", "minP");
+                copy(p, u, "GeneratingUnit.maxOperatingP", "maxP");
+                copy(p, u, "GeneratingUnit.initialP", "initialP");
+                copy(p, u, NAME, "name");
+                putId(p, TERMINAL, t.id());
+                copy(p, m, "SynchronousMachine.minQ", "minQ");
+                copy(p, m, "SynchronousMachine.maxQ", "maxQ");
+                putId(p, REACTIVE_CAPABILITY_CURVE, m.get("SynchronousMachine.InitialReactiveCapabilityCurve"));
+                putId(p, "RegulatingControl", m.get(REGULATING_CONTROL));
+                if (hasAll(m, ROTATING_MACHINE_P, ROTATING_MACHINE_Q)) {
+                    copy(p, m, ROTATING_MACHINE_P, "p");
+                    copy(p, m, ROTATING_MACHINE_Q, "q");
+                }
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags equivalentInjections() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject i : objects.all("EquivalentInjection")) {
+            if (!i.has(NAME)) {
+                continue;
+            }
+            for (CgmesObject t : terminalsOf(i)) {
+                PropertyBag p = new PropertyBag(EQUIVALENT_INJECTIONS);
+                putId(p, "EquivalentInjection", i.id());
+                copy(p, i, NAME, "name");
+                putId(p, TERMINAL, t.id());
+                copy(p, i, "EquivalentInjection.minP", "minP");
+                copy(p, i, "EquivalentInjection.maxP", "maxP");
+                copy(p, i, "EquivalentInjection.minQ", "minQ");
+                copy(p, i, "EquivalentInjection.maxQ", "maxQ");
+                copy(p, i, "EquivalentInjection.regulationCapability", "regulationCapability");
+                putId(p, REACTIVE_CAPABILITY_CURVE, i.get("EquivalentInjection.ReactiveCapabilityCurve"));
+                if (hasAll(i, "EquivalentInjection.p", "EquivalentInjection.q", "EquivalentInjection.regulationStatus",
+                        "EquivalentInjection.regulationTarget")) {
+                    copy(p, i, "EquivalentInjection.p", "p");
+                    copy(p, i, "EquivalentInjection.q", "q");
+                    copy(p, i, "EquivalentInjection.regulationStatus", "regulationStatus");
+                    copy(p, i, "EquivalentInjection.regulationTarget", "regulationTarget");
+                }
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags externalNetworkInjections() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject i : objects.all("ExternalNetworkInjection")) {
+            if (!hasAll(i, NAME, "ExternalNetworkInjection.minP", "ExternalNetworkInjection.maxP")) {
+                continue;
+            }
+            for (CgmesObject t : terminalsOf(i)) {
+                PropertyBag p = new PropertyBag(EXTERNAL_NETWORK_INJECTIONS);
+                putId(p, "ExternalNetworkInjection", i.id());
+                copy(p, i, NAME, "name");
+                copy(p, i, "ExternalNetworkInjection.minP", "minP");
+                copy(p, i, "ExternalNetworkInjection.maxP", "maxP");
+                putId(p, TERMINAL, t.id());
+                copy(p, i, "ExternalNetworkInjection.minQ", "minQ");
+                copy(p, i, "ExternalNetworkInjection.maxQ", "maxQ");
+                putId(p, "RegulatingControl", i.get(REGULATING_CONTROL));
+                if (hasAll(i, "ExternalNetworkInjection.p", "ExternalNetworkInjection.q")) {
+                    copy(p, i, "ExternalNetworkInjection.p", "p");
+                    copy(p, i, "ExternalNetworkInjection.q", "q");
+                }
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags asynchronousMachines() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject m : objects.all("AsynchronousMachine")) {
+            if (!m.has(NAME)) {
+                continue;
+            }
+            for (CgmesObject t : terminalsOf(m)) {
+                PropertyBag p = new PropertyBag(ASYNCHRONOUS_MACHINES);
+                putId(p, "AsynchronousMachine", m.id());
+                copy(p, m, NAME, "name");
+                putId(p, TERMINAL, t.id());
+                if (hasAll(m, "AsynchronousMachine.asynchronousMachineType", ROTATING_MACHINE_P, ROTATING_MACHINE_Q, CONTROL_ENABLED)) {
+                    putId(p, "type", m.get("AsynchronousMachine.asynchronousMachineType"));
+                    copy(p, m, ROTATING_MACHINE_P, "p");
+                    copy(p, m, ROTATING_MACHINE_Q, "q");
+                    copy(p, m, CONTROL_ENABLED, "controlEnabled");
+                }
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags reactiveCapabilityCurveData() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject d : objects.all("CurveData")) {
+            if (!hasAll(d, "CurveData.Curve", "CurveData.xvalue", "CurveData.y1value")) {
+                continue;
+            }
+            PropertyBag p = new PropertyBag(REACTIVE_CAPABILITY_CURVE_DATA);
+            putId(p, "CurveData", d.id());
+            putId(p, REACTIVE_CAPABILITY_CURVE, d.get("CurveData.Curve"));
+            copy(p, d, "CurveData.xvalue", "xvalue");
+            copy(p, d, "CurveData.y1value", "y1value");
+            copy(p, d, "CurveData.y2value", "y2value");
+            r.add(p);
+        }
+        return r;
+    }
+
+    // HVDC
+
+    @Override
+    public PropertyBags acDcConverters() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject c : objects.all("ACDCConverter", "CsConverter", "VsConverter")) {
+            if (!hasAll(c, NAME, "ACDCConverter.ratedUdc")) {
+                continue;
+            }
+            for (CgmesObject t : terminalsOf(c)) {
+                PropertyBag p = new PropertyBag(ACDC_CONVERTERS);
+                putId(p, "ACDCConverter", c.id());
+                putType(p, "type", c.type());
+                copy(p, c, NAME, "name");
+                copy(p, c, "ACDCConverter.ratedUdc", "ratedUdc");
+                putId(p, TERMINAL, t.id());
+                if (c.isA("CsConverter") && hasAll(c, "CsConverter.operatingMode", "CsConverter.pPccControl")) {
+                    putId(p, "operatingMode", c.get("CsConverter.operatingMode"));
+                    putId(p, "controlMode", c.get("CsConverter.pPccControl"));
+                    copy(p, c, "ACDCConverter.targetUdc", "targetUdc");
+                    copy(p, c, "ACDCConverter.targetPpcc", "targetPpcc");
+                }
+                if (c.isA("VsConverter") && hasAll(c, "VsConverter.qPccControl", "VsConverter.pPccControl")) {
+                    putId(p, "qPccControl", c.get("VsConverter.qPccControl"));
+                    putId(p, "pPccControl", c.get("VsConverter.pPccControl"));
+                    copy(p, c, "VsConverter.targetQpcc", "targetQpcc");
+                    copy(p, c, "VsConverter.targetUpcc", "targetUpcc");
+                }
+                r.add(p);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags dcLineSegments() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject l : objects.all("DCLineSegment")) {
+            if (!l.has(NAME)) {
+                continue;
+            }
+            for (CgmesObject t1 : dcTerminalsOf(l, "1")) {
+                for (CgmesObject t2 : dcTerminalsOf(l, "2")) {
+                    PropertyBag p = new PropertyBag(DC_LINE_SEGMENTS);
+                    putId(p, "DCLineSegment", l.id());
+                    copy(p, l, NAME, "name");
+                    copy(p, l, "DCLineSegment.resistance", "r");
+                    copy(p, l, "DCLineSegment.inductance", "l");
+                    copy(p, l, "DCLineSegment.capacitance", "c");
+                    copy(p, l, "DCLineSegment.length", "length");
+                    putId(p, "DCTerminal1", t1.id());
+                    putId(p, "DCTerminal2", t2.id());
+                    r.add(p);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags dcTerminals() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject t : objects.all(DC_TERMINAL, ACDC_CONVERTER_DC_TERMINAL)) {
+            String equipment = t.get(t.type() + ".DCConductingEquipment");
+            String equipmentType = objects.type(equipment);
+            if (equipmentType == null) {
+                continue;
+            }
+            PropertyBag p = new PropertyBag(DC_TERMINALS);
+            putId(p, DC_TERMINAL, t.id());
+            putId(p, "DCConductingEquipment", equipment);
+            putType(p, "dcConductingEquipmentType", equipmentType);
+            copy(p, t, ACDC_TERMINAL_CONNECTED, "connected");
+            r.add(p);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags dcTerminalsTP() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject t : objects.all(DC_TERMINAL, ACDC_CONVERTER_DC_TERMINAL)) {
+            String node = t.get("DCBaseTerminal.DCTopologicalNode");
+            if (node == null) {
+                continue;
+            }
+            PropertyBag p = new PropertyBag(DC_TERMINALS_TP);
+            putId(p, DC_TERMINAL, t.id());
+            putId(p, "DCTopologicalNode", node);
+            CgmesObject n = objects.object(node);
+            if (n != null && n.has("DCTopologicalNode.DCEquipmentContainer")) {
+                String container = n.get("DCTopologicalNode.DCEquipmentContainer");
+                putId(p, "EquipmentContainer", container);
+                CgmesObject c = objects.object(container);
+                if (c != null && c.isA("DCConverterUnit")) {
+                    putId(p, "Substation", c.get("DCConverterUnit.Substation"));
+                }
+            }
+            r.add(p);
+        }
+        return r;
+    }
+
+    // Helpers
+
+    private List<CgmesObject> terminalsOf(CgmesObject equipment) {
+        return objects.referrers(TERMINAL_CONDUCTING_EQUIPMENT, equipment.id()).stream()
+                .filter(t -> t.isA(TERMINAL))
+                .collect(Collectors.toList());
+    }
+
+    private List<CgmesObject> terminalsOf(CgmesObject equipment, String sequenceNumber) {
+        return terminalsOf(equipment).stream()
+                .filter(t -> sequenceNumber.equals(t.get(SEQUENCE_NUMBER)))
+                .collect(Collectors.toList());
+    }
+
+    private List<CgmesObject> dcTerminalsOf(CgmesObject equipment, String sequenceNumber) {
+        return objects.referrers("DCTerminal.DCConductingEquipment", equipment.id()).stream()
+                .filter(t -> t.isA(DC_TERMINAL) && sequenceNumber.equals(t.get(SEQUENCE_NUMBER)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Pairs of terminals of an equipment, ordered by identifier.
+     */
+    private List<CgmesObject[]> terminalPairs(CgmesObject equipment) {
+        List<CgmesObject> ts = terminalsOf(equipment);
+        List<CgmesObject[]> pairs = new ArrayList<>(1);
+        for (CgmesObject t1 : ts) {
+            for (CgmesObject t2 : ts) {
+                if (uri(t1.id()).compareTo(uri(t2.id())) < 0) {
+                    pairs.add(new CgmesObject[] {t1, t2});
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private List<CgmesObject> fullModels() {
+        return objects.all(CgmesObjects.FULL_MODEL);
+    }
+
+    private boolean hasProfile(String profile) {
+        return fullModels().stream()
+                .flatMap(m -> m.getAll(CgmesObjectsReader.MODEL_PROFILE).stream())
+                .anyMatch(p -> p.contains(profile));
+    }
+
+    private boolean contextHasProfile(String context, String profile) {
+        return fullModels().stream()
+                .filter(m -> m.context().equals(context))
+                .flatMap(m -> m.getAll(CgmesObjectsReader.MODEL_PROFILE).stream())
+                .anyMatch(p -> containsIgnoreCase(p, profile));
+    }
+
+    private static boolean isBoundaryProfile(String profile) {
+        return containsIgnoreCase(profile, "EquipmentBoundary") || containsIgnoreCase(profile, "TopologyBoundary");
+    }
+
+    private static boolean containsIgnoreCase(String s, String fragment) {
+        return s.toLowerCase(Locale.ROOT).contains(fragment.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean sameContext(CgmesObject o1, CgmesObject o2) {
+        return o1.context().equals(o2.context());
+    }
+
+    private static boolean hasAll(CgmesObject o, String... properties) {
+        for (String property : properties) {
+            if (!o.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<CgmesObject> orNone(List<CgmesObject> l) {
+        // Optional matches give a single result without values
+        return l.isEmpty() ? NONE : l;
+    }
+
+    private static void copy(PropertyBag p, CgmesObject o, String property, String column) {
+        p.putNonNull(column, o.get(property));
+    }
+
+    private void putId(PropertyBag p, String column, String id) {
+        if (id != null) {
+            p.put(column, uri(id));
+        }
+    }
+
+    private void putType(PropertyBag p, String column, String type) {
+        p.put(column, isQualified(type) ? type : cimNamespace + type);
+    }
+
+    private String uri(String id) {
+        return isQualified(id) ? id : baseForIds + id;
+    }
+
+    private static boolean isQualified(String s) {
+        return s.indexOf(':') >= 0;
+    }
+
+    private static CgmesModelException unsupported(String operation) {
+        return new CgmesModelException(String.format("Unsupported operation %s for streaming model", operation));
+    }
+
+    private final String cimNamespace;
+    private final String baseForIds;
+    private final CgmesObjects objects;
+    private final CgmesObjectsReader reader;
+
+    private static final List<CgmesObject> NONE = Collections.singletonList(null);
+
+    private static final String RDF_TYPE = "http://www.w3.org/1999/02/22-rdf-syntax-ns#type";
+
+    private static final String NAME = "IdentifiedObject.name";
+    private static final String MODELING_AUTHORITY_SET = "Model.modelingAuthoritySet";
+    private static final String NOMINAL_VOLTAGE = "BaseVoltage.nominalVoltage";
+    private static final String VOLTAGE_LEVEL_SUBSTATION = "VoltageLevel.Substation";
+    private static final String EQUIPMENT_CONTAINER = "Equipment.EquipmentContainer";
+    private static final String TERMINAL = "Terminal";
+    private static final String TERMINAL1 = "Terminal1";
+    private static final String TERMINAL2 = "Terminal2";
+    private static final String TERMINAL_CONDUCTING_EQUIPMENT = "Terminal.ConductingEquipment";
+    private static final String TERMINAL_TOPOLOGICAL_NODE = "Terminal.TopologicalNode";
+    private static final String ACDC_TERMINAL_CONNECTED = "ACDCTerminal.connected";
+    private static final String SEQUENCE_NUMBER = "ACDCTerminal.sequenceNumber";
+    private static final String TOPOLOGICAL_NODE = "TopologicalNode";
+    private static final String CONNECTIVITY_NODE_CONTAINER = "ConnectivityNodeContainer";
+    private static final String POWER_TRANSFORMER = "PowerTransformer";
+    private static final String POWER_TRANSFORMER_END = "PowerTransformerEnd";
+    private static final String POWER_TRANSFORMER_END_RATED_U = "PowerTransformerEnd.ratedU";
+    private static final String TRANSFORMER_END = "TransformerEnd";
+    private static final String RATIO_TAP_CHANGER = "RatioTapChanger";
+    private static final String RATIO_TAP_CHANGER_TRANSFORMER_END = "RatioTapChanger.TransformerEnd";
+    private static final String PHASE_TAP_CHANGER = "PhaseTapChanger";
+    private static final String PHASE_TAP_CHANGER_TRANSFORMER_END = "PhaseTapChanger.TransformerEnd";
+    private static final String[] PHASE_TAP_CHANGER_TYPES = {"PhaseTapChangerAsymmetrical", "PhaseTapChangerSymmetrical",
+        "PhaseTapChangerLinear", "PhaseTapChangerTabular"};
+    private static final String LOW_STEP = "TapChanger.lowStep";
+    private static final String HIGH_STEP = "TapChanger.highStep";
+    private static final String NEUTRAL_STEP = "TapChanger.neutralStep";
+    private static final String NORMAL_STEP = "TapChanger.normalStep";
+    private static final String NEUTRAL_U = "TapChanger.neutralU";
+    private static final String LTC_FLAG = "TapChanger.ltcFlag";
+    private static final String TAP_CHANGER_CONTROL = "TapChanger.TapChangerControl";
+    private static final String SV_TAP_STEP_POSITION = "SvTapStep.position";
+    private static final String TABLE = "Table";
+    private static final String TABLE_POINT_STEP = "TapChangerTablePoint.step";
+    private static final String PHASE_TAP_CHANGER_TABLE_POINT_ANGLE = "PhaseTapChangerTablePoint.angle";
+    private static final String NONLINEAR_SHUNT_COMPENSATOR = "NonlinearShuntCompensator";
+    private static final String SV_SECTIONS = "SvShuntCompensatorSections.sections";
+    private static final String REGULATING_CONTROL = "RegulatingCondEq.RegulatingControl";
+    private static final String CONTROL_ENABLED = "RegulatingCondEq.controlEnabled";
+    private static final String ROTATING_MACHINE_P = "RotatingMachine.p";
+    private static final String ROTATING_MACHINE_Q = "RotatingMachine.q";
+    private static final String REACTIVE_CAPABILITY_CURVE = "ReactiveCapabilityCurve";
+    private static final String DC_TERMINAL = "DCTerminal";
+    private static final String ACDC_CONVERTER_DC_TERMINAL = "ACDCConverterDCTerminal";
+
+    private static final List<String> NUM_OBJECTS_BY_TYPE = Arrays.asList("Type", "numObjects");
+    private static final List<String> ALL_OBJECTS_OF_TYPE = Arrays.asList("object", "attribute", "value");
+    private static final List<String> BOUNDARY_NODES = Arrays.asList("Node", "Name");
+    private static final List<String> BASE_VOLTAGES = Arrays.asList("BaseVoltage", "nominalVoltage");
+    private static final List<String> SUBSTATIONS = Arrays.asList("Substation", "name", "SubRegion", "subRegionName",
+            "Region", "regionName");
+    private static final List<String> VOLTAGE_LEVELS = Arrays.asList("VoltageLevel", "Substation", "name", "BaseVoltage",
+            "lowVoltageLimit", "highVoltageLimit", "nominalVoltage");
+    private static final List<String> TERMINALS = Arrays.asList("Terminal", "ConductingEquipment", "conductingEquipmentType",
+            "name", "connected", "SvPowerFlow", "p", "q", "ConnectivityNode", "TopologicalNode");
+    private static final List<String> CONNECTIVITY_NODE_CONTAINERS = Arrays.asList("ConnectivityNodeContainer",
+            "connectivityNodeContainerType", "Substation", "VoltageLevel");
+    private static final List<String> CONNECTIVITY_NODES = Arrays.asList("ConnectivityNode", "ConnectivityNodeContainer",
+            "name", "fromEndIsoCode", "toEndIsoCode", "TopologicalNode", "SvVoltageT", "v", "angle");
+    private static final List<String> TOPOLOGICAL_NODES = Arrays.asList("TopologicalNode", "name", "BaseVoltage",
+            "ConnectivityNodeContainer", "fromEndIsoCode", "toEndIsoCode", "SvVoltageT", "v", "angle");
+    private static final List<String> OPERATIONAL_LIMITS = Arrays.asList("Terminal", "OperationalLimitSet", "Equipment",
+            "EquipmentClass", "OperationalLimit", "OperationalLimitType", "name", "OperationalLimitSubclass", "value",
+            "operationalLimitTypeName", "direction", "limitType", "acceptableDuration");
+    private static final List<String> BUSBAR_SECTIONS = Arrays.asList("BusbarSection", "name", "Terminal");
+    private static final List<String> SWITCHES = Arrays.asList("Switch", "type", "name", "EquipmentContainer",
+            "Terminal1", "Terminal2", "open");
+    private static final List<String> AC_LINE_SEGMENTS = Arrays.asList("ACLineSegment", "r", "x", "bch", "name", "gch",
+            "Terminal1", "sequenceNumber1", "Terminal2", "sequenceNumber2");
+    private static final List<String> EQUIVALENT_BRANCHES = Arrays.asList("EquivalentBranch", "name", "r", "x", "r21",
+            "x21", "Terminal1", "Terminal2");
+    private static final List<String> SERIES_COMPENSATORS = Arrays.asList("SeriesCompensator", "r", "x", "name",
+            "Terminal1", "Terminal2");
+    private static final List<String> TRANSFORMERS = Arrays.asList("PowerTransformer", "name");
+    private static final List<String> TRANSFORMER_ENDS = Arrays.asList("PowerTransformer", "name", "EquipmentContainer",
+            "TransformerEnd", "b", "r", "x", "ratedU", "endNumber", "Terminal", "connectionKind", "phaseAngleClock", "g",
+            "RatioTapChanger", "PhaseTapChanger");
+    private static final List<String> RATIO_TAP_CHANGERS = Arrays.asList("RatioTapChanger", "name", "lowStep", "highStep",
+            "neutralStep", "normalStep", "neutralU", "stepVoltageIncrement", "TransformerEnd", "TapChangerControl",
+            "ltcFlag", "tculControlMode", "RatioTapChangerTable", "tapChangerControlEnabled", "SvTapStep", "SVtapStep");
+    private static final List<String> PHASE_TAP_CHANGERS = Arrays.asList("PhaseTapChanger", "phaseTapChangerType", "name",
+            "lowStep", "highStep", "neutralStep", "normalStep", "neutralU", "TransformerEnd", "transformerWindingRatedU",
+            "windingConnectionAngle", "xMax", "xMin", "voltageStepIncrement", "PhaseTapChangerTable", "ltcFlag",
+            "TapChangerControl", "SVTapStep", "SVtapStep");
+    private static final List<String> REGULATING_CONTROLS = Arrays.asList("RegulatingControl", "mode", "Terminal",
+            "topologicalNode", "enabled", "targetValue", "targetValueUnitMultiplier", "discrete", "targetDeadband");
+    private static final List<String> ENERGY_CONSUMERS = Arrays.asList("EnergyConsumer", "type", "name", "Terminal",
+            "pfixed", "qfixed", "p", "q");
+    private static final List<String> ENERGY_SOURCES = Arrays.asList("EnergySource", "name", "Terminal", "p", "q");
+    private static final List<String> SHUNT_COMPENSATORS = Arrays.asList("ShuntCompensator", "type", "name",
+            "normalSections", "maximumSections", "nomU", "Terminal", "gPerSection", "bPerSection", "RegulatingControl",
+            "SvShuntCompensatorSections", "SVsections", "SSHsections");
+    private static final List<String> NONLINEAR_SHUNT_COMPENSATOR_POINTS = Arrays.asList("NonlinearShuntCompensatorPoint",
+            "Shunt", "sectionNumber", "b", "g");
+    private static final List<String> STATIC_VAR_COMPENSATORS = Arrays.asList("StaticVarCompensator", "name",
+            "capacitiveRating", "inductiveRating", "slope", "controlMode", "voltageSetPoint", "Terminal",
+            "RegulatingControl", "q", "controlEnabled");
+    private static final List<String> SYNCHRONOUS_MACHINES = Arrays.asList("SynchronousMachine", "GeneratingUnit",
+            "ratedS", "generatingUnitType", "minP", "maxP", "initialP", "name", "Terminal", "minQ", "maxQ",
+            "ReactiveCapabilityCurve", "RegulatingControl", "p", "q");
+    private static final List<String> EQUIVALENT_INJECTIONS = Arrays.asList("EquivalentInjection", "name", "Terminal",
+            "minP", "maxP", "minQ", "maxQ", "regulationCapability", "ReactiveCapabilityCurve", "p", "q",
+            "regulationStatus", "regulationTarget");
+    private static final List<String> EXTERNAL_NETWORK_INJECTIONS = Arrays.asList("ExternalNetworkInjection", "name",
+            "minP", "maxP", "Terminal", "minQ", "maxQ", "RegulatingControl", "p", "q");
+    private static final List<String> ASYNCHRONOUS_MACHINES = Arrays.asList("AsynchronousMachine", "name", "Terminal",
+            "type", "p", "q", "controlEnabled");
+    private static final List<String> REACTIVE_CAPABILITY_CURVE_DATA = Arrays.asList("CurveData",
+            "ReactiveCapabilityCurve", "xvalue", "y1value", "y2value");
+    private static final List<String> ACDC_CONVERTERS = Arrays.asList("ACDCConverter", "type", "name", "ratedUdc",
+            "Terminal", "operatingMode", "controlMode", "targetUdc", "targetPpcc", "qPccControl", "pPccControl",
+            "targetQpcc", "targetUpcc");
+    private static final List<String> DC_LINE_SEGMENTS = Arrays.asList("DCLineSegment", "name", "r", "l", "c", "length",
+            "DCTerminal1", "DCTerminal2");
+    private static final List<String> DC_TERMINALS = Arrays.asList("DCTerminal", "DCConductingEquipment",
+            "dcConductingEquipmentType", "connected");
+    private static final List<String> DC_TERMINALS_TP = Arrays.asList("DCTerminal", "DCTopologicalNode",
+            "EquipmentContainer", "Substation");
+
+    private static final Logger LOG = LoggerFactory.getLogger(CgmesModelStreaming.class);
+}
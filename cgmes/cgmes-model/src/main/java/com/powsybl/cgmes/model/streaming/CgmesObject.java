@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.model.streaming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An object of a CGMES instance file, with the values of its properties.
+ * <p>
+ * Properties are kept in two parallel arrays instead of a map to keep the memory footprint low.
+ * Property names are the local names of the property elements, for example <code>ACLineSegment.r</code>.
+ * Values are literals, or the identifiers of referenced objects.
+ *
+ * @author agent <agent at local>
+ */
+final class CgmesObject {
+
+    CgmesObject(String id, String type, String context) {
+        this.id = Objects.requireNonNull(id);
+        this.type = Objects.requireNonNull(type);
+        this.context = Objects.requireNonNull(context);
+        this.names = new String[INITIAL_CAPACITY];
+        this.values = new String[INITIAL_CAPACITY];
+    }
+
+    String id() {
+        return id;
+    }
+
+    String type() {
+        return type;
+    }
+
+    /**
+     * Objects may be described in several files. The file that defines the object gives its type and context.
+     */
+    void define(String type, String context) {
+        this.type = Objects.requireNonNull(type);
+        this.context = Objects.requireNonNull(context);
+    }
+
+    boolean isA(String... types) {
+        for (String t : types) {
+            if (type.equals(t)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    String context() {
+        return context;
+    }
+
+    void put(String name, String value) {
+        if (size == names.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            names = Arrays.copyOf(names, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        names[size] = name;
+        values[size] = value;
+        size++;
+    }
+
+    /**
+     * The first value of a property, <code>null</code> if the object does not have the property.
+     */
+    String get(String name) {
+        for (int k = 0; k < size; k++) {
+            if (names[k].equals(name)) {
+                return values[k];
+            }
+        }
+        return null;
+    }
+
+    boolean has(String name) {
+        return get(name) != null;
+    }
+
+    List<String> getAll(String name) {
+        List<String> all = new ArrayList<>(1);
+        for (int k = 0; k < size; k++) {
+            if (names[k].equals(name)) {
+                all.add(values[k]);
+            }
+        }
+        return all;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String name(int k) {
+        return names[k];
+    }
+
+    String value(int k) {
+        return values[k];
+    }
+
+    void trim() {
+        if (size < names.length) {
+            names = Arrays.copyOf(names, size);
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    private final String id;
+    private String type;
+    private String context;
+    private String[] names;
+    private String[] values;
+    private int size;
+
+    private static final int INITIAL_CAPACITY = 4;
+}
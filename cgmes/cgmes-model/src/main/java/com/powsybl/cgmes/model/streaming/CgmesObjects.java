@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.model.streaming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the objects read from CGMES instance files.
+ * <p>
+ * All the properties are kept only for the classes used by the conversion. For the objects of other classes only
+ * the type is recorded, as some queries need the type of any referenced equipment.
+ *
+ * @author agent <agent at local>
+ */
+final class CgmesObjects {
+
+    CgmesObjects() {
+        objects = new HashMap<>();
+        otherTypes = new HashMap<>();
+        objectsByType = new HashMap<>();
+        referrers = new ConcurrentHashMap<>();
+        interned = new HashMap<>();
+    }
+
+    /**
+     * Get the object described by a node element of an instance file, <code>null</code> if its properties are not
+     * kept.
+     *
+     * @param definition <code>true</code> if the object is defined in this file (rdf:ID),
+     *                   <code>false</code> if it is only described (rdf:about)
+     */
+    CgmesObject describe(String id, String type, String context, boolean definition) {
+        String id1 = intern(id);
+        String type1 = intern(type);
+        if (!KEPT_TYPES.contains(type1)) {
+            if (definition || !otherTypes.containsKey(id1)) {
+                otherTypes.put(id1, type1);
+            }
+            return null;
+        }
+        CgmesObject o = objects.get(id1);
+        if (o == null) {
+            otherTypes.remove(id1);
+            o = new CgmesObject(id1, type1, context);
+            objects.put(id1, o);
+            objectsByType.computeIfAbsent(type1, t -> new ArrayList<>()).add(o);
+        } else if (definition) {
+            if (!o.type().equals(type1)) {
+                objectsByType.get(o.type()).remove(o);
+                objectsByType.computeIfAbsent(type1, t -> new ArrayList<>()).add(o);
+            }
+            o.define(type1, context);
+        }
+        return o;
+    }
+
+    String intern(String s) {
+        String s1 = interned.putIfAbsent(s, s);
+        return s1 != null ? s1 : s;
+    }
+
+    /**
+     * Release the memory used only while reading.
+     */
+    void endOfRead() {
+        interned.clear();
+        objects.values().forEach(CgmesObject::trim);
+        objectsByType.values().forEach(l -> ((ArrayList<CgmesObject>) l).trimToSize());
+    }
+
+    CgmesObject object(String id) {
+        return id == null ? null : objects.get(id);
+    }
+
+    /**
+     * The type of any object found in the instance files.
+     */
+    String type(String id) {
+        if (id == null) {
+            return null;
+        }
+        CgmesObject o = objects.get(id);
+        return o != null ? o.type() : otherTypes.get(id);
+    }
+
+    List<CgmesObject> all(String... types) {
+        if (types.length == 1) {
+            return objectsByType.getOrDefault(types[0], Collections.emptyList());
+        }
+        List<CgmesObject> all = new ArrayList<>();
+        for (String type : types) {
+            all.addAll(objectsByType.getOrDefault(type, Collections.emptyList()));
+        }
+        return all;
+    }
+
+    Set<String> types() {
+        Set<String> types = new HashSet<>(objectsByType.keySet());
+        types.addAll(otherTypes.values());
+        return types;
+    }
+
+    Map<String, Integer> numObjectsByType() {
+        Map<String, Integer> num = new HashMap<>();
+        objectsByType.forEach((type, l) -> num.put(type, l.size()));
+        otherTypes.values().forEach(type -> num.merge(type, 1, Integer::sum));
+        return num;
+    }
+
+    /**
+     * The objects that reference a given object through a property.
+     */
+    List<CgmesObject> referrers(String property, String id) {
+        if (id == null) {
+            return Collections.emptyList();
+        }
+        return referrers.computeIfAbsent(property, this::buildReferrers).getOrDefault(id, Collections.emptyList());
+    }
+
+    private Map<String, List<CgmesObject>> buildReferrers(String property) {
+        Map<String, List<CgmesObject>> r = new HashMap<>();
+        for (CgmesObject o : objects.values()) {
+            String id = o.get(property);
+            if (id != null) {
+                r.computeIfAbsent(id, i -> new ArrayList<>(1)).add(o);
+            }
+        }
+        return r;
+    }
+
+    /**
+     * The identifier of the object referenced by a resource.
+     */
+    static String key(String resource) {
+        return resource.startsWith("#") ? resource.substring(1) : resource;
+    }
+
+    private final Map<String, CgmesObject> objects;
+    private final Map<String, String> otherTypes;
+    private final Map<String, List<CgmesObject>> objectsByType;
+    private final Map<String, Map<String, List<CgmesObject>>> referrers;
+    private final Map<String, String> interned;
+
+    static final String FULL_MODEL = "FullModel";
+
+    private static final Set<String> KEPT_TYPES = new HashSet<>(Arrays.asList(
+            FULL_MODEL,
+            "IEC61970CIMVersion",
+            "BaseVoltage",
+            "GeographicalRegion",
+            "SubGeographicalRegion",
+            "Substation",
+            "VoltageLevel",
+            "Bay",
+            "Line",
+            "Terminal",
+            "ConnectivityNode",
+            "TopologicalNode",
+            "SvPowerFlow",
+            "SvVoltage",
+            "SvTapStep",
+            "SvShuntCompensatorSections",
+            "OperationalLimitSet",
+            "OperationalLimitType",
+            "CurrentLimit",
+            "ApparentPowerLimit",
+            "VoltageLimit",
+            "BusbarSection",
+            "Switch",
+            "Breaker",
+            "Disconnector",
+            "ACLineSegment",
+            "EquivalentBranch",
+            "SeriesCompensator",
+            "PowerTransformer",
+            "PowerTransformerEnd",
+            "RatioTapChanger",
+            "RatioTapChangerTablePoint",
+            "PhaseTapChangerAsymmetrical",
+            "PhaseTapChangerSymmetrical",
+            "PhaseTapChangerLinear",
+            "PhaseTapChangerTabular",
+            "PhaseTapChangerTablePoint",
+            "RegulatingControl",
+            "TapChangerControl",
+            "EnergyConsumer",
+            "ConformLoad",
+            "NonConformLoad",
+            "EnergySource",
+            "LinearShuntCompensator",
+            "NonlinearShuntCompensator",
+            "NonlinearShuntCompensatorPoint",
+            "SynchronousMachine",
+            "GeneratingUnit",
+            "ThermalGeneratingUnit",
+            "HydroGeneratingUnit",
+            "NuclearGeneratingUnit",
+            "WindGeneratingUnit",
+            "SolarGeneratingUnit",
+            "CurveData",
+            "EquivalentInjection",
+            "ExternalNetworkInjection",
+            "StaticVarCompensator",
+            "AsynchronousMachine",
+            "ACDCConverter",
+            "CsConverter",
+            "VsConverter",
+            "DCTerminal",
+            "ACDCConverterDCTerminal",
+            "DCLineSegment",
+            "DCTopologicalNode",
+            "DCConverterUnit"));
+}
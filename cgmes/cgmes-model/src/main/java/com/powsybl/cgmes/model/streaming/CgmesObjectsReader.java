@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.cgmes.model.streaming;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.powsybl.cgmes.model.CgmesModelException;
+
+/**
+ * Reads CGMES instance files (RDF/XML) with a streaming parser, recording the objects in an index.
+ * <p>
+ * Instance files are flat: the children of the root element describe objects and their children are properties,
+ * with a literal value as text or a reference to another object in an <code>rdf:resource</code> attribute.
+ *
+ * @author agent <agent at local>
+ */
+final class CgmesObjectsReader {
+
+    CgmesObjectsReader(String cimNamespace, CgmesObjects objects) {
+        this.cimNamespace = Objects.requireNonNull(cimNamespace);
+        this.objects = Objects.requireNonNull(objects);
+    }
+
+    void read(String contextName, InputStream is) {
+        try {
+            XMLStreamReader xmlsr = XML_INPUT_FACTORY_SUPPLIER.get().createXMLStreamReader(is);
+            try {
+                read(contextName, xmlsr);
+            } finally {
+                xmlsr.close();
+            }
+        } catch (XMLStreamException x) {
+            throw new CgmesModelException(String.format("Reading [%s]", contextName), x);
+        }
+    }
+
+    private void read(String contextName, XMLStreamReader xmlsr) throws XMLStreamException {
+        int depth = 0;
+        CgmesObject object = null;
+        while (xmlsr.hasNext()) {
+            int eventType = xmlsr.next();
+            if (eventType == XMLStreamReader.START_ELEMENT) {
+                depth++;
+                if (depth == OBJECT_DEPTH) {
+                    object = readObject(contextName, xmlsr);
+                } else if (depth == PROPERTY_DEPTH) {
+                    String property = xmlsr.getLocalName();
+                    String resource = xmlsr.getAttributeValue(RDF_NAMESPACE, "resource");
+                    String value;
+                    if (resource != null) {
+                        value = objects.intern(CgmesObjects.key(resource));
+                    } else {
+                        // Reading the text consumes the end of the property element
+                        value = xmlsr.getElementText();
+                        depth--;
+                    }
+                    if (object != null && !IGNORED_PROPERTIES.contains(property)) {
+                        object.put(objects.intern(property), value);
+                    }
+                }
+            } else if (eventType == XMLStreamReader.END_ELEMENT) {
+                if (depth == OBJECT_DEPTH && object != null && object.isA(CgmesObjects.FULL_MODEL) && isIgnored(object)) {
+                    return;
+                }
+                if (depth == OBJECT_DEPTH) {
+                    object = null;
+                }
+                depth--;
+            }
+        }
+    }
+
+    private CgmesObject readObject(String contextName, XMLStreamReader xmlsr) {
+        String type = type(xmlsr.getNamespaceURI(), xmlsr.getLocalName());
+        String id = xmlsr.getAttributeValue(RDF_NAMESPACE, "ID");
+        boolean definition = true;
+        if (id == null) {
+            String about = xmlsr.getAttributeValue(RDF_NAMESPACE, "about");
+            if (about == null) {
+                return null;
+            }
+            // Objects referenced by a fragment are described here but defined in another file
+            definition = !about.startsWith("#");
+            id = CgmesObjects.key(about);
+        }
+        return objects.describe(id, type, contextName, definition);
+    }
+
+    private String type(String namespace, String localName) {
+        if (cimNamespace.equals(namespace)) {
+            return localName;
+        } else if (MD_NAMESPACE.equals(namespace) && CgmesObjects.FULL_MODEL.equals(localName)) {
+            return CgmesObjects.FULL_MODEL;
+        }
+        return namespace + localName;
+    }
+
+    private static boolean isIgnored(CgmesObject fullModel) {
+        // The remaining of a file is not needed if all its profiles are not used by the conversion
+        List<String> profiles = fullModel.getAll(MODEL_PROFILE);
+        return !profiles.isEmpty() && profiles.stream().allMatch(p -> IGNORED_PROFILES.stream().anyMatch(p::contains));
+    }
+
+    private final String cimNamespace;
+    private final CgmesObjects objects;
+
+    static final String MODEL_PROFILE = "Model.profile";
+
+    private static final int OBJECT_DEPTH = 2;
+    private static final int PROPERTY_DEPTH = 3;
+
+    private static final String RDF_NAMESPACE = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final String MD_NAMESPACE = "http://iec.ch/TC57/61970-552/ModelDescription/1#";
+
+    private static final Set<String> IGNORED_PROPERTIES = new HashSet<>(Arrays.asList(
+            "IdentifiedObject.description",
+            "IdentifiedObject.mRID",
+            "IdentifiedObject.shortName",
+            "IdentifiedObject.energyIdentCodeEic",
+            "Model.description"));
+    private static final List<String> IGNORED_PROFILES = Arrays.asList(
+            "/DiagramLayout/",
+            "/GeographicalLocation/",
+            "/Dynamics/");
+
+    private static final Supplier<XMLInputFactory> XML_INPUT_FACTORY_SUPPLIER = Suppliers.memoize(() -> {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    });
+}
@@ -9,8 +9,10 @@ package com.powsybl.cgmes.model.triplestore;
 
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import org.joda.time.DateTime;
@@ -23,6 +25,7 @@ import com.powsybl.cgmes.model.CgmesNames;
 import com.powsybl.cgmes.model.CgmesNamespace;
 import com.powsybl.cgmes.model.Subset;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.triplestore.api.PropertyBag;
 import com.powsybl.triplestore.api.PropertyBags;
 import com.powsybl.triplestore.api.QueryCatalog;
@@ -47,6 +50,10 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         tripleStore.read(base, contextName, is);
     }
 
+    public void read(String base, ReadOnlyDataSource ds, Collection<String> contextNames, Executor executor) {
+        tripleStore.read(base, ds, contextNames, executor);
+    }
+
     @Override
     public void print(PrintStream out) {
         tripleStore.print(out);
@@ -66,6 +73,15 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         }
     }
 
+    @Override
+    public void write(DataSource ds, String contextName) {
+        try {
+            tripleStore.write(ds, contextName);
+        } catch (TripleStoreException x) {
+            throw new CgmesModelException(String.format("Writing %s. Triple store problem %s", contextName, ds), x);
+        }
+    }
+
     // Queries
 
     @Override
@@ -333,6 +349,11 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         return namedQuery("nonlinearShuntCompensatorPoints", scId);
     }
 
+    @Override
+    public PropertyBags nonlinearShuntCompensatorsPoints() {
+        return namedQuery("nonlinearShuntCompensatorsPoints");
+    }
+
     @Override
     public PropertyBags staticVarCompensators() {
         return namedQuery("staticVarCompensators");
@@ -374,6 +395,11 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         return namedQuery("ratioTapChangerTable", tableId);
     }
 
+    @Override
+    public PropertyBags phaseTapChangerTablesPoints() {
+        return namedQuery("phaseTapChangerTablesPoints");
+    }
+
     @Override
     public PropertyBags phaseTapChangerTable(String tableId) {
         Objects.requireNonNull(tableId);
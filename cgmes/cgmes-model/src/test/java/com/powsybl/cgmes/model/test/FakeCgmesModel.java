@@ -393,6 +393,11 @@ public final class FakeCgmesModel implements CgmesModel {
         return null;
     }
 
+    @Override
+    public PropertyBags nonlinearShuntCompensatorsPoints() {
+        return null;
+    }
+
     @Override
     public PropertyBags staticVarCompensators() {
         return staticVarCompensators;
@@ -436,6 +441,12 @@ public final class FakeCgmesModel implements CgmesModel {
         return null;
     }
 
+    @Override
+    public PropertyBags phaseTapChangerTablesPoints() {
+        // FakeCgmesModel does not implement phase tap changer tables
+        return null;
+    }
+
     @Override
     public PropertyBags phaseTapChangerTable(String tableId) {
         // FakeCgmesModel does not implement phase tap changer tables
@@ -477,6 +488,11 @@ public final class FakeCgmesModel implements CgmesModel {
         // FakeCgmesModel, no need to implement write
     }
 
+    @Override
+    public void write(DataSource ds, String contextName) {
+        // FakeCgmesModel, no need to implement write
+    }
+
     @Override
     public void clear(Subset subset) {
         // FakeCgmesModel, no need to implement clear
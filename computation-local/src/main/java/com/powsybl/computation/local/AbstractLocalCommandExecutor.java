@@ -8,40 +8,36 @@ package com.powsybl.computation.local;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public abstract class AbstractLocalCommandExecutor implements LocalCommandExecutor {
 
-    protected final Map<Path, Process> processMap = new HashMap<>();
+    // running processes, per working directory
+    protected final Map<Path, Set<Process>> processMap = new HashMap<>();
     protected final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     protected static final String NON_ZERO_LOG_PATTERN = "Command '{}' has failed (exitValue={})";
 
     @Override
     public void stop(Path workingDir) {
-        Process process = getProcessByWorkingDir(workingDir);
-        if (process != null) {
-            process.destroy(); // kill -15 PID
-        }
+        getProcessesByWorkingDir(workingDir).forEach(Process::destroy); // kill -15 PID
     }
 
     @Override
     public void stopForcibly(Path workingDir) throws InterruptedException {
-        Process process = getProcessByWorkingDir(workingDir);
-        if (process != null) {
+        for (Process process : getProcessesByWorkingDir(workingDir)) {
             Process killProcess = process.destroyForcibly(); // kill -9 PID
             killProcess.waitFor();
         }
     }
 
-    private Process getProcessByWorkingDir(Path workingDir) {
+    private List<Process> getProcessesByWorkingDir(Path workingDir) {
         try {
             lock.readLock().lock();
-            return processMap.get(workingDir);
+            Set<Process> processes = processMap.get(workingDir);
+            return processes != null ? new ArrayList<>(processes) : Collections.emptyList();
         } finally {
             lock.readLock().unlock();
         }
@@ -58,16 +54,29 @@ public abstract class AbstractLocalCommandExecutor implements LocalCommandExecut
 
         try {
             lock.writeLock().lock();
-            processMap.put(workingDir, process);
+            processMap.computeIfAbsent(workingDir, dir -> new HashSet<>()).add(process);
         } finally {
             lock.writeLock().unlock();
         }
 
         int exitCode;
-        if (timeout <= 0) {
-            exitCode = process.waitFor();
-        } else {
-            exitCode = ProcessHelper.runWithTimeout(timeout, process);
+        try {
+            if (timeout <= 0) {
+                exitCode = process.waitFor();
+            } else {
+                exitCode = ProcessHelper.runWithTimeout(timeout, process);
+            }
+        } finally {
+            try {
+                lock.writeLock().lock();
+                Set<Process> processes = processMap.get(workingDir);
+                processes.remove(process);
+                if (processes.isEmpty()) {
+                    processMap.remove(workingDir);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
         }
 
         if (exitCode != 0) {
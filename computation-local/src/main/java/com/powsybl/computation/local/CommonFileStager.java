@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.io.FileUtil;
+import com.powsybl.computation.FilePreProcessor;
+import net.java.truevfs.comp.zip.ZipEntry;
+import net.java.truevfs.comp.zip.ZipFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Stage common files in working directories without copying them.
+ * <p>
+ * A common file is pre-processed (decompressed or extracted) only once per content, the result being cached in a
+ * staging directory under a key made of the content hash of the file and of the pre-processor. Staged files are then
+ * exposed to each working directory by a hard link, or a symbolic link if hard links are not supported, a copy being
+ * only done as a last resort (across file systems for instance). Staged files are made read-only when the file system
+ * allows it, so that a command cannot modify the input of other executions through a link.
+ *
+ * @author agent <agent at local>
+ */
+class CommonFileStager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CommonFileStager.class);
+
+    private static final class ContentHash {
+
+        private final long size;
+
+        private final long lastModifiedTime;
+
+        private final String hash;
+
+        private ContentHash(BasicFileAttributes attr, String hash) {
+            this.size = attr.size();
+            this.lastModifiedTime = attr.lastModifiedTime().toMillis();
+            this.hash = hash;
+        }
+
+        private boolean isUpToDate(BasicFileAttributes attr) {
+            return size == attr.size() && lastModifiedTime == attr.lastModifiedTime().toMillis();
+        }
+    }
+
+    private final Path stagingDir;
+
+    private final Map<Path, ContentHash> hashes = new ConcurrentHashMap<>();
+
+    private final Map<Path, Object> hashLocks = new ConcurrentHashMap<>();
+
+    private final Map<String, Object> stagingLocks = new ConcurrentHashMap<>();
+
+    private volatile boolean hardLinkSupported = true;
+
+    private volatile boolean symbolicLinkSupported = true;
+
+    CommonFileStager(Path stagingDir) {
+        this.stagingDir = Objects.requireNonNull(stagingDir);
+    }
+
+    /**
+     * Stage a common file in a working directory.
+     *
+     * @param commonFile   the common file
+     * @param preProcessor the pre-processor to apply to the common file, null if none
+     * @param workingDir   the working directory
+     * @return the number of bytes exposed by a link instead of being copied or decompressed
+     */
+    long stage(Path commonFile, FilePreProcessor preProcessor, Path workingDir) throws IOException {
+        Objects.requireNonNull(commonFile);
+        Objects.requireNonNull(workingDir);
+        Path stagedDir = getStagedDir(commonFile, preProcessor);
+        List<Path> stagedFiles;
+        try (Stream<Path> stream = Files.walk(stagedDir)) {
+            stagedFiles = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        long bytesSaved = 0;
+        for (Path stagedFile : stagedFiles) {
+            Path target = workingDir.resolve(stagedDir.relativize(stagedFile).toString());
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            bytesSaved += expose(stagedFile, target);
+        }
+        return bytesSaved;
+    }
+
+    private String getContentHash(Path file) throws IOException {
+        synchronized (hashLocks.computeIfAbsent(file, f -> new Object())) {
+            BasicFileAttributes attr = Files.readAttributes(file, BasicFileAttributes.class);
+            ContentHash contentHash = hashes.get(file);
+            if (contentHash == null || !contentHash.isUpToDate(attr)) {
+                Hasher hasher = Hashing.sha256().newHasher();
+                try (InputStream is = Files.newInputStream(file)) {
+                    ByteStreams.copy(is, Funnels.asOutputStream(hasher));
+                }
+                contentHash = new ContentHash(attr, hasher.hash().toString());
+                hashes.put(file, contentHash);
+            }
+            return contentHash.hash;
+        }
+    }
+
+    private Path getStagedDir(Path commonFile, FilePreProcessor preProcessor) throws IOException {
+        String key = getContentHash(commonFile) + "_" + (preProcessor != null ? preProcessor.name() : "NONE");
+        synchronized (stagingLocks.computeIfAbsent(key, k -> new Object())) {
+            Path stagedDir = stagingDir.resolve(key);
+            if (!Files.isDirectory(stagedDir)) {
+                long startTime = System.currentTimeMillis();
+                Path tmpDir = Files.createDirectories(stagingDir.resolve(key + ".tmp"));
+                try {
+                    if (preProcessor == null) {
+                        Files.copy(commonFile, tmpDir.resolve(commonFile.getFileName().toString()), REPLACE_EXISTING);
+                    } else {
+                        preProcess(commonFile, preProcessor, tmpDir);
+                    }
+                    makeReadOnly(tmpDir);
+                    Files.move(tmpDir, stagedDir, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    if (Files.exists(tmpDir)) {
+                        FileUtil.removeDir(tmpDir);
+                    }
+                }
+                LOGGER.debug("Common file {} staged in {} ms", commonFile, System.currentTimeMillis() - startTime);
+            }
+            return stagedDir;
+        }
+    }
+
+    private static void makeReadOnly(Path dir) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(dir)) {
+            files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            PosixFileAttributeView view = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+            if (view != null) {
+                view.setPermissions(PosixFilePermissions.fromString("r--r--r--"));
+            }
+        }
+    }
+
+    /**
+     * Expose a staged file at a target location, by order of preference with a hard link, a symbolic link or a copy.
+     *
+     * @return the size of the staged file if it has been linked, 0 otherwise
+     */
+    private long expose(Path stagedFile, Path target) throws IOException {
+        if (Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+            if (Files.isSameFile(target, stagedFile)) {
+                // already staged by another execution of the same working directory
+                return 0;
+            }
+            Files.delete(target);
+        }
+        try {
+            if (hardLinkSupported) {
+                try {
+                    Files.createLink(target, stagedFile);
+                    return Files.size(stagedFile);
+                } catch (UnsupportedOperationException e) {
+                    hardLinkSupported = false;
+                } catch (FileAlreadyExistsException e) {
+                    throw e;
+                } catch (IOException e) {
+                    // staging and working directories are not on the same file system for instance
+                    LOGGER.trace("Cannot create hard link {}: {}", target, e.toString());
+                }
+            }
+            if (symbolicLinkSupported) {
+                try {
+                    Files.createSymbolicLink(target, stagedFile.toAbsolutePath());
+                    return Files.size(stagedFile);
+                } catch (UnsupportedOperationException e) {
+                    symbolicLinkSupported = false;
+                } catch (FileAlreadyExistsException e) {
+                    throw e;
+                } catch (IOException e) {
+                    LOGGER.trace("Cannot create symbolic link {}: {}", target, e.toString());
+                }
+            }
+            Files.copy(stagedFile, target);
+            return 0;
+        } catch (FileAlreadyExistsException e) {
+            // concurrently staged by another execution of the same working directory
+            if (Files.isSameFile(target, stagedFile)) {
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Apply a pre-processor to a file, the result being written in a target directory.
+     */
+    static void preProcess(Path file, FilePreProcessor preProcessor, Path targetDir) throws IOException {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(preProcessor);
+        Objects.requireNonNull(targetDir);
+        switch (preProcessor) {
+            case FILE_GUNZIP:
+                // gunzip the file
+                String fileName = file.getFileName().toString();
+                try (InputStream is = new GZIPInputStream(Files.newInputStream(file));
+                     OutputStream os = Files.newOutputStream(targetDir.resolve(fileName.substring(0, fileName.length() - 3)))) {
+                    ByteStreams.copy(is, os);
+                }
+                break;
+            case ARCHIVE_UNZIP:
+                // extract the archive
+                try (ZipFile zipFile = new ZipFile(file)) {
+                    for (ZipEntry ze : Collections.list(zipFile.entries())) {
+                        Files.copy(zipFile.getInputStream(ze.getName()), targetDir.resolve(ze.getName()), REPLACE_EXISTING);
+                    }
+                }
+                break;
+
+            default:
+                throw new AssertionError("Unexpected FilePreProcessor value: " + preProcessor);
+        }
+    }
+}
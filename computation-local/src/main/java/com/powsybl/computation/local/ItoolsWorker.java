@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.powsybl.computation.*;
+import com.powsybl.tools.CommandLineTools;
+import com.powsybl.tools.ToolInitializationContext;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A long-lived JVM executing itools commands sent by an {@link ItoolsWorkerPool} through a loopback socket, so that
+ * each command does not pay the JVM startup, the loading of the configuration and of the plugins.
+ * <p>
+ * Commands are executed one at a time. The working directory of the JVM cannot be changed, so commands have to use
+ * absolute paths. The computation managers are created once and shared by all the commands.
+ *
+ * @author agent <agent at local>
+ */
+public final class ItoolsWorker {
+
+    static final int RUN = 1;
+    static final int PING = 2;
+    static final int EXIT = 3;
+
+    /**
+     * Computation manager shared by the commands, closed with the worker only.
+     */
+    private static final class SharedComputationManager implements ComputationManager {
+
+        private final ComputationManager delegate;
+
+        private SharedComputationManager(ComputationManager delegate) {
+            this.delegate = Objects.requireNonNull(delegate);
+        }
+
+        @Override
+        public String getVersion() {
+            return delegate.getVersion();
+        }
+
+        @Override
+        public OutputStream newCommonFile(String fileName) throws IOException {
+            return delegate.newCommonFile(fileName);
+        }
+
+        @Override
+        public <R> CompletableFuture<R> execute(ExecutionEnvironment environment, ExecutionHandler<R> handler) {
+            return delegate.execute(environment, handler);
+        }
+
+        @Override
+        public <R> CompletableFuture<R> execute(ExecutionEnvironment environment, ExecutionHandler<R> handler, ComputationParameters parameters) {
+            return delegate.execute(environment, handler, parameters);
+        }
+
+        @Override
+        public ComputationResourcesStatus getResourcesStatus() {
+            return delegate.getResourcesStatus();
+        }
+
+        @Override
+        public Executor getExecutor() {
+            return delegate.getExecutor();
+        }
+
+        @Override
+        public Path getLocalDir() {
+            return delegate.getLocalDir();
+        }
+
+        @Override
+        public void close() {
+            // closed with the worker
+        }
+    }
+
+    private final CommandLineTools tools;
+
+    private final ComputationManager shortTimeExecutionComputationManager;
+
+    private final ComputationManager longTimeExecutionComputationManager;
+
+    ItoolsWorker(CommandLineTools tools, ComputationManager shortTimeExecutionComputationManager,
+                 ComputationManager longTimeExecutionComputationManager) {
+        this.tools = Objects.requireNonNull(tools);
+        this.shortTimeExecutionComputationManager = new SharedComputationManager(shortTimeExecutionComputationManager);
+        this.longTimeExecutionComputationManager = new SharedComputationManager(longTimeExecutionComputationManager);
+    }
+
+    /**
+     * Connect to the pool and execute its requests until it asks to exit or closes the connection.
+     */
+    void run(int port, String token) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream is = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream os = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            os.writeUTF(token);
+            os.flush();
+            while (true) {
+                int request = is.read();
+                switch (request) {
+                    case -1:
+                    case EXIT:
+                        return;
+
+                    case PING:
+                        os.writeInt(0);
+                        os.flush();
+                        break;
+
+                    case RUN:
+                        Path outFile = FileSystems.getDefault().getPath(is.readUTF());
+                        Path errFile = FileSystems.getDefault().getPath(is.readUTF());
+                        String[] args = new String[is.readInt()];
+                        for (int i = 0; i < args.length; i++) {
+                            args[i] = is.readUTF();
+                        }
+                        os.writeInt(runTool(args, outFile, errFile));
+                        os.flush();
+                        break;
+
+                    default:
+                        throw new IllegalStateException("Unexpected request " + request);
+                }
+            }
+        }
+    }
+
+    private int runTool(String[] args, Path outFile, Path errFile) throws IOException {
+        PrintStream systemOut = System.out;
+        PrintStream systemErr = System.err;
+        try (PrintStream out = new PrintStream(Files.newOutputStream(outFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND), true, StandardCharsets.UTF_8.name());
+             PrintStream err = new PrintStream(Files.newOutputStream(errFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND), true, StandardCharsets.UTF_8.name())) {
+            // also catch what is directly written to the standard streams
+            System.setOut(out);
+            System.setErr(err);
+            try {
+                return tools.run(args, new ToolInitializationContext() {
+                    @Override
+                    public PrintStream getOutputStream() {
+                        return out;
+                    }
+
+                    @Override
+                    public PrintStream getErrorStream() {
+                        return err;
+                    }
+
+                    @Override
+                    public FileSystem getFileSystem() {
+                        return FileSystems.getDefault();
+                    }
+
+                    @Override
+                    public Options getAdditionalOptions() {
+                        return new Options();
+                    }
+
+                    @Override
+                    public ComputationManager createShortTimeExecutionComputationManager(CommandLine commandLine) {
+                        return shortTimeExecutionComputationManager;
+                    }
+
+                    @Override
+                    public ComputationManager createLongTimeExecutionComputationManager(CommandLine commandLine) {
+                        return longTimeExecutionComputationManager;
+                    }
+                });
+            } finally {
+                System.setOut(systemOut);
+                System.setErr(systemErr);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: ItoolsWorker PORT TOKEN");
+        }
+        DefaultComputationManagerConfig config = DefaultComputationManagerConfig.load();
+        try (ComputationManager shortTimeExecutionComputationManager = config.createShortTimeExecutionComputationManager();
+             ComputationManager longTimeExecutionComputationManager = config.createLongTimeExecutionComputationManager()) {
+            new ItoolsWorker(new CommandLineTools(), shortTimeExecutionComputationManager, longTimeExecutionComputationManager)
+                    .run(Integer.parseInt(args[0]), args[1]);
+        }
+        // do not wait for non daemon threads started by the commands
+        System.exit(0);
+    }
+}
@@ -0,0 +1,420 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of long-lived JVMs executing itools commands, see {@link ItoolsWorker}.
+ * <p>
+ * Workers connect back to the pool through a loopback socket and are authenticated by a token. An idle worker is
+ * checked before being reused, and a worker is replaced when it dies, when a command times out or after
+ * {@link ItoolsWorkerPoolConfig#getMaxTasksPerWorker()} commands. Workers are started in the background when the pool
+ * is created and when a worker is retired, so that commands do not pay the JVM startup.
+ *
+ * @author agent <agent at local>
+ */
+class ItoolsWorkerPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItoolsWorkerPool.class);
+
+    /**
+     * Exit code of a command that has timed out, same as for an external process.
+     */
+    static final int TIMEOUT_EXIT_CODE = 124;
+
+    /**
+     * Exit code of a command whose worker has died or has been stopped.
+     */
+    static final int LOST_WORKER_EXIT_CODE = 255;
+
+    private static final int PING_TIMEOUT = 5000; // 5 seconds
+
+    interface WorkerProcess {
+
+        boolean isAlive();
+
+        void destroy();
+    }
+
+    interface WorkerLauncher {
+
+        /**
+         * Start a worker which has to connect to the given loopback port and then send the given token.
+         */
+        WorkerProcess launch(int port, String token) throws IOException;
+    }
+
+    /**
+     * Launch workers as new JVMs with the class path of the current one.
+     */
+    static class ProcessWorkerLauncher implements WorkerLauncher {
+
+        private final ItoolsWorkerPoolConfig config;
+
+        ProcessWorkerLauncher(ItoolsWorkerPoolConfig config) {
+            this.config = Objects.requireNonNull(config);
+        }
+
+        @Override
+        public WorkerProcess launch(int port, String token) throws IOException {
+            List<String> cmdLs = new ArrayList<>();
+            cmdLs.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            cmdLs.addAll(config.getJvmOptions());
+            cmdLs.add("-D" + ItoolsWorkerPoolConfig.WORKER_PROPERTY + "=true");
+            if (config.getNetworkCacheSize() > 0) {
+                cmdLs.add("-D" + ItoolsWorkerPoolConfig.NETWORK_CACHE_SIZE_PROPERTY + "=" + config.getNetworkCacheSize());
+            }
+            cmdLs.add("-cp");
+            cmdLs.add(System.getProperty("java.class.path"));
+            cmdLs.add(ItoolsWorker.class.getName());
+            cmdLs.add(Integer.toString(port));
+            cmdLs.add(token);
+            Process process = new ProcessBuilder(cmdLs)
+                    .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            return new WorkerProcess() {
+                @Override
+                public boolean isAlive() {
+                    return process.isAlive();
+                }
+
+                @Override
+                public void destroy() {
+                    process.destroyForcibly();
+                }
+            };
+        }
+    }
+
+    private static final class Worker {
+
+        private final int num;
+
+        private final WorkerProcess process;
+
+        private final Socket socket;
+
+        private final DataInputStream is;
+
+        private final DataOutputStream os;
+
+        private int taskCount = 0;
+
+        // set when the worker is killed by a stop, so that a result sent before the socket is closed is ignored
+        private volatile boolean stopped = false;
+
+        private Worker(int num, WorkerProcess process, Socket socket) throws IOException {
+            this.num = num;
+            this.process = process;
+            this.socket = socket;
+            is = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            os = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        private boolean ping() {
+            if (!process.isAlive()) {
+                return false;
+            }
+            try {
+                socket.setSoTimeout(PING_TIMEOUT);
+                os.write(ItoolsWorker.PING);
+                os.flush();
+                return is.readInt() == 0;
+            } catch (IOException e) {
+                LOGGER.warn("Itools worker {} does not respond: {}", num, e.toString());
+                return false;
+            }
+        }
+
+        private void close(boolean graceful) {
+            if (graceful) {
+                try {
+                    os.write(ItoolsWorker.EXIT);
+                    os.flush();
+                } catch (IOException e) {
+                    LOGGER.debug(e.toString(), e);
+                }
+            }
+            try {
+                socket.close();
+            } catch (IOException e) {
+                LOGGER.debug(e.toString(), e);
+            }
+            if (!graceful) {
+                process.destroy();
+            }
+        }
+    }
+
+    private final ItoolsWorkerPoolConfig config;
+
+    private final WorkerLauncher launcher;
+
+    private final ServerSocket serverSocket;
+
+    private final String token = UUID.randomUUID().toString();
+
+    private final AtomicInteger workerNum = new AtomicInteger();
+
+    private final ExecutorService launcherExecutor;
+
+    // guarded by this
+    private final Deque<Worker> idleWorkers = new ArrayDeque<>();
+
+    // number of workers either idle, busy or being launched, guarded by this
+    private int workerCount = 0;
+
+    // guarded by this
+    private boolean closed = false;
+
+    // busy workers, per working directory
+    private final Map<Path, Set<Worker>> busyWorkers = new ConcurrentHashMap<>();
+
+    ItoolsWorkerPool(ItoolsWorkerPoolConfig config) throws IOException {
+        this(config, new ProcessWorkerLauncher(config));
+    }
+
+    ItoolsWorkerPool(ItoolsWorkerPoolConfig config, WorkerLauncher launcher) throws IOException {
+        this.config = Objects.requireNonNull(config);
+        this.launcher = Objects.requireNonNull(launcher);
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        launcherExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("itools-worker-launcher")
+                .setDaemon(true)
+                .build());
+        for (int i = 0; i < config.getWorkerCount(); i++) {
+            prestartWorker();
+        }
+    }
+
+    private void prestartWorker() {
+        try {
+            launcherExecutor.execute(this::startWorker);
+        } catch (RejectedExecutionException e) {
+            // the pool is closed
+            LOGGER.trace(e.toString(), e);
+        }
+    }
+
+    private void startWorker() {
+        synchronized (this) {
+            if (closed || workerCount >= config.getWorkerCount()) {
+                return;
+            }
+            workerCount++;
+        }
+        try {
+            release(launchWorker());
+        } catch (IOException e) {
+            LOGGER.error("Failed to start an itools worker: {}", e.toString());
+            workerLost();
+        }
+    }
+
+    /**
+     * Start a worker and wait for it to connect. Connections are accepted one at a time, so that a connection is not
+     * stolen by another launch.
+     */
+    private Worker launchWorker() throws IOException {
+        synchronized (serverSocket) {
+            int num = workerNum.incrementAndGet();
+            String workerToken = token + "-" + num;
+            WorkerProcess process = launcher.launch(serverSocket.getLocalPort(), workerToken);
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(config.getStartupTimeout());
+            try {
+                while (true) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        throw new SocketTimeoutException("Itools worker " + num + " has not connected after "
+                                + config.getStartupTimeout() + " s");
+                    }
+                    serverSocket.setSoTimeout((int) remaining);
+                    Socket socket = serverSocket.accept();
+                    try {
+                        socket.setSoTimeout((int) remaining);
+                        socket.setTcpNoDelay(true);
+                        if (workerToken.equals(new DataInputStream(socket.getInputStream()).readUTF())) {
+                            LOGGER.debug("Itools worker {} started", num);
+                            return new Worker(num, process, socket);
+                        }
+                        // a late connection of a worker which has failed to start in time
+                        LOGGER.warn("Unexpected connection to itools worker pool");
+                        socket.close();
+                    } catch (IOException e) {
+                        socket.close();
+                        throw e;
+                    }
+                }
+            } catch (IOException e) {
+                process.destroy();
+                throw e;
+            }
+        }
+    }
+
+    private Worker borrow() throws IOException, InterruptedException {
+        while (true) {
+            Worker worker;
+            synchronized (this) {
+                while (true) {
+                    if (closed) {
+                        throw new IllegalStateException("Itools worker pool is closed");
+                    }
+                    worker = idleWorkers.pollFirst();
+                    if (worker != null) {
+                        break;
+                    }
+                    if (workerCount < config.getWorkerCount()) {
+                        workerCount++;
+                        break;
+                    }
+                    wait();
+                }
+            }
+            if (worker == null) {
+                try {
+                    return launchWorker();
+                } catch (IOException e) {
+                    workerLost();
+                    throw e;
+                }
+            }
+            if (worker.ping()) {
+                return worker;
+            }
+            retire(worker, false);
+        }
+    }
+
+    private void release(Worker worker) {
+        synchronized (this) {
+            if (!closed) {
+                idleWorkers.addFirst(worker);
+                notifyAll();
+                return;
+            }
+        }
+        retire(worker, true);
+    }
+
+    private void workerLost() {
+        synchronized (this) {
+            workerCount--;
+            notifyAll();
+        }
+    }
+
+    private void retire(Worker worker, boolean graceful) {
+        LOGGER.debug("Retire itools worker {} after {} tasks", worker.num, worker.taskCount);
+        worker.close(graceful);
+        workerLost();
+        prestartWorker();
+    }
+
+    /**
+     * Execute an itools command on a worker. Command arguments have to use absolute paths.
+     *
+     * @return the exit code of the command, {@link #TIMEOUT_EXIT_CODE} if it has timed out or
+     * {@link #LOST_WORKER_EXIT_CODE} if the worker has died or has been stopped.
+     */
+    int execute(List<String> args, Path workingDir, Path outFile, Path errFile, long timeoutSeconds) throws IOException, InterruptedException {
+        Objects.requireNonNull(args);
+        Objects.requireNonNull(workingDir);
+        Worker worker = borrow();
+        busyWorkers.computeIfAbsent(workingDir, dir -> ConcurrentHashMap.newKeySet()).add(worker);
+        boolean completed = false;
+        try {
+            worker.socket.setSoTimeout(timeoutSeconds > 0 ? (int) Math.min(TimeUnit.SECONDS.toMillis(timeoutSeconds), Integer.MAX_VALUE) : 0);
+            worker.os.write(ItoolsWorker.RUN);
+            worker.os.writeUTF(outFile.toAbsolutePath().toString());
+            worker.os.writeUTF(errFile.toAbsolutePath().toString());
+            worker.os.writeInt(args.size());
+            for (String arg : args) {
+                worker.os.writeUTF(arg);
+            }
+            worker.os.flush();
+            int exitCode = worker.is.readInt();
+            if (worker.stopped) {
+                LOGGER.warn("Itools worker {} stopped while executing command {}", worker.num, args);
+                return LOST_WORKER_EXIT_CODE;
+            }
+            worker.taskCount++;
+            completed = true;
+            return exitCode;
+        } catch (SocketTimeoutException e) {
+            LOGGER.warn("Itools command {} has timed out on worker {}", args, worker.num);
+            return TIMEOUT_EXIT_CODE;
+        } catch (IOException e) {
+            LOGGER.warn("Itools worker {} lost while executing command {}: {}", worker.num, args, e.toString());
+            return LOST_WORKER_EXIT_CODE;
+        } finally {
+            busyWorkers.computeIfPresent(workingDir, (dir, workers) -> {
+                workers.remove(worker);
+                return workers.isEmpty() ? null : workers;
+            });
+            if (completed && worker.taskCount < config.getMaxTasksPerWorker()) {
+                release(worker);
+            } else {
+                retire(worker, completed);
+            }
+        }
+    }
+
+    /**
+     * Kill the workers executing a command in a working directory, they will be replaced by new ones.
+     */
+    void stop(Path workingDir) {
+        if (workingDir == null) {
+            return;
+        }
+        Set<Worker> workers = busyWorkers.get(workingDir);
+        if (workers != null) {
+            workers.forEach(worker -> {
+                worker.stopped = true;
+                worker.close(false);
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        List<Worker> workers;
+        synchronized (this) {
+            closed = true;
+            workers = new ArrayList<>(idleWorkers);
+            idleWorkers.clear();
+            notifyAll();
+        }
+        launcherExecutor.shutdownNow();
+        workers.forEach(worker -> worker.close(true));
+        busyWorkers.values().forEach(busy -> busy.forEach(worker -> worker.close(false)));
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Execute itools commands on an {@link ItoolsWorkerPool}, the other programs being executed by a delegate executor.
+ * <p>
+ * Workers cannot apply environment variables, so itools commands with environment variables are executed by the
+ * delegate executor. The working directory of a worker is not the working directory of the command: itools commands
+ * executed on the pool must only use absolute paths, only the standard output and error files are resolved in the
+ * working directory.
+ *
+ * @author agent <agent at local>
+ */
+class ItoolsWorkerPoolCommandExecutor implements LocalCommandExecutor, AutoCloseable {
+
+    private final ItoolsWorkerPool pool;
+
+    private final LocalCommandExecutor delegate;
+
+    ItoolsWorkerPoolCommandExecutor(ItoolsWorkerPool pool, LocalCommandExecutor delegate) {
+        this.pool = Objects.requireNonNull(pool);
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    static boolean isItools(String program) {
+        String fileName = program.substring(Math.max(program.lastIndexOf('/'), program.lastIndexOf('\\')) + 1);
+        return "itools".equals(fileName) || "itools.bat".equals(fileName);
+    }
+
+    @Override
+    public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws IOException, InterruptedException {
+        return execute(program, -1, args, outFile, errFile, workingDir, env);
+    }
+
+    @Override
+    public int execute(String program, long timeoutSecondes, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws IOException, InterruptedException {
+        if (isItools(program) && env.isEmpty()) {
+            return pool.execute(args, workingDir, outFile, errFile, timeoutSecondes);
+        }
+        return delegate.execute(program, timeoutSecondes, args, outFile, errFile, workingDir, env);
+    }
+
+    @Override
+    public void stop(Path workingDir) {
+        pool.stop(workingDir);
+        delegate.stop(workingDir);
+    }
+
+    @Override
+    public void stopForcibly(Path workingDir) throws InterruptedException {
+        pool.stop(workingDir);
+        delegate.stopForcibly(workingDir);
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.powsybl.commons.config.ConfigurationException;
+import com.powsybl.commons.config.ModuleConfig;
+import com.powsybl.commons.config.PlatformConfig;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Configuration of the pool of warm JVMs executing itools commands, see {@link ItoolsWorkerPool}.
+ * <p>
+ * Once a pool is configured, all the itools commands without environment variables are executed on the pool, their
+ * arguments must only contain absolute paths.
+ *
+ * @author agent <agent at local>
+ */
+public class ItoolsWorkerPoolConfig {
+
+    private static final String CONFIG_MODULE_NAME = "itools-worker-pool";
+
+    /**
+     * System property set on worker JVMs, so that they do not start a pool themselves.
+     */
+    static final String WORKER_PROPERTY = "powsybl.itools-worker";
+
+    /**
+     * System property set on worker JVMs to enable the cache of imported networks.
+     */
+    static final String NETWORK_CACHE_SIZE_PROPERTY = "powsybl.import.network-cache-size";
+
+    private static final int DEFAULT_MAX_TASKS_PER_WORKER = 100;
+
+    private static final int DEFAULT_NETWORK_CACHE_SIZE = 0;
+
+    private static final long DEFAULT_STARTUP_TIMEOUT = 60;
+
+    private final int workerCount;
+
+    private final int maxTasksPerWorker;
+
+    private final List<String> jvmOptions;
+
+    private final int networkCacheSize;
+
+    private final long startupTimeout;
+
+    /**
+     * Load the configuration of the pool, if the pool is enabled.
+     */
+    public static Optional<ItoolsWorkerPoolConfig> load(PlatformConfig platformConfig) {
+        Objects.requireNonNull(platformConfig);
+        if (Boolean.getBoolean(WORKER_PROPERTY)) {
+            return Optional.empty();
+        }
+        return platformConfig.getOptionalModuleConfig(CONFIG_MODULE_NAME)
+                .map(ItoolsWorkerPoolConfig::load)
+                .filter(config -> config.getWorkerCount() > 0);
+    }
+
+    private static ItoolsWorkerPoolConfig load(ModuleConfig config) {
+        return new ItoolsWorkerPoolConfig(config.getIntProperty("worker-count", 0),
+                                          config.getIntProperty("max-tasks-per-worker", DEFAULT_MAX_TASKS_PER_WORKER),
+                                          config.getStringListProperty("jvm-options", Collections.emptyList()),
+                                          config.getIntProperty("network-cache-size", DEFAULT_NETWORK_CACHE_SIZE),
+                                          config.getLongProperty("startup-timeout", DEFAULT_STARTUP_TIMEOUT));
+    }
+
+    public ItoolsWorkerPoolConfig(int workerCount) {
+        this(workerCount, DEFAULT_MAX_TASKS_PER_WORKER, Collections.emptyList(), DEFAULT_NETWORK_CACHE_SIZE, DEFAULT_STARTUP_TIMEOUT);
+    }
+
+    public ItoolsWorkerPoolConfig(int workerCount, int maxTasksPerWorker, List<String> jvmOptions, int networkCacheSize,
+                                  long startupTimeout) {
+        if (workerCount < 0) {
+            throw new ConfigurationException("Invalid itools worker count: " + workerCount);
+        }
+        if (maxTasksPerWorker <= 0) {
+            throw new ConfigurationException("Invalid max number of tasks per itools worker: " + maxTasksPerWorker);
+        }
+        if (networkCacheSize < 0) {
+            throw new ConfigurationException("Invalid network cache size: " + networkCacheSize);
+        }
+        if (startupTimeout <= 0) {
+            throw new ConfigurationException("Invalid itools worker startup timeout: " + startupTimeout);
+        }
+        this.workerCount = workerCount;
+        this.maxTasksPerWorker = maxTasksPerWorker;
+        this.jvmOptions = Objects.requireNonNull(jvmOptions);
+        this.networkCacheSize = networkCacheSize;
+        this.startupTimeout = startupTimeout;
+    }
+
+    /**
+     * Number of worker JVMs kept alive.
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * A worker JVM is replaced by a new one after having executed this number of tasks, to bound the effect of
+     * memory leaks or of a polluted static state.
+     */
+    public int getMaxTasksPerWorker() {
+        return maxTasksPerWorker;
+    }
+
+    /**
+     * Options of the worker JVMs, like the max heap size.
+     */
+    public List<String> getJvmOptions() {
+        return jvmOptions;
+    }
+
+    /**
+     * Number of imported networks cached by each worker JVM, 0 (the default) to disable the cache.
+     * <p>
+     * A cached network is given as is to the next commands importing the same case, only its variants are reset.
+     * It is only safe for commands which do not change the network outside of variants (topology, extensions,
+     * identifiers...) and which do not work on the same case concurrently in a worker.
+     */
+    public int getNetworkCacheSize() {
+        return networkCacheSize;
+    }
+
+    /**
+     * Max time in seconds for a worker JVM to start.
+     */
+    public long getStartupTimeout() {
+        return startupTimeout;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [workerCount=" + workerCount +
+                ", maxTasksPerWorker=" + maxTasksPerWorker +
+                ", jvmOptions=" + jvmOptions +
+                ", networkCacheSize=" + networkCacheSize +
+                ", startupTimeout=" + startupTimeout +
+                "]";
+    }
+}
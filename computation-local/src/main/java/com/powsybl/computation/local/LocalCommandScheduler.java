@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Schedule command executions on the local cores.
+ * <p>
+ * Pending executions are served by priority (lower value first, like the MPI scheduler). Among executions of the same
+ * priority, the submitter with the fewest running executions is served first, so that a small computation is not
+ * starved by a huge one submitted before. Some cores may be reserved to latency sensitive executions, that is
+ * executions with a priority lower or equal to a configured value.
+ *
+ * @author agent <agent at local>
+ */
+class LocalCommandScheduler {
+
+    private static final class Task {
+
+        private final Object submitter;
+
+        private final Runnable runnable;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private final long queueTime = System.currentTimeMillis();
+
+        private Task(Object submitter, Runnable runnable) {
+            this.submitter = submitter;
+            this.runnable = runnable;
+        }
+    }
+
+    private final int coreCount;
+
+    private final int reservedCoreCount;
+
+    private final int reservedCorePriority;
+
+    private final Executor executor;
+
+    private final LocalComputationResourcesStatus status;
+
+    private final Lock lock = new ReentrantLock();
+
+    // pending tasks by priority then by submitter
+    private final TreeMap<Integer, Map<Object, Deque<Task>>> pendingTasks = new TreeMap<>();
+
+    private final Map<Object, Integer> busyCoresPerSubmitter = new HashMap<>();
+
+    private int pendingTaskCount = 0;
+
+    private int busyCores = 0;
+
+    LocalCommandScheduler(int coreCount, int reservedCoreCount, int reservedCorePriority, Executor executor,
+                          LocalComputationResourcesStatus status) {
+        this.coreCount = coreCount;
+        this.reservedCoreCount = reservedCoreCount;
+        this.reservedCorePriority = reservedCorePriority;
+        this.executor = Objects.requireNonNull(executor);
+        this.status = Objects.requireNonNull(status);
+    }
+
+    /**
+     * Submit a task that will run on one core.
+     *
+     * @param priority  priority of the task, lower value first
+     * @param submitter the submitter of the task, used for fair share between submitters
+     * @param runnable  the task
+     * @return a future completed when the task is done, cancelling it before the task starts prevents it from running
+     */
+    CompletableFuture<Void> submit(int priority, Object submitter, Runnable runnable) {
+        Objects.requireNonNull(submitter);
+        Objects.requireNonNull(runnable);
+        Task task = new Task(submitter, runnable);
+        lock.lock();
+        try {
+            pendingTasks.computeIfAbsent(priority, p -> new LinkedHashMap<>())
+                    .computeIfAbsent(submitter, s -> new ArrayDeque<>())
+                    .add(task);
+            pendingTaskCount++;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+        return task.future;
+    }
+
+    private boolean isLatencySensitive(int priority) {
+        return priority <= reservedCorePriority;
+    }
+
+    private Task nextTask() {
+        Iterator<Map.Entry<Integer, Map<Object, Deque<Task>>>> it = pendingTasks.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Map<Object, Deque<Task>>> e = it.next();
+            if (!isLatencySensitive(e.getKey()) && busyCores >= coreCount - reservedCoreCount) {
+                // next priorities are not latency sensitive either
+                return null;
+            }
+            Map<Object, Deque<Task>> tasksBySubmitter = e.getValue();
+
+            // fair share: submitter with the fewest busy cores, first one in case of tie
+            Object submitter = null;
+            int minBusyCores = Integer.MAX_VALUE;
+            for (Object s : tasksBySubmitter.keySet()) {
+                int submitterBusyCores = busyCoresPerSubmitter.getOrDefault(s, 0);
+                if (submitterBusyCores < minBusyCores) {
+                    submitter = s;
+                    minBusyCores = submitterBusyCores;
+                }
+            }
+
+            Deque<Task> tasks = tasksBySubmitter.get(submitter);
+            Task task = tasks.poll();
+            if (tasks.isEmpty()) {
+                tasksBySubmitter.remove(submitter);
+                if (tasksBySubmitter.isEmpty()) {
+                    it.remove();
+                }
+            }
+            return task;
+        }
+        return null;
+    }
+
+    private void dispatch() {
+        while (busyCores < coreCount) {
+            Task task = nextTask();
+            if (task == null) {
+                break;
+            }
+            pendingTaskCount--;
+            if (task.future.isCancelled()) {
+                continue;
+            }
+            busyCores++;
+            busyCoresPerSubmitter.merge(task.submitter, 1, Integer::sum);
+            status.incrementNumberOfBusyCores();
+            status.addWaitingTime(System.currentTimeMillis() - task.queueTime);
+            try {
+                executor.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                // executor has been shutdown
+                releaseCore(task);
+                task.future.completeExceptionally(e);
+            }
+        }
+        status.setQueueDepth(pendingTaskCount);
+    }
+
+    private void run(Task task) {
+        try {
+            task.runnable.run();
+            task.future.complete(null);
+        } catch (Throwable t) {
+            task.future.completeExceptionally(t);
+        } finally {
+            lock.lock();
+            try {
+                releaseCore(task);
+                dispatch();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void releaseCore(Task task) {
+        busyCores--;
+        busyCoresPerSubmitter.computeIfPresent(task.submitter, (s, n) -> n > 1 ? n - 1 : null);
+        status.decrementNumberOfBusyCores();
+    }
+}
@@ -30,10 +30,20 @@ public class LocalComputationConfig {
 
     private static final int DEFAULT_AVAILABLE_CORE = 1;
 
+    private static final int DEFAULT_RESERVED_CORE = 0;
+
+    private static final int DEFAULT_RESERVED_CORE_PRIORITY = 0;
+
     private final Path localDir;
 
     private final int availableCore;
 
+    private final int reservedCore;
+
+    private final int reservedCorePriority;
+
+    private final ItoolsWorkerPoolConfig itoolsWorkerPoolConfig;
+
     public static LocalComputationConfig load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -65,6 +75,8 @@ public class LocalComputationConfig {
 
         Path localDir = getDefaultLocalDir(fileSystem);
         int availableCore = DEFAULT_AVAILABLE_CORE;
+        int reservedCore = DEFAULT_RESERVED_CORE;
+        int reservedCorePriority = DEFAULT_RESERVED_CORE_PRIORITY;
         if (platformConfig.moduleExists(CONFIG_MODULE_NAME)) {
             ModuleConfig config = platformConfig.getModuleConfig(CONFIG_MODULE_NAME);
             localDir = getTmpDir(config, "tmp-dir")
@@ -73,11 +85,14 @@ public class LocalComputationConfig {
             availableCore = config.getOptionalIntProperty("available-core")
                                   .orElseGet(() -> config.getOptionalIntProperty("availableCore")
                                                          .orElse(DEFAULT_AVAILABLE_CORE));
+            reservedCore = config.getIntProperty("reserved-core", DEFAULT_RESERVED_CORE);
+            reservedCorePriority = config.getIntProperty("reserved-core-priority", DEFAULT_RESERVED_CORE_PRIORITY);
         }
         if (availableCore <= 0) {
             availableCore = Runtime.getRuntime().availableProcessors();
         }
-        return new LocalComputationConfig(localDir, availableCore);
+        return new LocalComputationConfig(localDir, availableCore, reservedCore, reservedCorePriority,
+                                          ItoolsWorkerPoolConfig.load(platformConfig).orElse(null));
     }
 
     public LocalComputationConfig(Path localDir) {
@@ -85,8 +100,24 @@ public class LocalComputationConfig {
     }
 
     public LocalComputationConfig(Path localDir, int availableCore) {
+        this(localDir, availableCore, DEFAULT_RESERVED_CORE, DEFAULT_RESERVED_CORE_PRIORITY);
+    }
+
+    public LocalComputationConfig(Path localDir, int availableCore, int reservedCore, int reservedCorePriority) {
+        this(localDir, availableCore, reservedCore, reservedCorePriority, null);
+    }
+
+    public LocalComputationConfig(Path localDir, int availableCore, int reservedCore, int reservedCorePriority,
+                                  ItoolsWorkerPoolConfig itoolsWorkerPoolConfig) {
+        if (reservedCore < 0 || (reservedCore > 0 && reservedCore >= availableCore)) {
+            throw new ConfigurationException("Reserved core count (" + reservedCore + ") has to be positive and lower than available core count ("
+                    + availableCore + ")");
+        }
         this.localDir = localDir;
         this.availableCore = availableCore;
+        this.reservedCore = reservedCore;
+        this.reservedCorePriority = reservedCorePriority;
+        this.itoolsWorkerPoolConfig = itoolsWorkerPoolConfig;
     }
 
     public Path getLocalDir() {
@@ -97,10 +128,35 @@ public class LocalComputationConfig {
         return availableCore;
     }
 
+    /**
+     * Number of cores that can only be used by latency sensitive executions, see {@link #getReservedCorePriority()}.
+     */
+    public int getReservedCore() {
+        return reservedCore;
+    }
+
+    /**
+     * Executions with a priority lower or equal to this value (so with a higher priority) are latency sensitive and
+     * can use reserved cores.
+     */
+    public int getReservedCorePriority() {
+        return reservedCorePriority;
+    }
+
+    /**
+     * Configuration of the pool of warm JVMs executing itools commands, if enabled.
+     */
+    public Optional<ItoolsWorkerPoolConfig> getItoolsWorkerPoolConfig() {
+        return Optional.ofNullable(itoolsWorkerPoolConfig);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [localDir=" + localDir +
                 ", availableCore=" + availableCore +
+                ", reservedCore=" + reservedCore +
+                ", reservedCorePriority=" + reservedCorePriority +
+                ", itoolsWorkerPoolConfig=" + itoolsWorkerPoolConfig +
                 "]";
     }
 }
@@ -7,12 +7,12 @@
 package com.powsybl.computation.local;
 
 import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.io.WorkingDirectory;
 import com.powsybl.computation.*;
-import net.java.truevfs.comp.zip.ZipEntry;
-import net.java.truevfs.comp.zip.ZipFile;
 import org.apache.commons.lang3.SystemUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,14 +25,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.IntStream;
-import java.util.zip.GZIPInputStream;
+import java.util.function.BooleanSupplier;
 import java.util.zip.GZIPOutputStream;
 
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
-
 /**
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -41,18 +40,39 @@ public class LocalComputationManager implements ComputationManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LocalComputationManager.class);
 
+    /**
+     * Output files bigger than this are gzipped by blocks compressed in parallel.
+     */
+    private static final long PARALLEL_GZIP_MIN_SIZE = 8L * 1024 * 1024;
+
+    private static final int PARALLEL_GZIP_BLOCK_SIZE = 1024 * 1024;
+
     private final LocalComputationConfig config;
 
     private final WorkingDirectory commonDir;
 
     private final LocalComputationResourcesStatus status;
 
-    private final Semaphore permits;
-
     private final Executor threadPools;
 
+    /**
+     * Pool shared by all the executions of this computation manager, to run the commands.
+     */
+    private final ExecutorService commandExecutor;
+
+    private final LocalCommandScheduler scheduler;
+
+    /**
+     * Pool to post-process outputs, so that a core is not held while compressing them.
+     */
+    private final ForkJoinPool postProcessExecutor;
+
     private final LocalCommandExecutor localCommandExecutor;
 
+    private final LocalJavaTaskExecutor javaTaskExecutor = new LocalJavaTaskExecutor();
+
+    private final CommonFileStager commonFileStager;
+
     private static final Lock LOCK = new ReentrantLock();
 
     private static LocalComputationManager defaultInstance;
@@ -110,13 +130,30 @@ public class LocalComputationManager implements ComputationManager {
 
     public LocalComputationManager(LocalComputationConfig config, LocalCommandExecutor localCommandExecutor, Executor executor) throws IOException {
         this.config = Objects.requireNonNull(config);
-        this.localCommandExecutor = Objects.requireNonNull(localCommandExecutor);
+        Objects.requireNonNull(localCommandExecutor);
+        if (config.getItoolsWorkerPoolConfig().isPresent()) {
+            this.localCommandExecutor = new ItoolsWorkerPoolCommandExecutor(new ItoolsWorkerPool(config.getItoolsWorkerPoolConfig().get()),
+                                                                            localCommandExecutor);
+        } else {
+            this.localCommandExecutor = localCommandExecutor;
+        }
         this.threadPools = Objects.requireNonNull(executor);
         status = new LocalComputationResourcesStatus(config.getAvailableCore());
-        permits = new Semaphore(config.getAvailableCore());
+        commandExecutor = Executors.newFixedThreadPool(config.getAvailableCore(), new ThreadFactoryBuilder()
+                .setNameFormat("local-command-%d")
+                .setDaemon(true)
+                .build());
+        postProcessExecutor = new ForkJoinPool(config.getAvailableCore(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("local-postprocess-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        scheduler = new LocalCommandScheduler(config.getAvailableCore(), config.getReservedCore(), config.getReservedCorePriority(),
+                                              commandExecutor, status);
         //make sure the localdir exists
         Files.createDirectories(config.getLocalDir());
         commonDir = new WorkingDirectory(config.getLocalDir(), "itools_common_", false);
+        commonFileStager = new CommonFileStager(Files.createDirectories(commonDir.toPath().resolve(".staging")));
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info(config.toString());
         }
@@ -137,50 +174,159 @@ public class LocalComputationManager implements ComputationManager {
         return Files.newOutputStream(commonDir.toPath().resolve(fileName));
     }
 
-    private interface ExecutionMonitor {
+    /**
+     * Timings of all the executions of a command.
+     */
+    private static final class StageTimings {
+
+        private final CommandExecution execution;
+
+        private final AtomicInteger remaining;
 
-        void onProgress(CommandExecution execution, int executionIndex);
+        private final AtomicLong startTime = new AtomicLong(Long.MAX_VALUE);
 
+        private final AtomicLong cumulatedExecutionTime = new AtomicLong();
+
+        private StageTimings(CommandExecution execution) {
+            this.execution = execution;
+            remaining = new AtomicInteger(execution.getExecutionCount());
+        }
+
+        private void onExecutionStart(long time) {
+            startTime.accumulateAndGet(time, Math::min);
+        }
+
+        /**
+         * @return true if it was the last execution of the command
+         */
+        private boolean onExecutionEnd(long executionTime) {
+            cumulatedExecutionTime.addAndGet(executionTime);
+            return remaining.decrementAndGet() == 0;
+        }
+    }
+
+    /**
+     * Outcome of a command execution, to be post-processed.
+     */
+    private static final class ExecutionOutcome {
+
+        private volatile long startTime;
+
+        /**
+         * Null if the command could not be executed.
+         */
+        private volatile Integer exitValue;
+    }
+
+    /**
+     * Common files staging statistics of all the executions of a call.
+     */
+    private static final class StagingStats {
+
+        private final AtomicLong time = new AtomicLong();
+
+        private final AtomicLong bytesSaved = new AtomicLong();
     }
 
-    private ExecutionReport execute(Path workingDir, List<CommandExecution> commandExecutionList, Map<String, String> variables, ComputationParameters computationParameters, ExecutionMonitor monitor)
+    /**
+     * Run the command executions. Commands are pipelined: if a command has the same execution count as the previous
+     * one, its execution i is started as soon as execution i of the previous command is done. Otherwise, all the
+     * executions of the previous command have to be done.
+     */
+    private ExecutionReport execute(Path workingDir, List<CommandExecution> commandExecutionList, Map<String, String> variables,
+                                    ComputationParameters computationParameters, ExecutionHandler<?> handler, BooleanSupplier cancelled)
             throws InterruptedException {
-        // TODO concurrent
-        List<ExecutionError> errors = new ArrayList<>();
-        ExecutorService executionSubmitter = Executors.newCachedThreadPool();
+        List<ExecutionError> errors = Collections.synchronizedList(new ArrayList<>());
+        StagingStats stagingStats = new StagingStats();
 
+        // all the executions of this call share the same submitter for fair share scheduling
+        Object submitter = new Object();
+        Queue<CompletableFuture<Void>> scheduledFutures = new ConcurrentLinkedQueue<>();
+
+        List<CompletableFuture<Void>> allFutures = new ArrayList<>();
+        List<CompletableFuture<Void>> previousFutures = null;
         for (CommandExecution commandExecution : commandExecutionList) {
-            Command command = commandExecution.getCommand();
-            CountDownLatch latch = new CountDownLatch(commandExecution.getExecutionCount());
-            IntStream.range(0, commandExecution.getExecutionCount()).forEach(idx ->
-                    executionSubmitter.execute(() -> {
-                        try {
-                            enter();
-                            logExecutingCommand(workingDir, command, idx);
-                            preProcess(workingDir, command, idx);
-                            int exitValue = process(workingDir, commandExecution, idx, variables, computationParameters);
-                            postProcess(workingDir, commandExecution, idx, exitValue, errors, monitor);
-                        } catch (Exception e) {
-                            LOGGER.warn(e.getMessage());
-                        } finally {
-                            latch.countDown();
-                            exit();
-                        }
-                    })
-            );
-            latch.await();
+            int executionCount = commandExecution.getExecutionCount();
+            StageTimings timings = new StageTimings(commandExecution);
+            CompletableFuture<Void> barrier = null;
+            if (previousFutures == null) {
+                barrier = CompletableFuture.completedFuture(null);
+            } else if (previousFutures.size() != executionCount) {
+                barrier = CompletableFuture.allOf(previousFutures.toArray(new CompletableFuture[0]));
+            }
+            List<CompletableFuture<Void>> futures = new ArrayList<>(executionCount);
+            for (int idx = 0; idx < executionCount; idx++) {
+                int executionIndex = idx;
+                CompletableFuture<Void> dependency = barrier != null ? barrier : previousFutures.get(idx);
+                futures.add(dependency.thenCompose(v -> {
+                    ExecutionOutcome outcome = new ExecutionOutcome();
+                    CompletableFuture<Void> scheduledFuture = scheduler.submit(commandExecution.getPriority(), submitter,
+                        () -> execute(workingDir, commandExecution, executionIndex, variables, computationParameters, stagingStats, handler, timings, outcome, cancelled));
+                    scheduledFutures.add(scheduledFuture);
+                    // outputs are post-processed once the core has been released
+                    return scheduledFuture.thenRunAsync(() -> complete(workingDir, commandExecution, executionIndex, errors, handler, timings, outcome),
+                                                        postProcessExecutor);
+                }));
+            }
+            allFutures.addAll(futures);
+            previousFutures = futures;
         }
 
-        // TODO remove duplicated code
-        executionSubmitter.shutdown();
-        if (!executionSubmitter.awaitTermination(20, TimeUnit.SECONDS)) {
-            executionSubmitter.shutdownNow();
-            if (!executionSubmitter.awaitTermination(20, TimeUnit.SECONDS)) {
-                LOGGER.error("Thread pool did not terminate");
-            }
+        try {
+            CompletableFuture.allOf(allFutures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            // executions not yet started are cancelled, running ones are stopped when the computation is cancelled
+            allFutures.forEach(f -> f.cancel(false));
+            scheduledFutures.forEach(f -> f.cancel(false));
+            throw e;
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
         }
 
-        return new DefaultExecutionReport(errors);
+        return new DefaultExecutionReport(new ArrayList<>(errors), stagingStats.time.get(), stagingStats.bytesSaved.get());
+    }
+
+    private void execute(Path workingDir, CommandExecution commandExecution, int executionIndex, Map<String, String> variables,
+                         ComputationParameters computationParameters, StagingStats stagingStats,
+                         ExecutionHandler<?> handler, StageTimings timings, ExecutionOutcome outcome, BooleanSupplier cancelled) {
+        Command command = commandExecution.getCommand();
+        outcome.startTime = System.currentTimeMillis();
+        if (cancelled.getAsBoolean()) {
+            // the computation has been cancelled while this execution was waiting for a core
+            LOGGER.debug("Execution {} of command {} cancelled", executionIndex, command.getId());
+            return;
+        }
+        try {
+            timings.onExecutionStart(outcome.startTime);
+            handler.onExecutionStart(commandExecution, executionIndex);
+            logExecutingCommand(workingDir, command, executionIndex);
+            preProcess(workingDir, command, executionIndex, stagingStats);
+            outcome.exitValue = process(workingDir, commandExecution, executionIndex, variables, computationParameters, cancelled);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn(e.toString());
+        } catch (Exception e) {
+            LOGGER.warn(e.getMessage());
+        }
+    }
+
+    private void complete(Path workingDir, CommandExecution commandExecution, int executionIndex, List<ExecutionError> errors,
+                          ExecutionHandler<?> handler, StageTimings timings, ExecutionOutcome outcome) {
+        Command command = commandExecution.getCommand();
+        try {
+            if (outcome.exitValue != null) {
+                postProcess(workingDir, commandExecution, executionIndex, outcome.exitValue, errors, handler);
+            }
+        } catch (Exception e) {
+            LOGGER.warn(e.getMessage());
+        } finally {
+            if (timings.onExecutionEnd(System.currentTimeMillis() - outcome.startTime)) {
+                long elapsedTime = System.currentTimeMillis() - timings.startTime.get();
+                LOGGER.debug("Command {} executed {} times in {} ms ({} ms cumulated)", command.getId(),
+                        commandExecution.getExecutionCount(), elapsedTime, timings.cumulatedExecutionTime.get());
+                handler.onExecutionStageCompletion(timings.execution, elapsedTime, timings.cumulatedExecutionTime.get());
+            }
+        }
     }
 
     private void logExecutingCommand(Path workingDir, Command command, int executionIndex) {
@@ -190,38 +336,34 @@ public class LocalComputationManager implements ComputationManager {
         }
     }
 
-    private void preProcess(Path workingDir, Command command, int executionIndex) throws IOException {
+    private void preProcess(Path workingDir, Command command, int executionIndex, StagingStats stagingStats) throws IOException {
         // pre-processing
         for (InputFile file : command.getInputFiles()) {
             String fileName = file.getName(executionIndex);
 
-            Path path = checkInputFileExistsInWorkingAndCommons(workingDir, fileName, file);
-            if (file.getPreProcessor() != null) {
-                switch (file.getPreProcessor()) {
-                    case FILE_GUNZIP:
-                        // gunzip the file
-                        try (InputStream is = new GZIPInputStream(Files.newInputStream(path));
-                             OutputStream os = Files.newOutputStream(workingDir.resolve(fileName.substring(0, fileName.length() - 3)))) {
-                            ByteStreams.copy(is, os);
-                        }
-                        break;
-                    case ARCHIVE_UNZIP:
-                        // extract the archive
-                        try (ZipFile zipFile = new ZipFile(path)) {
-                            for (ZipEntry ze : Collections.list(zipFile.entries())) {
-                                Files.copy(zipFile.getInputStream(ze.getName()), workingDir.resolve(ze.getName()), REPLACE_EXISTING);
-                            }
-                        }
-                        break;
-
-                    default:
-                        throw new AssertionError("Unexpected FilePreProcessor value: " + file.getPreProcessor());
+            // first check if the file exists in the working directory
+            Path path = workingDir.resolve(fileName);
+            if (Files.exists(path)) {
+                if (file.getPreProcessor() != null) {
+                    CommonFileStager.preProcess(path, file.getPreProcessor(), workingDir);
                 }
+            } else {
+                // if not check if the file exists in the common directory
+                path = commonDir.toPath().resolve(fileName);
+                if (!Files.exists(path)) {
+                    throw new PowsyblException("Input file '" + fileName + "' not found in the working and common directory");
+                }
+                // pre-processed once for all the executions and linked to the working directory
+                long startTime = System.currentTimeMillis();
+                long bytesSaved = commonFileStager.stage(path, file.getPreProcessor(), workingDir);
+                stagingStats.time.addAndGet(System.currentTimeMillis() - startTime);
+                stagingStats.bytesSaved.addAndGet(bytesSaved);
             }
         }
     }
 
-    private int process(Path workingDir, CommandExecution commandExecution, int executionIndex, Map<String, String> variables, ComputationParameters computationParameters) throws IOException, InterruptedException {
+    private int process(Path workingDir, CommandExecution commandExecution, int executionIndex, Map<String, String> variables,
+                        ComputationParameters computationParameters, BooleanSupplier cancelled) throws IOException, InterruptedException {
         Command command = commandExecution.getCommand();
         int exitValue = 0;
         long timeout = -1;
@@ -240,9 +382,14 @@ public class LocalComputationManager implements ComputationManager {
                         executionVariables);
                 break;
             case GROUP:
-                // TODO timeout for group
+                // the timeout of the command applies to each sub command without its own timeout
+                timeout = computationParameters.getTimeout(command.getId()).orElse(-1);
                 for (GroupCommand.SubCommand subCmd : ((GroupCommand) command).getSubCommands()) {
+                    if (cancelled.getAsBoolean()) {
+                        throw new InterruptedException("Execution " + executionIndex + " of command " + command.getId() + " cancelled");
+                    }
                     exitValue = localCommandExecutor.execute(subCmd.getProgram(),
+                            subCmd.getTimeout() != -1 ? subCmd.getTimeout() : timeout,
                             subCmd.getArgs(executionIndex),
                             outFile,
                             errFile,
@@ -253,14 +400,24 @@ public class LocalComputationManager implements ComputationManager {
                     }
                 }
                 break;
+            case JAVA:
+                // executed in the thread holding the core, without starting a new process
+                exitValue = javaTaskExecutor.execute(((JavaCommand) command).getTask(),
+                        executionIndex,
+                        outFile,
+                        errFile,
+                        workingDir,
+                        executionVariables);
+                break;
             default:
                 throw new AssertionError("Unexpected CommandType value: " + command.getType());
         }
         return exitValue;
     }
 
-    private void postProcess(Path workingDir, CommandExecution commandExecution, int executionIndex, int exitValue, List<ExecutionError> errors, ExecutionMonitor monitor) throws IOException {
+    private void postProcess(Path workingDir, CommandExecution commandExecution, int executionIndex, int exitValue, List<ExecutionError> errors, ExecutionHandler<?> handler) throws IOException {
         Command command = commandExecution.getCommand();
+        List<Path> outputFiles = new ArrayList<>();
         if (exitValue != 0) {
             errors.add(new ExecutionError(command, executionIndex, exitValue));
         } else {
@@ -270,47 +427,30 @@ public class LocalComputationManager implements ComputationManager {
                 Path path = workingDir.resolve(fileName);
                 if (file.getPostProcessor() != null && Files.isRegularFile(path)) {
                     if (file.getPostProcessor() == FilePostProcessor.FILE_GZIP) { // gzip the file
-                        try (InputStream is = Files.newInputStream(path);
-                             OutputStream os = new GZIPOutputStream(Files.newOutputStream(workingDir.resolve(fileName + ".gz")))) {
-                            ByteStreams.copy(is, os);
-                        }
-
+                        Path gzPath = workingDir.resolve(fileName + ".gz");
+                        gzip(path, gzPath);
+                        outputFiles.add(gzPath);
                     } else {
                         throw new AssertionError("Unexpected FilePostProcessor value: " + file.getPostProcessor());
                     }
+                } else if (Files.exists(path)) {
+                    outputFiles.add(path);
                 }
             }
         }
 
-        if (monitor != null) {
-            monitor.onProgress(commandExecution, executionIndex);
-        }
+        handler.onExecutionCompletion(commandExecution, executionIndex, exitValue, outputFiles);
     }
 
-    private Path checkInputFileExistsInWorkingAndCommons(Path workingDir, String fileName, InputFile file) throws IOException {
-        // first check if the file exists in the working directory
-        Path path = workingDir.resolve(fileName);
-        if (!Files.exists(path)) {
-            // if not check if the file exists in the common directory
-            path = commonDir.toPath().resolve(fileName);
-            if (!Files.exists(path)) {
-                throw new PowsyblException("Input file '" + fileName + "' not found in the working and common directory");
-            }
-            if (file.getPreProcessor() == null) {
-                Files.copy(path, workingDir.resolve(path.getFileName()));
+    private void gzip(Path path, Path gzPath) throws IOException {
+        if (Files.size(path) >= PARALLEL_GZIP_MIN_SIZE) {
+            ParallelGzip.gzip(path, gzPath, PARALLEL_GZIP_BLOCK_SIZE, 2 * postProcessExecutor.getParallelism());
+        } else {
+            try (InputStream is = Files.newInputStream(path);
+                 OutputStream os = new GZIPOutputStream(Files.newOutputStream(gzPath))) {
+                ByteStreams.copy(is, os);
             }
         }
-        return path;
-    }
-
-    private void enter() throws InterruptedException {
-        permits.acquire();
-        status.incrementNumberOfBusyCores();
-    }
-
-    private void exit() {
-        status.decrementNumberOfBusyCores();
-        permits.release();
     }
 
     @Override
@@ -329,7 +469,7 @@ public class LocalComputationManager implements ComputationManager {
                 try (WorkingDirectory workingDir = new WorkingDirectory(config.getLocalDir(), environment.getWorkingDirPrefix(), environment.isDebug())) {
                     f.setWorkingDir(workingDir.toPath());
                     List<CommandExecution> commandExecutionList = handler.before(workingDir.toPath());
-                    ExecutionReport report = execute(workingDir.toPath(), commandExecutionList, environment.getVariables(), parameters, handler::onExecutionCompletion);
+                    ExecutionReport report = execute(workingDir.toPath(), commandExecutionList, environment.getVariables(), parameters, handler, f::isCancelled);
                     R result = handler.after(workingDir.toPath(), report);
                     f.complete(result);
                 }
@@ -353,6 +493,7 @@ public class LocalComputationManager implements ComputationManager {
             super.cancel(mayInterruptIfRunning);
             if (mayInterruptIfRunning) {
                 localCommandExecutor.stop(workingDir);
+                javaTaskExecutor.stop(workingDir);
             }
             return true;
         }
@@ -370,6 +511,11 @@ public class LocalComputationManager implements ComputationManager {
 
     @Override
     public void close() {
+        commandExecutor.shutdownNow();
+        postProcessExecutor.shutdownNow();
+        if (localCommandExecutor instanceof ItoolsWorkerPoolCommandExecutor) {
+            ((ItoolsWorkerPoolCommandExecutor) localCommandExecutor).close();
+        }
         try {
             commonDir.close();
         } catch (IOException e) {
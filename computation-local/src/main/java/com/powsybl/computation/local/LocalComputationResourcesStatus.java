@@ -24,6 +24,12 @@ class LocalComputationResourcesStatus implements ComputationResourcesStatus {
 
     private int busyCores = 0;
 
+    private int queueDepth = 0;
+
+    private long startedCount = 0;
+
+    private long cumulatedWaitingTime = 0;
+
     LocalComputationResourcesStatus(int availableCores) {
         this.availableCores = availableCores;
     }
@@ -48,11 +54,30 @@ class LocalComputationResourcesStatus implements ComputationResourcesStatus {
         return Collections.singletonMap("all", busyCores);
     }
 
+    @Override
+    public synchronized int getQueueDepth() {
+        return queueDepth;
+    }
+
+    @Override
+    public synchronized long getMeanWaitingTime() {
+        return startedCount > 0 ? cumulatedWaitingTime / startedCount : 0;
+    }
+
     synchronized void incrementNumberOfBusyCores() {
         date = new DateTime();
         busyCores++;
     }
 
+    synchronized void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    synchronized void addWaitingTime(long waitingTime) {
+        startedCount++;
+        cumulatedWaitingTime += waitingTime;
+    }
+
     synchronized void decrementNumberOfBusyCores() {
         date = new DateTime();
         busyCores--;
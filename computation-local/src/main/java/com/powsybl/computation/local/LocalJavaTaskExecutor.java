@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.powsybl.computation.JavaTask;
+import com.powsybl.computation.JavaTaskContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Execute Java tasks in the calling thread, the standard output and error of a task being written to files as for an
+ * external program. A running task is stopped by interrupting its thread.
+ *
+ * @author agent <agent at local>
+ */
+class LocalJavaTaskExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalJavaTaskExecutor.class);
+
+    /**
+     * Exit code of a task that has thrown an exception.
+     */
+    static final int FAILURE_EXIT_CODE = 1;
+
+    private static final class Context implements JavaTaskContext {
+
+        private final Path workingDir;
+
+        private final int executionNumber;
+
+        private final Map<String, String> variables;
+
+        private final PrintStream out;
+
+        private final PrintStream err;
+
+        private Context(Path workingDir, int executionNumber, Map<String, String> variables, PrintStream out, PrintStream err) {
+            this.workingDir = workingDir;
+            this.executionNumber = executionNumber;
+            this.variables = variables;
+            this.out = out;
+            this.err = err;
+        }
+
+        @Override
+        public Path getWorkingDir() {
+            return workingDir;
+        }
+
+        @Override
+        public int getExecutionNumber() {
+            return executionNumber;
+        }
+
+        @Override
+        public Map<String, String> getVariables() {
+            return variables;
+        }
+
+        @Override
+        public PrintStream getOut() {
+            return out;
+        }
+
+        @Override
+        public PrintStream getErr() {
+            return err;
+        }
+    }
+
+    /**
+     * A task run by a thread, the thread is only interrupted while it is still running this task.
+     */
+    private static final class RunningTask {
+
+        private final Thread thread = Thread.currentThread();
+
+        private boolean running = true;
+
+        private synchronized void interrupt() {
+            if (running) {
+                thread.interrupt();
+            }
+        }
+
+        private synchronized void finish() {
+            running = false;
+        }
+    }
+
+    // tasks running, per working directory
+    private final Map<Path, Set<RunningTask>> runningTasks = new ConcurrentHashMap<>();
+
+    int execute(JavaTask task, int executionNumber, Path outFile, Path errFile, Path workingDir, Map<String, String> variables)
+            throws IOException, InterruptedException {
+        Objects.requireNonNull(task);
+        Objects.requireNonNull(workingDir);
+        RunningTask runningTask = new RunningTask();
+        runningTasks.computeIfAbsent(workingDir, dir -> ConcurrentHashMap.newKeySet()).add(runningTask);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(outFile), true, StandardCharsets.UTF_8.name());
+             PrintStream err = new PrintStream(Files.newOutputStream(errFile), true, StandardCharsets.UTF_8.name())) {
+            try {
+                return task.execute(new Context(workingDir, executionNumber, variables, out, err));
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                LOGGER.warn("Java task of execution {} in {} failed: {}", executionNumber, workingDir, e.toString());
+                e.printStackTrace(err);
+                return FAILURE_EXIT_CODE;
+            }
+        } finally {
+            runningTasks.computeIfPresent(workingDir, (dir, tasks) -> {
+                tasks.remove(runningTask);
+                return tasks.isEmpty() ? null : tasks;
+            });
+            // once finished, stop cannot interrupt the thread anymore, so an interruption it has requested is cleared
+            // here and does not leak to the next task run by this thread
+            runningTask.finish();
+            if (Thread.interrupted()) {
+                LOGGER.debug("Java task of execution {} in {} has been interrupted", executionNumber, workingDir);
+            }
+        }
+    }
+
+    /**
+     * Interrupt the threads running a task in a working directory.
+     */
+    void stop(Path workingDir) {
+        if (workingDir == null) {
+            return;
+        }
+        Set<RunningTask> tasks = runningTasks.get(workingDir);
+        if (tasks != null) {
+            tasks.forEach(RunningTask::interrupt);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.io.ByteStreams;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip a file by blocks compressed in parallel.
+ * <p>
+ * Each block is compressed as a complete gzip member and members are written in order to the target file, which is
+ * a valid gzip file (multiple members are supported by {@link java.util.zip.GZIPInputStream} and gzip tools). Blocks
+ * are compressed by fork/join tasks, in the pool of the calling thread if it is a
+ * {@link java.util.concurrent.ForkJoinPool} worker, in the common pool otherwise. The number of blocks in memory is
+ * bounded.
+ *
+ * @author agent <agent at local>
+ */
+final class ParallelGzip {
+
+    private ParallelGzip() {
+    }
+
+    private static byte[] compress(byte[] block, int length) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(length / 2 + 64);
+        try (GZIPOutputStream os = new GZIPOutputStream(bos)) {
+            os.write(block, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bos.toByteArray();
+    }
+
+    static void gzip(Path source, Path target, int blockSize, int maxBlocksInFlight) throws IOException {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(target);
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        if (maxBlocksInFlight <= 0) {
+            throw new IllegalArgumentException("Invalid max number of blocks in flight: " + maxBlocksInFlight);
+        }
+        Deque<ForkJoinTask<byte[]>> tasks = new ArrayDeque<>(maxBlocksInFlight);
+        try (InputStream is = Files.newInputStream(source);
+             OutputStream os = Files.newOutputStream(target)) {
+            try {
+                boolean empty = true;
+                while (true) {
+                    byte[] block = new byte[blockSize];
+                    int length = ByteStreams.read(is, block, 0, blockSize);
+                    if (length == 0) {
+                        if (empty) {
+                            // a gzip file has at least one member
+                            os.write(compress(block, 0));
+                        }
+                        break;
+                    }
+                    empty = false;
+                    if (tasks.size() == maxBlocksInFlight) {
+                        os.write(tasks.poll().join());
+                    }
+                    tasks.add(ForkJoinTask.adapt(() -> compress(block, length)).fork());
+                    if (length < blockSize) {
+                        break;
+                    }
+                }
+                while (!tasks.isEmpty()) {
+                    os.write(tasks.poll().join());
+                }
+            } finally {
+                tasks.forEach(task -> task.cancel(false));
+            }
+        }
+    }
+}
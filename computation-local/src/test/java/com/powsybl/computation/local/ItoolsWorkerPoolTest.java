@@ -0,0 +1,270 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.tools.Command;
+import com.powsybl.tools.CommandLineTools;
+import com.powsybl.tools.Tool;
+import com.powsybl.tools.ToolRunningContext;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ItoolsWorkerPoolTest {
+
+    private static volatile CountDownLatch sleepStarted;
+
+    private static class EchoTool implements Tool {
+
+        @Override
+        public Command getCommand() {
+            return new Command() {
+                @Override
+                public String getName() {
+                    return "echo";
+                }
+
+                @Override
+                public String getTheme() {
+                    return "test";
+                }
+
+                @Override
+                public String getDescription() {
+                    return "print a message";
+                }
+
+                @Override
+                public Options getOptions() {
+                    Options options = new Options();
+                    options.addOption(Option.builder()
+                            .longOpt("message")
+                            .hasArg()
+                            .argName("MESSAGE")
+                            .required()
+                            .build());
+                    options.addOption(Option.builder()
+                            .longOpt("sleep")
+                            .hasArg()
+                            .argName("SECONDS")
+                            .build());
+                    return options;
+                }
+
+                @Override
+                public String getUsageFooter() {
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public void run(CommandLine line, ToolRunningContext context) throws Exception {
+            if (line.hasOption("sleep")) {
+                sleepStarted.countDown();
+                Thread.sleep(TimeUnit.SECONDS.toMillis(Long.parseLong(line.getOptionValue("sleep"))));
+            }
+            context.getOutputStream().println(line.getOptionValue("message"));
+        }
+    }
+
+    /**
+     * Run workers in threads of the test JVM.
+     */
+    private static class ThreadWorkerLauncher implements ItoolsWorkerPool.WorkerLauncher {
+
+        private final CommandLineTools tools = new CommandLineTools(Collections.singletonList(new EchoTool()));
+
+        private final ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+
+        private final AtomicInteger launchCount = new AtomicInteger();
+
+        private volatile boolean killNextIdleWorker = false;
+
+        @Override
+        public ItoolsWorkerPool.WorkerProcess launch(int port, String token) {
+            launchCount.incrementAndGet();
+            Thread thread = new Thread(() -> {
+                try {
+                    new ItoolsWorker(tools, computationManager, computationManager).run(port, token);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+            return new ItoolsWorkerPool.WorkerProcess() {
+                @Override
+                public boolean isAlive() {
+                    // simulate the death of a worker while it is idle
+                    if (killNextIdleWorker) {
+                        killNextIdleWorker = false;
+                        return false;
+                    }
+                    return thread.isAlive();
+                }
+
+                @Override
+                public void destroy() {
+                    thread.interrupt();
+                }
+            };
+        }
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path workingDir;
+
+    private ThreadWorkerLauncher launcher;
+
+    private ItoolsWorkerPool pool;
+
+    @Before
+    public void setUp() throws IOException {
+        sleepStarted = new CountDownLatch(1);
+        workingDir = folder.newFolder("work").toPath();
+        launcher = new ThreadWorkerLauncher();
+        pool = new ItoolsWorkerPool(new ItoolsWorkerPoolConfig(1, 2, Collections.emptyList(), 0, 10), launcher);
+    }
+
+    @After
+    public void tearDown() {
+        pool.close();
+    }
+
+    private int execute(String... args) throws IOException, InterruptedException {
+        return execute(-1, args);
+    }
+
+    private int execute(long timeout, String... args) throws IOException, InterruptedException {
+        return pool.execute(Arrays.asList(args), workingDir, workingDir.resolve("cmd.out"), workingDir.resolve("cmd.err"), timeout);
+    }
+
+    private List<String> readOutput() throws IOException {
+        return Files.readAllLines(workingDir.resolve("cmd.out"), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        assertEquals(0, execute("echo", "--message", "hello"));
+        assertEquals(0, execute("echo", "--message", "world"));
+        assertEquals(Arrays.asList("hello", "world"), readOutput());
+        assertEquals(CommandLineTools.COMMAND_NOT_FOUND_STATUS, execute("unknown"));
+        // the worker has been replaced after 2 tasks
+        assertEquals(2, launcher.launchCount.get());
+    }
+
+    @Test
+    public void testDeadWorkerReplaced() throws Exception {
+        assertEquals(0, execute("echo", "--message", "hello"));
+        launcher.killNextIdleWorker = true;
+        assertEquals(0, execute("echo", "--message", "world"));
+        assertEquals(Arrays.asList("hello", "world"), readOutput());
+        assertEquals(2, launcher.launchCount.get());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        assertEquals(ItoolsWorkerPool.TIMEOUT_EXIT_CODE, execute(1, "echo", "--message", "hello", "--sleep", "60"));
+        assertEquals(0, execute("echo", "--message", "world"));
+        assertEquals(Collections.singletonList("world"), readOutput());
+    }
+
+    private CompletableFuture<Integer> executeAsync(String... args) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(args);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        });
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        CompletableFuture<Integer> exitCode = executeAsync("echo", "--message", "hello", "--sleep", "60");
+        assertTrue(sleepStarted.await(10, TimeUnit.SECONDS));
+        pool.stop(workingDir);
+        assertEquals(ItoolsWorkerPool.LOST_WORKER_EXIT_CODE, (int) exitCode.get(10, TimeUnit.SECONDS));
+        assertEquals(0, execute("echo", "--message", "world"));
+    }
+
+    @Test
+    public void testStopSeveralWorkers() throws Exception {
+        pool.close();
+        pool = new ItoolsWorkerPool(new ItoolsWorkerPoolConfig(2, 2, Collections.emptyList(), 0, 10), launcher);
+        sleepStarted = new CountDownLatch(2);
+        // both commands are executed in the same working directory
+        CompletableFuture<Integer> exitCode1 = executeAsync("echo", "--message", "hello", "--sleep", "60");
+        CompletableFuture<Integer> exitCode2 = executeAsync("echo", "--message", "hello", "--sleep", "60");
+        assertTrue(sleepStarted.await(10, TimeUnit.SECONDS));
+        pool.stop(workingDir);
+        assertEquals(ItoolsWorkerPool.LOST_WORKER_EXIT_CODE, (int) exitCode1.get(10, TimeUnit.SECONDS));
+        assertEquals(ItoolsWorkerPool.LOST_WORKER_EXIT_CODE, (int) exitCode2.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCommandExecutor() throws Exception {
+        LocalCommandExecutor delegate = Mockito.mock(LocalCommandExecutor.class);
+        ItoolsWorkerPoolCommandExecutor executor = new ItoolsWorkerPoolCommandExecutor(pool, delegate);
+        Path outFile = workingDir.resolve("cmd.out");
+        Path errFile = workingDir.resolve("cmd.err");
+        List<String> args = Arrays.asList("echo", "--message", "hello");
+
+        assertEquals(0, executor.execute("itools", args, outFile, errFile, workingDir, Collections.emptyMap()));
+        assertEquals(Collections.singletonList("hello"), readOutput());
+        Mockito.verifyZeroInteractions(delegate);
+
+        // environment variables cannot be applied by the workers
+        Map<String, String> env = Collections.singletonMap("VAR", "value");
+        executor.execute("itools", args, outFile, errFile, workingDir, env);
+        Mockito.verify(delegate).execute("itools", -1, args, outFile, errFile, workingDir, env);
+
+        executor.execute("/usr/bin/ls", args, outFile, errFile, workingDir, Collections.emptyMap());
+        Mockito.verify(delegate).execute("/usr/bin/ls", -1, args, outFile, errFile, workingDir, Collections.emptyMap());
+        assertEquals(1, launcher.launchCount.get());
+    }
+
+    @Test
+    public void testItoolsProgram() {
+        assertTrue(ItoolsWorkerPoolCommandExecutor.isItools("itools"));
+        assertTrue(ItoolsWorkerPoolCommandExecutor.isItools("/opt/powsybl/bin/itools"));
+        assertTrue(ItoolsWorkerPoolCommandExecutor.isItools("C:\\powsybl\\bin\\itools.bat"));
+        assertFalse(ItoolsWorkerPoolCommandExecutor.isItools("/usr/bin/itools-sh"));
+    }
+}
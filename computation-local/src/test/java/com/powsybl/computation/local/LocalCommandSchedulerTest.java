@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class LocalCommandSchedulerTest {
+
+    private static final int LOW_PRIORITY = Integer.MAX_VALUE;
+
+    private final Deque<Runnable> dispatched = new ArrayDeque<>();
+
+    private final List<String> started = new ArrayList<>();
+
+    private LocalComputationResourcesStatus status;
+
+    @Before
+    public void setUp() {
+        status = new LocalComputationResourcesStatus(2);
+    }
+
+    private CompletableFuture<Void> submit(LocalCommandScheduler scheduler, int priority, Object submitter, String name) {
+        return scheduler.submit(priority, submitter, () -> started.add(name));
+    }
+
+    private void runNext() {
+        dispatched.poll().run();
+    }
+
+    @Test
+    public void testPriority() {
+        LocalCommandScheduler scheduler = new LocalCommandScheduler(1, 0, 0, dispatched::add, status);
+        Object submitter = new Object();
+        submit(scheduler, LOW_PRIORITY, submitter, "a");
+        submit(scheduler, LOW_PRIORITY, submitter, "b");
+        submit(scheduler, 5, submitter, "c");
+        assertEquals(1, dispatched.size());
+        assertEquals(2, status.getQueueDepth());
+        assertEquals(1, status.getBusyCores());
+        runNext();
+        runNext();
+        runNext();
+        assertEquals(ImmutableList.of("a", "c", "b"), started);
+        assertEquals(0, status.getQueueDepth());
+        assertEquals(0, status.getBusyCores());
+    }
+
+    @Test
+    public void testFairShare() {
+        LocalCommandScheduler scheduler = new LocalCommandScheduler(2, 0, 0, dispatched::add, status);
+        Object batch = new Object();
+        Object interactive = new Object();
+        submit(scheduler, LOW_PRIORITY, batch, "batch1");
+        submit(scheduler, LOW_PRIORITY, batch, "batch2");
+        submit(scheduler, LOW_PRIORITY, batch, "batch3");
+        submit(scheduler, LOW_PRIORITY, interactive, "interactive1");
+        assertEquals(2, dispatched.size());
+        runNext();
+        // the interactive submitter has no running task, so it is served before the batch one
+        runNext();
+        runNext();
+        runNext();
+        assertEquals(ImmutableList.of("batch1", "batch2", "interactive1", "batch3"), started);
+    }
+
+    @Test
+    public void testReservedCore() {
+        LocalCommandScheduler scheduler = new LocalCommandScheduler(2, 1, 0, dispatched::add, status);
+        submit(scheduler, LOW_PRIORITY, new Object(), "batch1");
+        submit(scheduler, LOW_PRIORITY, new Object(), "batch2");
+        // second core is reserved
+        assertEquals(1, dispatched.size());
+        submit(scheduler, 0, new Object(), "interactive1");
+        assertEquals(2, dispatched.size());
+        assertEquals(1, status.getQueueDepth());
+    }
+
+    @Test
+    public void testCancel() {
+        LocalCommandScheduler scheduler = new LocalCommandScheduler(1, 0, 0, dispatched::add, status);
+        submit(scheduler, LOW_PRIORITY, new Object(), "a");
+        CompletableFuture<Void> b = submit(scheduler, LOW_PRIORITY, new Object(), "b");
+        assertTrue(b.cancel(false));
+        runNext();
+        assertTrue(dispatched.isEmpty());
+        assertEquals(ImmutableList.of("a"), started);
+    }
+}
@@ -8,6 +8,7 @@ package com.powsybl.computation.local;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.config.ConfigurationException;
 import com.powsybl.commons.config.InMemoryPlatformConfig;
 import com.powsybl.commons.config.MapModuleConfig;
 import org.junit.After;
@@ -18,8 +19,11 @@ import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -57,6 +61,8 @@ public class LocalComputationConfigTest {
         LocalComputationConfig config = LocalComputationConfig.load(platformConfig, fileSystem);
         assertEquals(fileSystem.getPath(LocalComputationConfig.DEFAULT_LOCAL_DIR), config.getLocalDir());
         assertEquals(1, config.getAvailableCore());
+        assertEquals(0, config.getReservedCore());
+        assertEquals(0, config.getReservedCorePriority());
     }
 
     @Test
@@ -77,6 +83,24 @@ public class LocalComputationConfigTest {
         assertEquals(99, config.getAvailableCore());
     }
 
+    @Test
+    public void testReservedCore() {
+        MapModuleConfig moduleConfig = platformConfig.createModuleConfig("computation-local");
+        moduleConfig.setStringProperty("available-core", "4");
+        moduleConfig.setStringProperty("reserved-core", "1");
+        moduleConfig.setStringProperty("reserved-core-priority", "10");
+        LocalComputationConfig config = LocalComputationConfig.load(platformConfig, fileSystem);
+        assertEquals(1, config.getReservedCore());
+        assertEquals(10, config.getReservedCorePriority());
+
+        moduleConfig.setStringProperty("reserved-core", "4");
+        try {
+            LocalComputationConfig.load(platformConfig, fileSystem);
+            fail();
+        } catch (ConfigurationException ignored) {
+        }
+    }
+
     @Test
     public void testSnakeOverCamelCase() throws IOException {
         Files.createDirectories(fileSystem.getPath("/deprecated"));
@@ -104,4 +128,30 @@ public class LocalComputationConfigTest {
         // now fist exist and is used in priority
         assertEquals(fileSystem.getPath("/first"), config.getLocalDir());
     }
+
+    @Test
+    public void testItoolsWorkerPool() {
+        assertFalse(LocalComputationConfig.load(platformConfig, fileSystem).getItoolsWorkerPoolConfig().isPresent());
+
+        MapModuleConfig moduleConfig = platformConfig.createModuleConfig("itools-worker-pool");
+        moduleConfig.setStringProperty("worker-count", "0");
+        assertFalse(LocalComputationConfig.load(platformConfig, fileSystem).getItoolsWorkerPoolConfig().isPresent());
+
+        moduleConfig.setStringProperty("worker-count", "4");
+        moduleConfig.setStringProperty("max-tasks-per-worker", "10");
+        moduleConfig.setStringListProperty("jvm-options", Collections.singletonList("-Xmx2g"));
+        ItoolsWorkerPoolConfig config = LocalComputationConfig.load(platformConfig, fileSystem).getItoolsWorkerPoolConfig().orElseThrow(AssertionError::new);
+        assertEquals(4, config.getWorkerCount());
+        assertEquals(10, config.getMaxTasksPerWorker());
+        assertEquals(Collections.singletonList("-Xmx2g"), config.getJvmOptions());
+        assertEquals(0, config.getNetworkCacheSize());
+        assertEquals(60, config.getStartupTimeout());
+
+        moduleConfig.setStringProperty("max-tasks-per-worker", "0");
+        try {
+            LocalComputationConfig.load(platformConfig, fileSystem);
+            fail();
+        } catch (ConfigurationException ignored) {
+        }
+    }
 }
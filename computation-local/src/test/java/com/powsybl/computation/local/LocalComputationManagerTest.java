@@ -17,16 +17,26 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -218,6 +228,302 @@ public class LocalComputationManagerTest {
         }
     }
 
+    @Test
+    public void testPipelining() throws Exception {
+        CountDownLatch solve0Started = new CountDownLatch(1);
+        AtomicBoolean pipelined = new AtomicBoolean(false);
+        LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
+            @Override
+            void nonZeroLog(List<String> cmdLs, int exitCode) {
+            }
+
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws IOException, InterruptedException {
+                String name = outFile.getFileName().toString();
+                if ("solve_0.out".equals(name)) {
+                    solve0Started.countDown();
+                } else if ("prepare_1.out".equals(name)) {
+                    // solve of execution 0 must not wait for prepare of execution 1
+                    pipelined.set(solve0Started.await(10, TimeUnit.SECONDS));
+                }
+                return "solve_1.out".equals(name) ? 1 : 0;
+            }
+        };
+        List<String> stageCompletions = Collections.synchronizedList(new ArrayList<>());
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(localDir, 2), localCommandExecutor, ForkJoinPool.commonPool())) {
+            ExecutionReport report = computationManager.execute(ExecutionEnvironment.createDefault(), new AbstractExecutionHandler<ExecutionReport>() {
+                @Override
+                public List<CommandExecution> before(Path workingDir) {
+                    Command prepare = new SimpleCommandBuilder()
+                            .id("prepare")
+                            .program("prepare")
+                            .build();
+                    Command solve = new SimpleCommandBuilder()
+                            .id("solve")
+                            .program("solve")
+                            .build();
+                    return ImmutableList.of(new CommandExecution(prepare, 2), new CommandExecution(solve, 2));
+                }
+
+                @Override
+                public void onExecutionStageCompletion(CommandExecution execution, long elapsedTime, long cumulatedExecutionTime) {
+                    assertTrue(elapsedTime >= 0);
+                    assertTrue(cumulatedExecutionTime >= 0);
+                    stageCompletions.add(execution.getCommand().getId());
+                }
+
+                @Override
+                public ExecutionReport after(Path workingDir, ExecutionReport report) {
+                    return report;
+                }
+            }).join();
+            assertTrue(pipelined.get());
+            assertEquals(1, report.getErrors().size());
+            assertEquals("solve", report.getErrors().get(0).getCommand().getId());
+            assertEquals(1, report.getErrors().get(0).getIndex());
+            assertEquals(ImmutableList.of("prepare", "solve"), stageCompletions);
+        }
+    }
+
+    @Test
+    public void testCommonFilesStaging() throws Exception {
+        Set<Object> fileKeys = ConcurrentHashMap.newKeySet();
+        LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
+            @Override
+            void nonZeroLog(List<String> cmdLs, int exitCode) {
+            }
+
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws IOException, InterruptedException {
+                assertEquals("abc", new String(Files.readAllBytes(workingDir.resolve("network.xml")), StandardCharsets.UTF_8));
+                assertEquals("hello", new String(Files.readAllBytes(workingDir.resolve("data.txt")), StandardCharsets.UTF_8));
+                assertEquals("world", new String(Files.readAllBytes(workingDir.resolve("entry.txt")), StandardCharsets.UTF_8));
+                fileKeys.add(Files.readAttributes(workingDir.resolve("data.txt"), BasicFileAttributes.class).fileKey());
+                return 0;
+            }
+        };
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(localDir, 2), localCommandExecutor, ForkJoinPool.commonPool())) {
+            try (Writer writer = new OutputStreamWriter(computationManager.newCommonFile("network.xml"), StandardCharsets.UTF_8)) {
+                writer.write("abc");
+            }
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(computationManager.newCommonFile("data.txt.gz")), StandardCharsets.UTF_8)) {
+                writer.write("hello");
+            }
+            try (ZipOutputStream os = new ZipOutputStream(computationManager.newCommonFile("archive.zip"))) {
+                os.putNextEntry(new ZipEntry("entry.txt"));
+                os.write("world".getBytes(StandardCharsets.UTF_8));
+                os.closeEntry();
+            }
+
+            for (int i = 0; i < 2; i++) {
+                ExecutionReport report = computationManager.execute(ExecutionEnvironment.createDefault(), new AbstractExecutionHandler<ExecutionReport>() {
+                    @Override
+                    public List<CommandExecution> before(Path workingDir) {
+                        Command command = new SimpleCommandBuilder()
+                                .id("cmd")
+                                .program("prog")
+                                .inputFiles(new InputFile("network.xml"),
+                                            new InputFile("data.txt.gz", FilePreProcessor.FILE_GUNZIP),
+                                            new InputFile("archive.zip", FilePreProcessor.ARCHIVE_UNZIP))
+                                .build();
+                        return Collections.singletonList(new CommandExecution(command, 2));
+                    }
+
+                    @Override
+                    public ExecutionReport after(Path workingDir, ExecutionReport report) {
+                        return report;
+                    }
+                }).join();
+                assertTrue(report.getErrors().isEmpty());
+                assertTrue(report.getCommonFilesStagingTime() >= 0);
+                // each working directory is linked to the staged files only once
+                assertEquals(13, report.getCommonFilesBytesSaved());
+            }
+
+            // data file has been decompressed only once
+            assertEquals(1, fileKeys.size());
+        }
+    }
+
+    @Test
+    public void testJavaTask() throws Exception {
+        String[] results = new String[3];
+        JavaCommand command = new JavaCommandBuilder()
+                .id("java")
+                .task(context -> {
+                    int i = context.getExecutionNumber();
+                    if (i == 2) {
+                        throw new IllegalStateException("failure");
+                    }
+                    context.getOut().print("out" + i);
+                    results[i] = context.getVariables().get("var") + i;
+                    return 0;
+                })
+                .build();
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(localDir, 2))) {
+            List<String> errFiles = computationManager.execute(new ExecutionEnvironment(ImmutableMap.of("var", "value"), PREFIX, false), new AbstractExecutionHandler<List<String>>() {
+                @Override
+                public List<CommandExecution> before(Path workingDir) {
+                    return Collections.singletonList(new CommandExecution(command, 3));
+                }
+
+                @Override
+                public List<String> after(Path workingDir, ExecutionReport report) throws IOException {
+                    assertEquals(1, report.getErrors().size());
+                    assertEquals(2, report.getErrors().get(0).getIndex());
+                    assertEquals(LocalJavaTaskExecutor.FAILURE_EXIT_CODE, report.getErrors().get(0).getExitCode());
+                    assertEquals("out1", new String(Files.readAllBytes(workingDir.resolve("java_1.out")), StandardCharsets.UTF_8));
+                    return Files.readAllLines(workingDir.resolve("java_2.err"), StandardCharsets.UTF_8);
+                }
+            }).join();
+            assertEquals("java.lang.IllegalStateException: failure", errFiles.get(0));
+        }
+        assertArrayEquals(new String[] {"value0", "value1", null}, results);
+    }
+
+    @Test
+    public void testJavaTaskCancellation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean(false);
+        JavaCommand command = new JavaCommandBuilder()
+                .id("java")
+                .task(context -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(60000);
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                        throw e;
+                    }
+                    return 0;
+                })
+                .build();
+        try (ComputationManager computationManager = new LocalComputationManager(config)) {
+            CompletableFuture<Object> result = computationManager.execute(ExecutionEnvironment.createDefault(), new AbstractExecutionHandler<Object>() {
+                @Override
+                public List<CommandExecution> before(Path workingDir) {
+                    return Collections.singletonList(new CommandExecution(command, 1));
+                }
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            result.cancel(true);
+            long startTime = System.currentTimeMillis();
+            while (!interrupted.get() && System.currentTimeMillis() - startTime < 10000) {
+                Thread.sleep(10);
+            }
+            assertTrue(interrupted.get());
+        }
+    }
+
+    @Test
+    public void testGroupCommandTimeoutAndProgress() throws Exception {
+        List<String> timeouts = Collections.synchronizedList(new ArrayList<>());
+        LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
+            @Override
+            void nonZeroLog(List<String> cmdLs, int exitCode) {
+            }
+
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) {
+                throw new AssertionError();
+            }
+
+            @Override
+            public int execute(String program, long timeoutSecondes, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws IOException {
+                timeouts.add(program + "=" + timeoutSecondes);
+                if ("post".equals(program)) {
+                    Files.createFile(workingDir.resolve(args.get(0)));
+                }
+                return 0;
+            }
+        };
+        List<String> progress = Collections.synchronizedList(new ArrayList<>());
+        try (ComputationManager computationManager = new LocalComputationManager(config, localCommandExecutor, ForkJoinPool.commonPool())) {
+            computationManager.execute(ExecutionEnvironment.createDefault(), new AbstractExecutionHandler<Object>() {
+                @Override
+                public List<CommandExecution> before(Path workingDir) {
+                    Command command = new GroupCommandBuilder()
+                            .id("group")
+                            .subCommand()
+                                .program("pre")
+                                .timeout(60)
+                            .add()
+                            .subCommand()
+                                .program("post")
+                                .args("result_" + CommandConstants.EXECUTION_NUMBER_PATTERN + ".txt")
+                            .add()
+                            .outputFiles(new OutputFile(i -> "result_" + i + ".txt", FilePostProcessor.FILE_GZIP),
+                                         new OutputFile("missing.txt"))
+                            .build();
+                    return Collections.singletonList(new CommandExecution(command, 2));
+                }
+
+                @Override
+                public void onExecutionCompletion(CommandExecution execution, int executionIndex, int exitValue, List<Path> outputFiles) {
+                    assertEquals(0, exitValue);
+                    outputFiles.forEach(file -> progress.add(file.getFileName().toString()));
+                }
+
+                @Override
+                public Object after(Path workingDir, ExecutionReport report) {
+                    assertTrue(report.getErrors().isEmpty());
+                    return null;
+                }
+            }, new ComputationParametersBuilder().setTimeout("group", 10).build()).join();
+        }
+        // the timeout of the command applies to sub commands without their own timeout
+        assertEquals(ImmutableList.of("pre=60", "post=10", "pre=60", "post=10"), timeouts);
+        assertEquals(ImmutableList.of("result_0.txt.gz", "result_1.txt.gz"), progress);
+    }
+
+    @Test
+    public void testCancelQueuedExecutions() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
+            @Override
+            void nonZeroLog(List<String> cmdLs, int exitCode) {
+            }
+
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws InterruptedException {
+                executions.incrementAndGet();
+                started.countDown();
+                // wait to be stopped, as a killed process
+                stopped.await();
+                return 143;
+            }
+
+            @Override
+            public void stop(Path workingDir) {
+                stopped.countDown();
+            }
+        };
+        try (ComputationManager computationManager = new LocalComputationManager(config, localCommandExecutor, ForkJoinPool.commonPool())) {
+            CompletableFuture<Object> result = computationManager.execute(ExecutionEnvironment.createDefault(), new AbstractExecutionHandler<Object>() {
+                @Override
+                public List<CommandExecution> before(Path workingDir) {
+                    Command command = new SimpleCommandBuilder()
+                            .id("cmd")
+                            .program("prog")
+                            .build();
+                    return Collections.singletonList(new CommandExecution(command, 5));
+                }
+
+                @Override
+                public Object after(Path workingDir, ExecutionReport report) {
+                    return null;
+                }
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            result.cancel(true);
+            // queued executions are not started once the running one has been stopped
+            Thread.sleep(500);
+            assertEquals(1, executions.get());
+        }
+    }
+
     @Test(expected = ExecutionException.class)
     public void hangingIssue() throws Exception {
         LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.local;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ParallelGzipTest {
+
+    private FileSystem fileSystem;
+
+    @Before
+    public void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    private void checkGzip(byte[] data) throws Exception {
+        Path source = fileSystem.getPath("/data");
+        Path target = fileSystem.getPath("/data.gz");
+        Files.write(source, data);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            pool.submit(() -> {
+                ParallelGzip.gzip(source, target, 100, 3);
+                return null;
+            }).get();
+        } finally {
+            pool.shutdown();
+        }
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(target))) {
+            assertArrayEquals(data, ByteStreams.toByteArray(is));
+        }
+    }
+
+    @Test
+    public void test() throws Exception {
+        byte[] data = new byte[1050];
+        new Random(0).nextBytes(data);
+        checkGzip(data);
+    }
+
+    @Test
+    public void exactBlockSizeTest() throws Exception {
+        checkGzip(new byte[300]);
+    }
+
+    @Test
+    public void emptyTest() throws Exception {
+        checkGzip(new byte[0]);
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.mpi;
+
+import org.joda.time.DateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Statistics written in batches by a background thread, so that the job scheduler thread is not slowed down by
+ * statistics writing.
+ *
+ * @author agent <agent at local>
+ */
+class BatchedMpiStatistics implements MpiStatistics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchedMpiStatistics.class);
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final Consumer<MpiStatistics> STOP = statistics -> { };
+
+    private final MpiStatistics delegate;
+
+    private final BlockingQueue<Consumer<MpiStatistics>> records = new LinkedBlockingQueue<>();
+
+    // protect the delegate from concurrent writing and export
+    private final Lock lock = new ReentrantLock();
+
+    private final Thread writerThread;
+
+    BatchedMpiStatistics(MpiStatistics delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+        writerThread = new Thread(this::writeRecords, "MpiStatisticsWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    private void writeRecords() {
+        List<Consumer<MpiStatistics>> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(records.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            records.drainTo(batch, MAX_BATCH_SIZE - 1);
+            boolean stop = write(batch);
+            batch.clear();
+            if (stop) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return true if the stop record has been reached
+     */
+    private boolean write(List<Consumer<MpiStatistics>> batch) {
+        lock.lock();
+        try {
+            for (Consumer<MpiStatistics> record : batch) {
+                if (record == STOP) {
+                    return true;
+                }
+                try {
+                    record.accept(delegate);
+                } catch (Exception e) {
+                    LOGGER.error(e.toString(), e);
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void logCommonFileTransfer(String fileName, int chunk, long size, long duration) {
+        records.add(statistics -> statistics.logCommonFileTransfer(fileName, chunk, size, duration));
+    }
+
+    @Override
+    public void logJobStart(int jobId, String commandId, Map<String, String> tags) {
+        records.add(statistics -> statistics.logJobStart(jobId, commandId, tags));
+    }
+
+    @Override
+    public void logJobEnd(int jobId) {
+        records.add(statistics -> statistics.logJobEnd(jobId));
+    }
+
+    @Override
+    public void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize) {
+        records.add(statistics -> statistics.logTaskStart(taskId, jobId, taskIndex, startTime, slaveRank, slaveThread, inputMessageSize));
+    }
+
+    @Override
+    public void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize, long cachedInputSize) {
+        records.add(statistics -> statistics.logTaskStart(taskId, jobId, taskIndex, startTime, slaveRank, slaveThread, inputMessageSize, cachedInputSize));
+    }
+
+    @Override
+    public void logTaskEnd(int taskId, long taskDuration, List<Long> commandsDuration, long dataTransferDuration, long outputMessageSize, long workingDataSize, int exitCode) {
+        records.add(statistics -> statistics.logTaskEnd(taskId, taskDuration, commandsDuration, dataTransferDuration, outputMessageSize, workingDataSize, exitCode));
+    }
+
+    @Override
+    public void exportTasksToCsv(Writer writer) {
+        lock.lock();
+        try {
+            // write pending records first
+            List<Consumer<MpiStatistics>> batch = new ArrayList<>();
+            records.drainTo(batch);
+            if (write(batch)) {
+                records.add(STOP);
+            }
+            delegate.exportTasksToCsv(writer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        records.add(STOP);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+}
@@ -0,0 +1,658 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.mpi;
+
+import com.google.common.base.Joiner;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.google.common.io.CountingOutputStream;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.computation.CommandCostModel;
+import com.powsybl.computation.CommandStatistics;
+import org.joda.time.DateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Statistics stored in a compact binary log, to which each run is appended, and aggregated per command id in an
+ * index.
+ * <p>
+ * The log ({@code <dbName>.bin}) is a sequence of records, strings (command ids, tags, file names) being written only
+ * once per run and then referenced by their id. The index ({@code <dbName>.idx}) holds the rollups of all the runs
+ * per command id (task count, duration histogram, bytes in and out) and is rewritten when the statistics are closed,
+ * so that querying them does not require to read the log. If the index is missing or out of date, after a crash for
+ * instance, it is rebuilt from the log.
+ * <p>
+ * Opening the statistics starts a new run: use {@link #readSnapshot(Path, String)} to only read them.
+ *
+ * @author agent <agent at local>
+ */
+public class BinaryMpiStatistics implements MpiStatistics, CommandCostModel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryMpiStatistics.class);
+
+    private static final int LOG_MAGIC = 0x4d50494c; // MPIL
+    private static final int INDEX_MAGIC = 0x4d504949; // MPII
+    private static final int VERSION = 1;
+
+    private static final byte RUN_START = 0;
+    private static final byte STRING = 1;
+    private static final byte COMMON_FILE_TRANSFER = 2;
+    private static final byte JOB_START = 3;
+    private static final byte JOB_END = 4;
+    private static final byte TASK_START = 5;
+    private static final byte TASK_END = 6;
+
+    private static final String CSV_SEPARATOR = ";";
+
+    private static final Joiner BLANK_JOINER = Joiner.on(' ');
+    private static final Joiner.MapJoiner MAP_JOINER = BLANK_JOINER.withKeyValueSeparator("=");
+
+    private static final class Job {
+
+        private final String commandId;
+
+        private final Map<String, String> tags;
+
+        private Job(String commandId, Map<String, String> tags) {
+            this.commandId = commandId;
+            this.tags = tags;
+        }
+    }
+
+    private static final class Task {
+
+        private final int taskId;
+        private final int jobId;
+        private final int taskIndex;
+        private final long startTime;
+        private final int slaveRank;
+        private final int slaveThread;
+        private final long inputMessageSize;
+        private final long cachedInputSize;
+        private long taskDuration;
+        private List<Long> commandsDuration;
+        private long dataTransferDuration;
+        private long outputMessageSize;
+        private long workingDataSize;
+        private int exitCode;
+
+        private Task(int taskId, int jobId, int taskIndex, long startTime, int slaveRank, int slaveThread,
+                     long inputMessageSize, long cachedInputSize) {
+            this.taskId = taskId;
+            this.jobId = jobId;
+            this.taskIndex = taskIndex;
+            this.startTime = startTime;
+            this.slaveRank = slaveRank;
+            this.slaveThread = slaveThread;
+            this.inputMessageSize = inputMessageSize;
+            this.cachedInputSize = cachedInputSize;
+        }
+    }
+
+    /**
+     * Jobs and tasks of the current run, shared by the writing and the reading of the log.
+     */
+    private static final class RunState {
+
+        private final Map<Integer, Job> jobs = new HashMap<>();
+
+        private final Map<Integer, Task> tasks = new HashMap<>();
+
+        private void clear() {
+            jobs.clear();
+            tasks.clear();
+        }
+
+        private void jobStart(int jobId, String commandId, Map<String, String> tags) {
+            jobs.put(jobId, new Job(commandId, tags));
+        }
+
+        private void jobEnd(int jobId) {
+            jobs.remove(jobId);
+        }
+
+        private void taskStart(Task task) {
+            tasks.put(task.taskId, task);
+        }
+
+        /**
+         * @return the ended task, null if unknown
+         */
+        private Task taskEnd(int taskId, long taskDuration, List<Long> commandsDuration, long dataTransferDuration,
+                             long outputMessageSize, long workingDataSize, int exitCode) {
+            Task task = tasks.remove(taskId);
+            if (task != null) {
+                task.taskDuration = taskDuration;
+                task.commandsDuration = commandsDuration;
+                task.dataTransferDuration = dataTransferDuration;
+                task.outputMessageSize = outputMessageSize;
+                task.workingDataSize = workingDataSize;
+                task.exitCode = exitCode;
+            }
+            return task;
+        }
+    }
+
+    private interface TaskEndHandler {
+
+        void onTaskEnd(Task task, Job job);
+    }
+
+    private final Path logFile;
+
+    private final Path indexFile;
+
+    private final Map<String, CommandRollup> rollups;
+
+    private final RunState runState = new RunState();
+
+    // ids of the strings already written in the current run
+    private final Map<String, Integer> stringIds = new HashMap<>();
+
+    private final CountingOutputStream countingOs;
+
+    private final DataOutputStream os;
+
+    private final long initialLogSize;
+
+    private boolean closed = false;
+
+    public BinaryMpiStatistics(Path dbDir, String dbName) throws IOException {
+        Objects.requireNonNull(dbDir);
+        Objects.requireNonNull(dbName);
+        logFile = dbDir.resolve(dbName + ".bin");
+        indexFile = dbDir.resolve(dbName + ".idx");
+
+        if (Files.exists(logFile)) {
+            Map<String, CommandRollup> indexedRollups = readIndex(indexFile, Files.size(logFile));
+            if (indexedRollups != null) {
+                rollups = indexedRollups;
+            } else {
+                rollups = new TreeMap<>();
+                long validSize = replay(logFile, Files.size(logFile), rollups);
+                if (validSize < Files.size(logFile)) {
+                    // drop the incomplete record written by a crashed run, so that new records can be appended
+                    LOGGER.warn("Truncate statistics log {} to {} bytes", logFile, validSize);
+                    try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+                        channel.truncate(validSize);
+                    }
+                }
+            }
+            initialLogSize = Files.size(logFile);
+            countingOs = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(logFile, StandardOpenOption.APPEND)));
+            os = new DataOutputStream(countingOs);
+        } else {
+            rollups = new TreeMap<>();
+            initialLogSize = 0;
+            countingOs = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(logFile)));
+            os = new DataOutputStream(countingOs);
+            os.writeInt(LOG_MAGIC);
+            os.writeInt(VERSION);
+        }
+        os.writeByte(RUN_START);
+        os.writeLong(System.currentTimeMillis());
+    }
+
+    /**
+     * Statistics db read as it was when the snapshot has been taken.
+     */
+    public static final class Snapshot implements CommandCostModel {
+
+        private final Path logFile;
+
+        private final long logSize;
+
+        private final Map<String, CommandRollup> rollups;
+
+        private Snapshot(Path logFile, long logSize, Map<String, CommandRollup> rollups) {
+            this.logFile = logFile;
+            this.logSize = logSize;
+            this.rollups = rollups;
+        }
+
+        @Override
+        public Optional<CommandStatistics> getStatistics(String commandId) {
+            Objects.requireNonNull(commandId);
+            return Optional.ofNullable(rollups.get(commandId)).map(rollup -> rollup.toStatistics(commandId));
+        }
+
+        public Set<String> getCommandIds() {
+            return new TreeSet<>(rollups.keySet());
+        }
+
+        public void exportTasksToCsv(Writer writer) {
+            writeTasksCsv(logFile, logSize, writer);
+        }
+
+        public void exportCommandsToCsv(Writer writer) {
+            writeCommandsCsv(rollups, writer);
+        }
+    }
+
+    /**
+     * Read a statistics db without opening it for writing: the log is neither appended nor truncated and the index
+     * is not written, so that a db can be read while a run is writing it. Records appended after the snapshot has
+     * been taken are ignored.
+     *
+     * @return a snapshot of the db, empty if the db does not exist
+     */
+    public static Snapshot readSnapshot(Path dbDir, String dbName) throws IOException {
+        Objects.requireNonNull(dbDir);
+        Objects.requireNonNull(dbName);
+        Path logFile = dbDir.resolve(dbName + ".bin");
+        if (!Files.exists(logFile)) {
+            return new Snapshot(null, 0, Collections.emptyMap());
+        }
+        long logSize = Files.size(logFile);
+        Map<String, CommandRollup> rollups = readIndex(dbDir.resolve(dbName + ".idx"), logSize);
+        if (rollups == null) {
+            rollups = new TreeMap<>();
+            replay(logFile, logSize, rollups);
+        }
+        return new Snapshot(logFile, logSize, rollups);
+    }
+
+    /**
+     * Read the rollups of a statistics db without opening it for writing.
+     *
+     * @return a cost model based on the rollups, empty if the db does not exist
+     */
+    public static CommandCostModel readCostModel(Path dbDir, String dbName) throws IOException {
+        return readSnapshot(dbDir, dbName);
+    }
+
+    /**
+     * @return the rollups if the index covers a log of the given size, null otherwise
+     */
+    private static Map<String, CommandRollup> readIndex(Path indexFile, long logSize) throws IOException {
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        try (DataInputStream is = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (is.readInt() != INDEX_MAGIC || is.readInt() != VERSION) {
+                throw new PowsyblException("Invalid statistics index " + indexFile);
+            }
+            long indexedLogSize = is.readLong();
+            if (indexedLogSize != logSize) {
+                LOGGER.info("Statistics index {} is out of date", indexFile);
+                return null;
+            }
+            Map<String, CommandRollup> rollups = new TreeMap<>();
+            int commandCount = is.readInt();
+            for (int i = 0; i < commandCount; i++) {
+                String commandId = is.readUTF();
+                rollups.put(commandId, CommandRollup.read(is));
+            }
+            return rollups;
+        }
+    }
+
+    private void writeIndex(long logSize) throws IOException {
+        Path tmpIndexFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (DataOutputStream indexOs = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpIndexFile)))) {
+            indexOs.writeInt(INDEX_MAGIC);
+            indexOs.writeInt(VERSION);
+            indexOs.writeLong(logSize);
+            indexOs.writeInt(rollups.size());
+            for (Map.Entry<String, CommandRollup> e : rollups.entrySet()) {
+                indexOs.writeUTF(e.getKey());
+                e.getValue().write(indexOs);
+            }
+        }
+        Files.move(tmpIndexFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void addToRollups(Map<String, CommandRollup> rollups, Task task, Job job) {
+        rollups.computeIfAbsent(job.commandId, k -> new CommandRollup())
+                .add(task.taskDuration, task.exitCode != 0, task.inputMessageSize, task.cachedInputSize, task.outputMessageSize);
+    }
+
+    private static long replay(Path logFile, long logSize, Map<String, CommandRollup> rollups) throws IOException {
+        return read(logFile, logSize, (task, job) -> addToRollups(rollups, task, job));
+    }
+
+    /**
+     * Read the first bytes of a log, an incomplete record at the end being ignored.
+     *
+     * @return the size of the complete records of the log
+     */
+    private static long read(Path logFile, long logSize, TaskEndHandler handler) throws IOException {
+        try (CountingInputStream countingIs = new CountingInputStream(ByteStreams.limit(new BufferedInputStream(Files.newInputStream(logFile)), logSize));
+             DataInputStream is = new DataInputStream(countingIs)) {
+            if (is.readInt() != LOG_MAGIC || is.readInt() != VERSION) {
+                throw new PowsyblException("Invalid statistics log " + logFile);
+            }
+            RunState state = new RunState();
+            List<String> strings = new ArrayList<>();
+            long validSize = countingIs.getCount();
+            try {
+                int type;
+                while ((type = is.read()) != -1) {
+                    readRecord((byte) type, is, state, strings, handler);
+                    validSize = countingIs.getCount();
+                }
+            } catch (EOFException e) {
+                LOGGER.warn("Incomplete record at the end of statistics log {}", logFile);
+            }
+            return validSize;
+        }
+    }
+
+    private static void readRecord(byte type, DataInputStream is, RunState state, List<String> strings, TaskEndHandler handler) throws IOException {
+        switch (type) {
+            case RUN_START:
+                is.readLong();
+                state.clear();
+                strings.clear();
+                break;
+
+            case STRING:
+                int stringId = is.readInt();
+                if (stringId != strings.size()) {
+                    throw new PowsyblException("Unexpected string id " + stringId);
+                }
+                strings.add(is.readUTF());
+                break;
+
+            case COMMON_FILE_TRANSFER:
+                is.readInt(); // file name
+                is.readInt(); // chunk
+                is.readLong(); // size
+                is.readLong(); // duration
+                break;
+
+            case JOB_START:
+                int jobId = is.readInt();
+                String commandId = strings.get(is.readInt());
+                int tagCount = is.readInt();
+                Map<String, String> tags = null;
+                if (tagCount >= 0) {
+                    tags = new LinkedHashMap<>(tagCount);
+                    for (int i = 0; i < tagCount; i++) {
+                        tags.put(strings.get(is.readInt()), strings.get(is.readInt()));
+                    }
+                }
+                state.jobStart(jobId, commandId, tags);
+                break;
+
+            case JOB_END:
+                state.jobEnd(is.readInt());
+                break;
+
+            case TASK_START:
+                state.taskStart(new Task(is.readInt(), is.readInt(), is.readInt(), is.readLong(), is.readInt(), is.readInt(),
+                                         is.readLong(), is.readLong()));
+                break;
+
+            case TASK_END:
+                int taskId = is.readInt();
+                long taskDuration = is.readLong();
+                int commandCount = is.readInt();
+                List<Long> commandsDuration = new ArrayList<>(commandCount);
+                for (int i = 0; i < commandCount; i++) {
+                    commandsDuration.add(is.readLong());
+                }
+                Task task = state.taskEnd(taskId, taskDuration, commandsDuration, is.readLong(), is.readLong(), is.readLong(), is.readInt());
+                if (task != null) {
+                    Job job = state.jobs.get(task.jobId);
+                    if (job != null) {
+                        handler.onTaskEnd(task, job);
+                    }
+                }
+                break;
+
+            default:
+                throw new PowsyblException("Unknown statistics record type " + type);
+        }
+    }
+
+    private int writeString(String s) throws IOException {
+        Integer id = stringIds.get(s);
+        if (id == null) {
+            id = stringIds.size();
+            stringIds.put(s, id);
+            os.writeByte(STRING);
+            os.writeInt(id);
+            os.writeUTF(s);
+        }
+        return id;
+    }
+
+    @Override
+    public synchronized void logCommonFileTransfer(String fileName, int chunk, long size, long duration) {
+        try {
+            int fileNameId = writeString(fileName);
+            os.writeByte(COMMON_FILE_TRANSFER);
+            os.writeInt(fileNameId);
+            os.writeInt(chunk);
+            os.writeLong(size);
+            os.writeLong(duration);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void logJobStart(int jobId, String commandId, Map<String, String> tags) {
+        try {
+            int commandIdId = writeString(commandId);
+            int[] tagIds = null;
+            if (tags != null) {
+                tagIds = new int[tags.size() * 2];
+                int i = 0;
+                for (Map.Entry<String, String> e : tags.entrySet()) {
+                    tagIds[i++] = writeString(e.getKey());
+                    tagIds[i++] = writeString(e.getValue());
+                }
+            }
+            os.writeByte(JOB_START);
+            os.writeInt(jobId);
+            os.writeInt(commandIdId);
+            if (tagIds != null) {
+                os.writeInt(tags.size());
+                for (int tagId : tagIds) {
+                    os.writeInt(tagId);
+                }
+            } else {
+                os.writeInt(-1);
+            }
+            runState.jobStart(jobId, commandId, tags);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void logJobEnd(int jobId) {
+        try {
+            os.writeByte(JOB_END);
+            os.writeInt(jobId);
+            runState.jobEnd(jobId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize) {
+        logTaskStart(taskId, jobId, taskIndex, startTime, slaveRank, slaveThread, inputMessageSize, 0);
+    }
+
+    @Override
+    public synchronized void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize, long cachedInputSize) {
+        try {
+            os.writeByte(TASK_START);
+            os.writeInt(taskId);
+            os.writeInt(jobId);
+            os.writeInt(taskIndex);
+            os.writeLong(startTime.getMillis());
+            os.writeInt(slaveRank);
+            os.writeInt(slaveThread);
+            os.writeLong(inputMessageSize);
+            os.writeLong(cachedInputSize);
+            runState.taskStart(new Task(taskId, jobId, taskIndex, startTime.getMillis(), slaveRank, slaveThread, inputMessageSize, cachedInputSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void logTaskEnd(int taskId, long taskDuration, List<Long> commandsDuration, long dataTransferDuration, long outputMessageSize, long workingDataSize, int exitCode) {
+        try {
+            os.writeByte(TASK_END);
+            os.writeInt(taskId);
+            os.writeLong(taskDuration);
+            os.writeInt(commandsDuration.size());
+            for (long commandDuration : commandsDuration) {
+                os.writeLong(commandDuration);
+            }
+            os.writeLong(dataTransferDuration);
+            os.writeLong(outputMessageSize);
+            os.writeLong(workingDataSize);
+            os.writeInt(exitCode);
+            Task task = runState.taskEnd(taskId, taskDuration, commandsDuration, dataTransferDuration, outputMessageSize, workingDataSize, exitCode);
+            if (task != null) {
+                Job job = runState.jobs.get(task.jobId);
+                if (job != null) {
+                    addToRollups(rollups, task, job);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized Optional<CommandStatistics> getStatistics(String commandId) {
+        Objects.requireNonNull(commandId);
+        return Optional.ofNullable(rollups.get(commandId)).map(rollup -> rollup.toStatistics(commandId));
+    }
+
+    public synchronized Set<String> getCommandIds() {
+        return new TreeSet<>(rollups.keySet());
+    }
+
+    @Override
+    public synchronized void exportTasksToCsv(Writer writer) {
+        try {
+            os.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writeTasksCsv(logFile, initialLogSize + countingOs.getCount(), writer);
+    }
+
+    /**
+     * Export the rollups per command id to CSV.
+     */
+    public synchronized void exportCommandsToCsv(Writer writer) {
+        writeCommandsCsv(rollups, writer);
+    }
+
+    private static void writeTasksCsv(Path logFile, long logSize, Writer writer) {
+        try {
+            writer.write("Task Id" + CSV_SEPARATOR +
+                         "Job Id" + CSV_SEPARATOR +
+                         "Task index" + CSV_SEPARATOR +
+                         "Command Id" + CSV_SEPARATOR +
+                         "Tags" + CSV_SEPARATOR +
+                         "Start time" + CSV_SEPARATOR +
+                         "Slave rank" + CSV_SEPARATOR +
+                         "Slave thread" + CSV_SEPARATOR +
+                         "Input message size (bytes)" + CSV_SEPARATOR +
+                         "Cached input size (bytes)" + CSV_SEPARATOR +
+                         "Task duration (ms)" + CSV_SEPARATOR +
+                         "Commands duration (ms)" + CSV_SEPARATOR +
+                         "Data transfer duration (ms)" + CSV_SEPARATOR +
+                         "Output message size (bytes)" + CSV_SEPARATOR +
+                         "Working data size (bytes)" + CSV_SEPARATOR +
+                         "Exit code");
+            writer.write("\n");
+            if (logFile == null) {
+                return;
+            }
+            read(logFile, logSize, (task, job) -> {
+                try {
+                    writer.write(task.taskId + CSV_SEPARATOR +
+                                 task.jobId + CSV_SEPARATOR +
+                                 task.taskIndex + CSV_SEPARATOR +
+                                 job.commandId + CSV_SEPARATOR +
+                                 (job.tags != null ? MAP_JOINER.join(job.tags) : "") + CSV_SEPARATOR +
+                                 new DateTime(task.startTime).toString("dd/MM/YYYY HH:mm:ss") + CSV_SEPARATOR +
+                                 task.slaveRank + CSV_SEPARATOR +
+                                 task.slaveThread + CSV_SEPARATOR +
+                                 task.inputMessageSize + CSV_SEPARATOR +
+                                 task.cachedInputSize + CSV_SEPARATOR +
+                                 task.taskDuration + CSV_SEPARATOR +
+                                 BLANK_JOINER.join(task.commandsDuration) + CSV_SEPARATOR +
+                                 task.dataTransferDuration + CSV_SEPARATOR +
+                                 task.outputMessageSize + CSV_SEPARATOR +
+                                 task.workingDataSize + CSV_SEPARATOR +
+                                 task.exitCode);
+                    writer.write("\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCommandsCsv(Map<String, CommandRollup> rollups, Writer writer) {
+        try {
+            writer.write("Command Id" + CSV_SEPARATOR +
+                         "Tasks" + CSV_SEPARATOR +
+                         "Failed tasks" + CSV_SEPARATOR +
+                         "Mean duration (ms)" + CSV_SEPARATOR +
+                         "Median duration (ms)" + CSV_SEPARATOR +
+                         "95th percentile duration (ms)" + CSV_SEPARATOR +
+                         "Input message size (bytes)" + CSV_SEPARATOR +
+                         "Cached input size (bytes)" + CSV_SEPARATOR +
+                         "Output message size (bytes)");
+            writer.write("\n");
+            for (Map.Entry<String, CommandRollup> e : rollups.entrySet()) {
+                CommandRollup rollup = e.getValue();
+                writer.write(e.getKey() + CSV_SEPARATOR +
+                             rollup.getTaskCount() + CSV_SEPARATOR +
+                             rollup.getFailedTaskCount() + CSV_SEPARATOR +
+                             Math.round(rollup.getMeanDuration()) + CSV_SEPARATOR +
+                             rollup.getDurationPercentile(0.5) + CSV_SEPARATOR +
+                             rollup.getDurationPercentile(0.95) + CSV_SEPARATOR +
+                             rollup.getInputMessageBytes() + CSV_SEPARATOR +
+                             rollup.getCachedInputBytes() + CSV_SEPARATOR +
+                             rollup.getOutputMessageBytes());
+                writer.write("\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            os.close();
+            writeIndex(initialLogSize + countingOs.getCount());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
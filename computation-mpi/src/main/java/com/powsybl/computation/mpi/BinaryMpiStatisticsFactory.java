@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.mpi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ *
+ * @author agent <agent at local>
+ */
+public class BinaryMpiStatisticsFactory implements MpiStatisticsFactory {
+
+    @Override
+    public MpiStatistics create(Path dbDir, String dbName) {
+        if (dbDir == null || dbName == null) {
+            return new NoMpiStatistics();
+        }
+        try {
+            return new BinaryMpiStatistics(dbDir, dbName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.mpi;
+
+import com.powsybl.computation.CommandStatistics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Aggregated statistics of the tasks of a command. Durations are recorded in an histogram with 4 buckets per power
+ * of 2, so that percentiles are estimated with a relative error lower than 10% whatever the number of tasks.
+ *
+ * @author agent <agent at local>
+ */
+final class CommandRollup {
+
+    private static final int SUB_BUCKETS = 4;
+
+    private static final int BUCKET_COUNT = 63 * SUB_BUCKETS;
+
+    private static final double LN2 = Math.log(2);
+
+    private long taskCount = 0;
+
+    private long failedTaskCount = 0;
+
+    private long totalDuration = 0;
+
+    private long inputMessageBytes = 0;
+
+    private long cachedInputBytes = 0;
+
+    private long outputMessageBytes = 0;
+
+    private final long[] histogram = new long[BUCKET_COUNT];
+
+    static int bucket(long duration) {
+        if (duration <= 0) {
+            return 0;
+        }
+        return Math.min((int) (Math.log1p(duration) / LN2 * SUB_BUCKETS), BUCKET_COUNT - 1);
+    }
+
+    private static double bucketLowerBound(int bucket) {
+        return Math.pow(2, (double) bucket / SUB_BUCKETS) - 1;
+    }
+
+    void add(long duration, boolean failed, long inputMessageSize, long cachedInputSize, long outputMessageSize) {
+        taskCount++;
+        if (failed) {
+            failedTaskCount++;
+        }
+        totalDuration += duration;
+        inputMessageBytes += inputMessageSize;
+        cachedInputBytes += cachedInputSize;
+        outputMessageBytes += outputMessageSize;
+        histogram[bucket(duration)]++;
+    }
+
+    long getTaskCount() {
+        return taskCount;
+    }
+
+    long getFailedTaskCount() {
+        return failedTaskCount;
+    }
+
+    double getMeanDuration() {
+        return taskCount > 0 ? (double) totalDuration / taskCount : 0;
+    }
+
+    long getInputMessageBytes() {
+        return inputMessageBytes;
+    }
+
+    long getCachedInputBytes() {
+        return cachedInputBytes;
+    }
+
+    long getOutputMessageBytes() {
+        return outputMessageBytes;
+    }
+
+    /**
+     * Estimate a duration percentile as the middle of the histogram bucket it falls in.
+     *
+     * @param p the percentile between 0 and 1
+     */
+    long getDurationPercentile(double p) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("Invalid percentile: " + p);
+        }
+        if (taskCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(p * taskCount));
+        long cumulated = 0;
+        int bucket = 0;
+        for (; bucket < BUCKET_COUNT - 1; bucket++) {
+            cumulated += histogram[bucket];
+            if (cumulated >= rank) {
+                break;
+            }
+        }
+        if (bucket == 0) {
+            return 0;
+        }
+        return Math.round((bucketLowerBound(bucket) + bucketLowerBound(bucket + 1)) / 2);
+    }
+
+    CommandStatistics toStatistics(String commandId) {
+        return new CommandStatistics(commandId, taskCount, failedTaskCount, getMeanDuration(),
+                                     getDurationPercentile(0.5), getDurationPercentile(0.95),
+                                     inputMessageBytes + cachedInputBytes, outputMessageBytes);
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeLong(taskCount);
+        out.writeLong(failedTaskCount);
+        out.writeLong(totalDuration);
+        out.writeLong(inputMessageBytes);
+        out.writeLong(cachedInputBytes);
+        out.writeLong(outputMessageBytes);
+        // sparse histogram
+        int nonEmptyBuckets = 0;
+        for (long count : histogram) {
+            if (count > 0) {
+                nonEmptyBuckets++;
+            }
+        }
+        out.writeInt(nonEmptyBuckets);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            if (histogram[bucket] > 0) {
+                out.writeShort(bucket);
+                out.writeLong(histogram[bucket]);
+            }
+        }
+    }
+
+    static CommandRollup read(DataInput in) throws IOException {
+        CommandRollup rollup = new CommandRollup();
+        rollup.taskCount = in.readLong();
+        rollup.failedTaskCount = in.readLong();
+        rollup.totalDuration = in.readLong();
+        rollup.inputMessageBytes = in.readLong();
+        rollup.cachedInputBytes = in.readLong();
+        rollup.outputMessageBytes = in.readLong();
+        int nonEmptyBuckets = in.readInt();
+        for (int i = 0; i < nonEmptyBuckets; i++) {
+            int bucket = in.readShort();
+            rollup.histogram[bucket] = in.readLong();
+        }
+        return rollup;
+    }
+}
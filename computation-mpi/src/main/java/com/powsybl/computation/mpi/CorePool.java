@@ -42,13 +42,13 @@ class CorePool {
             }
             for (Core borrowedCore : borrowedCores) {
                 cores.remove(borrowedCore);
-                coresPerRank.remove(borrowedCore.rank, borrowedCore);
+                coresPerRank.remove(borrowedCore.rank.num, borrowedCore);
             }
         }
         while (borrowedCores.size() < n) {
             Core borrowedCore = cores.poll();
             borrowedCores.add(borrowedCore);
-            coresPerRank.remove(borrowedCore.rank, borrowedCore);
+            coresPerRank.remove(borrowedCore.rank.num, borrowedCore);
         }
         return borrowedCores;
     }
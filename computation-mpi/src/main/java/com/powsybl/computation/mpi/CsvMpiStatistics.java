@@ -76,6 +76,7 @@ public class CsvMpiStatistics implements MpiStatistics {
             final int slaveRank;
             final int slaveThread;
             final long inputMessageSize;
+            final long cachedInputSize;
             Long taskDuration;
             List<Long> commandsDuration;
             Long dataTransferDuration;
@@ -83,7 +84,8 @@ public class CsvMpiStatistics implements MpiStatistics {
             Long workingDataSize;
             Integer exitCode;
 
-            private TaskExecution(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize) {
+            private TaskExecution(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize,
+                                  long cachedInputSize) {
                 this.taskId = taskId;
                 this.jobId = jobId;
                 this.taskIndex = taskIndex;
@@ -91,6 +93,7 @@ public class CsvMpiStatistics implements MpiStatistics {
                 this.slaveRank = slaveRank;
                 this.slaveThread = slaveThread;
                 this.inputMessageSize = inputMessageSize;
+                this.cachedInputSize = cachedInputSize;
             }
         }
 
@@ -173,7 +176,8 @@ public class CsvMpiStatistics implements MpiStatistics {
                         break;
 
                     case TASK_START_KEY:
-                        checkTokenSize(8, tokens.length, line, key);
+                        // cached input size is missing from statistics written by previous versions
+                        checkTokenSize(8, 9, tokens.length, line, key);
                         taskId = Integer.parseInt(tokens[1]);
                         jobId = Integer.parseInt(tokens[2]);
                         int taskIndex = Integer.parseInt(tokens[3]);
@@ -181,7 +185,8 @@ public class CsvMpiStatistics implements MpiStatistics {
                         int slaveRank = Integer.parseInt(tokens[5]);
                         int slaveThread = Integer.parseInt(tokens[6]);
                         long inputMessageSize = Long.parseLong(tokens[7]);
-                        tasks.put(taskId, new TaskExecution(taskId, jobId, taskIndex, startTime, slaveRank, slaveThread, inputMessageSize));
+                        long cachedInputSize = tokens.length == 9 ? Long.parseLong(tokens[8]) : 0;
+                        tasks.put(taskId, new TaskExecution(taskId, jobId, taskIndex, startTime, slaveRank, slaveThread, inputMessageSize, cachedInputSize));
                         break;
 
                     case TASK_END_KEY:
@@ -298,6 +303,11 @@ public class CsvMpiStatistics implements MpiStatistics {
 
     @Override
     public void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize) {
+        logTaskStart(taskId, jobId, taskIndex, startTime, slaveRank, slaveThread, inputMessageSize, 0);
+    }
+
+    @Override
+    public void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize, long cachedInputSize) {
         try {
             internalWriter.write(TASK_START_KEY);
             internalWriter.write(CSV_SEPARATOR);
@@ -314,6 +324,8 @@ public class CsvMpiStatistics implements MpiStatistics {
             internalWriter.write(Integer.toString(slaveThread));
             internalWriter.write(CSV_SEPARATOR);
             internalWriter.write(Long.toString(inputMessageSize));
+            internalWriter.write(CSV_SEPARATOR);
+            internalWriter.write(Long.toString(cachedInputSize));
             internalWriter.newLine();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -358,6 +370,7 @@ public class CsvMpiStatistics implements MpiStatistics {
                          "Slave rank" + CSV_SEPARATOR +
                          "Slave thread" + CSV_SEPARATOR +
                          "Input message size (bytes)" + CSV_SEPARATOR +
+                         "Cached input size (bytes)" + CSV_SEPARATOR +
                          "Task duration (ms)" + CSV_SEPARATOR +
                          "Commands duration (ms)" + CSV_SEPARATOR +
                          "Data transfer duration (ms)" + CSV_SEPARATOR +
@@ -390,6 +403,7 @@ public class CsvMpiStatistics implements MpiStatistics {
                                          task.slaveRank + CSV_SEPARATOR +
                                          task.slaveThread + CSV_SEPARATOR +
                                          task.inputMessageSize + CSV_SEPARATOR +
+                                         task.cachedInputSize + CSV_SEPARATOR +
                                          taskDuration + CSV_SEPARATOR +
                                          commandsDuration + CSV_SEPARATOR +
                                          dataTransferDuration + CSV_SEPARATOR +
@@ -594,6 +608,50 @@ public class CsvMpiStatistics implements MpiStatistics {
         }
     }
 
+    public static void exportCachedInputSize(Path dbDir, String dbName) throws IOException {
+        Objects.requireNonNull(dbDir);
+        Objects.requireNonNull(dbName);
+
+        Path csv = dbDir.resolve(dbName + ".csv");
+
+        class CommandStats {
+            long inputMessageSize = 0;
+            long cachedInputSize = 0;
+        }
+
+        Path cachedInputSizeCsv = dbDir.resolve("cached-input-size.csv");
+        logWritingPath(cachedInputSizeCsv);
+
+        final Map<String, CommandStats> statsPerCommandId = new TreeMap<>();
+        final CommandStats total = new CommandStats();
+        try (StatisticsReader reader = new StatisticsReader(csv)) {
+            reader.read(new StatisticsReader.AbstractHandler() {
+
+                @Override
+                public void onTaskEnd(StatisticsReader.TaskExecution task, StatisticsReader.JobExecution job) {
+                    CommandStats stats = statsPerCommandId.computeIfAbsent(job.commandId, k -> new CommandStats());
+                    stats.inputMessageSize += task.inputMessageSize;
+                    stats.cachedInputSize += task.cachedInputSize;
+                    total.inputMessageSize += task.inputMessageSize;
+                    total.cachedInputSize += task.cachedInputSize;
+                }
+
+            });
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(cachedInputSizeCsv, StandardCharsets.UTF_8)) {
+            writer.write("Command Id" + CSV_SEPARATOR + "Input message size (bytes)" + CSV_SEPARATOR + "Cached input size (bytes)");
+            writer.newLine();
+            for (Map.Entry<String, CommandStats> entry : statsPerCommandId.entrySet()) {
+                CommandStats stats = entry.getValue();
+                writer.write(entry.getKey() + CSV_SEPARATOR + stats.inputMessageSize + CSV_SEPARATOR + stats.cachedInputSize);
+                writer.newLine();
+            }
+            writer.write("Total" + CSV_SEPARATOR + total.inputMessageSize + CSV_SEPARATOR + total.cachedInputSize);
+            writer.newLine();
+        }
+    }
+
     @Override
     public void close() {
         try {
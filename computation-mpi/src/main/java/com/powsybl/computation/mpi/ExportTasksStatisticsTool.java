@@ -29,6 +29,7 @@ public class ExportTasksStatisticsTool implements Tool {
     private static final String STATISTICS_DB_DIR = "statistics-db-dir";
     private static final String STATISTICS_DB_NAME = "statistics-db-name";
     private static final String OUTPUT_FILE = "output-file";
+    private static final String COMMANDS = "commands";
 
     @Override
     public Command getCommand() {
@@ -69,6 +70,9 @@ public class ExportTasksStatisticsTool implements Tool {
                         .argName("FILE")
                         .required()
                         .build());
+                options.addOption(Option.builder().longOpt(COMMANDS)
+                        .desc("export statistics per command id instead of per task (binary statistics db only)")
+                        .build());
                 return options;
             }
 
@@ -84,9 +88,24 @@ public class ExportTasksStatisticsTool implements Tool {
         Path statisticsDbDir = context.getFileSystem().getPath(line.getOptionValue(STATISTICS_DB_DIR));
         String statisticsDbName = line.getOptionValue(STATISTICS_DB_NAME);
         Path outputFile = context.getFileSystem().getPath(line.getOptionValue(OUTPUT_FILE));
-        try (MpiStatistics statistics = new CsvMpiStatistics(statisticsDbDir, statisticsDbName)) {
+        if (Files.exists(statisticsDbDir.resolve(statisticsDbName + ".bin"))) {
+            // read only, a run may be writing the statistics
+            BinaryMpiStatistics.Snapshot statistics = BinaryMpiStatistics.readSnapshot(statisticsDbDir, statisticsDbName);
             try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
-                statistics.exportTasksToCsv(writer);
+                if (line.hasOption(COMMANDS)) {
+                    statistics.exportCommandsToCsv(writer);
+                } else {
+                    statistics.exportTasksToCsv(writer);
+                }
+            }
+        } else {
+            if (line.hasOption(COMMANDS)) {
+                throw new IllegalArgumentException("Statistics per command id are only available with a binary statistics db");
+            }
+            try (MpiStatistics statistics = new CsvMpiStatistics(statisticsDbDir, statisticsDbName)) {
+                try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+                    statistics.exportTasksToCsv(writer);
+                }
             }
         }
     }
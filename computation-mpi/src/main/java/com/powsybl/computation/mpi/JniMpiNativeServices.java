@@ -31,4 +31,6 @@ public class JniMpiNativeServices implements MpiNativeServices {
 
     public native void checkTasksCompletion(List<MpiTask> runningTasks, List<MpiTask> completedTasks);
 
+    public native void waitForTasksCompletion(List<MpiTask> runningTasks, List<MpiTask> completedTasks, long timeout);
+
 }
@@ -37,6 +37,10 @@ public class MpiJob {
 
     private final List<MpiTask> runningTasks = new ArrayList<>();
 
+    private int encodingTaskCount = 0;
+
+    private Throwable failure;
+
     private final List<ExecutionError> errors = new ArrayList<>();
 
     private final Set<Integer> usedRanks = new HashSet<>();
@@ -90,6 +94,25 @@ public class MpiJob {
         return runningTasks;
     }
 
+    /**
+     * Number of tasks of the job whose message is being encoded, so not yet running.
+     */
+    int getEncodingTaskCount() {
+        return encodingTaskCount;
+    }
+
+    void setEncodingTaskCount(int encodingTaskCount) {
+        this.encodingTaskCount = encodingTaskCount;
+    }
+
+    Throwable getFailure() {
+        return failure;
+    }
+
+    void setFailure(Throwable failure) {
+        this.failure = failure;
+    }
+
     List<ExecutionError> getErrors() {
         return errors;
     }
@@ -99,7 +122,8 @@ public class MpiJob {
     }
 
     boolean isCompleted() {
-        return taskIndex >= execution.getExecutionCount() && runningTasks.isEmpty();
+        // a failed job does not start any new task
+        return (failure != null || taskIndex >= execution.getExecutionCount()) && runningTasks.isEmpty() && encodingTaskCount == 0;
     }
 
 }
@@ -8,6 +8,7 @@ package com.powsybl.computation.mpi;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.protobuf.ByteString;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.computation.*;
@@ -41,7 +42,14 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MpiJobSchedulerImpl.class);
 
-    private static final int TIMEOUT = 10; // ms
+    // maximum time to wait for a task completion when some messages are being encoded
+    private static final long ENCODING_WAIT_TIMEOUT = 1; // ms
+
+    // maximum time to wait for a task completion when some cores are idle, so that new jobs are started quickly
+    private static final long WAIT_TIMEOUT = 10; // ms
+
+    // maximum time to wait for a task completion when all the cores are busy
+    private static final long BUSY_WAIT_TIMEOUT = 100; // ms
 
     private static final Map<String, String> ZIP_FS_ENV = ImmutableMap.of("create", "true");
 
@@ -55,7 +63,7 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
 
     private final Lock newCommonFileLock = new ReentrantLock();
 
-    private final Set<String> commonFiles = new HashSet<>();
+    private final Set<String> commonFiles = ConcurrentHashMap.newKeySet();
 
     private final List<MpiJob> newJobs = new ArrayList<>();
 
@@ -72,6 +80,68 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
 
     private volatile boolean stopRequested = false;
 
+    // released each time the scheduler has something to do: new job, new common file, encoded messages or shutdown
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    /**
+     * Tasks of a job reserved on some cores, whose messages are encoded by a worker thread.
+     */
+    private static final class TaskBatch {
+
+        private final MpiJob job;
+
+        private final int firstTaskIndex;
+
+        private final List<TaskSlot> slots = new ArrayList<>();
+
+        private final List<MpiTask> tasks = new ArrayList<>();
+
+        private Exception error;
+
+        // set by the worker thread once messages are encoded
+        private volatile boolean encoded = false;
+
+        private TaskBatch(MpiJob job, int firstTaskIndex) {
+            this.job = job;
+            this.firstTaskIndex = firstTaskIndex;
+        }
+    }
+
+    /**
+     * A task reserved on a core. What depends on the state of the slave is computed by the scheduler thread.
+     */
+    private static final class TaskSlot {
+
+        private final int taskId;
+
+        private final Core core;
+
+        private final int taskIndex;
+
+        private final boolean initJob;
+
+        private final List<Integer> completedJobIds;
+
+        // size of the job scoped files already cached by the slave, computed during encoding
+        private long cachedInputSize = 0;
+
+        private TaskSlot(int taskId, Core core, int taskIndex, boolean initJob, List<Integer> completedJobIds) {
+            this.taskId = taskId;
+            this.core = core;
+            this.taskIndex = taskIndex;
+            this.initJob = initJob;
+            this.completedJobIds = completedJobIds;
+        }
+    }
+
+    private final ExecutorService encoderExecutor;
+
+    // batches in reservation order, they have to be started in this order so that the slaves receive job scoped
+    // files before tasks relying on their cache, only accessed by the scheduler thread
+    private final Queue<TaskBatch> reservedBatches = new ArrayDeque<>();
+
+    private int encodingTaskCount = 0;
+
     private String mpiVersion;
 
     private MpiResources resources;
@@ -88,13 +158,17 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
     private long startTasksTime;
     private long startTasksJniTime;
     private long processCompletedTasksTime;
-    private long checkTaskCompletionTime;
 
     MpiJobSchedulerImpl(MpiNativeServices nativeServices, MpiStatisticsFactory statisticsFactory, Path statisticsDbDir, String statisticsDbName,
                         int coresPerRank, boolean verbose, ExecutorService executor, Path stdOutArchive) throws InterruptedException, IOException {
         this.nativeServices = Objects.requireNonNull(nativeServices);
-        this.statistics = Objects.requireNonNull(statisticsFactory).create(statisticsDbDir, statisticsDbName);
+        MpiStatistics newStatistics = Objects.requireNonNull(statisticsFactory).create(statisticsDbDir, statisticsDbName);
+        this.statistics = newStatistics instanceof NoMpiStatistics ? newStatistics : new BatchedMpiStatistics(newStatistics);
         this.stdOutArchive = checkOutputArchive(stdOutArchive);
+        encoderExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactoryBuilder()
+                .setNameFormat("mpi-task-encoder-%d")
+                .setDaemon(true)
+                .build());
         final CountDownLatch initialized = new CountDownLatch(1);
         future = executor.submit(() -> {
             LOGGER.trace("Job scheduler started");
@@ -106,22 +180,12 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
 
                 initialized.countDown();
 
-                long time = System.currentTimeMillis();
-
                 List<MpiTask> completedTasks = new ArrayList<>();
                 while (!stopRequested || !jobs.isEmpty()) {
-                    // check performances
-                    long oldTime = time;
-                    time = System.currentTimeMillis();
-                    long diff = time - oldTime;
-                    if (diff > 1000) { // 1s
-                        LOGGER.warn("Slowness ({} ms) has been detected in the job scheduler (startTasksTime={}, startTasksJniTime={}, processCompletedTasksTime={}, checkTaskCompletionTime={})",
-                                diff, startTasksTime, startTasksJniTime, processCompletedTasksTime, checkTaskCompletionTime);
-                    }
+                    long iterationStartTime = System.currentTimeMillis();
                     startTasksTime = 0;
                     startTasksJniTime = 0;
                     processCompletedTasksTime = 0;
-                    checkTaskCompletionTime = 0;
 
                     sendCommonFilesChunks();
 
@@ -134,9 +198,44 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
                         newJobsLock.unlock();
                     }
 
-                    // just sleep in the case nothing has been done in the loop
-                    if (processJobs(completedTasks)) {
-                        TimeUnit.MILLISECONDS.sleep(TIMEOUT);
+                    startEncodedTasks();
+
+                    reserveTasks();
+
+                    List<MpiTask> runningTasks = new ArrayList<>();
+                    jobs.forEach(job -> runningTasks.addAll(job.getRunningTasks()));
+
+                    if (runningTasks.isEmpty()) {
+                        if (stopRequested && jobs.isEmpty()) {
+                            break;
+                        }
+                        // nothing to do until a new job, a new common file, encoded messages or shutdown
+                        long waitStartTime = System.currentTimeMillis();
+                        wakeUp.acquire();
+                        wakeUp.drainPermits();
+                        iterationStartTime += System.currentTimeMillis() - waitStartTime;
+                    } else {
+                        long timeout;
+                        if (encodingTaskCount > 0) {
+                            timeout = ENCODING_WAIT_TIMEOUT;
+                        } else if (resources.getIdleCores() > 0) {
+                            timeout = WAIT_TIMEOUT;
+                        } else {
+                            timeout = BUSY_WAIT_TIMEOUT;
+                        }
+                        long waitStartTime = System.currentTimeMillis();
+                        nativeServices.waitForTasksCompletion(runningTasks, completedTasks, timeout);
+                        iterationStartTime += System.currentTimeMillis() - waitStartTime;
+                        if (!completedTasks.isEmpty()) {
+                            processCompletedTasks(completedTasks);
+                        }
+                    }
+
+                    // check performances, waiting time excluded
+                    long diff = System.currentTimeMillis() - iterationStartTime;
+                    if (diff > 1000) { // 1s
+                        LOGGER.warn("Slowness ({} ms) has been detected in the job scheduler (startTasksTime={}, startTasksJniTime={}, processCompletedTasksTime={})",
+                                diff, startTasksTime, startTasksJniTime, processCompletedTasksTime);
                     }
                 }
 
@@ -220,10 +319,9 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
         return builder.build();
     }
 
-    private Messages.Task createTaskMessage(MpiJob job, MpiRank rank, Command command, int taskIndex) throws IOException {
-
-        // job scoped file will be sent only one time to each slave
-        boolean initJob = rank.jobs.add(job);
+    private Messages.Task createTaskMessage(MpiJob job, Command command, TaskSlot slot) throws IOException {
+        int taskIndex = slot.taskIndex;
+        boolean initJob = slot.initJob;
 
         Messages.Task.Builder builder = Messages.Task.newBuilder()
                 .setJobId(job.getId())
@@ -234,11 +332,12 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
         //
         // select which files have to be send with the message
         //
+        slot.cachedInputSize = 0;
         for (InputFile file : command.getInputFiles()) {
             if (file.dependsOnExecutionNumber()) {
                 addInputFile(builder, job, file, taskIndex);
             } else {
-                addInputFile(builder, job, file, taskIndex, initJob);
+                slot.cachedInputSize += addInputFile(builder, job, file, taskIndex, initJob);
             }
         }
 
@@ -254,6 +353,10 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
                 groupCommand.getSubCommands().forEach(subCmd -> builder.addCommand(createCommand(subCmd, taskIndex)));
                 break;
 
+            case JAVA:
+                // slaves can only start programs
+                throw new PowsyblException("Java command " + command.getId() + " cannot be executed by MPI slaves");
+
             default:
                 throw new AssertionError("Unexpected CommandType value: " + command.getType());
         }
@@ -264,13 +367,7 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
                         .setPostProcessor(createPostProcessor(outputFile.getPostProcessor()))
                         .build()));
 
-        for (Iterator<MpiJob> it = rank.jobs.iterator(); it.hasNext(); ) {
-            MpiJob otherJob = it.next();
-            if (otherJob.isCompleted()) {
-                it.remove();
-                builder.addCompletedJobId(otherJob.getId());
-            }
-        }
+        builder.addAllCompletedJobId(slot.completedJobIds);
 
         return builder.build();
     }
@@ -303,7 +400,11 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
         }
     }
 
-    private void addInputFile(Messages.Task.Builder builder, MpiJob job, InputFile file, int taskIndex, boolean initJob) throws IOException {
+    /**
+     * @return size in bytes of the file if it has not been packed with the message because already cached by the
+     * slave, 0 otherwise
+     */
+    private long addInputFile(Messages.Task.Builder builder, MpiJob job, InputFile file, int taskIndex, boolean initJob) throws IOException {
         String fileName = file.getName(taskIndex);
         Path path = job.getWorkingDir().resolve(fileName);
         if (Files.exists(path)) {
@@ -337,6 +438,7 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
                         .setScope(Messages.Task.InputFile.Scope.JOB)
                         .setPreProcessor(createPreProcessor(file.getPreProcessor()))
                         .build());
+                return Files.size(path);
             }
         } else if (commonFiles.contains(fileName)) {
             //
@@ -353,53 +455,19 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
             throw new PowsyblException("Input file " + fileName
                     + " not found in the common file list");
         }
+        return 0;
     }
 
-    private boolean processJobs(List<MpiTask> completedTasks) throws IOException {
-        boolean sleep = true;
-
-        for (Iterator<MpiJob> it = jobs.iterator(); it.hasNext(); ) {
-            MpiJob job = it.next();
-
-            sleep = startTasks(job);
-
-            long t0 = System.currentTimeMillis();
-            try {
-                nativeServices.checkTasksCompletion(job.getRunningTasks(), completedTasks);
-            } finally {
-                checkTaskCompletionTime += System.currentTimeMillis() - t0;
-            }
-            if (!completedTasks.isEmpty()) {
-                DateTime endTime = DateTime.now();
-
-                // release cores as fast as possible
-                completedTasks.forEach(task -> {
-                    MpiJobSchedulerImpl.this.resources.releaseCore(task.getCore());
-                    task.setEndTime(endTime);
-                });
-
-                // ...and re-use immediatly free cores
-                startTasks(job);
-
-                // ...and then post process terminated tasks
-                processCompletedTasks(job, completedTasks);
-
-                // ...no more tasks to start or running, we can remove the context
-                if (job.isCompleted()) {
-                    // remove the job
-                    it.remove();
-
-                    processCompletedJob(job);
-                }
-
-                sleep = false;
-            }
+    private void reserveTasks() {
+        for (MpiJob job : jobs) {
+            reserveTasks(job);
         }
-
-        return sleep;
     }
 
-    private boolean startTasks(MpiJob job) throws IOException {
+    /**
+     * Reserve cores for the next tasks of a job, task messages being then encoded by a worker thread.
+     */
+    private void reserveTasks(MpiJob job) {
         long t0 = System.currentTimeMillis();
         try {
             CommandExecution execution = job.getExecution();
@@ -407,11 +475,11 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
 
             int taskIndex = job.getTaskIndex();
 
-            if (taskIndex < execution.getExecutionCount()) {
+            if (job.getFailure() == null && taskIndex < execution.getExecutionCount()) {
                 // reserve one core for each of the execution instances
                 List<Core> allocatedCores = resources.reserveCores(execution.getExecutionCount() - taskIndex, job.getUsedRanks());
                 if (allocatedCores == null || allocatedCores.isEmpty()) {
-                    return true;
+                    return;
                 }
 
                 if (taskIndex == 0) {
@@ -423,61 +491,153 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
                             command.toString(-1), allocatedCores, job.getWorkingDir());
                 }
 
-                DateTime startTime = DateTime.now();
-
-                // encode task messages
-                int oldTaskIndex = taskIndex;
-                List<MpiTask> tasks = new ArrayList<>(allocatedCores.size());
+                TaskBatch batch = new TaskBatch(job, taskIndex);
                 for (Core core : allocatedCores) {
-                    byte[] message = createTaskMessage(job, core.rank, command, taskIndex).toByteArray();
-
-                    MpiTask task = new MpiTask(taskId++, core, taskIndex, message, startTime);
-                    tasks.add(task);
+                    // job scoped file will be sent only one time to each slave
+                    boolean initJob = core.rank.jobs.add(job);
+
+                    List<Integer> completedJobIds = new ArrayList<>();
+                    for (Iterator<MpiJob> it = core.rank.jobs.iterator(); it.hasNext(); ) {
+                        MpiJob otherJob = it.next();
+                        if (otherJob.isCompleted()) {
+                            it.remove();
+                            completedJobIds.add(otherJob.getId());
+                        }
+                    }
 
-                    statistics.logTaskStart(task.getId(),
-                            job.getId(),
-                            taskIndex,
-                            startTime,
-                            core.rank.num,
-                            core.thread,
-                            message.length);
+                    batch.slots.add(new TaskSlot(taskId++, core, taskIndex, initJob, completedJobIds));
 
                     taskIndex++;
 
-                    // update used ranks
-                    // TODO c'est completement bugge, ne pas reactiver!!!!
-//                        job.getUsedRanks().add(core.rank.num);
+                    // next tasks of the job will preferably run on this rank, where job scoped files are cached
+                    job.getUsedRanks().add(core.rank.num);
+                }
+
+                job.setTaskIndex(taskIndex);
+                job.setEncodingTaskCount(job.getEncodingTaskCount() + batch.slots.size());
+                encodingTaskCount += batch.slots.size();
+
+                reservedBatches.add(batch);
+                encoderExecutor.execute(() -> encodeTasks(batch));
+            }
+        } finally {
+            startTasksTime += System.currentTimeMillis() - t0;
+        }
+    }
+
+    /**
+     * Encode task messages, called by a worker thread.
+     */
+    private void encodeTasks(TaskBatch batch) {
+        try {
+            Command command = batch.job.getExecution().getCommand();
+            DateTime startTime = DateTime.now();
+            for (TaskSlot slot : batch.slots) {
+                byte[] message = createTaskMessage(batch.job, command, slot).toByteArray();
+                MpiTask task = new MpiTask(slot.taskId, batch.job, slot.core, slot.taskIndex, message, startTime);
+                task.setCachedInputSize(slot.cachedInputSize);
+                batch.tasks.add(task);
+            }
+        } catch (Exception e) {
+            batch.error = e;
+        }
+        batch.encoded = true;
+        wakeUp.release();
+    }
+
+    /**
+     * Start the tasks whose messages have been encoded.
+     */
+    private void startEncodedTasks() {
+        TaskBatch batch;
+        while ((batch = reservedBatches.peek()) != null && batch.encoded) {
+            reservedBatches.poll();
+            long t0 = System.currentTimeMillis();
+            try {
+                MpiJob job = batch.job;
+                job.setEncodingTaskCount(job.getEncodingTaskCount() - batch.slots.size());
+                encodingTaskCount -= batch.slots.size();
+
+                if (batch.error != null || job.getFailure() != null) {
+                    if (job.getFailure() == null) {
+                        LOGGER.error(batch.error.toString(), batch.error);
+                        job.setFailure(batch.error);
+                    }
+                    batch.slots.forEach(slot -> resources.releaseCore(slot.core));
+                    if (job.isCompleted()) {
+                        jobs.remove(job);
+                        processCompletedJob(job);
+                    }
+                    continue;
+                }
+
+                for (MpiTask task : batch.tasks) {
+                    statistics.logTaskStart(task.getId(),
+                            job.getId(),
+                            task.getIndex(),
+                            task.getStartTime(),
+                            task.getRank(),
+                            task.getThread(),
+                            task.getMessage().length,
+                            task.getCachedInputSize());
                 }
 
                 if (LOGGER.isTraceEnabled()) {
                     LOGGER.trace("Starting tasks {} of job {}",
-                            tasks.stream().map(MpiTask::getIndex).collect(Collectors.toList()), job.getId());
+                            batch.tasks.stream().map(MpiTask::getIndex).collect(Collectors.toList()), job.getId());
                 }
 
                 // run tasks on slaves nodes
                 long t1 = System.currentTimeMillis();
                 try {
-                    nativeServices.startTasks(tasks);
+                    nativeServices.startTasks(batch.tasks);
                 } finally {
                     startTasksJniTime += System.currentTimeMillis() - t1;
                 }
 
-                startedTasks.addAndGet(allocatedCores.size());
+                startedTasks.addAndGet(batch.tasks.size());
 
-                job.setTaskIndex(taskIndex);
-                job.getRunningTasks().addAll(tasks);
+                job.getRunningTasks().addAll(batch.tasks);
 
                 // notify execution start
                 try {
-                    job.getListener().onExecutionStart(oldTaskIndex, taskIndex);
+                    job.getListener().onExecutionStart(batch.firstTaskIndex, batch.firstTaskIndex + batch.tasks.size());
                 } catch (Exception e) {
                     LOGGER.error(e.toString(), e);
                 }
-                return false;
+            } finally {
+                startTasksTime += System.currentTimeMillis() - t0;
+            }
+        }
+    }
+
+    private void processCompletedTasks(List<MpiTask> completedTasks) throws IOException {
+        DateTime endTime = DateTime.now();
+
+        // release cores as fast as possible
+        completedTasks.forEach(task -> {
+            resources.releaseCore(task.getCore());
+            task.setEndTime(endTime);
+        });
+
+        // ...and re-use immediatly free cores
+        reserveTasks();
+
+        // ...and then post process terminated tasks
+        Map<MpiJob, List<MpiTask>> completedTasksByJob = completedTasks.stream()
+                .collect(Collectors.groupingBy(MpiTask::getJob, LinkedHashMap::new, Collectors.toList()));
+        completedTasks.clear();
+        for (Map.Entry<MpiJob, List<MpiTask>> e : completedTasksByJob.entrySet()) {
+            MpiJob job = e.getKey();
+            processCompletedTasks(job, e.getValue());
+
+            // ...no more tasks to start or running, we can remove the context
+            if (job.isCompleted()) {
+                // remove the job
+                jobs.remove(job);
+
+                processCompletedJob(job);
             }
-            return true;
-        } finally {
-            startTasksTime += System.currentTimeMillis() - t0;
         }
     }
 
@@ -568,6 +728,11 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
     }
 
     private void processCompletedJob(MpiJob job) {
+        if (job.getFailure() != null) {
+            job.getFuture().completeExceptionally(job.getFailure());
+            statistics.logJobEnd(job.getId());
+            return;
+        }
         ExecutionReport report = new DefaultExecutionReport(job.getErrors());
         try {
             job.getListener().onEnd(report);
@@ -587,6 +752,7 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
         } finally {
             newCommonFileLock.unlock();
         }
+        wakeUp.release();
     }
 
     private void sendCommonFilesChunks() throws IOException {
@@ -634,18 +800,24 @@ class MpiJobSchedulerImpl implements MpiJobScheduler {
         } finally {
             newJobsLock.unlock();
         }
+        wakeUp.release();
         return report;
     }
 
     @Override
     public void shutdown() throws Exception {
+        stopRequested = true;
+        wakeUp.release();
         try {
-            statistics.close();
-        } catch (Exception e) {
-            LOGGER.error(e.toString(), e);
+            future.get();
+        } finally {
+            encoderExecutor.shutdownNow();
+            try {
+                statistics.close();
+            } catch (Exception e) {
+                LOGGER.error(e.toString(), e);
+            }
         }
-        stopRequested = true;
-        future.get();
     }
 
 }
@@ -7,6 +7,8 @@
 package com.powsybl.computation.mpi;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -27,4 +29,29 @@ public interface MpiNativeServices {
 
     void checkTasksCompletion(List<MpiTask> runningTasks, List<MpiTask> completedTasks);
 
+    /**
+     * Wait for the completion of at least one of the running tasks.
+     * <p>
+     * The default implementation polls {@link #checkTasksCompletion(List, List)} with an increasing delay, the JNI
+     * implementation tests the pending receive requests of all the running tasks at once in native code until one of
+     * them completes.
+     *
+     * @param runningTasks running tasks
+     * @param completedTasks list to fill with completed tasks
+     * @param timeout maximum time to wait in ms, the list of completed tasks may be empty once elapsed
+     */
+    default void waitForTasksCompletion(List<MpiTask> runningTasks, List<MpiTask> completedTasks, long timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        long delay = TimeUnit.MICROSECONDS.toNanos(50);
+        checkTasksCompletion(runningTasks, completedTasks);
+        while (completedTasks.isEmpty() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Math.min(delay, deadline - System.nanoTime()));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            delay = Math.min(2 * delay, TimeUnit.MILLISECONDS.toNanos(1));
+            checkTasksCompletion(runningTasks, completedTasks);
+        }
+    }
+
 }
@@ -56,6 +56,23 @@ public interface MpiStatistics extends AutoCloseable {
      */
     void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize);
 
+    /**
+     * Log a task start.
+     *
+     * @param taskId the task id
+     * @param jobId the job id
+     * @param taskIndex index of the task in the job
+     * @param startTime task start time
+     * @param slaveRank slave rank that has managed the task
+     * @param slaveThread slave thread that has managed the task
+     * @param inputMessageSize input message size in bytes
+     * @param cachedInputSize size in bytes of the input files not sent with the message because already cached by the
+     *                        slave
+     */
+    default void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize, long cachedInputSize) {
+        logTaskStart(taskId, jobId, taskIndex, startTime, slaveRank, slaveThread, inputMessageSize);
+    }
+
     /**
      * Log a task end.
      *
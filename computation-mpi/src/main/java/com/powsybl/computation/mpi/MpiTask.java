@@ -16,6 +16,8 @@ class MpiTask {
 
     private final int id;
 
+    private final MpiJob job;
+
     private final Core core;
 
     private final int index;
@@ -28,8 +30,11 @@ class MpiTask {
 
     private byte[] resultMessage;
 
-    MpiTask(int id, Core core, int index, byte[] message, DateTime startTime) {
+    private long cachedInputSize = 0;
+
+    MpiTask(int id, MpiJob job, Core core, int index, byte[] message, DateTime startTime) {
         this.id = id;
+        this.job = job;
         this.core = core;
         this.index = index;
         this.message = message;
@@ -40,6 +45,10 @@ class MpiTask {
         return id;
     }
 
+    MpiJob getJob() {
+        return job;
+    }
+
     Core getCore() {
         return core;
     }
@@ -80,4 +89,15 @@ class MpiTask {
         return resultMessage;
     }
 
+    /**
+     * Size in bytes of the input files not packed with the message because already cached by the slave.
+     */
+    long getCachedInputSize() {
+        return cachedInputSize;
+    }
+
+    void setCachedInputSize(long cachedInputSize) {
+        this.cachedInputSize = cachedInputSize;
+    }
+
 }
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.mpi;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.computation.CommandCostModel;
+import com.powsybl.computation.CommandStatistics;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class BinaryMpiStatisticsTest {
+
+    private FileSystem fileSystem;
+
+    private Path dbDir;
+
+    @Before
+    public void setUp() throws Exception {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        dbDir = Files.createDirectories(fileSystem.getPath("/tmp/db"));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        fileSystem.close();
+    }
+
+    /**
+     * Run a job of the given command whose task i lasts i + 1 ms, the last task failing.
+     */
+    private static void runJob(BinaryMpiStatistics statistics, int jobId, int firstTaskId, String commandId, int taskCount) {
+        DateTime startTime = DateTime.now();
+        statistics.logJobStart(jobId, commandId, ImmutableMap.of("k", "v"));
+        for (int i = 0; i < taskCount; i++) {
+            statistics.logTaskStart(firstTaskId + i, jobId, i, startTime, 1, 0, 100, 10);
+        }
+        for (int i = 0; i < taskCount; i++) {
+            statistics.logTaskEnd(firstTaskId + i, i + 1, Collections.singletonList(i + 1L), 0, 50, 0, i == taskCount - 1 ? 1 : 0);
+        }
+        statistics.logJobEnd(jobId);
+    }
+
+    @Test
+    public void rollupsTest() throws Exception {
+        try (BinaryMpiStatistics statistics = new BinaryMpiStatistics(dbDir, "db")) {
+            runJob(statistics, 0, 0, "cmd1", 1000);
+            runJob(statistics, 1, 1000, "cmd2", 10);
+
+            CommandStatistics cmd1 = statistics.getStatistics("cmd1").orElseThrow(AssertionError::new);
+            assertEquals(1000, cmd1.getExecutionCount());
+            assertEquals(1, cmd1.getFailedExecutionCount());
+            assertEquals(500.5, cmd1.getMeanDuration(), 0);
+            assertEquals(500, cmd1.getMedianDuration(), 50);
+            assertEquals(950, cmd1.getPercentile95Duration(), 95);
+            assertEquals(1000 * 110, cmd1.getInputBytes());
+            assertEquals(1000 * 50, cmd1.getOutputBytes());
+            assertFalse(statistics.getStatistics("unknown").isPresent());
+            assertEquals(ImmutableSet.of("cmd1", "cmd2"), statistics.getCommandIds());
+        }
+
+        // rollups are accumulated over runs, task and job ids being reused by each run
+        try (BinaryMpiStatistics statistics = new BinaryMpiStatistics(dbDir, "db")) {
+            assertEquals(1000, statistics.getStatistics("cmd1").map(CommandStatistics::getExecutionCount).orElse(0L).longValue());
+            runJob(statistics, 0, 0, "cmd2", 10);
+        }
+
+        CommandCostModel costModel = BinaryMpiStatistics.readCostModel(dbDir, "db");
+        assertEquals(20, costModel.getStatistics("cmd2").map(CommandStatistics::getExecutionCount).orElse(0L).longValue());
+        assertEquals(1000, costModel.getStatistics("cmd1").map(CommandStatistics::getExecutionCount).orElse(0L).longValue());
+        assertEquals(123, costModel.estimateDuration("unknown", 123));
+
+        assertEquals(0, BinaryMpiStatistics.readCostModel(dbDir, "other").estimateDuration("cmd1", 0));
+    }
+
+    @Test
+    public void rebuildIndexTest() throws Exception {
+        try (BinaryMpiStatistics statistics = new BinaryMpiStatistics(dbDir, "db")) {
+            runJob(statistics, 0, 0, "cmd", 10);
+        }
+        Path logFile = dbDir.resolve("db.bin");
+        Path indexFile = dbDir.resolve("db.idx");
+
+        // crash: index is missing and the last task end record is incomplete (job end record is 5 bytes long)
+        Files.delete(indexFile);
+        long size = Files.size(logFile);
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5 - 2);
+        }
+        assertEquals(9, BinaryMpiStatistics.readCostModel(dbDir, "db").getStatistics("cmd").map(CommandStatistics::getExecutionCount).orElse(0L).longValue());
+
+        try (BinaryMpiStatistics statistics = new BinaryMpiStatistics(dbDir, "db")) {
+            assertEquals(9, statistics.getStatistics("cmd").map(CommandStatistics::getExecutionCount).orElse(0L).longValue());
+            runJob(statistics, 0, 0, "cmd", 10);
+        }
+        assertTrue(Files.exists(indexFile));
+
+        Files.delete(indexFile);
+        assertEquals(19, BinaryMpiStatistics.readCostModel(dbDir, "db").getStatistics("cmd").map(CommandStatistics::getExecutionCount).orElse(0L).longValue());
+    }
+
+    @Test
+    public void exportTest() throws Exception {
+        try (BinaryMpiStatistics statistics = new BinaryMpiStatistics(dbDir, "db")) {
+            statistics.logCommonFileTransfer("common", 0, 1000, 10);
+            runJob(statistics, 0, 0, "cmd", 2);
+
+            StringWriter tasksWriter = new StringWriter();
+            statistics.exportTasksToCsv(tasksWriter);
+            String[] lines = tasksWriter.toString().split("\n");
+            assertEquals(3, lines.length);
+            assertTrue(lines[1].startsWith("0;0;0;cmd;k=v;"));
+            assertTrue(lines[2].endsWith(";100;10;2;2;0;50;0;1"));
+
+            StringWriter commandsWriter = new StringWriter();
+            statistics.exportCommandsToCsv(commandsWriter);
+            assertEquals("Command Id;Tasks;Failed tasks;Mean duration (ms);Median duration (ms);95th percentile duration (ms);Input message size (bytes);Cached input size (bytes);Output message size (bytes)\n" +
+                         "cmd;2;1;2;1;2;200;20;100\n",
+                         commandsWriter.toString());
+        }
+    }
+
+    @Test
+    public void snapshotTest() throws Exception {
+        try (BinaryMpiStatistics statistics = new BinaryMpiStatistics(dbDir, "db")) {
+            runJob(statistics, 0, 0, "cmd", 10);
+        }
+        Path logFile = dbDir.resolve("db.bin");
+        Path indexFile = dbDir.resolve("db.idx");
+
+        // a run is writing the log: index is out of date and the last record is incomplete
+        Files.delete(indexFile);
+        long size = Files.size(logFile);
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5 - 2);
+        }
+        long writtenSize = Files.size(logFile);
+
+        BinaryMpiStatistics.Snapshot snapshot = BinaryMpiStatistics.readSnapshot(dbDir, "db");
+        assertEquals(9, snapshot.getStatistics("cmd").map(CommandStatistics::getExecutionCount).orElse(0L).longValue());
+        assertEquals(ImmutableSet.of("cmd"), snapshot.getCommandIds());
+        StringWriter tasksWriter = new StringWriter();
+        snapshot.exportTasksToCsv(tasksWriter);
+        assertEquals(10, tasksWriter.toString().split("\n").length);
+        StringWriter commandsWriter = new StringWriter();
+        snapshot.exportCommandsToCsv(commandsWriter);
+        assertTrue(commandsWriter.toString().contains("cmd;9;0;"));
+
+        // the log has been neither truncated nor appended, and the index has not been written
+        assertEquals(writtenSize, Files.size(logFile));
+        assertFalse(Files.exists(indexFile));
+
+        assertFalse(BinaryMpiStatistics.readSnapshot(dbDir, "other").getStatistics("cmd").isPresent());
+    }
+}
@@ -11,8 +11,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -94,4 +97,17 @@ public class CorePoolTest {
         pool.returnCores(cores);
         assertTrue(pool.availableCores() == 4);
     }
+
+    @Test
+    public void testPreferedCoresNotBorrowedTwice() {
+        List<Core> cores1 = pool.borrowCores(1, Collections.singleton(0));
+        assertEquals(0, cores1.get(0).rank.num);
+        List<Core> cores2 = pool.borrowCores(3, Collections.singleton(0));
+        assertEquals(0, cores2.get(0).rank.num);
+        assertTrue(!cores2.contains(cores1.get(0)));
+        Set<Core> allCores = new HashSet<>(cores1);
+        allCores.addAll(cores2);
+        assertEquals(4, allCores.size());
+        assertEquals(0, pool.availableCores());
+    }
 }
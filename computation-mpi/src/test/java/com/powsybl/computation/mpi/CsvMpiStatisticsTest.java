@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.mpi;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent <agent at local>
+ */
+public class CsvMpiStatisticsTest {
+
+    private FileSystem fileSystem;
+
+    private Path dbDir;
+
+    @Before
+    public void setUp() throws Exception {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        dbDir = Files.createDirectories(fileSystem.getPath("/tmp/db"));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        fileSystem.close();
+    }
+
+    @Test
+    public void cachedInputSizeTest() throws Exception {
+        DateTime startTime = DateTime.parse("2018-01-01T00:00:00.000Z");
+        try (CsvMpiStatistics statistics = new CsvMpiStatistics(dbDir, "db")) {
+            statistics.logJobStart(0, "cmd", ImmutableMap.of("k", "v"));
+            statistics.logTaskStart(0, 0, 0, startTime, 1, 0, 100, 0);
+            statistics.logTaskStart(1, 0, 1, startTime, 1, 1, 20, 80);
+            statistics.logTaskEnd(0, 10, Collections.singletonList(10L), 0, 5, 0, 0);
+            statistics.logTaskEnd(1, 10, Collections.singletonList(10L), 0, 5, 0, 0);
+            statistics.logJobEnd(0);
+        }
+
+        CsvMpiStatistics.exportCachedInputSize(dbDir, "db");
+        assertEquals(Arrays.asList("Command Id;Input message size (bytes);Cached input size (bytes)",
+                                   "cmd;120;80",
+                                   "Total;120;80"),
+                     Files.readAllLines(dbDir.resolve("cached-input-size.csv"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readPreviousFormatTest() throws Exception {
+        // task start lines written before the cached input size has been added
+        try (BufferedWriter writer = Files.newBufferedWriter(dbDir.resolve("db.csv"), StandardCharsets.UTF_8)) {
+            writer.write("JOB_START;0;cmd;");
+            writer.newLine();
+            writer.write("TASK_START;0;0;0;2018-01-01T00:00:00.000Z;1;0;100");
+            writer.newLine();
+            writer.write("TASK_END;0;10;10;0;5;0;0");
+            writer.newLine();
+        }
+        CsvMpiStatistics.exportCachedInputSize(dbDir, "db");
+        assertEquals(Arrays.asList("Command Id;Input message size (bytes);Cached input size (bytes)",
+                                   "cmd;100;0",
+                                   "Total;100;0"),
+                     Files.readAllLines(dbDir.resolve("cached-input-size.csv"), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation.mpi;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.computation.*;
+import com.powsybl.computation.mpi.generated.Messages;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class MpiJobSchedulerImplTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MpiJobSchedulerImplTest.class);
+
+    /**
+     * Slaves completing tasks as soon as they are started.
+     */
+    private static class MpiNativeServicesMock implements MpiNativeServices {
+
+        private static final byte[] RESULT_MESSAGE = Messages.TaskResult.newBuilder()
+                .setExitCode(0)
+                .setTaskDuration(0)
+                .setWorkingDataSize(0)
+                .build()
+                .toByteArray();
+
+        private final AtomicInteger startedTasks = new AtomicInteger();
+
+        @Override
+        public void initMpi(int coresPerRank, boolean verbose) {
+        }
+
+        @Override
+        public void terminateMpi() {
+        }
+
+        @Override
+        public String getMpiVersion() {
+            return "Mpi mock";
+        }
+
+        @Override
+        public int getMpiCommSize() {
+            return 9;
+        }
+
+        @Override
+        public void sendCommonFile(byte[] message) {
+        }
+
+        @Override
+        public void startTasks(List<MpiTask> tasks) {
+            startedTasks.addAndGet(tasks.size());
+        }
+
+        @Override
+        public void checkTasksCompletion(List<MpiTask> runningTasks, List<MpiTask> completedTasks) {
+            for (MpiTask task : runningTasks) {
+                task.setResultMessage(RESULT_MESSAGE);
+                completedTasks.add(task);
+            }
+        }
+    }
+
+    private static class CountingMpiStatistics implements MpiStatistics {
+
+        private final AtomicInteger taskStarts = new AtomicInteger();
+
+        private final AtomicInteger taskEnds = new AtomicInteger();
+
+        private final AtomicLong cachedInputSize = new AtomicLong();
+
+        private final Set<Integer> slaveRanks = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void logCommonFileTransfer(String fileName, int chunk, long size, long duration) {
+        }
+
+        @Override
+        public void logJobStart(int jobId, String commandId, Map<String, String> tags) {
+        }
+
+        @Override
+        public void logJobEnd(int jobId) {
+        }
+
+        @Override
+        public void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize) {
+            taskStarts.incrementAndGet();
+        }
+
+        @Override
+        public void logTaskStart(int taskId, int jobId, int taskIndex, DateTime startTime, int slaveRank, int slaveThread, long inputMessageSize, long cachedInputSize) {
+            logTaskStart(taskId, jobId, taskIndex, startTime, slaveRank, slaveThread, inputMessageSize);
+            this.cachedInputSize.addAndGet(cachedInputSize);
+            slaveRanks.add(slaveRank);
+        }
+
+        @Override
+        public void logTaskEnd(int taskId, long taskDuration, List<Long> commandsDuration, long dataTransferDuration, long outputMessageSize, long workingDataSize, int exitCode) {
+            taskEnds.incrementAndGet();
+        }
+
+        @Override
+        public void exportTasksToCsv(Writer writer) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private FileSystem fileSystem;
+
+    private Path workingDir;
+
+    private ExecutorService executor;
+
+    private MpiNativeServicesMock nativeServices;
+
+    private CountingMpiStatistics statistics;
+
+    private MpiJobSchedulerImpl scheduler;
+
+    @Before
+    public void setUp() throws Exception {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        workingDir = Files.createDirectories(fileSystem.getPath("/tmp/work"));
+        executor = Executors.newCachedThreadPool();
+        nativeServices = new MpiNativeServicesMock();
+        statistics = new CountingMpiStatistics();
+        scheduler = new MpiJobSchedulerImpl(nativeServices, (dbDir, dbName) -> statistics, null, null, 4, false, executor, null);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        scheduler.shutdown();
+        executor.shutdownNow();
+        fileSystem.close();
+    }
+
+    private CompletableFuture<ExecutionReport> execute(Command command, int executionCount) {
+        return scheduler.execute(new CommandExecution(command, executionCount), workingDir, Collections.emptyMap(), new DefaultExecutionListener());
+    }
+
+    @Test
+    public void throughputTest() throws Exception {
+        assertEquals(32, scheduler.getResources().getAvailableCores());
+
+        int jobCount = 20;
+        int taskCount = 500;
+        Command command = new SimpleCommandBuilder()
+                .id("cmd")
+                .program("prog")
+                .build();
+        long startTime = System.currentTimeMillis();
+        List<CompletableFuture<ExecutionReport>> reports = new ArrayList<>();
+        for (int i = 0; i < jobCount; i++) {
+            reports.add(execute(command, taskCount));
+        }
+        for (CompletableFuture<ExecutionReport> report : reports) {
+            assertTrue(report.join().getErrors().isEmpty());
+        }
+        long duration = System.currentTimeMillis() - startTime;
+        LOGGER.info("{} tasks executed in {} ms ({} tasks/s)", jobCount * taskCount, duration,
+                jobCount * taskCount * 1000L / Math.max(duration, 1));
+
+        scheduler.shutdown();
+
+        assertEquals(jobCount * taskCount, nativeServices.startedTasks.get());
+        assertEquals(jobCount * taskCount, scheduler.getStartedTasksAndReset());
+        assertEquals(0, scheduler.getResources().getBusyCores());
+        // statistics have been written before closing
+        assertEquals(jobCount * taskCount, statistics.taskStarts.get());
+        assertEquals(jobCount * taskCount, statistics.taskEnds.get());
+    }
+
+    @Test
+    public void encodingFailureTest() throws Exception {
+        Command failingCommand = new SimpleCommandBuilder()
+                .id("failing")
+                .program("prog")
+                .inputFiles(new InputFile("missing"))
+                .build();
+        try {
+            execute(failingCommand, 10).join();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof PowsyblException);
+        }
+        assertEquals(0, scheduler.getResources().getBusyCores());
+
+        // the scheduler is still running
+        Command command = new SimpleCommandBuilder()
+                .id("cmd")
+                .program("prog")
+                .build();
+        assertTrue(execute(command, 10).join().getErrors().isEmpty());
+    }
+
+    @Test
+    public void cachedInputFilesTest() throws Exception {
+        Files.write(workingDir.resolve("data"), "0123456789".getBytes(StandardCharsets.UTF_8));
+        Command command = new SimpleCommandBuilder()
+                .id("cmd")
+                .program("prog")
+                .inputFiles(new InputFile("data"))
+                .build();
+        int taskCount = 100;
+        assertTrue(execute(command, taskCount).join().getErrors().isEmpty());
+
+        scheduler.shutdown();
+
+        // the job scoped file is only sent with the first task of each slave rank
+        assertEquals(taskCount, statistics.taskStarts.get());
+        assertEquals((taskCount - statistics.slaveRanks.size()) * 10L, statistics.cachedInputSize.get());
+        assertEquals(0, scheduler.getResources().getBusyCores());
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Cost of commands learnt from their past executions, to be used for instance to size the partitions of a
+ * distributed computation.
+ *
+ * @author agent <agent at local>
+ */
+public interface CommandCostModel {
+
+    CommandCostModel EMPTY = commandId -> Optional.empty();
+
+    /**
+     * Get statistics of the past executions of a command.
+     *
+     * @param commandId the command id
+     * @return the statistics, or an empty optional if the command has never been executed
+     */
+    Optional<CommandStatistics> getStatistics(String commandId);
+
+    /**
+     * Estimate the duration in ms of one execution of a command.
+     *
+     * @param commandId       the command id
+     * @param defaultDuration the duration to use if the command has never been executed
+     * @return the median duration of the past executions, or the default duration
+     */
+    default long estimateDuration(String commandId, long defaultDuration) {
+        Objects.requireNonNull(commandId);
+        return getStatistics(commandId)
+                .filter(statistics -> statistics.getExecutionCount() > 0)
+                .map(CommandStatistics::getMedianDuration)
+                .orElse(defaultDuration);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import java.util.Objects;
+
+/**
+ * Statistics of the past executions of a command.
+ *
+ * @author agent <agent at local>
+ */
+public class CommandStatistics {
+
+    private final String commandId;
+
+    private final long executionCount;
+
+    private final long failedExecutionCount;
+
+    private final double meanDuration;
+
+    private final long medianDuration;
+
+    private final long percentile95Duration;
+
+    private final long inputBytes;
+
+    private final long outputBytes;
+
+    public CommandStatistics(String commandId, long executionCount, long failedExecutionCount, double meanDuration,
+                             long medianDuration, long percentile95Duration, long inputBytes, long outputBytes) {
+        this.commandId = Objects.requireNonNull(commandId);
+        this.executionCount = executionCount;
+        this.failedExecutionCount = failedExecutionCount;
+        this.meanDuration = meanDuration;
+        this.medianDuration = medianDuration;
+        this.percentile95Duration = percentile95Duration;
+        this.inputBytes = inputBytes;
+        this.outputBytes = outputBytes;
+    }
+
+    public String getCommandId() {
+        return commandId;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    public long getFailedExecutionCount() {
+        return failedExecutionCount;
+    }
+
+    /**
+     * Mean duration of one execution in ms.
+     */
+    public double getMeanDuration() {
+        return meanDuration;
+    }
+
+    /**
+     * Median duration of one execution in ms, estimated from an histogram.
+     */
+    public long getMedianDuration() {
+        return medianDuration;
+    }
+
+    /**
+     * 95th percentile of the duration of one execution in ms, estimated from an histogram.
+     */
+    public long getPercentile95Duration() {
+        return percentile95Duration;
+    }
+
+    /**
+     * Total size in bytes of the inputs of all executions.
+     */
+    public long getInputBytes() {
+        return inputBytes;
+    }
+
+    /**
+     * Total size in bytes of the outputs of all executions.
+     */
+    public long getOutputBytes() {
+        return outputBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "CommandStatistics(commandId=" + commandId + ", executionCount=" + executionCount
+                + ", failedExecutionCount=" + failedExecutionCount + ", meanDuration=" + meanDuration
+                + ", medianDuration=" + medianDuration + ", percentile95Duration=" + percentile95Duration
+                + ", inputBytes=" + inputBytes + ", outputBytes=" + outputBytes + ")";
+    }
+}
@@ -12,5 +12,6 @@ package com.powsybl.computation;
  */
 public enum CommandType {
     SIMPLE,
-    GROUP
+    GROUP,
+    JAVA
 }
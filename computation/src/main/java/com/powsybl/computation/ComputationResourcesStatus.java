@@ -23,4 +23,18 @@ public interface ComputationResourcesStatus {
 
     Map<String, Integer> getBusyCoresPerApp();
 
+    /**
+     * Number of command executions waiting for a core.
+     */
+    default int getQueueDepth() {
+        return 0;
+    }
+
+    /**
+     * Mean time in ms spent by command executions waiting for a core.
+     */
+    default long getMeanWaitingTime() {
+        return 0;
+    }
+
 }
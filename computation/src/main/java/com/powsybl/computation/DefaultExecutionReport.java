@@ -26,6 +26,10 @@ public class DefaultExecutionReport implements ExecutionReport {
 
     private final List<ExecutionError> errors;
 
+    private final long commonFilesStagingTime;
+
+    private final long commonFilesBytesSaved;
+
     /**
      * An execution report with no execution error.
      * @return an execution report with no execution error.
@@ -45,7 +49,16 @@ public class DefaultExecutionReport implements ExecutionReport {
      * Create an execution report with the specified list of execution errors.
      */
     public DefaultExecutionReport(List<ExecutionError> errors) {
+        this(errors, 0, 0);
+    }
+
+    /**
+     * Create an execution report with the specified list of execution errors and common files staging statistics.
+     */
+    public DefaultExecutionReport(List<ExecutionError> errors, long commonFilesStagingTime, long commonFilesBytesSaved) {
         this.errors = ImmutableList.copyOf(Objects.requireNonNull(errors));
+        this.commonFilesStagingTime = commonFilesStagingTime;
+        this.commonFilesBytesSaved = commonFilesBytesSaved;
     }
 
     @Override
@@ -53,8 +66,21 @@ public class DefaultExecutionReport implements ExecutionReport {
         return errors;
     }
 
+    @Override
+    public long getCommonFilesStagingTime() {
+        return commonFilesStagingTime;
+    }
+
+    @Override
+    public long getCommonFilesBytesSaved() {
+        return commonFilesBytesSaved;
+    }
+
     @Override
     public void log() {
+        if (commonFilesStagingTime > 0 || commonFilesBytesSaved > 0) {
+            LOGGER.debug("Common files staged in {} ms, {} bytes saved", commonFilesStagingTime, commonFilesBytesSaved);
+        }
         if (!errors.isEmpty()) {
             LOGGER.error("{} commands have failed: {}", errors.size(), errors);
             if (LOGGER.isTraceEnabled()) {
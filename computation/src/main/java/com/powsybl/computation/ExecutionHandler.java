@@ -49,6 +49,31 @@ public interface ExecutionHandler<R> {
 
     void onExecutionCompletion(CommandExecution execution, int executionIndex);
 
+    /**
+     * Method called by the {@link ComputationManager} once an execution is done and its output files have been
+     * post-processed, so that its results can be consumed before all the executions are done.
+     *
+     * @param execution      the command execution
+     * @param executionIndex the index of the execution
+     * @param exitValue      the exit value of the execution
+     * @param outputFiles    the output files of the execution which exist in the working directory, post-processed
+     *                       files (like gzipped ones) being replaced by the result of the post-processing
+     */
+    default void onExecutionCompletion(CommandExecution execution, int executionIndex, int exitValue, List<Path> outputFiles) {
+        onExecutionCompletion(execution, executionIndex);
+    }
+
+    /**
+     * Method called by the {@link ComputationManager} once all the executions of a command are done.
+     *
+     * @param execution              the command execution
+     * @param elapsedTime            time in ms between the start of the first execution and the end of the last one
+     * @param cumulatedExecutionTime sum in ms of the time spent in each of the executions
+     */
+    default void onExecutionStageCompletion(CommandExecution execution, long elapsedTime, long cumulatedExecutionTime) {
+        // nothing by default
+    }
+
     /**
      * Method called by the {@link ComputationManager} with the working directory and an execution report as parameters,
      * after the commands defined by the {@link #before} method have been executed:
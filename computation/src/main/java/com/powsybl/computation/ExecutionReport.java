@@ -26,4 +26,18 @@ public interface ExecutionReport {
     default Optional<InputStream> getStdErr(Command command, int index) {
         return Optional.empty();
     }
+
+    /**
+     * Time spent staging common files in the working directory, in ms.
+     */
+    default long getCommonFilesStagingTime() {
+        return 0;
+    }
+
+    /**
+     * Number of bytes of common files exposed in the working directory without being copied or decompressed.
+     */
+    default long getCommonFilesBytesSaved() {
+        return 0;
+    }
 }
@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+/**
+ * A command executing a {@link JavaTask} in the JVM of the computation manager, so that an execution does not pay
+ * the startup of a new process nor the reading of its inputs from files.
+ * <p>
+ * Only supported by computation managers executing commands on the local host.
+ *
+ * @author agent <agent at local>
+ */
+public interface JavaCommand extends Command {
+
+    JavaTask getTask();
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.Objects;
+
+/**
+ * @author agent <agent at local>
+ */
+public class JavaCommandBuilder extends AbstractCommandBuilder<JavaCommandBuilder> {
+
+    private JavaTask task;
+
+    public JavaCommandBuilder task(JavaTask task) {
+        this.task = Objects.requireNonNull(task);
+        return this;
+    }
+
+    public JavaCommand build() {
+        if (id == null) {
+            throw new PowsyblException("id is not set");
+        }
+        if (task == null) {
+            throw new PowsyblException("task is not set");
+        }
+        return new JavaCommandImpl(id, task, inputFiles, outputFiles);
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import java.util.List;
+
+/**
+ * @author agent <agent at local>
+ */
+class JavaCommandImpl extends AbstractCommand implements JavaCommand {
+
+    private final JavaTask task;
+
+    JavaCommandImpl(String id, JavaTask task, List<InputFile> inputFiles, List<OutputFile> outputFiles) {
+        super(id, inputFiles, outputFiles);
+        this.task = task;
+    }
+
+    @Override
+    public CommandType getType() {
+        return CommandType.JAVA;
+    }
+
+    @Override
+    public JavaTask getTask() {
+        return task;
+    }
+
+    @Override
+    public String toString(int executionNumber) {
+        return "[java task " + id + ", execution " + executionNumber + "]";
+    }
+}
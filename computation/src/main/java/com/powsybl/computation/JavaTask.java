@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+/**
+ * A task written in Java, executed by the computation manager without starting a new process.
+ * <p>
+ * Inputs and outputs of the task may be exchanged with the execution handler as Java objects (captured by the task
+ * or indexed by the execution number), instead of files of the working directory. A task may be executed
+ * concurrently for different execution numbers, so it has to be thread safe.
+ *
+ * @author agent <agent at local>
+ */
+@FunctionalInterface
+public interface JavaTask {
+
+    /**
+     * Execute the task.
+     *
+     * @param context the context of the execution
+     * @return the exit code of the execution, 0 in case of success
+     * @throws Exception in case of failure, the execution is then considered as failed
+     */
+    int execute(JavaTaskContext context) throws Exception;
+}
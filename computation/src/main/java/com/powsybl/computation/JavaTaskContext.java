@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Context of the execution of a {@link JavaTask}.
+ *
+ * @author agent <agent at local>
+ */
+public interface JavaTaskContext {
+
+    Path getWorkingDir();
+
+    int getExecutionNumber();
+
+    /**
+     * Variables of the execution environment, as the environment variables of an external program.
+     */
+    Map<String, String> getVariables();
+
+    /**
+     * Standard output of the execution, written where the standard output of an external program would be.
+     */
+    PrintStream getOut();
+
+    /**
+     * Standard error of the execution, written where the standard error of an external program would be.
+     */
+    PrintStream getErr();
+}
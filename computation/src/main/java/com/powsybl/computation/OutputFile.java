@@ -6,9 +6,15 @@
  */
 package com.powsybl.computation;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Command output file.
@@ -54,4 +60,19 @@ public class OutputFile {
     public boolean dependsOnExecutionNumber() {
         return name.dependsOnExecutionNumber();
     }
+
+    /**
+     * Open the output file of an execution for reading. If the file has been gzipped by the post-processor and only
+     * the compressed file is available (for instance, when it has been transferred from a remote node), it is
+     * decompressed on the fly, so that readers can stream it without writing an intermediate file.
+     */
+    public InputStream newInputStream(Path workingDir, int executionNumber) throws IOException {
+        Objects.requireNonNull(workingDir);
+        String fileName = getName(executionNumber);
+        Path path = workingDir.resolve(fileName);
+        if (postProcessor == FilePostProcessor.FILE_GZIP && !Files.exists(path)) {
+            return new GZIPInputStream(Files.newInputStream(workingDir.resolve(fileName + ".gz")));
+        }
+        return Files.newInputStream(path);
+    }
 }
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.computation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author agent <agent at local>
+ */
+public class JavaCommandTest {
+
+    @Test
+    public void test() {
+        JavaTask task = context -> 0;
+        JavaCommand cmd = new JavaCommandBuilder()
+                .id("cmd1")
+                .task(task)
+                .inputFiles(new InputFile("file1"))
+                .outputFiles(new OutputFile("out1"))
+                .build();
+
+        assertEquals(CommandType.JAVA, cmd.getType());
+        assertEquals("cmd1", cmd.getId());
+        assertSame(task, cmd.getTask());
+        assertEquals(1, cmd.getInputFiles().size());
+        assertEquals(1, cmd.getOutputFiles().size());
+        assertEquals("[java task cmd1, execution 2]", cmd.toString(2));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testTaskNotSet() {
+        new JavaCommandBuilder()
+                .id("cmd1")
+                .build();
+    }
+}
@@ -6,9 +6,20 @@
  */
 package com.powsybl.computation;
 
+import com.google.common.io.ByteStreams;
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.Assert.*;
 
@@ -53,4 +64,26 @@ public class OutputFileTest {
         assertEquals(1, files.size());
         assertNotNull(files.get(0));
     }
+
+    @Test
+    public void newInputStreamTest() throws IOException {
+        try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+            Path workingDir = Files.createDirectories(fileSystem.getPath("/tmp/work"));
+            OutputFile file = new OutputFile("out" + CommandConstants.EXECUTION_NUMBER_PATTERN, FilePostProcessor.FILE_GZIP);
+
+            // only the compressed file is available
+            try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(workingDir.resolve("out0.gz")))) {
+                os.write("compressed".getBytes(StandardCharsets.UTF_8));
+            }
+            try (InputStream is = file.newInputStream(workingDir, 0)) {
+                assertEquals("compressed", new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8));
+            }
+
+            // uncompressed file is read first
+            Files.write(workingDir.resolve("out0"), "raw".getBytes(StandardCharsets.UTF_8));
+            try (InputStream is = file.newInputStream(workingDir, 0)) {
+                assertEquals("raw", new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8));
+            }
+        }
+    }
 }
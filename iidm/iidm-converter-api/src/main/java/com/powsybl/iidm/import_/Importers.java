@@ -386,7 +386,7 @@ public final class Importers {
         ReadOnlyDataSource dataSource = createDataSource(file);
         Importer importer = findImporter(dataSource, loader, computationManager, config);
         if (importer != null) {
-            return importer.importData(dataSource, parameters);
+            return NetworkCache.getInstance().get(file, importer.getFormat(), parameters, () -> importer.importData(dataSource, parameters));
         }
         throw new PowsyblException("Unsupported file format or invalid file.");
     }
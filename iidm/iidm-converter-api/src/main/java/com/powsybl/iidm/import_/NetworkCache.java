@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.import_;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A LRU cache of imported networks, keyed by the content of the case file and the import parameters.
+ * <p>
+ * It is meant for long-lived JVMs executing one command at a time, like itools workers: a cached network is given
+ * back to the next command after its variants have been reset to the state right after the import. Changes which are
+ * not part of a variant, like a topology change or an added extension, are not reset, so the cache is only enabled
+ * with the {@value #CACHE_SIZE_PROPERTY} system property.
+ *
+ * @author agent <agent at local>
+ */
+final class NetworkCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkCache.class);
+
+    static final String CACHE_SIZE_PROPERTY = "powsybl.import.network-cache-size";
+
+    private static final String PRISTINE_VARIANT_ID = "NetworkCache-pristine";
+
+    private static final NetworkCache INSTANCE = new NetworkCache(Integer.getInteger(CACHE_SIZE_PROPERTY, 0));
+
+    private final int size;
+
+    private final Cache<String, Network> networks;
+
+    static NetworkCache getInstance() {
+        return INSTANCE;
+    }
+
+    NetworkCache(int size) {
+        this.size = size;
+        networks = CacheBuilder.newBuilder()
+                .maximumSize(size)
+                .build();
+    }
+
+    boolean isEnabled() {
+        return size > 0;
+    }
+
+    private static String computeKey(Path file, String format, Properties parameters) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        try (InputStream is = Files.newInputStream(file)) {
+            ByteStreams.copy(is, Funnels.asOutputStream(hasher));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        hasher.putString(format, StandardCharsets.UTF_8);
+        if (parameters != null) {
+            new TreeMap<>(parameters).forEach((name, value) -> hasher.putString(name + "=" + value + "\n", StandardCharsets.UTF_8));
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void reset(Network network) {
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.allowVariantMultiThreadAccess(false);
+        for (String variantId : new ArrayList<>(variantManager.getVariantIds())) {
+            if (!VariantManagerConstants.INITIAL_VARIANT_ID.equals(variantId) && !PRISTINE_VARIANT_ID.equals(variantId)) {
+                variantManager.removeVariant(variantId);
+            }
+        }
+        variantManager.cloneVariant(PRISTINE_VARIANT_ID, VariantManagerConstants.INITIAL_VARIANT_ID, true);
+        variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+    }
+
+    /**
+     * Get the cached network imported from a file, or import and cache it.
+     * <p>
+     * Imports are not serialized: only concurrent calls for the same key wait for the same import.
+     */
+    Network get(Path file, String format, Properties parameters, Supplier<Network> importer) {
+        if (!isEnabled() || !Files.isRegularFile(file)) {
+            return importer.get();
+        }
+        String key = computeKey(file, format, parameters);
+        boolean[] imported = new boolean[1];
+        Network network;
+        try {
+            network = networks.get(key, () -> {
+                Network n = importer.get();
+                n.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, PRISTINE_VARIANT_ID);
+                imported[0] = true;
+                return n;
+            });
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+        if (!imported[0]) {
+            LOGGER.info("Network {} reused from cache", network.getId());
+            reset(network);
+        }
+        return network;
+    }
+}
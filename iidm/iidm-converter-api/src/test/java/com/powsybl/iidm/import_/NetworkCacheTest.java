@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.import_;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class NetworkCacheTest {
+
+    private FileSystem fileSystem;
+
+    private Path file1;
+
+    private Path file2;
+
+    private final AtomicInteger importCount = new AtomicInteger();
+
+    private final Supplier<Network> importer = () -> {
+        importCount.incrementAndGet();
+        return EurostagTutorialExample1Factory.create();
+    };
+
+    @Before
+    public void setUp() throws IOException {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        Files.createDirectories(fileSystem.getPath("/tmp"));
+        file1 = Files.write(fileSystem.getPath("/tmp/case1.xiidm"), Collections.singletonList("case1"), StandardCharsets.UTF_8);
+        file2 = Files.write(fileSystem.getPath("/tmp/case2.xiidm"), Collections.singletonList("case2"), StandardCharsets.UTF_8);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    @Test
+    public void test() {
+        NetworkCache cache = new NetworkCache(1);
+        Network network = cache.get(file1, "XIIDM", null, importer);
+        assertEquals(1, importCount.get());
+
+        // modify the network as a command would do
+        network.getLoad("LOAD").setP0(1000);
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "contingency");
+        network.getVariantManager().setWorkingVariant("contingency");
+
+        // the state right after the import is restored
+        assertSame(network, cache.get(file1, "XIIDM", null, importer));
+        assertEquals(1, importCount.get());
+        assertEquals(600, network.getLoad("LOAD").getP0(), 0);
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, network.getVariantManager().getWorkingVariantId());
+        assertFalse(network.getVariantManager().getVariantIds().contains("contingency"));
+
+        // other parameters, other network
+        Properties parameters = new Properties();
+        parameters.setProperty("param", "value");
+        assertNotSame(network, cache.get(file1, "XIIDM", parameters, importer));
+        assertEquals(2, importCount.get());
+
+        // the first network has been evicted
+        assertNotSame(network, cache.get(file1, "XIIDM", null, importer));
+        assertEquals(3, importCount.get());
+
+        assertNotSame(network, cache.get(file2, "XIIDM", null, importer));
+        assertEquals(4, importCount.get());
+    }
+
+    @Test
+    public void testConcurrentImports() throws Exception {
+        NetworkCache cache = new NetworkCache(2);
+        CountDownLatch file1Importing = new CountDownLatch(1);
+        CountDownLatch file2Imported = new CountDownLatch(1);
+        // the import of the first file waits for the import of the second one, which must not be blocked
+        Supplier<Network> importer1 = () -> {
+            file1Importing.countDown();
+            try {
+                assertTrue(file2Imported.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+            return importer.get();
+        };
+        Supplier<Network> importer2 = () -> {
+            Network network = importer.get();
+            file2Imported.countDown();
+            return network;
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Network> network1 = executor.submit(() -> cache.get(file1, "XIIDM", null, importer1));
+            assertTrue(file1Importing.await(10, TimeUnit.SECONDS));
+            Network network2 = cache.get(file2, "XIIDM", null, importer2);
+            assertNotSame(network1.get(), network2);
+            assertEquals(2, importCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDisabled() {
+        NetworkCache cache = new NetworkCache(0);
+        assertFalse(cache.isEnabled());
+        assertNotSame(cache.get(file1, "XIIDM", null, importer), cache.get(file1, "XIIDM", null, importer));
+        assertEquals(2, importCount.get());
+    }
+}
@@ -870,14 +870,15 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
         }
 
         // try to find dangling lines couples
+        // dangling lines of this network are not modified until all couples are found, index them only once
+        Map<String, DanglingLine> dl1byXnodeCode = new HashMap<>();
+        for (DanglingLine dl1 : getDanglingLines()) {
+            if (dl1.getUcteXnodeCode() != null) {
+                dl1byXnodeCode.put(dl1.getUcteXnodeCode(), dl1);
+            }
+        }
         List<MergedLine> lines = new ArrayList<>();
         for (DanglingLine dl2 : Lists.newArrayList(other.getDanglingLines())) {
-            Map<String, DanglingLine> dl1byXnodeCode = new HashMap<>();
-            for (DanglingLine dl1 : getDanglingLines()) {
-                if (dl1.getUcteXnodeCode() != null) {
-                    dl1byXnodeCode.put(dl1.getUcteXnodeCode(), dl1);
-                }
-            }
             DanglingLine dl1 = getDanglingLineByTheOther(dl2, dl1byXnodeCode);
             mergeDanglingLines(lines, dl1, dl2);
         }
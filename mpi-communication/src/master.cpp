@@ -9,11 +9,13 @@
  */
 
 #include <mpi.h>
+#include <chrono>
 #include <iostream>
 #include <stdexcept>
 #include <memory>
 #include <mutex>
 #include <thread>
+#include <vector>
 #include <jni.h>
 #include <unistd.h>
 #include <boost/lexical_cast.hpp>
@@ -78,6 +80,7 @@ public:
     const std::string& mpiVersion();
     void startTasks(const powsybl::jni::JavaUtilList& tasks);
     void checkTasksCompletion(const powsybl::jni::JavaUtilList& runningTasks, const powsybl::jni::JavaUtilList& completedTasks);
+    void waitForTasksCompletion(const powsybl::jni::JavaUtilList& runningTasks, const powsybl::jni::JavaUtilList& completedTasks, long timeout);
     void broadcastCommonFile(const powsybl::jni::ByteArray& file);
 
 private:
@@ -85,6 +88,8 @@ private:
     void ensureStep(Step step);
     void checkStep(Step step);
     void checkStep(Step step1, Step step2);
+    void receiveResult(const powsybl::jni::ComPowsyblComputationMpiMpiTask& task, TaskContext& context);
+    void completeTask(powsybl::jni::ComPowsyblComputationMpiMpiTask& task, const powsybl::jni::JavaUtilList& completedTasks);
 
     const int _coresPerRank;
     std::thread::id _threadId;
@@ -269,6 +274,38 @@ void CommunicationManager::startTasks(const powsybl::jni::JavaUtilList& tasks) {
     }
 }
 
+void CommunicationManager::receiveResult(const powsybl::jni::ComPowsyblComputationMpiMpiTask& task, TaskContext& context) {
+    MPI_Status status;
+
+    // receiving the result length message means, length and buffer have been sent.
+    // we must wall an MPI_Wait to avoid memory leaks
+    if (MPI_Wait(&context._send._lengthRequest, &status) != MPI_SUCCESS) {
+        throw std::runtime_error("MPI_Wait error (" + boost::lexical_cast<std::string>(status.MPI_ERROR) + ")");
+    }
+    if (MPI_Wait(&context._send._bufferRequest, &status) != MPI_SUCCESS) {
+        throw std::runtime_error("MPI_Wait error (" + boost::lexical_cast<std::string>(status.MPI_ERROR) + ")");
+    }
+    // receive the result message
+    context._receiveBuffer.resize(context._receiveLength);
+    int rank = task.rank();
+    int thread = task.thread();
+    if (MPI_Irecv(&(context._receiveBuffer[0]), context._receiveLength, MPI_BYTE, rank, JOB_RESULT_BUFFER_TAG + thread, MPI_COMM_WORLD, &context._receiveBufferRequest) != MPI_SUCCESS) {
+        throw std::runtime_error("MPI_Recv error");
+    }
+}
+
+void CommunicationManager::completeTask(powsybl::jni::ComPowsyblComputationMpiMpiTask& task, const powsybl::jni::JavaUtilList& completedTasks) {
+    int taskId = task.id();
+
+    // store the result in the job
+    task.resultMessage(_taskContexts[taskId]->_receiveBuffer);
+
+    completedTasks.add(task.obj());
+
+    // destroy context
+    _taskContexts.erase(taskId);
+}
+
 void CommunicationManager::checkTasksCompletion(const powsybl::jni::JavaUtilList& runningTasks, const powsybl::jni::JavaUtilList& completedTasks) {
     checkThread();
 
@@ -290,38 +327,85 @@ void CommunicationManager::checkTasksCompletion(const powsybl::jni::JavaUtilList
                 throw std::runtime_error("MPI_Test error (" + boost::lexical_cast<std::string>(status.MPI_ERROR) + ")");
             }
             if (flag) {
-                // receiving the result length message means, length and buffer have been sent.
-                // we must wall an MPI_Wait to avoid memory leaks
-                if (MPI_Wait(&context->_send._lengthRequest, &status) != MPI_SUCCESS) {
-                    throw std::runtime_error("MPI_Wait error (" + boost::lexical_cast<std::string>(status.MPI_ERROR) + ")");
-                }
-                if (MPI_Wait(&context->_send._bufferRequest, &status) != MPI_SUCCESS) {
-                    throw std::runtime_error("MPI_Wait error (" + boost::lexical_cast<std::string>(status.MPI_ERROR) + ")");
-                }
-                // receive the result message
-                context->_receiveBuffer.resize(context->_receiveLength);
-                int rank = task.rank();
-                int thread = task.thread();     
-                if (MPI_Irecv(&(context->_receiveBuffer[0]), context->_receiveLength, MPI_BYTE, rank, JOB_RESULT_BUFFER_TAG + thread, MPI_COMM_WORLD, &context->_receiveBufferRequest) != MPI_SUCCESS) {
-                    throw std::runtime_error("MPI_Recv error");
-                }
+                receiveResult(task, *context);
             }                
         } else if (context->_receiveBufferRequest != MPI_REQUEST_NULL) {
             if (MPI_Test(&context->_receiveBufferRequest, &flag, &status) != MPI_SUCCESS) {
                 throw std::runtime_error("MPI_Test error (" + boost::lexical_cast<std::string>(status.MPI_ERROR) + ")");
             }
             if (flag) {
-                // store the result in the job
-                task.resultMessage(context->_receiveBuffer);
+                completeTask(task, completedTasks);
+            }
+        } else {
+            throw std::runtime_error("Unexpected state");
+        }
+    }
+}
+
+void CommunicationManager::waitForTasksCompletion(const powsybl::jni::JavaUtilList& runningTasks, const powsybl::jni::JavaUtilList& completedTasks, long timeout) {
+    checkThread();
+
+    if (runningTasks.size() == 0) {
+        return;
+    }
+
+    checkStep(Step::TASKS_EXECUTION);
 
-                completedTasks.add(task.obj());
+    std::chrono::steady_clock::time_point deadline = std::chrono::steady_clock::now() + std::chrono::milliseconds(timeout);
+
+    size_t count = runningTasks.size();
+    std::vector<std::shared_ptr<TaskContext> > contexts(count);
+    for (size_t i = 0; i < count; i++) {
+        powsybl::jni::ComPowsyblComputationMpiMpiTask task(runningTasks.env(), runningTasks.get(i));
+        contexts[i] = _taskContexts[task.id()];
+    }
 
-                // destroy context
-                _taskContexts.erase(taskId);
+    // MPI has no timed wait: the pending receive request of every running task, the result length one and then
+    // the result buffer one, is tested in a single call until a task completes or the deadline is reached
+    std::vector<MPI_Request> requests(count);
+    std::vector<int> indices(count);
+    bool completed = false;
+    while (!completed) {
+        for (size_t i = 0; i < count; i++) {
+            if (contexts[i]->_receiveLengthRequest != MPI_REQUEST_NULL) {
+                requests[i] = contexts[i]->_receiveLengthRequest;
+            } else if (contexts[i]->_receiveBufferRequest != MPI_REQUEST_NULL) {
+                requests[i] = contexts[i]->_receiveBufferRequest;
+            } else {
+                throw std::runtime_error("Unexpected state");
             }
-        } else {
+        }
+
+        int outcount;
+        if (MPI_Testsome(static_cast<int>(count), requests.data(), &outcount, indices.data(), MPI_STATUSES_IGNORE) != MPI_SUCCESS) {
+            throw std::runtime_error("MPI_Testsome error");
+        }
+        if (outcount == MPI_UNDEFINED) {
             throw std::runtime_error("Unexpected state");
         }
+
+        for (int j = 0; j < outcount; j++) {
+            int i = indices[j];
+            std::shared_ptr<TaskContext> context = contexts[i];
+            powsybl::jni::ComPowsyblComputationMpiMpiTask task(runningTasks.env(), runningTasks.get(i));
+
+            // completed requests have been freed by MPI_Testsome
+            if (context->_receiveLengthRequest != MPI_REQUEST_NULL) {
+                context->_receiveLengthRequest = MPI_REQUEST_NULL;
+                receiveResult(task, *context);
+            } else {
+                context->_receiveBufferRequest = MPI_REQUEST_NULL;
+                completeTask(task, completedTasks);
+                completed = true;
+            }
+        }
+
+        if (!completed) {
+            if (std::chrono::steady_clock::now() >= deadline) {
+                break;
+            }
+            std::this_thread::yield();
+        }
     }
 }
 
@@ -482,6 +566,28 @@ JNIEXPORT void JNICALL Java_com_powsybl_computation_mpi_JniMpiNativeServices_che
     }
 }
 
+/*
+ * Class:     com.powsybl_computation_mpi_JniMpiNativeServices
+ * Method:    waitForTasksCompletion
+ * Signature: (Ljava/util/List;Ljava/util/List;J)V
+ */
+JNIEXPORT void JNICALL Java_com_powsybl_computation_mpi_JniMpiNativeServices_waitForTasksCompletion(JNIEnv * env, jobject, jobject jrunningtasks, jobject jcompletedtasks, jlong timeout) {
+    try {
+        powsybl::jni::JavaUtilList runningTasks(env, jrunningtasks);
+        powsybl::jni::JavaUtilList completedTasks(env, jcompletedtasks);
+
+        // wait for at least one task completion
+        MANAGER->waitForTasksCompletion(runningTasks, completedTasks, timeout);
+
+    } catch (const std::exception& e) {
+        LOGGER.fatalStream() << e.what() << log4cpp::eol;
+        powsybl::jni::throwJavaLangRuntimeException(env, e.what());
+    } catch (...) {
+        LOGGER.fatalStream() << "Unknown exception" << log4cpp::eol;
+        powsybl::jni::throwJavaLangRuntimeException(env, "Unknown exception");
+    }
+}
+
 /*
  * Class:     com.powsybl_computation_mpi_JniMpiNativeServices
  * Method:    sendCommonFile
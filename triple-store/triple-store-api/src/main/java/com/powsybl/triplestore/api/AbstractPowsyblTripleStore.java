@@ -7,18 +7,30 @@
 
 package com.powsybl.triplestore.api;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteStreams;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 
 /**
  * @author Luma Zamarreño <zamarrenolm at aia.es>
@@ -28,6 +40,51 @@ public abstract class AbstractPowsyblTripleStore implements TripleStore {
     public AbstractPowsyblTripleStore() {
         queryPrefixes = new HashMap<>();
         defineQueryPrefix("rdf", RDF_NAMESPACE);
+        // Results are softly referenced, the garbage collector may reclaim them
+        queryResults = CacheBuilder.newBuilder().softValues().build();
+    }
+
+    /**
+     * Results of queries are cached until the contents of the triple store change.
+     * Callers receive their own list of results, but the property bags are shared and must not be modified.
+     */
+    @Override
+    public PropertyBags query(String query) {
+        String query1 = adjustedQuery(query);
+        PropertyBags results = queryResults.getIfPresent(query1);
+        if (results == null) {
+            long version = contentsVersion.get();
+            results = evaluate(query1);
+            if (results == null) {
+                return null;
+            }
+            synchronized (contentsVersion) {
+                if (version == contentsVersion.get()) {
+                    queryResults.put(query1, results);
+                }
+            }
+        }
+        return new PropertyBags(results);
+    }
+
+    /**
+     * Evaluate a query in the triple store, without using cached results.
+     *
+     * @param query the query text, including the prefixes
+     */
+    protected abstract PropertyBags evaluate(String query);
+
+    /**
+     * Implementations must call this method each time the statements of a context are modified.
+     * All the cached query results are discarded,
+     * because queries without explicit graphs are evaluated against the union of all contexts.
+     */
+    protected void contextChanged(String contextName) {
+        synchronized (contentsVersion) {
+            contentsVersion.incrementAndGet();
+            queryResults.invalidateAll();
+        }
+        LOG.debug("Context {} changed, query results discarded", contextName);
     }
 
     public void defineQueryPrefix(String prefix, String cimNamespace) {
@@ -35,6 +92,51 @@ public abstract class AbstractPowsyblTripleStore implements TripleStore {
         cacheQueryPrefixes();
     }
 
+    @Override
+    public void read(String base, ReadOnlyDataSource ds, Collection<String> contextNames, Executor executor) {
+        List<CompletableFuture<Runnable>> parsed = contextNames.stream()
+                .map(contextName -> CompletableFuture.supplyAsync(() -> parse(base, ds, contextName), executor))
+                .collect(Collectors.toList());
+        try {
+            // Statements are added one file at a time, in the order of the names
+            for (CompletableFuture<Runnable> p : parsed) {
+                p.join().run();
+            }
+        } catch (CompletionException x) {
+            parsed.forEach(p -> p.cancel(false));
+            if (x.getCause() instanceof TripleStoreException) {
+                throw (TripleStoreException) x.getCause();
+            }
+            throw new TripleStoreException(String.format("Reading %s", base), x.getCause());
+        }
+    }
+
+    private Runnable parse(String base, ReadOnlyDataSource ds, String contextName) {
+        LOG.info("Reading [{}]", contextName);
+        try (InputStream is = ds.newInputStream(contextName)) {
+            return parse(base, contextName, is);
+        } catch (IOException x) {
+            throw new TripleStoreException(String.format("Reading [%s]", contextName), x);
+        }
+    }
+
+    /**
+     * Parse a file without modifying the triple store, so that several files can be parsed concurrently.
+     * Implementations that can not parse outside of the triple store only load the content of the file,
+     * which is parsed when its statements are added.
+     *
+     * @return the action adding the parsed statements to the triple store
+     */
+    protected Runnable parse(String base, String contextName, InputStream is) {
+        byte[] content;
+        try {
+            content = ByteStreams.toByteArray(is);
+        } catch (IOException x) {
+            throw new TripleStoreException(String.format("Reading %s %s", base, contextName), x);
+        }
+        return () -> read(base, contextName, new ByteArrayInputStream(content));
+    }
+
     public void print(Consumer<String> liner) {
         print(new PrintStream(new LinesOutputStream(liner)));
     }
@@ -117,6 +219,8 @@ public abstract class AbstractPowsyblTripleStore implements TripleStore {
 
     private Map<String, String> queryPrefixes;
     private String cachedQueryPrefixes;
+    private final Cache<String, PropertyBags> queryResults;
+    private final AtomicLong contentsVersion = new AtomicLong();
 
     private static final String NAMESPACE_FOR_CONTEXTS = "contexts:";
     private static final Logger LOG = LoggerFactory.getLogger(AbstractPowsyblTripleStore.class);
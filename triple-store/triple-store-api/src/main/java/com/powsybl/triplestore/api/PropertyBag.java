@@ -7,10 +7,17 @@
 
 package com.powsybl.triplestore.api;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -18,18 +25,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * A row of a query result.
+ * <p>
+ * Values are stored in an array aligned with a column layout shared by all the
+ * bags created with the same property names, so a query result does not hold a
+ * hash table per row. Properties that are not part of the property names are
+ * kept aside in a small map. Numbers and identifiers are parsed on first use
+ * and cached. As in a hash map, a property can be present with a null value.
+ *
  * @author Luma Zamarreño <zamarrenolm at aia.es>
  */
-public class PropertyBag extends HashMap<String, String> {
+public class PropertyBag extends AbstractMap<String, String> {
 
     public PropertyBag(List<String> propertyNames) {
         this(propertyNames, false);
     }
 
     public PropertyBag(List<String> propertyNames, boolean removeUnderscore) {
-        super(propertyNames.size());
         this.propertyNames = propertyNames;
         this.removeInitialUnderscoreForIdentifiers = removeUnderscore;
+        this.schema = PropertyBagSchema.of(propertyNames);
+        this.values = new String[schema.size()];
     }
 
     public List<String> propertyNames() {
@@ -42,26 +58,137 @@ public class PropertyBag extends HashMap<String, String> {
         }
     }
 
+    @Override
+    public String get(Object key) {
+        int column = schema.column(key);
+        if (column >= 0) {
+            return unmask(values[column]);
+        }
+        return others != null ? others.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int column = schema.column(key);
+        if (column >= 0) {
+            return values[column] != null;
+        }
+        return others != null && others.containsKey(key);
+    }
+
+    @Override
+    public String put(String key, String value) {
+        int column = schema.column(key);
+        if (column >= 0) {
+            String previous = values[column];
+            values[column] = value != null ? value : NULL_VALUE;
+            if (previous == null) {
+                numValues++;
+            }
+            invalidate(column);
+            return unmask(previous);
+        }
+        if (others == null) {
+            others = new HashMap<>(4);
+        }
+        return others.put(key, value);
+    }
+
+    @Override
+    public String remove(Object key) {
+        int column = schema.column(key);
+        if (column >= 0) {
+            String previous = values[column];
+            if (previous != null) {
+                values[column] = null;
+                numValues--;
+                invalidate(column);
+            }
+            return unmask(previous);
+        }
+        return others != null ? others.remove(key) : null;
+    }
+
+    @Override
+    public int size() {
+        return numValues + (others != null ? others.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        numValues = 0;
+        others = null;
+        numbers = null;
+        ids = null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<Map.Entry<String, String>>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return PropertyBag.this.size();
+            }
+        };
+    }
+
     public String getLocal(String property) {
         String value = get(property);
         if (value == null) {
             return null;
         }
-        return value.replaceAll("^.*#", "");
+        return localName(value, false);
     }
 
     public String getId(String property) {
-        String value = get(property);
+        int column = schema.column(property);
+        if (column < 0) {
+            String value = get(property);
+            return value != null ? id(value) : null;
+        }
+        String value = unmask(values[column]);
         if (value == null) {
             return null;
         }
+        String[] ids1 = ids;
+        if (ids1 == null) {
+            ids1 = new String[values.length];
+            ids = ids1;
+        }
+        String id = ids1[column];
+        if (id == null) {
+            id = id(value);
+            ids1[column] = id;
+        }
+        return id;
+    }
+
+    private String id(String value) {
         // rdf:ID is the mRID plus an underscore added at the beginning of the string
         // We may decide if we want to preserve or not the underscore
-        if (removeInitialUnderscoreForIdentifiers) {
-            return value.replaceAll("^.*#_?", "");
-        } else {
-            return value.replaceAll("^.*#", "");
+        return localName(value, removeInitialUnderscoreForIdentifiers);
+    }
+
+    private static String localName(String value, boolean removeUnderscore) {
+        int start = value.lastIndexOf('#') + 1;
+        if (start == 0) {
+            return value;
+        }
+        if (removeUnderscore && start < value.length() && value.charAt(start) == '_') {
+            start++;
         }
+        return value.substring(start);
     }
 
     public String getId0(String property) {
@@ -82,17 +209,49 @@ public class PropertyBag extends HashMap<String, String> {
     }
 
     public double asDouble(String property, double defaultValue) {
-        if (!containsKey(property)) {
+        String value = get(property);
+        if (value == null) {
             return defaultValue;
         }
+        int column = schema.column(property);
+        if (column < 0) {
+            return parseDouble(property, value);
+        }
+        Double[] numbers1 = numbers;
+        if (numbers1 == null) {
+            numbers1 = new Double[values.length];
+            numbers = numbers1;
+        }
+        Double number = numbers1[column];
+        if (number == null) {
+            number = parseDouble(property, value);
+            numbers1[column] = number;
+        }
+        return number;
+    }
+
+    private static double parseDouble(String property, String value) {
         try {
-            return Double.parseDouble(get(property));
+            return Double.parseDouble(value);
         } catch (NumberFormatException x) {
-            LOG.warn("Invalid value for property {} : {}", property, get(property));
+            LOG.warn("Invalid value for property {} : {}", property, value);
             return Double.NaN;
         }
     }
 
+    private static String unmask(String value) {
+        return value == NULL_VALUE ? null : value;
+    }
+
+    private void invalidate(int column) {
+        if (numbers != null) {
+            numbers[column] = null;
+        }
+        if (ids != null) {
+            ids[column] = null;
+        }
+    }
+
     public boolean asBoolean(String property, boolean defaultValue) {
         if (!containsKey(property)) {
             return defaultValue;
@@ -124,7 +283,7 @@ public class PropertyBag extends HashMap<String, String> {
     }
 
     public String tabulate(String title) {
-        return tabulate(title, HashMap::get);
+        return tabulate(title, PropertyBag::get);
     }
 
     private String tabulate(String title, BiFunction<PropertyBag, String, String> getValue) {
@@ -181,8 +340,115 @@ public class PropertyBag extends HashMap<String, String> {
         return NAMESPACE_PREFIX;
     }
 
+    private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+
+        EntryIterator() {
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length || othersIterator != null && othersIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (next < values.length) {
+                last = next;
+                next++;
+                advance();
+                return new ColumnEntry(last);
+            }
+            if (othersIterator != null && othersIterator.hasNext()) {
+                last = -1;
+                return othersIterator.next();
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void remove() {
+            if (last >= 0) {
+                PropertyBag.this.remove(schema.name(last));
+                last = -1;
+            } else if (othersIterator != null) {
+                othersIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private void advance() {
+            while (next < values.length && values[next] == null) {
+                next++;
+            }
+            if (next == values.length && othersIterator == null && others != null) {
+                othersIterator = others.entrySet().iterator();
+            }
+        }
+
+        private int next = 0;
+        private int last = -1;
+        private Iterator<Map.Entry<String, String>> othersIterator;
+    }
+
+    private final class ColumnEntry implements Map.Entry<String, String> {
+
+        ColumnEntry(int column) {
+            this.column = column;
+        }
+
+        @Override
+        public String getKey() {
+            return schema.name(column);
+        }
+
+        @Override
+        public String getValue() {
+            return unmask(values[column]);
+        }
+
+        @Override
+        public String setValue(String value) {
+            return put(getKey(), value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) obj;
+            return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+
+        private final int column;
+    }
+
     private final List<String> propertyNames;
     private final boolean removeInitialUnderscoreForIdentifiers;
+    private final PropertyBagSchema schema;
+    private final String[] values;
+    private int numValues;
+    private Map<String, String> others;
+
+    // Parsed values, computed on first use
+    private Double[] numbers;
+    private String[] ids;
+
+    // Marks a property present with a null value, compared by identity
+    @SuppressWarnings("RedundantStringConstructorCall")
+    private static final String NULL_VALUE = new String();
 
     private static final String NAMESPACE_PREFIX = "data";
     private static final String INDENTATION = "    ";
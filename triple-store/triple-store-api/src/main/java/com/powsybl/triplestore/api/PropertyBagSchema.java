@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.triplestore.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Column layout shared by all the property bags built with the same list of
+ * property names, usually all the rows of a query result. Schemas are only
+ * kept while some property bag uses them.
+ *
+ * @author agent <agent at local>
+ */
+final class PropertyBagSchema {
+
+    static PropertyBagSchema of(List<String> propertyNames) {
+        // All the rows of a query result are created with the same list instance
+        LastUsed last = lastUsed;
+        if (last != null && last.propertyNames == propertyNames) {
+            return last.schema;
+        }
+        PropertyBagSchema schema = SCHEMAS.getIfPresent(propertyNames);
+        if (schema == null) {
+            List<String> names = Collections.unmodifiableList(new ArrayList<>(propertyNames));
+            schema = SCHEMAS.asMap().computeIfAbsent(names, PropertyBagSchema::new);
+        }
+        lastUsed = new LastUsed(propertyNames, schema);
+        return schema;
+    }
+
+    private PropertyBagSchema(List<String> propertyNames) {
+        this.propertyNames = propertyNames;
+        this.columns = buildColumns(propertyNames);
+    }
+
+    int size() {
+        return propertyNames.size();
+    }
+
+    String name(int column) {
+        return propertyNames.get(column);
+    }
+
+    int column(Object property) {
+        Integer column = columns.get(property);
+        return column != null ? column : -1;
+    }
+
+    private static Map<String, Integer> buildColumns(List<String> propertyNames) {
+        Map<String, Integer> columns = new HashMap<>(propertyNames.size() * 2);
+        for (int k = 0; k < propertyNames.size(); k++) {
+            columns.putIfAbsent(propertyNames.get(k), k);
+        }
+        return columns;
+    }
+
+    private static final class LastUsed {
+        LastUsed(List<String> propertyNames, PropertyBagSchema schema) {
+            this.propertyNames = propertyNames;
+            this.schema = schema;
+        }
+
+        private final List<String> propertyNames;
+        private final PropertyBagSchema schema;
+    }
+
+    private final List<String> propertyNames;
+    private final Map<String, Integer> columns;
+
+    private static volatile LastUsed lastUsed;
+    private static final Cache<List<String>, PropertyBagSchema> SCHEMAS = CacheBuilder.newBuilder().weakValues().build();
+}
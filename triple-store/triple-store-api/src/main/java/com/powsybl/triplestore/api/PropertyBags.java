@@ -96,7 +96,7 @@ public class PropertyBags extends ArrayList<PropertyBag> {
     }
 
     public String tabulate() {
-        return tabulate(HashMap::get);
+        return tabulate(PropertyBag::get);
     }
 
     private String tabulate(BiFunction<PropertyBag, String, String> getValue) {
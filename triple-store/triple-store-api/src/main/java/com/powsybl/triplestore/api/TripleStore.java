@@ -9,10 +9,14 @@ package com.powsybl.triplestore.api;
 
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 
 /**
  * @author Luma Zamarreño <zamarrenolm at aia.es>
@@ -21,8 +25,19 @@ public interface TripleStore {
 
     void read(String base, String contextName, InputStream is);
 
+    /**
+     * Read several files of a data source, each one in its own context. Files are parsed concurrently using the
+     * given executor, and their statements are added to the triple store in the order of the names.
+     */
+    void read(String base, ReadOnlyDataSource ds, Collection<String> contextNames, Executor executor);
+
     void write(DataSource ds);
 
+    /**
+     * Write only the statements of one context.
+     */
+    void write(DataSource ds, String contextName);
+
     void print(PrintStream out);
 
     void print(Consumer<String> liner);
@@ -36,4 +51,19 @@ public interface TripleStore {
     void add(String contextName, String type, PropertyBags objects);
 
     Set<String> contextNames();
+
+    /**
+     * Save all the statements and namespaces of the triple store in a directory,
+     * using an indexed format that can be loaded again without parsing the original files.
+     */
+    default void save(Path directory) {
+        throw new TripleStoreException("Saving is not supported by triple store " + getClass().getSimpleName());
+    }
+
+    /**
+     * Add to the triple store the statements and namespaces previously saved in a directory.
+     */
+    default void load(Path directory) {
+        throw new TripleStoreException("Loading is not supported by triple store " + getClass().getSimpleName());
+    }
 }
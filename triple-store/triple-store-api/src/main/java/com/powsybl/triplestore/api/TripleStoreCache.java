@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.triplestore.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.io.FileUtil;
+
+/**
+ * Triple stores saved on disk, keyed by a hash of the content of the files they have been read from.
+ * When the same files are read again the saved triple store is loaded directly, without parsing the files.
+ * <p>
+ * The total size of the saved triple stores is bounded, least recently used ones are removed first.
+ * Several processes may share the same directory: triple stores are saved in a temporary directory
+ * that is renamed once complete.
+ *
+ * @author agent <agent at local>
+ */
+public class TripleStoreCache {
+
+    public TripleStoreCache(Path directory, long maximumSize) {
+        this.directory = Objects.requireNonNull(directory);
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Invalid triple store cache maximum size: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException x) {
+            throw new UncheckedIOException(x);
+        }
+    }
+
+    /**
+     * Compute a key from the names and contents of files of a data source.
+     */
+    public static String key(ReadOnlyDataSource ds, Collection<String> names) {
+        Objects.requireNonNull(ds);
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String name : names.stream().sorted().collect(Collectors.toList())) {
+            hasher.putString(name, StandardCharsets.UTF_8);
+            try (InputStream is = ds.newInputStream(name)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int n;
+                while ((n = ByteStreams.read(is, buffer, 0, buffer.length)) > 0) {
+                    hasher.putBytes(buffer, 0, n);
+                }
+            } catch (IOException x) {
+                throw new UncheckedIOException(x);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Get the triple store saved for a key, or create it using the given loader and save it.
+     *
+     * @param impl the triple store implementation, it must support persistence
+     * @param key identifies the contents of the triple store
+     * @param loader reads the contents of a new triple store
+     */
+    public TripleStore getOrCreate(String impl, String key, Consumer<TripleStore> loader) {
+        Objects.requireNonNull(impl);
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+        Path entry = directory.resolve(impl + "-" + key);
+        if (Files.isDirectory(entry)) {
+            TripleStore tripleStore = TripleStoreFactory.create(impl);
+            try {
+                tripleStore.load(entry);
+                touch(entry);
+                LOGGER.info("Triple store {} loaded from cache", entry.getFileName());
+                return tripleStore;
+            } catch (TripleStoreException | UncheckedIOException x) {
+                // Removed in the meantime or corrupted
+                LOGGER.warn("Failed to load triple store {} from cache: {}", entry.getFileName(), x.toString());
+                delete(entry);
+            }
+        }
+
+        TripleStore tripleStore = TripleStoreFactory.create(impl);
+        loader.accept(tripleStore);
+        save(tripleStore, entry);
+        evict();
+        return tripleStore;
+    }
+
+    private void save(TripleStore tripleStore, Path entry) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempDirectory(directory, entry.getFileName() + TMP_EXT);
+            tripleStore.save(tmp);
+            Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.info("Triple store {} saved to cache", entry.getFileName());
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException x) {
+            // Saved concurrently by another process
+            delete(tmp);
+        } catch (IOException | TripleStoreException x) {
+            // The triple store is usable even if it could not be saved
+            LOGGER.warn("Failed to save triple store {} to cache: {}", entry.getFileName(), x.toString());
+            if (tmp != null) {
+                delete(tmp);
+            }
+        }
+    }
+
+    /**
+     * Remove least recently used triple stores until the total size is below the limit.
+     * Temporary directories abandoned by interrupted processes are also removed.
+     */
+    public void evict() {
+        List<Path> entries = new ArrayList<>();
+        long oldestTmp = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(Files::isDirectory).collect(Collectors.toList())) {
+                if (!file.getFileName().toString().contains(TMP_EXT)) {
+                    entries.add(file);
+                } else if (lastModified(file) < oldestTmp) {
+                    delete(file);
+                }
+            }
+        } catch (IOException x) {
+            throw new UncheckedIOException(x);
+        }
+        entries.sort(Comparator.comparingLong(TripleStoreCache::lastModified));
+        long size = entries.stream().mapToLong(TripleStoreCache::size).sum();
+        for (Path entry : entries) {
+            if (size <= maximumSize) {
+                break;
+            }
+            long entrySize = size(entry);
+            delete(entry);
+            size -= entrySize;
+            LOGGER.info("Triple store {} removed from cache (SIZE)", entry.getFileName());
+        }
+    }
+
+    /**
+     * Get the total size in bytes of the saved triple stores.
+     */
+    public long getSize() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> !file.getFileName().toString().contains(TMP_EXT))
+                    .mapToLong(TripleStoreCache::size)
+                    .sum();
+        } catch (IOException x) {
+            throw new UncheckedIOException(x);
+        }
+    }
+
+    private static long size(Path entry) {
+        try (Stream<Path> files = Files.walk(entry)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> {
+                try {
+                    return Files.size(file);
+                } catch (IOException x) {
+                    // Removed in the meantime
+                    return 0;
+                }
+            }).sum();
+        } catch (IOException | UncheckedIOException x) {
+            return 0;
+        }
+    }
+
+    private static long lastModified(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry).toMillis();
+        } catch (IOException x) {
+            return 0;
+        }
+    }
+
+    private static void touch(Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException x) {
+            LOGGER.warn("Failed to update last modified time of {}: {}", entry, x.toString());
+        }
+    }
+
+    private static void delete(Path entry) {
+        try {
+            FileUtil.removeDir(entry);
+        } catch (IOException x) {
+            LOGGER.warn("Failed to delete {}: {}", entry, x.toString());
+        }
+    }
+
+    private final Path directory;
+    private final long maximumSize;
+
+    private static final String TMP_EXT = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TripleStoreCache.class);
+}
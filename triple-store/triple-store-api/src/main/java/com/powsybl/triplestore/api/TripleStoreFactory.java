@@ -39,6 +39,12 @@ public final class TripleStoreFactory {
         throw new PowsyblException("No implementation available for triple store " + impl);
     }
 
+    public static boolean isPersistenceSupported(String impl) {
+        Objects.requireNonNull(impl);
+        return LOADER.getServices().stream()
+                .anyMatch(ts -> ts.getImplementationName().equals(impl) && ts.isPersistenceSupported());
+    }
+
     public static List<String> allImplementations() {
         return LOADER.getServices().stream().map(TripleStoreFactoryService::getImplementationName)
                 .collect(Collectors.toList());
@@ -18,4 +18,11 @@ public interface TripleStoreFactoryService {
 
     boolean isWorkingWithNestedGraphClauses();
 
+    /**
+     * Tell if triple stores of this implementation can be saved to and loaded from a directory.
+     */
+    default boolean isPersistenceSupported() {
+        return false;
+    }
+
 }
@@ -10,10 +10,13 @@ package com.powsybl.triplestore.api.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -61,6 +64,69 @@ public class PropertyBagTest {
         assertFalse(locals.equals(locals2));
     }
 
+    @Test
+    public void testMapView() {
+        PropertyBag b = new PropertyBag(Arrays.asList("id", "name", "enum"));
+        assertTrue(b.isEmpty());
+        b.put("name", "name0");
+        b.put("extra", "extra0");
+        assertEquals(2, b.size());
+        assertEquals("name0", b.get("name"));
+        assertEquals("extra0", b.get("extra"));
+        assertTrue(b.containsKey("extra"));
+        assertFalse(b.containsKey("id"));
+        assertNull(b.get("id"));
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("name", "name0");
+        expected.put("extra", "extra0");
+        assertEquals(expected, new HashMap<>(b));
+        assertEquals(expected.hashCode(), b.entrySet().stream().mapToInt(Map.Entry::hashCode).sum());
+
+        // Null values are stored, as in a hash map
+        assertEquals("name0", b.put("name", null));
+        assertTrue(b.containsKey("name"));
+        assertNull(b.get("name"));
+        assertEquals(2, b.size());
+        expected.put("name", null);
+        assertEquals(expected, new HashMap<>(b));
+        assertNull(b.put("name", "name1"));
+        assertEquals("name1", b.remove("name"));
+        assertFalse(b.containsKey("name"));
+        assertEquals(1, b.size());
+
+        b.put("extra", null);
+        assertTrue(b.containsKey("extra"));
+        b.entrySet().removeIf(e -> e.getKey().equals("extra"));
+        assertTrue(b.isEmpty());
+
+        b.put("id", "id0");
+        b.clear();
+        assertTrue(b.isEmpty());
+        assertNull(b.get("id"));
+    }
+
+    @Test
+    public void testCachedValuesAreUpdated() {
+        PropertyBag b = new PropertyBag(Arrays.asList("id", "value"), true);
+        b.put("id", "http://example.com/#_id0");
+        b.put("value", "1.5");
+        assertEquals("id0", b.getId("id"));
+        assertEquals(1.5, b.asDouble("value"), 0);
+
+        b.put("id", "http://example.com/#_id1");
+        b.put("value", "2.5");
+        assertEquals("id1", b.getId("id"));
+        assertEquals(2.5, b.asDouble("value"), 0);
+
+        b.remove("value");
+        assertEquals(-1.0, b.asDouble("value", -1.0), 0);
+
+        // Values without namespace are returned unchanged
+        b.put("id", "_id2");
+        assertEquals("_id2", b.getId("id"));
+    }
+
     @Test
     public void testLocals() {
         assertEquals("id0-id1-id2", locals.getId("id"));
@@ -11,8 +11,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -37,9 +40,12 @@ import org.openrdf.repository.RepositoryConnection;
 import org.openrdf.repository.RepositoryException;
 import org.openrdf.repository.RepositoryResult;
 import org.openrdf.rio.RDFFormat;
+import org.openrdf.rio.RDFHandlerException;
 import org.openrdf.rio.RDFParseException;
+import org.openrdf.rio.RDFParser;
 import org.openrdf.rio.RDFWriter;
 import org.openrdf.rio.Rio;
+import org.openrdf.rio.helpers.StatementCollector;
 import org.openrdf.rio.rdfxml.util.RDFXMLPrettyWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,13 +87,40 @@ public class TripleStoreBlazegraph extends AbstractPowsyblTripleStore {
 
     @Override
     public void read(String base, String name, InputStream is) {
+        parse(base, name, is).run();
+    }
+
+    @Override
+    protected Runnable parse(String base, String name, InputStream is) {
+        List<Statement> statements = new ArrayList<>();
+        Map<String, String> namespaces = new HashMap<>();
+        RDFParser parser = Rio.createParser(formatFromName(name));
+        parser.setRDFHandler(new StatementCollector(statements, namespaces));
+        try {
+            parser.parse(is, base);
+        } catch (IOException x) {
+            LOG.error("Reading. IO problem {}", x.getMessage());
+        } catch (RDFParseException x) {
+            LOG.error("Reading. RDF parsing problem {}", x.getMessage());
+        } catch (RDFHandlerException x) {
+            throw new TripleStoreException(String.format("Reading %s %s", name, base), x);
+        }
+        return () -> add(base, name, statements, namespaces);
+    }
+
+    private void add(String base, String name, List<Statement> statements, Map<String, String> namespaces) {
         RepositoryConnection cnx = null;
         try {
             cnx = repo.getConnection();
             cnx.begin();
             Resource context = context(cnx, name);
-            read(base, name, is, cnx, context);
+            cnx.add(statements, context);
             cnx.commit();
+            for (Map.Entry<String, String> namespace : namespaces.entrySet()) {
+                if (cnx.getNamespace(namespace.getKey()) == null) {
+                    cnx.setNamespace(namespace.getKey(), namespace.getValue());
+                }
+            }
             addNamespaceForBase(cnx, base);
         } catch (RepositoryException x) {
             throw new TripleStoreException(String.format("Reading. Repo problem %s %s", name, base), x);
@@ -99,17 +132,7 @@ public class TripleStoreBlazegraph extends AbstractPowsyblTripleStore {
                     LOG.error("Reading. Closing repo connection {} {}", name, base);
                 }
             }
-        }
-    }
-
-    private static void read(String base, String name, InputStream is, RepositoryConnection cnx, Resource context)
-            throws RepositoryException {
-        try {
-            cnx.add(is, base, formatFromName(name), context);
-        } catch (IOException x) {
-            LOG.error("Reading. IO problem {}", x.getMessage());
-        } catch (RDFParseException x) {
-            LOG.error("Reading. RDF parsing problem {}", x.getMessage());
+            contextChanged(name);
         }
     }
 
@@ -129,16 +152,7 @@ public class TripleStoreBlazegraph extends AbstractPowsyblTripleStore {
             conn = repo.getConnection();
             RepositoryResult<Resource> contexts = conn.getContextIDs();
             while (contexts.hasNext()) {
-                Resource context = contexts.next();
-                LOG.info("Writing context {}", context);
-
-                RepositoryResult<Statement> statements = conn.getStatements(null, null, null, true, context);
-                Model model = new LinkedHashModel();
-                QueryResults.addAll(statements, model);
-                copyNamespacesToModel(conn, model);
-
-                String outname = context.toString();
-                write(model, outputStream(ds, outname));
+                write(conn, ds, contexts.next());
             }
         } catch (RepositoryException x) {
             throw new TripleStoreException(String.format("Writing on %s", ds), x);
@@ -153,6 +167,37 @@ public class TripleStoreBlazegraph extends AbstractPowsyblTripleStore {
         }
     }
 
+    @Override
+    public void write(DataSource ds, String contextName) {
+        RepositoryConnection conn = null;
+        try {
+            conn = repo.getConnection();
+            write(conn, ds, context(conn, contextName));
+        } catch (RepositoryException x) {
+            throw new TripleStoreException(String.format("Writing %s on %s", contextName, ds), x);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (RepositoryException x) {
+                    LOG.error("Writing on {}. Closing repository connection", ds);
+                }
+            }
+        }
+    }
+
+    private void write(RepositoryConnection conn, DataSource ds, Resource context) throws RepositoryException {
+        LOG.info("Writing context {}", context);
+
+        RepositoryResult<Statement> statements = conn.getStatements(null, null, null, true, context);
+        Model model = new LinkedHashModel();
+        QueryResults.addAll(statements, model);
+        copyNamespacesToModel(conn, model);
+
+        String outname = context.toString();
+        write(model, outputStream(ds, outname));
+    }
+
     @Override
     public void print(PrintStream out) {
         out.println("TripleStore based on Blazegraph");
@@ -223,15 +268,16 @@ public class TripleStoreBlazegraph extends AbstractPowsyblTripleStore {
                     LOG.error(x.getMessage());
                 }
             }
+            contextChanged(contextName);
         }
     }
 
     @Override
-    public PropertyBags query(String query) {
+    protected PropertyBags evaluate(String query) {
         RepositoryConnection cnx = null;
         try {
             cnx = repo.getConnection();
-            return query(cnx, adjustedQuery(query));
+            return query(cnx, query);
         } catch (RepositoryException x) {
             LOG.error(x.getMessage());
             return null;
@@ -263,6 +309,7 @@ public class TripleStoreBlazegraph extends AbstractPowsyblTripleStore {
                     LOG.error("Adding statements for graph {}. Closing repository connection", graph);
                 }
             }
+            contextChanged(graph);
         }
     }
 
@@ -325,13 +372,15 @@ public class TripleStoreBlazegraph extends AbstractPowsyblTripleStore {
             TupleQueryResult r = tupleQuery.evaluate();
             try {
                 List<String> names = r.getBindingNames();
+                // Values repeated across rows (types, enumerations, containers) are shared
+                Map<String, String> values = new HashMap<>();
                 while (r.hasNext()) {
                     BindingSet s = r.next();
                     PropertyBag result = new PropertyBag(names);
                     names.forEach(name -> {
                         if (s.hasBinding(name)) {
                             String value = s.getBinding(name).getValue().stringValue();
-                            result.put(name, value);
+                            result.put(name, values.computeIfAbsent(value, v -> v));
                         }
                     });
                     if (result.size() > 0) {
@@ -10,9 +10,11 @@ package com.powsybl.triplestore.impl.jena;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -66,10 +68,19 @@ public class TripleStoreJena extends AbstractPowsyblTripleStore {
 
     @Override
     public void read(String base, String contextName, InputStream is) {
+        parse(base, contextName, is).run();
+    }
+
+    @Override
+    protected Runnable parse(String base, String contextName, InputStream is) {
+        // Each file is parsed in its own model
         Model m = ModelFactory.createDefaultModel();
         m.read(is, base, formatFromName(contextName));
-        dataset.addNamedModel(namedModelFromName(contextName), m);
-        union = union.union(m);
+        return () -> {
+            dataset.addNamedModel(namedModelFromName(contextName), m);
+            union = union.union(m);
+            contextChanged(contextName);
+        };
     }
 
     private static String formatFromName(String name) {
@@ -85,13 +96,18 @@ public class TripleStoreJena extends AbstractPowsyblTripleStore {
     public void write(DataSource ds) {
         Iterator<String> k = dataset.listNames();
         while (k.hasNext()) {
-            String n = k.next();
-            Model m = dataset.getNamedModel(n);
-            writer.setProperty("prettyTypes", subjectsTypes(m));
-            writer.write(m, outputStream(ds, n), n);
+            write(ds, k.next());
         }
     }
 
+    @Override
+    public void write(DataSource ds, String contextName) {
+        String n = namedModelFromName(contextName);
+        Model m = dataset.getNamedModel(n);
+        writer.setProperty("prettyTypes", subjectsTypes(m));
+        writer.write(m, outputStream(ds, n), n);
+    }
+
     @Override
     public void print(PrintStream out) {
         out.println("TripleStore based on Jena. Graph names and sizes with subjects types");
@@ -117,28 +133,30 @@ public class TripleStoreJena extends AbstractPowsyblTripleStore {
         union.remove(m);
         dataset.removeNamedModel(mname);
         m.removeAll();
+        contextChanged(contextName);
     }
 
     @Override
-    public PropertyBags query(String query) {
-        String query1 = adjustedQuery(query);
+    protected PropertyBags evaluate(String query) {
         PropertyBags results = new PropertyBags();
         // Because Jena in-memory does not support default graph
         // as the union of named graphs
         // We use the dataset for maintaining separate graphs,
         // but query in general against union
         // Only query against dataset if we found a GRAPH clause in the query text
-        try (QueryExecution q = queryExecutionFromQueryText(query1)) {
+        try (QueryExecution q = queryExecutionFromQueryText(query)) {
             // If we want to analyze the algebra of the query,
             // set ARQ.symLogExec to true in the query context
             ResultSet r = q.execSelect();
             List<String> names = r.getResultVars();
+            // Values repeated across rows (types, enumerations, containers) are shared
+            Map<String, String> values = new HashMap<>();
             while (r.hasNext()) {
                 QuerySolution s = r.next();
                 PropertyBag result = new PropertyBag(names);
                 names.forEach(name -> {
                     if (s.contains(name)) {
-                        result.put(name, stringValue(s.get(name)));
+                        result.put(name, values.computeIfAbsent(stringValue(s.get(name)), v -> v));
                     }
                 });
                 if (!result.isEmpty()) {
@@ -173,6 +191,7 @@ public class TripleStoreJena extends AbstractPowsyblTripleStore {
         }
         dataset.addNamedModel(context, m);
         union = union.union(m);
+        contextChanged(context);
     }
 
     private void createStatements(Model m, String objType, PropertyBag statement) {
@@ -32,4 +32,9 @@ public class TripleStoreFactoryServiceRDF4J implements TripleStoreFactoryService
         return true;
     }
 
+    @Override
+    public boolean isPersistenceSupported() {
+        return true;
+    }
+
 }
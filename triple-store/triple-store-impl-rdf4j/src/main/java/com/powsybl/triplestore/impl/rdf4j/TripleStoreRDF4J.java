@@ -9,40 +9,55 @@ package com.powsybl.triplestore.impl.rdf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.rdf4j.IsolationLevels;
+import org.eclipse.rdf4j.RDF4JException;
 import org.eclipse.rdf4j.common.iteration.Iterations;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Namespace;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryLanguage;
 import org.eclipse.rdf4j.query.QueryResults;
 import org.eclipse.rdf4j.query.TupleQuery;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.query.algebra.evaluation.function.rdfterm.UUID;
-import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryResult;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailTupleQuery;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFParser;
 import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
 import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
 import org.eclipse.rdf4j.rio.helpers.XMLParserSettings;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.triplestore.api.AbstractPowsyblTripleStore;
 import com.powsybl.triplestore.api.PropertyBag;
@@ -61,23 +76,46 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
 
     @Override
     public void read(String base, String contextName, InputStream is) {
-        try (RepositoryConnection conn = repo.getConnection()) {
-            conn.setIsolationLevel(IsolationLevels.NONE);
+        parse(base, contextName, is).run();
+    }
 
-            // Report invalid identifiers but do not fail
-            // (sometimes RDF identifiers contain spaces or begin with #)
-            // This is the default behavior for other triple store engines (Jena)
-            conn.getParserConfig().addNonFatalError(XMLParserSettings.FAIL_ON_INVALID_NCNAME);
-            conn.getParserConfig().addNonFatalError(BasicParserSettings.VERIFY_URI_SYNTAX);
+    @Override
+    protected Runnable parse(String base, String contextName, InputStream is) {
+        RDFParser parser = Rio.createParser(formatFromName(contextName));
 
-            Resource context = context(conn, contextName);
-            // We add data with a context (graph) to keep the source of information
-            // When we write we want to keep data split by graph
-            conn.add(is, base, formatFromName(contextName), context);
-            addNamespaceForBase(conn, base);
-        } catch (IOException x) {
+        // Report invalid identifiers but do not fail
+        // (sometimes RDF identifiers contain spaces or begin with #)
+        // This is the default behavior for other triple store engines (Jena)
+        parser.getParserConfig().addNonFatalError(XMLParserSettings.FAIL_ON_INVALID_NCNAME);
+        parser.getParserConfig().addNonFatalError(BasicParserSettings.VERIFY_URI_SYNTAX);
+
+        List<Statement> statements = new ArrayList<>();
+        Map<String, String> namespaces = new HashMap<>();
+        parser.setRDFHandler(new StatementCollector(statements, namespaces));
+        try {
+            parser.parse(is, base);
+        } catch (IOException | RDFParseException | RDFHandlerException x) {
             throw new TripleStoreException(String.format("Reading %s %s", base, contextName), x);
         }
+
+        return () -> {
+            try (RepositoryConnection conn = repo.getConnection()) {
+                conn.setIsolationLevel(IsolationLevels.NONE);
+
+                Resource context = context(conn, contextName);
+                // We add data with a context (graph) to keep the source of information
+                // When we write we want to keep data split by graph
+                conn.add(statements, context);
+                namespaces.forEach((prefix, namespace) -> {
+                    if (conn.getNamespace(prefix) == null) {
+                        conn.setNamespace(prefix, namespace);
+                    }
+                });
+                addNamespaceForBase(conn, base);
+            } finally {
+                contextChanged(contextName);
+            }
+        };
     }
 
     private static RDFFormat formatFromName(String name) {
@@ -94,17 +132,27 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         try (RepositoryConnection conn = repo.getConnection()) {
             RepositoryResult<Resource> contexts = conn.getContextIDs();
             while (contexts.hasNext()) {
-                Resource context = contexts.next();
-                LOGGER.info("Writing context {}", context);
+                write(conn, ds, contexts.next());
+            }
+        }
+    }
 
-                RepositoryResult<Statement> statements;
-                statements = conn.getStatements(null, null, null, context);
-                Model model = QueryResults.asModel(statements);
-                copyNamespacesToModel(conn, model);
+    @Override
+    public void write(DataSource ds, String contextName) {
+        try (RepositoryConnection conn = repo.getConnection()) {
+            write(conn, ds, context(conn, contextName));
+        }
+    }
 
-                String outname = context.toString();
-                write(model, outputStream(ds, outname));
-            }
+    private void write(RepositoryConnection conn, DataSource ds, Resource context) {
+        LOGGER.info("Writing context {}", context);
+
+        String outname = context.toString();
+        try (PrintStream out = new PrintStream(outputStream(ds, outname))) {
+            RDFWriter w = new PowsyblWriter(out);
+            w.getWriterConfig().set(BasicWriterSettings.PRETTY_PRINT, true);
+            // Statements are written as they are read from the repository, without building a model
+            conn.export(w, context);
         }
     }
 
@@ -133,16 +181,17 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         try (RepositoryConnection conn = repo.getConnection()) {
             Resource context = context(conn, contextName);
             conn.clear(context);
+        } finally {
+            contextChanged(contextName);
         }
     }
 
     @Override
-    public PropertyBags query(String query) {
-        String query1 = adjustedQuery(query);
+    protected PropertyBags evaluate(String query) {
         PropertyBags results = new PropertyBags();
-        try (RepositoryConnection conn = repo.getConnection()) {
-            // Default language is SPARQL
-            TupleQuery q = conn.prepareTupleQuery(query1);
+        try (SailRepositoryConnection conn = repo.getConnection()) {
+            // Queries are parsed once and evaluated in each connection
+            TupleQuery q = new SailTupleQuery(parsedQuery(query), conn);
             // Duplicated triplets are returned in queries
             // when an object is defined in a file and referrenced in another (rdf:ID and
             // rdf:about)
@@ -151,6 +200,8 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
             // This means that we have to filter distinct results
             try (TupleQueryResult r = QueryResults.distinctResults(q.evaluate())) {
                 List<String> names = r.getBindingNames();
+                // Values repeated across rows (types, enumerations, containers) are shared
+                Map<String, String> values = new HashMap<>();
                 while (r.hasNext()) {
                     BindingSet s = r.next();
                     PropertyBag result = new PropertyBag(names);
@@ -158,7 +209,7 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
                     names.forEach(name -> {
                         if (s.hasBinding(name)) {
                             String value = s.getBinding(name).getValue().stringValue();
-                            result.put(name, value);
+                            result.put(name, values.computeIfAbsent(value, v -> v));
                         }
                     });
                     if (result.size() > 0) {
@@ -170,6 +221,16 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         return results;
     }
 
+    private ParsedTupleQuery parsedQuery(String query) {
+        ParsedTupleQuery parsed = parsedQueries.getIfPresent(query);
+        if (parsed == null) {
+            // Default language is SPARQL
+            parsed = QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, query, null);
+            parsedQueries.put(query, parsed);
+        }
+        return parsed;
+    }
+
     @Override
     public void add(String graph, String objType, PropertyBags statements) {
         try (RepositoryConnection conn = repo.getConnection()) {
@@ -188,6 +249,54 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
             Resource context = conn.getValueFactory().createIRI(name);
 
             statements.forEach(statement -> createStatements(conn, objType, statement, context));
+        } finally {
+            contextChanged(graph);
+        }
+    }
+
+    @Override
+    public void save(Path directory) {
+        SailRepository saved = new SailRepository(new NativeStore(directory.toFile(), NATIVE_STORE_INDEXES));
+        try {
+            saved.initialize();
+            copy(repo, saved);
+        } catch (RDF4JException x) {
+            throw new TripleStoreException(String.format("Saving %s", directory), x);
+        } finally {
+            saved.shutDown();
+        }
+    }
+
+    @Override
+    public void load(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            throw new TripleStoreException(String.format("Loading %s. Not a directory", directory));
+        }
+        SailRepository saved = new SailRepository(new NativeStore(directory.toFile(), NATIVE_STORE_INDEXES));
+        try {
+            saved.initialize();
+            copy(saved, repo);
+        } catch (RDF4JException x) {
+            throw new TripleStoreException(String.format("Loading %s", directory), x);
+        } finally {
+            saved.shutDown();
+            contextChanged(directory.toString());
+        }
+    }
+
+    private static void copy(SailRepository from, SailRepository to) {
+        try (RepositoryConnection fromConn = from.getConnection();
+             RepositoryConnection toConn = to.getConnection()) {
+            toConn.begin(IsolationLevels.NONE);
+            // Statements are copied with their contexts
+            toConn.add(fromConn.getStatements(null, null, null, false));
+            try (RepositoryResult<Namespace> ns = fromConn.getNamespaces()) {
+                while (ns.hasNext()) {
+                    Namespace namespace = ns.next();
+                    toConn.setNamespace(namespace.getPrefix(), namespace.getName());
+                }
+            }
+            toConn.commit();
         }
     }
 
@@ -216,14 +325,6 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         });
     }
 
-    private static void write(Model m, OutputStream out) {
-        try (PrintStream pout = new PrintStream(out)) {
-            RDFWriter w = new PowsyblWriter(pout);
-            w.getWriterConfig().set(BasicWriterSettings.PRETTY_PRINT, true);
-            Rio.write(m, w);
-        }
-    }
-
     private static int statementsCount(RepositoryConnection conn, Resource ctx) {
         RepositoryResult<Statement> statements = conn.getStatements(null, null, null, ctx);
         int counter = 0;
@@ -234,13 +335,6 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         return counter;
     }
 
-    private static void copyNamespacesToModel(RepositoryConnection conn, Model m) {
-        RepositoryResult<Namespace> ns = conn.getNamespaces();
-        while (ns.hasNext()) {
-            m.setNamespace(ns.next());
-        }
-    }
-
     private static void addNamespaceForBase(RepositoryConnection cnx, String base) {
         cnx.setNamespace("data", base + "/#");
     }
@@ -251,7 +345,12 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         return conn.getValueFactory().createIRI(namespaceForContexts(), name1);
     }
 
-    private final Repository repo;
+    private final SailRepository repo;
+    private final Cache<String, ParsedTupleQuery> parsedQueries = CacheBuilder.newBuilder().maximumSize(MAX_PARSED_QUERIES).build();
+
+    private static final int MAX_PARSED_QUERIES = 256;
+    // Indexes used to query by subject and by predicate and object
+    private static final String NATIVE_STORE_INDEXES = "spoc,posc";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TripleStoreRDF4J.class);
 }
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.triplestore.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.QueryCatalog;
+import com.powsybl.triplestore.api.TripleStore;
+import com.powsybl.triplestore.api.TripleStoreException;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ConcurrentReadTest {
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        queries = new QueryCatalog("foaf/foaf-graphs.sparql");
+        ds = new ReadOnlyMemDataSource();
+        for (String name : INPUTS) {
+            try (InputStream is = ClassLoader.getSystemResourceAsStream(name)) {
+                ds.putData(name, ByteStreams.toByteArray(is));
+            }
+        }
+        executor = Executors.newFixedThreadPool(INPUTS.size());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSameAsSequentialRead() throws IOException {
+        for (String impl : TripleStoreFactory.allImplementations()) {
+            TripleStore sequential = TripleStoreFactory.create(impl);
+            for (String name : INPUTS) {
+                try (InputStream is = ds.newInputStream(name)) {
+                    sequential.read(BASE, name, is);
+                }
+            }
+            TripleStore concurrent = TripleStoreFactory.create(impl);
+            concurrent.read(BASE, ds, INPUTS, executor);
+
+            assertEquals(impl, sequential.contextNames(), concurrent.contextNames());
+            PropertyBags expected = sequential.query(queries.get("lastNamesGraphs"));
+            PropertyBags actual = concurrent.query(queries.get("lastNamesGraphs"));
+            assertEquals(impl, expected.pluckLocals("lastName"), actual.pluckLocals("lastName"));
+            assertEquals(impl, expected.pluckLocals("graphLastnames"), actual.pluckLocals("graphLastnames"));
+            assertEquals(impl, expected.pluckLocals("graphPersons"), actual.pluckLocals("graphPersons"));
+        }
+    }
+
+    @Test
+    public void testMissingFile() {
+        List<String> names = Arrays.asList("foaf/abc-nicks.ttl", "foaf/missing.ttl");
+        for (String impl : TripleStoreFactory.allImplementations()) {
+            try {
+                TripleStoreFactory.create(impl).read(BASE, ds, names, executor);
+                fail();
+            } catch (TripleStoreException x) {
+                // expected
+            }
+        }
+    }
+
+    private static final String BASE = "foo:foaf";
+    private static final List<String> INPUTS = Arrays.asList("foaf/abc-nicks.ttl", "foaf/abc-lastNames.ttl");
+
+    private static QueryCatalog queries;
+    private static ReadOnlyMemDataSource ds;
+    private static ExecutorService executor;
+}
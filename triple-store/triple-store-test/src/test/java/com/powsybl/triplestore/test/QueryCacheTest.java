@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.triplestore.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.QueryCatalog;
+import com.powsybl.triplestore.api.TripleStore;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+
+/**
+ * @author agent <agent at local>
+ */
+public class QueryCacheTest {
+
+    @BeforeClass
+    public static void setUp() {
+        queries = new QueryCatalog("foaf/foaf-graphs.sparql");
+    }
+
+    @Test
+    public void testCachedUntilChanged() throws IOException {
+        for (String impl : TripleStoreFactory.allImplementations()) {
+            TripleStore ts = TripleStoreFactory.create(impl);
+            read(ts, NICKS);
+            read(ts, LAST_NAMES);
+            String query = queries.get("lastNamesGraphs");
+
+            PropertyBags r1 = ts.query(query);
+            PropertyBags r2 = ts.query(query);
+            assertTrue(impl, !r1.isEmpty());
+            // Each caller receives its own list, with the same results
+            assertNotSame(impl, r1, r2);
+            assertSame(impl, r1.get(0), r2.get(0));
+            r2.clear();
+            assertEquals(impl, r1.size(), ts.query(query).size());
+
+            // Results are computed again after the contents change
+            ts.clear(LAST_NAMES);
+            PropertyBags r3 = ts.query(query);
+            assertTrue(impl, r3.isEmpty());
+
+            read(ts, LAST_NAMES);
+            PropertyBags r4 = ts.query(query);
+            assertEquals(impl, r1.pluckLocals("lastName"), r4.pluckLocals("lastName"));
+            assertNotSame(impl, r1.get(0), r4.get(0));
+        }
+    }
+
+    private static void read(TripleStore ts, String name) throws IOException {
+        try (InputStream is = ClassLoader.getSystemResourceAsStream(name)) {
+            ts.read(BASE, name, is);
+        }
+    }
+
+    private static final String BASE = "foo:foaf";
+    private static final String NICKS = "foaf/abc-nicks.ttl";
+    private static final String LAST_NAMES = "foaf/abc-lastNames.ttl";
+
+    private static QueryCatalog queries;
+}
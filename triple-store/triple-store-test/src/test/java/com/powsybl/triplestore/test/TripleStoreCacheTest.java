@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.triplestore.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.QueryCatalog;
+import com.powsybl.triplestore.api.TripleStore;
+import com.powsybl.triplestore.api.TripleStoreCache;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+
+/**
+ * @author agent <agent at local>
+ */
+public class TripleStoreCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        queries = new QueryCatalog("foaf/foaf-graphs.sparql");
+        ds = new ReadOnlyMemDataSource();
+        for (String name : NAMES) {
+            try (InputStream is = ClassLoader.getSystemResourceAsStream(name)) {
+                ds.putData(name, ByteStreams.toByteArray(is));
+            }
+        }
+    }
+
+    @Test
+    public void testKey() {
+        String key = TripleStoreCache.key(ds, NAMES);
+        assertEquals(key, TripleStoreCache.key(ds, Arrays.asList(NICKS, LAST_NAMES)));
+        assertNotEquals(key, TripleStoreCache.key(ds, Arrays.asList(NICKS)));
+
+        ReadOnlyMemDataSource ds1 = new ReadOnlyMemDataSource();
+        ds1.putData(LAST_NAMES, ds.getData(LAST_NAMES));
+        ds1.putData(NICKS, ds.getData(LAST_NAMES));
+        assertNotEquals(key, TripleStoreCache.key(ds1, NAMES));
+    }
+
+    @Test
+    public void testLoadedFromCache() throws IOException {
+        String query = queries.get("lastNamesGraphs");
+        String key = TripleStoreCache.key(ds, NAMES);
+        for (String impl : persistentImplementations()) {
+            TripleStoreCache cache = new TripleStoreCache(folder.newFolder(impl).toPath(), Long.MAX_VALUE);
+            AtomicInteger reads = new AtomicInteger();
+
+            TripleStore ts1 = cache.getOrCreate(impl, key, ts -> {
+                reads.incrementAndGet();
+                read(ts);
+            });
+            TripleStore ts2 = cache.getOrCreate(impl, key, ts -> {
+                reads.incrementAndGet();
+                read(ts);
+            });
+            assertEquals(impl, 1, reads.get());
+            assertTrue(impl, cache.getSize() > 0);
+
+            PropertyBags expected = ts1.query(query);
+            PropertyBags actual = ts2.query(query);
+            assertFalse(impl, actual.isEmpty());
+            assertEquals(impl, expected.pluckLocals("lastName"), actual.pluckLocals("lastName"));
+            assertEquals(impl, expected.pluckLocals("graphLastnames"), actual.pluckLocals("graphLastnames"));
+            assertEquals(impl, ts1.contextNames(), ts2.contextNames());
+
+            // Modifications of a loaded triple store are not saved
+            ts2.clear(LAST_NAMES);
+            assertTrue(impl, ts2.query(query).isEmpty());
+            TripleStore ts3 = cache.getOrCreate(impl, key, ts -> reads.incrementAndGet());
+            assertEquals(impl, 1, reads.get());
+            assertEquals(impl, expected.size(), ts3.query(query).size());
+        }
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        for (String impl : persistentImplementations()) {
+            Path directory = folder.newFolder(impl).toPath();
+            TripleStoreCache cache = new TripleStoreCache(directory, Long.MAX_VALUE);
+            cache.getOrCreate(impl, "1", TripleStoreCacheTest::read);
+            long size = cache.getSize();
+            assertTrue(impl, size > 0);
+
+            // Only the most recently used triple store fits
+            TripleStoreCache small = new TripleStoreCache(directory, size + size / 2);
+            small.getOrCreate(impl, "2", TripleStoreCacheTest::read);
+            assertEquals(impl, size, small.getSize(), size / 2.0);
+
+            AtomicInteger reads = new AtomicInteger();
+            small.getOrCreate(impl, "2", ts -> reads.incrementAndGet());
+            assertEquals(impl, 0, reads.get());
+            small.getOrCreate(impl, "1", ts -> {
+                reads.incrementAndGet();
+                read(ts);
+            });
+            assertEquals(impl, 1, reads.get());
+        }
+    }
+
+    private static List<String> persistentImplementations() {
+        List<String> impls = TripleStoreFactory.allImplementations();
+        impls.removeIf(impl -> !TripleStoreFactory.isPersistenceSupported(impl));
+        assertFalse(impls.isEmpty());
+        return impls;
+    }
+
+    private static void read(TripleStore ts) {
+        for (String name : NAMES) {
+            try (InputStream is = ds.newInputStream(name)) {
+                ts.read(BASE, name, is);
+            } catch (IOException x) {
+                throw new UncheckedIOException(x);
+            }
+        }
+    }
+
+    private static final String BASE = "foo:foaf";
+    private static final String NICKS = "foaf/abc-nicks.ttl";
+    private static final String LAST_NAMES = "foaf/abc-lastNames.ttl";
+    private static final List<String> NAMES = Arrays.asList(LAST_NAMES, NICKS);
+
+    private static QueryCatalog queries;
+    private static ReadOnlyMemDataSource ds;
+}
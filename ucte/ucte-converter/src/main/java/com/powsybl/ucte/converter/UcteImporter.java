@@ -28,11 +28,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  *
@@ -947,4 +953,56 @@ public class UcteImporter implements Importer {
         }
     }
 
+    /**
+     * Import several UCTE files, for instance the individual grid models of the TSOs, and merge them in a single network.
+     * Files are read and converted one after the other in the calling thread, use
+     * {@link #importData(List, Properties, Executor)} to convert them concurrently.
+     */
+    public Network importData(List<ReadOnlyDataSource> dataSources, Properties parameters) {
+        return importData(dataSources, parameters, Runnable::run);
+    }
+
+    /**
+     * Import several UCTE files and merge them in a single network.
+     * <p>
+     * Each file is read and converted by the given executor, then networks are merged in the order of the data sources:
+     * the identifier and the case date of the merged network are the ones of the first file, and the dangling lines
+     * of different files connected to the same X-node are replaced by tie lines.
+     */
+    public Network importData(List<ReadOnlyDataSource> dataSources, Properties parameters, Executor executor) {
+        Objects.requireNonNull(dataSources);
+        Objects.requireNonNull(executor);
+        if (dataSources.isEmpty()) {
+            throw new UcteException("No UCTE file to import");
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        List<CompletableFuture<Network>> imported = dataSources.stream()
+                .map(dataSource -> CompletableFuture.supplyAsync(() -> importData(dataSource, parameters), executor))
+                .collect(Collectors.toList());
+        List<Network> networks = new ArrayList<>(imported.size());
+        try {
+            for (CompletableFuture<Network> i : imported) {
+                networks.add(i.join());
+            }
+        } catch (CompletionException e) {
+            imported.forEach(i -> i.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        Network network = networks.get(0);
+        for (Network other : networks.subList(1, networks.size())) {
+            network.merge(other);
+        }
+
+        stopwatch.stop();
+        LOGGER.debug("UCTE import of {} files done in {} ms", dataSources.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+        return network;
+    }
+
 }
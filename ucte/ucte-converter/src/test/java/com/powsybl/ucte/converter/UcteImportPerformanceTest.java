@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.converter;
+
+import com.powsybl.commons.datasource.FileDataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.ucte.network.*;
+import com.powsybl.ucte.network.io.UcteWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compare importing synthetic UCTE files one after the other, merging the networks, with importing them all at once.
+ * Each file is connected to the next one through X-nodes. The files are small, so that the test stays a correctness
+ * check, times are the best of several runs after a warm-up.
+ *
+ * @author agent <agent at local>
+ */
+public class UcteImportPerformanceTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UcteImportPerformanceTest.class);
+
+    private static final UcteCountryCode[] COUNTRIES = {UcteCountryCode.FR, UcteCountryCode.BE, UcteCountryCode.NL, UcteCountryCode.DE,
+                                                        UcteCountryCode.ES, UcteCountryCode.IT, UcteCountryCode.CH, UcteCountryCode.AT};
+
+    private static final int SUBSTATION_COUNT = 200;
+
+    private static final int XNODE_COUNT = 10;
+
+    private static final int WARM_UP_COUNT = 2;
+
+    private static final int RUN_COUNT = 3;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void importSeveralFiles() throws IOException {
+        Path dir = folder.newFolder().toPath();
+        List<ReadOnlyDataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            String baseName = "20190101_1030_2D2_" + COUNTRIES[i] + "0";
+            try (BufferedWriter writer = Files.newBufferedWriter(dir.resolve(baseName + ".uct"), StandardCharsets.UTF_8)) {
+                new UcteWriter(createNetwork(i)).write(writer);
+            }
+            dataSources.add(new FileDataSource(dir, baseName));
+        }
+
+        Supplier<Network> oneByOne = () -> {
+            Network network = new UcteImporter().importData(dataSources.get(0), null);
+            for (ReadOnlyDataSource dataSource : dataSources.subList(1, dataSources.size())) {
+                network.merge(new UcteImporter().importData(dataSource, null));
+            }
+            return network;
+        };
+        Supplier<Network> sequential = () -> new UcteImporter().importData(dataSources, null, Runnable::run);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        Network expected;
+        Network sequentialNetwork;
+        Network concurrentNetwork;
+        long oneByOneTime;
+        long sequentialTime;
+        long concurrentTime;
+        try {
+            Supplier<Network> concurrent = () -> new UcteImporter().importData(dataSources, null, executor);
+            for (int k = 0; k < WARM_UP_COUNT; k++) {
+                oneByOne.get();
+                sequential.get();
+                concurrent.get();
+            }
+            expected = oneByOne.get();
+            sequentialNetwork = sequential.get();
+            concurrentNetwork = concurrent.get();
+            oneByOneTime = bestTime(oneByOne);
+            sequentialTime = bestTime(sequential);
+            concurrentTime = bestTime(concurrent);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LOGGER.info("UCTE import of {} files: one by one {} ms, sequential {} ms, concurrent {} ms",
+                dataSources.size(), oneByOneTime, sequentialTime, concurrentTime);
+
+        for (Network network : new Network[] {sequentialNetwork, concurrentNetwork}) {
+            assertEquals(expected.getId(), network.getId());
+            assertEquals(expected.getSubstationCount(), network.getSubstationCount());
+            assertEquals(expected.getBusBreakerView().getBusStream().count(), network.getBusBreakerView().getBusStream().count());
+            assertEquals(expected.getLineCount(), network.getLineCount());
+            assertEquals(expected.getTwoWindingsTransformerCount(), network.getTwoWindingsTransformerCount());
+            assertEquals(expected.getDanglingLineCount(), network.getDanglingLineCount());
+        }
+        // All X-nodes are paired
+        assertEquals(0, concurrentNetwork.getDanglingLineCount());
+        assertEquals(COUNTRIES.length * XNODE_COUNT, concurrentNetwork.getLineStream().filter(l -> l.isTieLine()).count());
+    }
+
+    private static long bestTime(Supplier<Network> importer) {
+        long bestTime = Long.MAX_VALUE;
+        for (int k = 0; k < RUN_COUNT; k++) {
+            long start = System.nanoTime();
+            importer.get();
+            bestTime = Math.min(bestTime, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return bestTime;
+    }
+
+    private static UcteNetwork createNetwork(int i) {
+        UcteNetwork network = new UcteNetworkImpl();
+        network.setVersion(UcteFormatVersion.SECOND);
+        UcteCountryCode country = COUNTRIES[i];
+
+        List<UcteNodeCode> codes = new ArrayList<>(SUBSTATION_COUNT);
+        for (int k = 0; k < SUBSTATION_COUNT; k++) {
+            UcteNodeCode code = new UcteNodeCode(country, String.format("S%04d", k), UcteVoltageLevelCode.VL_380, '1');
+            codes.add(code);
+            if (k % 10 == 0) {
+                network.addNode(createNode(code, UcteNodeTypeCode.PU, 400f, 50f, 10f, -500f));
+            } else {
+                network.addNode(createNode(code, UcteNodeTypeCode.PQ, Float.NaN, 50f, 10f, Float.NaN));
+            }
+            if (k > 0) {
+                addLine(network, codes.get(k - 1), code);
+            }
+            if (k >= 7) {
+                addLine(network, codes.get(k - 7), code);
+            }
+            if (k % 20 == 0) {
+                UcteNodeCode code220 = new UcteNodeCode(country, String.format("S%04d", k), UcteVoltageLevelCode.VL_220, '1');
+                network.addNode(createNode(code220, UcteNodeTypeCode.PQ, Float.NaN, 20f, 5f, Float.NaN));
+                network.addTransformer(new UcteTransformer(new UcteElementId(code, code220, '1'), UcteElementStatus.REAL_ELEMENT_IN_OPERATION,
+                        0.5f, 20f, 1e-6f, 1500, null, 380f, 220f, 600f, 1e-6f));
+            }
+        }
+
+        // X-nodes shared with the previous and the next files
+        int previous = (i + COUNTRIES.length - 1) % COUNTRIES.length;
+        for (int j = 0; j < XNODE_COUNT; j++) {
+            addXnodeLine(network, xnodeCode(previous, j), codes.get(j * 17 % SUBSTATION_COUNT));
+            addXnodeLine(network, xnodeCode(i, j), codes.get(SUBSTATION_COUNT - 1 - j * 13 % SUBSTATION_COUNT));
+        }
+
+        network.fix();
+        return network;
+    }
+
+    private static UcteNodeCode xnodeCode(int i, int j) {
+        return new UcteNodeCode(UcteCountryCode.XX, String.format("%02d%03d", i, j), UcteVoltageLevelCode.VL_380, '1');
+    }
+
+    private static UcteNode createNode(UcteNodeCode code, UcteNodeTypeCode typeCode, float voltageReference,
+                                       float activeLoad, float reactiveLoad, float activePowerGeneration) {
+        boolean generator = typeCode == UcteNodeTypeCode.PU;
+        return new UcteNode(code, null, UcteNodeStatus.REAL, typeCode, voltageReference,
+                activeLoad, reactiveLoad, activePowerGeneration, generator ? 0f : Float.NaN,
+                generator ? 0f : Float.NaN, generator ? -1000f : Float.NaN, generator ? 500f : Float.NaN, generator ? -500f : Float.NaN,
+                Float.NaN, Float.NaN, Float.NaN, Float.NaN, null);
+    }
+
+    private static void addLine(UcteNetwork network, UcteNodeCode code1, UcteNodeCode code2) {
+        network.addLine(new UcteLine(new UcteElementId(code1, code2, '1'), UcteElementStatus.REAL_ELEMENT_IN_OPERATION,
+                1f, 10f, 1e-6f, 1000, null));
+    }
+
+    private static void addXnodeLine(UcteNetwork network, UcteNodeCode xnodeCode, UcteNodeCode code) {
+        network.addNode(createNode(xnodeCode, UcteNodeTypeCode.PQ, Float.NaN, 0f, 0f, 0f));
+        addLine(network, code, xnodeCode);
+    }
+}
@@ -18,6 +18,9 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TieLine;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.junit.Assert.*;
 
 /**
@@ -136,5 +139,35 @@ public class UcteImporterTest {
         assertEquals(1, network.getTwoWindingsTransformerCount());
         assertEquals(1, network.getSwitchStream().count());
     }
-}
 
+    @Test
+    public void importSeveralFiles() {
+        ReadOnlyDataSource frDataSource = new ResourceDataSource("mergeFr", new ResourceSet("/", "mergeFr.uct"));
+        ReadOnlyDataSource esDataSource = new ResourceDataSource("mergeEs", new ResourceSet("/", "mergeEs.uct"));
+
+        Network network = new UcteImporter().importData(Arrays.asList(frDataSource, esDataSource), null);
+
+        assertEquals("mergeFr", network.getId());
+        assertEquals(2, network.getVoltageLevelCount());
+        assertEquals(1, network.getDanglingLineCount());
+        assertEquals(1, network.getLineCount());
+        Line l = network.getLineStream().findFirst().orElseThrow(AssertionError::new);
+        assertEquals("ESNODE11 XXNODE11 1 + FRNODE11 XXNODE11 1", l.getId());
+        assertTrue(l.isTieLine());
+        assertEquals("XXNODE11", ((TieLine) l).getUcteXnodeCode());
+
+        // Same network as importing the files one after the other
+        Network expected = new UcteImporter().importData(frDataSource, null);
+        expected.merge(new UcteImporter().importData(esDataSource, null));
+        assertEquals(expected.getBusBreakerView().getBusStream().count(), network.getBusBreakerView().getBusStream().count());
+        assertEquals(expected.getLineCount(), network.getLineCount());
+        assertEquals(expected.getDanglingLineCount(), network.getDanglingLineCount());
+        assertEquals(expected.getLoadCount(), network.getLoadCount());
+        assertEquals(expected.getGeneratorCount(), network.getGeneratorCount());
+    }
+
+    @Test(expected = UcteException.class)
+    public void importNoFile() {
+        new UcteImporter().importData(Collections.emptyList(), null);
+    }
+}
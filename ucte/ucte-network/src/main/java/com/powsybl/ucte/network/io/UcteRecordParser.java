@@ -8,93 +8,314 @@ package com.powsybl.ucte.network.io;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
+ * Fixed-width record parser.
+ * <p>
+ * The current line is kept in a reusable char buffer and fields are parsed in place at their offsets:
+ * strings are only created for identifiers, names and comments.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 class UcteRecordParser {
 
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int LINE_SIZE = 256;
+
+    // largest mantissa exactly represented by a float
+    private static final long MAX_EXACT_MANTISSA = 1L << 24;
+
+    // powers of ten exactly represented by a float
+    private static final float[] POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
     private final BufferedReader reader;
 
-    private String line;
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    private boolean skipLineFeed;
+
+    private char[] line = new char[LINE_SIZE];
+
+    private int length = -1;
+
+    private String lineString;
 
     private final Set<UcteRecordType> parsedRecordTypes = EnumSet.noneOf(UcteRecordType.class);
 
+    private final Map<Class<?>, Object[]> enumConstants = new HashMap<>();
+
     UcteRecordParser(BufferedReader reader) throws IOException {
         this.reader = reader;
         nextLine();
     }
 
     String getLine() {
-        return line;
+        if (lineString == null && length >= 0) {
+            lineString = new String(line, 0, length);
+        }
+        return lineString;
     }
 
     boolean nextLine() throws IOException {
         do {
-            line = reader.readLine();
-        } while (line != null && line.trim().isEmpty()); // skip empty lines
-        return line != null;
+            readLine();
+        } while (length >= 0 && isBlank(0, length)); // skip empty lines
+        return length >= 0;
     }
 
-    UcteRecordType scanRecordType() {
-        if (line != null && line.startsWith("##") && line.length() >= 3) {
-            for (UcteRecordType recordType : UcteRecordType.values()) {
-                if (line.startsWith("##" + recordType)) {
-                    parsedRecordTypes.add(recordType);
-                    return recordType;
+    private void readLine() throws IOException {
+        lineString = null;
+        length = 0;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                position = 0;
+                if (limit == 0) {
+                    if (!read) {
+                        length = -1;
+                    }
+                    return;
+                }
+            }
+            if (skipLineFeed) {
+                // end of a "\r\n" line separator
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
                 }
             }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') {
+                position++;
+            }
+            append(start, position);
+            if (position < limit) {
+                skipLineFeed = buffer[position] == '\r';
+                position++;
+                return;
+            }
+        }
+    }
+
+    private void append(int start, int end) {
+        int n = end - start;
+        if (length + n > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, length + n));
         }
-        return null;
+        System.arraycopy(buffer, start, line, length, n);
+        length += n;
+    }
+
+    UcteRecordType scanRecordType() {
+        if (length < 3 || line[0] != '#' || line[1] != '#') {
+            return null;
+        }
+        UcteRecordType recordType;
+        switch (line[2]) {
+            case 'C':
+                recordType = UcteRecordType.C;
+                break;
+            case 'N':
+                recordType = UcteRecordType.N;
+                break;
+            case 'Z':
+                recordType = UcteRecordType.Z;
+                break;
+            case 'L':
+                recordType = UcteRecordType.L;
+                break;
+            case 'T':
+                recordType = length > 3 && line[3] == 'T' ? UcteRecordType.TT : UcteRecordType.T;
+                break;
+            case 'R':
+                recordType = UcteRecordType.R;
+                break;
+            case 'E':
+                recordType = UcteRecordType.E;
+                break;
+            default:
+                return null;
+        }
+        parsedRecordTypes.add(recordType);
+        return recordType;
     }
 
     Set<UcteRecordType> getParsedRecordTypes() {
         return parsedRecordTypes;
     }
 
+    private boolean isField(int endIndex) {
+        return length >= 0 && endIndex <= length;
+    }
+
+    private boolean isBlank(int beginIndex, int endIndex) {
+        for (int i = beginIndex; i < endIndex; i++) {
+            if (line[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int trimBegin(int beginIndex, int endIndex) {
+        int i = beginIndex;
+        while (i < endIndex && line[i] <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private int trimEnd(int beginIndex, int endIndex) {
+        int i = endIndex;
+        while (i > beginIndex && line[i - 1] <= ' ') {
+            i--;
+        }
+        return i;
+    }
+
     String parseString(int beginIndex, int endIndex) {
         return parseString(beginIndex, endIndex, true);
     }
 
     String parseString(int beginIndex, int endIndex, boolean trim) {
-        String untrimmed = line == null || endIndex > line.length() ? null : line.substring(beginIndex, endIndex);
-        return untrimmed == null || !trim ? untrimmed : untrimmed.trim();
+        if (!isField(endIndex)) {
+            return null;
+        }
+        if (!trim) {
+            return new String(line, beginIndex, endIndex - beginIndex);
+        }
+        int b = trimBegin(beginIndex, endIndex);
+        int e = trimEnd(b, endIndex);
+        return new String(line, b, e - b);
     }
 
     Character parseChar(int index) {
-        return line == null || index > line.length() ? null : line.charAt(index);
+        return length < 0 || index >= length ? null : line[index];
     }
 
     Integer parseInt(int beginIndex, int endIndex) {
-        String str = parseString(beginIndex, endIndex);
-        return str == null || str.trim().isEmpty() ? null : Integer.valueOf(str);
+        if (!isField(endIndex)) {
+            return null;
+        }
+        int b = trimBegin(beginIndex, endIndex);
+        int e = trimEnd(b, endIndex);
+        if (b == e) {
+            return null;
+        }
+        int i = b;
+        boolean negative = line[i] == '-';
+        if (negative || line[i] == '+') {
+            i++;
+        }
+        // fields are narrow enough not to overflow, wider ones are handled by the JDK
+        if (i == e || e - i > 9) {
+            return Integer.valueOf(new String(line, b, e - b));
+        }
+        int value = 0;
+        for (; i < e; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                // let the JDK report the error
+                return Integer.valueOf(new String(line, b, e - b));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
     }
 
     Integer parseInt(int index) {
         Character c = parseChar(index);
-        return c == null || c == ' ' ? null : Integer.valueOf(Character.toString(c));
+        if (c == null || c == ' ') {
+            return null;
+        }
+        return c >= '0' && c <= '9' ? Integer.valueOf(c - '0') : Integer.valueOf(String.valueOf(c));
     }
 
     float parseFloat(int beginIndex, int endIndex) {
-        String str = parseString(beginIndex, endIndex);
-        return str == null || str.trim().isEmpty() ? Float.NaN : Float.valueOf(str);
+        if (!isField(endIndex)) {
+            return Float.NaN;
+        }
+        int b = trimBegin(beginIndex, endIndex);
+        int e = trimEnd(b, endIndex);
+        if (b == e) {
+            return Float.NaN;
+        }
+        // Plain decimals with a mantissa and a power of ten both exactly represented by a float
+        // are computed with a single correctly rounded division, giving the same result as Float.parseFloat.
+        // Anything else (exponents, long mantissas, invalid values) is handed to the JDK
+        int i = b;
+        boolean negative = line[i] == '-';
+        if (negative || line[i] == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int decimals = -1;
+        for (; i < e; i++) {
+            char c = line[i];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (decimals >= 0) {
+                    decimals++;
+                }
+                if (mantissa > MAX_EXACT_MANTISSA) {
+                    break;
+                }
+            } else if (c == '.' && decimals < 0) {
+                decimals = 0;
+            } else {
+                break;
+            }
+        }
+        if (i < e || digits == 0 || decimals >= POWERS_OF_TEN.length) {
+            return Float.parseFloat(new String(line, b, e - b));
+        }
+        float value = decimals > 0 ? (float) mantissa / POWERS_OF_TEN[decimals] : (float) mantissa;
+        return negative ? -value : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Enum<E>> E[] getEnumConstants(Class<E> clazz) {
+        // Class.getEnumConstants returns a new copy at each call
+        return (E[]) enumConstants.computeIfAbsent(clazz, Class::getEnumConstants);
     }
 
     <E extends Enum<E>> E parseEnumOrdinal(int index, Class<E> clazz) {
         Integer order = parseInt(index);
-        return order == null ? null : clazz.getEnumConstants()[order];
+        return order == null ? null : getEnumConstants(clazz)[order];
     }
 
     <E extends Enum<E>> E parseEnumValue(int beginIndex, int endIndex, Class<E> clazz) {
         String name = parseString(beginIndex, endIndex);
-        return name == null || name.trim().isEmpty() ? null : Enum.valueOf(clazz, name);
+        return name == null || name.isEmpty() ? null : Enum.valueOf(clazz, name);
     }
 
     <E extends Enum<E>> E parseEnumValue(int index, Class<E> clazz) {
         Character c = parseChar(index);
-        return c == null || c == ' ' ? null : Enum.valueOf(clazz, Character.toString(c));
+        if (c == null || c == ' ') {
+            return null;
+        }
+        for (E value : getEnumConstants(clazz)) {
+            String name = value.name();
+            if (name.length() == 1 && name.charAt(0) == c) {
+                return value;
+            }
+        }
+        // let the JDK report the error
+        return Enum.valueOf(clazz, String.valueOf(c));
     }
 }
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import com.powsybl.ucte.network.*;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compare parsing the fields of node records of a synthetic UCTE file in place
+ * with parsing them from substrings, as done before.
+ *
+ * @author agent <agent at local>
+ */
+public class UcteRecordParserPerformanceTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UcteRecordParserPerformanceTest.class);
+
+    private static final int NODE_COUNT = 50000;
+
+    private static final int ITERATIONS = 10;
+
+    // begin and end indexes of the float fields of a node record
+    private static final int[][] FLOAT_FIELDS = {{26, 32}, {33, 40}, {41, 48}, {49, 56}, {57, 64}, {65, 72}, {73, 80},
+                                                 {81, 88}, {89, 96}, {97, 102}, {103, 110}, {111, 118}, {119, 126}};
+
+    @Test
+    public void compareWithSubstringParsing() throws IOException {
+        String text = createFile();
+
+        double[] expected = null;
+        double[] actual = null;
+        long substringTime = Long.MAX_VALUE;
+        long inPlaceTime = Long.MAX_VALUE;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            expected = parseWithSubstrings(text);
+            substringTime = Math.min(substringTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            actual = parseInPlace(text);
+            inPlaceTime = Math.min(inPlaceTime, System.nanoTime() - start);
+        }
+        LOGGER.info("Parsing of {} node records: substrings {} ms, in place {} ms",
+                NODE_COUNT, substringTime / 1000000, inPlaceTime / 1000000);
+
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(actual[i]));
+        }
+
+        long start = System.nanoTime();
+        UcteNetwork network = new UcteReader().read(new BufferedReader(new StringReader(text)));
+        LOGGER.info("Reading of {} nodes: {} ms", network.getNodes().size(), (System.nanoTime() - start) / 1000000);
+        assertEquals(NODE_COUNT, network.getNodes().size());
+    }
+
+    private static double[] parseWithSubstrings(String text) throws IOException {
+        double[] sums = new double[FLOAT_FIELDS.length];
+        try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
+            boolean nodeBlock = false;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("##")) {
+                    nodeBlock = line.startsWith("##N");
+                } else if (nodeBlock && !line.trim().isEmpty()) {
+                    for (int k = 0; k < FLOAT_FIELDS.length; k++) {
+                        String str = line.substring(FLOAT_FIELDS[k][0], FLOAT_FIELDS[k][1]).trim();
+                        float value = str.isEmpty() ? Float.NaN : Float.valueOf(str);
+                        if (!Float.isNaN(value)) {
+                            sums[k] += value;
+                        }
+                    }
+                }
+            }
+        }
+        return sums;
+    }
+
+    private static double[] parseInPlace(String text) throws IOException {
+        double[] sums = new double[FLOAT_FIELDS.length];
+        try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
+            UcteRecordParser parser = new UcteRecordParser(reader);
+            boolean nodeBlock = false;
+            do {
+                UcteRecordType recordType = parser.scanRecordType();
+                if (recordType != null) {
+                    nodeBlock = recordType == UcteRecordType.N;
+                } else if (nodeBlock) {
+                    for (int k = 0; k < FLOAT_FIELDS.length; k++) {
+                        float value = parser.parseFloat(FLOAT_FIELDS[k][0], FLOAT_FIELDS[k][1]);
+                        if (!Float.isNaN(value)) {
+                            sums[k] += value;
+                        }
+                    }
+                }
+            } while (parser.nextLine());
+        }
+        return sums;
+    }
+
+    private static String createFile() throws IOException {
+        Random random = new Random(0);
+        UcteNetwork network = new UcteNetworkImpl();
+        network.setVersion(UcteFormatVersion.SECOND);
+        UcteNodeCode previous = null;
+        for (int i = 0; i < NODE_COUNT; i++) {
+            UcteNodeCode code = new UcteNodeCode(UcteCountryCode.FR, String.format("N%04d", i % 10000),
+                    UcteVoltageLevelCode.values()[i / 10000], '1');
+            network.addNode(new UcteNode(code, "NAME " + i, UcteNodeStatus.REAL, UcteNodeTypeCode.PU,
+                    400f + random.nextFloat(), 1000f * random.nextFloat(), -100f * random.nextFloat(), -random.nextInt(2000),
+                    random.nextFloat(), 0f, -9999f, 9999f, -9999f,
+                    random.nextFloat(), Float.NaN, 100f * random.nextFloat(), Float.NaN, UctePowerPlantType.N));
+            if (previous != null) {
+                network.addLine(new UcteLine(new UcteElementId(previous, code, '1'), UcteElementStatus.REAL_ELEMENT_IN_OPERATION,
+                        random.nextFloat(), 10f * random.nextFloat(), 1e-6f, 1000, null));
+            }
+            previous = code;
+        }
+        StringWriter writer = new StringWriter();
+        try (BufferedWriter bw = new BufferedWriter(writer)) {
+            new UcteWriter(network).write(bw);
+        }
+        return writer.toString();
+    }
+}
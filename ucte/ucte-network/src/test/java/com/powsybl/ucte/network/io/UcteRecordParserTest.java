@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import com.powsybl.ucte.network.UcteNodeStatus;
+import com.powsybl.ucte.network.UctePowerPlantType;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class UcteRecordParserTest {
+
+    private static UcteRecordParser parser(String text) throws IOException {
+        return new UcteRecordParser(new BufferedReader(new StringReader(text)));
+    }
+
+    @Test
+    public void readLines() throws IOException {
+        UcteRecordParser parser = parser("\n  \r\n##C 2007.05.01\r\nfirst\rsecond\n\nthird");
+        assertEquals("##C 2007.05.01", parser.getLine());
+        assertTrue(parser.nextLine());
+        assertEquals("first", parser.getLine());
+        assertTrue(parser.nextLine());
+        assertEquals("second", parser.getLine());
+        assertTrue(parser.nextLine());
+        assertEquals("third", parser.getLine());
+        assertFalse(parser.nextLine());
+        assertNull(parser.getLine());
+        assertNull(parser.scanRecordType());
+        assertNull(parser.parseString(0, 1));
+        assertTrue(Float.isNaN(parser.parseFloat(0, 1)));
+    }
+
+    @Test
+    public void readLongLines() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append(i % 10);
+        }
+        String longLine = builder.toString();
+        UcteRecordParser parser = parser(longLine + "\r\n" + longLine);
+        assertEquals(longLine, parser.getLine());
+        assertTrue(parser.nextLine());
+        assertEquals(longLine, parser.getLine());
+        assertFalse(parser.nextLine());
+    }
+
+    @Test
+    public void scanRecordType() throws IOException {
+        UcteRecordParser parser = parser("##C\n##N\n##ZFR\n##L\n##TT\n##T\n##R\n##E\n##X\n#C\n##");
+        for (UcteRecordType recordType : UcteRecordType.values()) {
+            assertEquals(recordType, parser.scanRecordType());
+            parser.nextLine();
+        }
+        for (int i = 0; i < 3; i++) {
+            assertNull(parser.scanRecordType());
+            parser.nextLine();
+        }
+        assertEquals(UcteRecordType.values().length, parser.getParsedRecordTypes().size());
+    }
+
+    @Test
+    public void parseFields() throws IOException {
+        UcteRecordParser parser = parser("  ab c  |   |-12 | +7 |3|x|1|C");
+        assertEquals("ab c", parser.parseString(0, 8));
+        assertEquals("  ab c  ", parser.parseString(0, 8, false));
+        assertNull(parser.parseString(0, 100));
+        assertEquals(Character.valueOf('b'), parser.parseChar(3));
+        assertNull(parser.parseChar(100));
+        assertNull(parser.parseInt(9, 12));
+        assertEquals(Integer.valueOf(-12), parser.parseInt(13, 17));
+        assertEquals(Integer.valueOf(7), parser.parseInt(18, 22));
+        assertEquals(Integer.valueOf(3), parser.parseInt(23));
+        assertNull(parser.parseInt(9));
+        assertEquals(UcteNodeStatus.EQUIVALENT, parser.parseEnumOrdinal(27, UcteNodeStatus.class));
+        assertEquals(UctePowerPlantType.C, parser.parseEnumValue(29, UctePowerPlantType.class));
+        assertNull(parser.parseEnumValue(9, 12, UctePowerPlantType.class));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void parseInvalidInt() throws IOException {
+        parser("1x").parseInt(0, 2);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void parseInvalidFloat() throws IOException {
+        parser("1.2.3").parseFloat(0, 5);
+    }
+
+    @Test
+    public void parseFloat() throws IOException {
+        String[] values = {"0", "-0", "-0.0", "+1.5", "1.", ".5", "400.0", "0.1", "0.3333", "-9999.0", "123.4567",
+                           "16777215", "16777217", "0.00000000001", "3.4028235E38", "1.0E-6", "1e3", "1.5f", "NaN", "-Infinity",
+                           "0.12345678", "99999999.9"};
+        for (String value : values) {
+            UcteRecordParser parser = parser(" " + value + " ");
+            assertEquals(value, Float.floatToIntBits(Float.valueOf(value)), Float.floatToIntBits(parser.parseFloat(0, value.length() + 2)));
+        }
+        assertTrue(Float.isNaN(parser("      ").parseFloat(0, 6)));
+    }
+}